@@ -0,0 +1,75 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.applib.query;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Query for all instances (including subtypes) that satisfy a {@link QueryPredicate},
+ * to be translated by the persistence stack into a server-side query.
+ *
+ * @see Query#matching(Class, QueryPredicate)
+ * @since 4.0 {@index}
+ */
+public interface PredicateQuery<T> extends Query<T> {
+
+    QueryPredicate<? super T> getPredicate();
+
+    /**
+     * The order in which to return the results, by order of precedence;
+     * if empty, the order is unspecified.
+     */
+    List<SortKey> getSortKeys();
+
+    // -- WITHERS
+
+    @Override PredicateQuery<T> withRange(@NonNull QueryRange range);
+
+    PredicateQuery<T> withSortKeys(@NonNull List<SortKey> sortKeys);
+
+    /**
+     * Returns a copy of this query, with given sort key appended (of lowest precedence).
+     */
+    default PredicateQuery<T> orderBy(final @NonNull String propertyPath, final boolean ascending) {
+        var sortKeys = new ArrayList<>(getSortKeys());
+        sortKeys.add(new SortKey(propertyPath, ascending));
+        return withSortKeys(sortKeys);
+    }
+
+    // -- SORTING
+
+    /**
+     * Orders by the value of the (persisted) property at {@code propertyPath};
+     * nested properties are separated by dots, as for {@link QueryPredicate}.
+     */
+    record SortKey(
+            @NonNull String propertyPath,
+            boolean ascending) implements Serializable {
+
+        @Override
+        public String toString() {
+            return propertyPath + (ascending ? " ASC" : " DESC");
+        }
+    }
+
+}
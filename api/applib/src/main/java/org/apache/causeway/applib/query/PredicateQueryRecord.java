@@ -0,0 +1,59 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.applib.query;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.jspecify.annotations.NonNull;
+
+record PredicateQueryRecord<T>(
+        @NonNull Class<T> resultType,
+        @NonNull QueryPredicate<? super T> predicate,
+        @NonNull QueryRange range,
+        @NonNull List<SortKey> sortKeys
+        ) implements PredicateQuery<T>, Serializable {
+
+    @Override public Class<T> getResultType() { return resultType; }
+    @Override public QueryPredicate<? super T> getPredicate() { return predicate; }
+    @Override public QueryRange getRange() { return range; }
+    @Override public List<SortKey> getSortKeys() { return sortKeys; }
+
+    @Override
+    public String getDescription() {
+        return getSortKeys().isEmpty()
+            ? getResultType().getName() + " matching " + getPredicate()
+            : getResultType().getName() + " matching " + getPredicate()
+                + " order by " + getSortKeys().stream().map(SortKey::toString).collect(Collectors.joining(", "));
+    }
+
+    // -- WITHERS
+
+    @Override
+    public PredicateQueryRecord<T> withRange(final @NonNull QueryRange range) {
+        return new PredicateQueryRecord<>(getResultType(), getPredicate(), range, getSortKeys());
+    }
+
+    @Override
+    public PredicateQueryRecord<T> withSortKeys(final @NonNull List<SortKey> sortKeys) {
+        return new PredicateQueryRecord<>(getResultType(), getPredicate(), getRange(), List.copyOf(sortKeys));
+    }
+
+}
@@ -19,6 +19,7 @@
 package org.apache.causeway.applib.query;
 
 import java.io.Serializable;
+import java.util.List;
 import java.util.function.Predicate;
 
 import org.apache.causeway.applib.services.repository.RepositoryService;
@@ -43,7 +44,8 @@
  * {@link RepositoryService#allMatches(Class, Predicate, long, long)}).
  *
  * <b>Note:</b> that the predicate is applied within the {@link RepositoryService}
- * (ie client-side) rather than being pushed back to the object store.
+ * (ie client-side) rather than being pushed back to the object store,
+ * unless it is a {@link QueryPredicate} (see {@link #matching(Class, QueryPredicate)}).
  *
  * @since 1.x {@index}
  */
@@ -93,4 +95,10 @@ static <T> NamedQuery<T> named(
         return new NamedQueryRecord<>(resultType, queryName, QueryRange.unconstrained(), null);
     }
 
+    static <T> PredicateQuery<T> matching(
+            final @NonNull Class<T> resultType,
+            final @NonNull QueryPredicate<? super T> predicate) {
+        return new PredicateQueryRecord<>(resultType, predicate, QueryRange.unconstrained(), List.of());
+    }
+
 }
@@ -0,0 +1,385 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.applib.query;
+
+import java.io.Serializable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import org.apache.causeway.applib.services.repository.RepositoryService;
+import org.apache.causeway.commons.internal.exceptions._Exceptions;
+
+/**
+ * A {@link Predicate} over the (persisted) properties of an entity, that - other than an arbitrary lambda -
+ * can be translated by the persistence stack into a server-side query.
+ *
+ * <p>
+ * When passed to {@link RepositoryService#allMatches(Class, Predicate)},
+ * {@link RepositoryService#uniqueMatch(Class, Predicate)} or {@link RepositoryService#firstMatch(Class, Predicate)},
+ * filtering is pushed down to the database, if supported; otherwise the predicate is
+ * evaluated client-side (as for any other {@link Predicate}), using the property getters.
+ *
+ * <p>
+ * Properties are referenced by name; nested properties are separated by dots, eg. {@code "customer.lastName"}.
+ *
+ * <p>
+ * Client-side evaluation follows SQL's three-valued logic, such that it agrees with the server-side query:
+ * any comparison (other than {@link #isNull(String)} and {@link #isNotNull(String)}) against a {@code null}
+ * property value is UNKNOWN, so is its negation, and only TRUE matches.
+ * For instance, neither {@code ne("lastName", "Smith")} nor {@code eq("lastName", "Smith").negate()}
+ * match an entity without a last name.
+ *
+ * <pre>
+ * repositoryService.allMatches(Customer.class,
+ *     QueryPredicate.&lt;Customer&gt;eq("lastName", "Smith")
+ *         .and(QueryPredicate.ge("age", 18)));
+ * </pre>
+ *
+ * @see Query#matching(Class, QueryPredicate)
+ * @since 4.0 {@index}
+ */
+public sealed interface QueryPredicate<T>
+extends Predicate<T>, Serializable
+permits QueryPredicate.Comparison, QueryPredicate.Junction, QueryPredicate.Negation {
+
+    // -- COMPOSITION
+
+    /**
+     * Overload of {@link Predicate#and(Predicate)}, that keeps the result translatable.
+     */
+    default QueryPredicate<T> and(final @NonNull QueryPredicate<T> other) {
+        return new Junction<>(Junction.Kind.AND, List.of(this, other));
+    }
+
+    /**
+     * Overload of {@link Predicate#or(Predicate)}, that keeps the result translatable.
+     */
+    default QueryPredicate<T> or(final @NonNull QueryPredicate<T> other) {
+        return new Junction<>(Junction.Kind.OR, List.of(this, other));
+    }
+
+    @Override
+    default QueryPredicate<T> negate() {
+        return new Negation<>(this);
+    }
+
+    // -- FACTORIES
+
+    static <T> QueryPredicate<T> eq(final @NonNull String propertyPath, final @Nullable Object value) {
+        return value==null
+                ? isNull(propertyPath)
+                : new Comparison<>(propertyPath, Operator.EQ, value);
+    }
+
+    static <T> QueryPredicate<T> ne(final @NonNull String propertyPath, final @Nullable Object value) {
+        return value==null
+                ? isNotNull(propertyPath)
+                : new Comparison<>(propertyPath, Operator.NE, value);
+    }
+
+    static <T> QueryPredicate<T> lt(final @NonNull String propertyPath, final @NonNull Comparable<?> value) {
+        return new Comparison<>(propertyPath, Operator.LT, value);
+    }
+
+    static <T> QueryPredicate<T> le(final @NonNull String propertyPath, final @NonNull Comparable<?> value) {
+        return new Comparison<>(propertyPath, Operator.LE, value);
+    }
+
+    static <T> QueryPredicate<T> gt(final @NonNull String propertyPath, final @NonNull Comparable<?> value) {
+        return new Comparison<>(propertyPath, Operator.GT, value);
+    }
+
+    static <T> QueryPredicate<T> ge(final @NonNull String propertyPath, final @NonNull Comparable<?> value) {
+        return new Comparison<>(propertyPath, Operator.GE, value);
+    }
+
+    /**
+     * @param pattern - SQL style pattern, where {@code %} matches any sequence of characters
+     *      and {@code _} matches any single character, unless escaped with {@link #LIKE_ESCAPE}
+     *      (see {@link #escapeLike(String)})
+     */
+    static <T> QueryPredicate<T> like(final @NonNull String propertyPath, final @NonNull String pattern) {
+        return new Comparison<>(propertyPath, Operator.LIKE, pattern);
+    }
+
+    /**
+     * Variant of {@link #like(String, String)}, that ignores case,
+     * by lower-casing both the property value and the pattern.
+     */
+    static <T> QueryPredicate<T> likeIgnoreCase(final @NonNull String propertyPath, final @NonNull String pattern) {
+        return new Comparison<>(propertyPath, Operator.LIKE_IGNORE_CASE, pattern);
+    }
+
+    /**
+     * @param values - if empty, matches nothing
+     */
+    static <T> QueryPredicate<T> in(final @NonNull String propertyPath, final @NonNull Collection<?> values) {
+        return new Comparison<>(propertyPath, Operator.IN, List.copyOf(values));
+    }
+
+    static <T> QueryPredicate<T> isNull(final @NonNull String propertyPath) {
+        return new Comparison<>(propertyPath, Operator.IS_NULL, null);
+    }
+
+    static <T> QueryPredicate<T> isNotNull(final @NonNull String propertyPath) {
+        return new Comparison<>(propertyPath, Operator.IS_NOT_NULL, null);
+    }
+
+    @SafeVarargs
+    static <T> QueryPredicate<T> allOf(final @NonNull QueryPredicate<T>... predicates) {
+        return new Junction<>(Junction.Kind.AND, List.of(predicates));
+    }
+
+    @SafeVarargs
+    static <T> QueryPredicate<T> anyOf(final @NonNull QueryPredicate<T>... predicates) {
+        return new Junction<>(Junction.Kind.OR, List.of(predicates));
+    }
+
+    // -- LIKE PATTERNS
+
+    /**
+     * Escape character of {@link #like(String, String) like} patterns.
+     */
+    char LIKE_ESCAPE = '\\';
+
+    /**
+     * Escapes given {@code literal}, such that it matches itself when used within
+     * a {@link #like(String, String) like} pattern, eg. {@code "%" + escapeLike(searchArg) + "%"}.
+     */
+    static String escapeLike(final @NonNull String literal) {
+        var escaped = new StringBuilder(literal.length());
+        for (char c : literal.toCharArray()) {
+            if(c == '%' || c == '_' || c == LIKE_ESCAPE) {
+                escaped.append(LIKE_ESCAPE);
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+
+    // -- NODES
+
+    enum Operator {
+        EQ("="),
+        NE("<>"),
+        LT("<"),
+        LE("<="),
+        GT(">"),
+        GE(">="),
+        LIKE("LIKE"),
+        LIKE_IGNORE_CASE("LIKE (ignoring case)"),
+        IN("IN"),
+        IS_NULL("IS NULL"),
+        IS_NOT_NULL("IS NOT NULL");
+
+        private final String symbol;
+        private Operator(final String symbol) { this.symbol = symbol; }
+        public String symbol() { return symbol; }
+    }
+
+    /**
+     * Compares the value of the property at {@code propertyPath} against {@code value}.
+     * <p>
+     * For {@link Operator#IN} the value is a {@link List},
+     * for {@link Operator#IS_NULL} and {@link Operator#IS_NOT_NULL} it is {@code null}.
+     */
+    record Comparison<T>(
+            @NonNull String propertyPath,
+            @NonNull Operator operator,
+            @Nullable Object value) implements QueryPredicate<T> {
+
+        @Override
+        public boolean test(final T entity) {
+            return Boolean.TRUE.equals(evaluate(this, entity));
+        }
+
+        @Override
+        public String toString() {
+            return switch (operator) {
+                case IS_NULL, IS_NOT_NULL -> propertyPath + " " + operator.symbol();
+                default -> propertyPath + " " + operator.symbol() + " " + value;
+            };
+        }
+    }
+
+    record Junction<T>(
+            @NonNull Kind kind,
+            @NonNull List<QueryPredicate<T>> predicates) implements QueryPredicate<T> {
+
+        public enum Kind {
+            AND, OR
+        }
+
+        @Override
+        public boolean test(final T entity) {
+            return Boolean.TRUE.equals(evaluate(this, entity));
+        }
+
+        @Override
+        public String toString() {
+            return predicates.stream()
+                    .map(Object::toString)
+                    .collect(Collectors.joining(" " + kind + " ", "(", ")"));
+        }
+    }
+
+    record Negation<T>(
+            @NonNull QueryPredicate<T> predicate) implements QueryPredicate<T> {
+
+        @Override
+        public boolean test(final T entity) {
+            return Boolean.TRUE.equals(evaluate(this, entity));
+        }
+
+        @Override
+        public String toString() {
+            return "NOT " + predicate;
+        }
+    }
+
+    // -- HELPER
+
+    /**
+     * Three-valued evaluation, where {@code null} stands for UNKNOWN.
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static @Nullable Boolean evaluate(final QueryPredicate<?> predicate, final @Nullable Object entity) {
+        if(predicate instanceof Comparison<?> comparison) {
+            var value = comparison.value();
+            var actual = propertyValue(entity, comparison.propertyPath());
+            var operator = comparison.operator();
+            if(operator == Operator.IS_NULL) return actual==null;
+            if(operator == Operator.IS_NOT_NULL) return actual!=null;
+            if(operator == Operator.IN
+                    && ((List<?>)value).isEmpty()) return false; // same as SQL's (1=0)
+            if(actual==null) return null;
+            return switch (operator) {
+                case EQ -> Objects.equals(actual, value);
+                case NE -> !Objects.equals(actual, value);
+                case LT -> ((Comparable)actual).compareTo(value) < 0;
+                case LE -> ((Comparable)actual).compareTo(value) <= 0;
+                case GT -> ((Comparable)actual).compareTo(value) > 0;
+                case GE -> ((Comparable)actual).compareTo(value) >= 0;
+                case LIKE -> likePattern((String)value).matcher(actual.toString()).matches();
+                case LIKE_IGNORE_CASE -> likePattern(((String)value).toLowerCase(Locale.ROOT))
+                        .matcher(actual.toString().toLowerCase(Locale.ROOT)).matches();
+                case IN -> ((List<?>)value).contains(actual);
+                case IS_NULL, IS_NOT_NULL -> throw _Exceptions.unexpectedCodeReach();
+            };
+        }
+        if(predicate instanceof Junction<?> junction) {
+            // AND: FALSE wins over UNKNOWN; OR: TRUE wins over UNKNOWN
+            var decisive = junction.kind() == Junction.Kind.OR;
+            var unknown = false;
+            for (var element : junction.predicates()) {
+                var result = evaluate(element, entity);
+                if(result==null) {
+                    unknown = true;
+                } else if(result == decisive) {
+                    return decisive;
+                }
+            }
+            return unknown ? null : !decisive;
+        }
+        if(predicate instanceof Negation<?> negation) {
+            var result = evaluate(negation.predicate(), entity);
+            return result!=null ? !result : null;
+        }
+        throw _Exceptions.unsupportedOperation("unsupported QueryPredicate %s", predicate.getClass());
+    }
+
+    /**
+     * Client-side resolution of the property value, by getter ({@code getX()}, {@code isX()} or record accessor {@code x()}),
+     * else by field.
+     */
+    private static @Nullable Object propertyValue(final @Nullable Object entity, final String propertyPath) {
+        Object current = entity;
+        for (var propertyName : propertyPath.split("\\.")) {
+            if(current==null) return null;
+            current = singlePropertyValue(current, propertyName);
+        }
+        return current;
+    }
+
+    private static Object singlePropertyValue(final Object target, final String propertyName) {
+        var capitalized = Character.toUpperCase(propertyName.charAt(0)) + propertyName.substring(1);
+        try {
+            for (var methodName : List.of("get" + capitalized, "is" + capitalized, propertyName)) {
+                Method getter = findGetter(target.getClass(), methodName);
+                if(getter!=null) {
+                    getter.setAccessible(true);
+                    return getter.invoke(target);
+                }
+            }
+            for(var type = target.getClass(); type!=null; type = type.getSuperclass()) {
+                try {
+                    Field field = type.getDeclaredField(propertyName);
+                    field.setAccessible(true);
+                    return field.get(target);
+                } catch (NoSuchFieldException e) {
+                    // continue with super type
+                }
+            }
+        } catch (ReflectiveOperationException e) {
+            throw _Exceptions.unrecoverable(e, "failed to read property '%s' of %s", propertyName, target.getClass());
+        }
+        throw _Exceptions.illegalArgument("no such property '%s' on %s", propertyName, target.getClass());
+    }
+
+    private static @Nullable Method findGetter(final Class<?> type, final String methodName) {
+        for(var t = type; t!=null; t = t.getSuperclass()) {
+            try {
+                return t.getDeclaredMethod(methodName);
+            } catch (NoSuchMethodException e) {
+                // continue with super type
+            }
+        }
+        return null;
+    }
+
+    private static Pattern likePattern(final String sqlPattern) {
+        var regex = new StringBuilder();
+        var escaped = false;
+        for (char c : sqlPattern.toCharArray()) {
+            if(escaped) {
+                regex.append(Pattern.quote(String.valueOf(c)));
+                escaped = false;
+                continue;
+            }
+            switch (c) {
+                case LIKE_ESCAPE -> escaped = true;
+                case '%' -> regex.append(".*");
+                case '_' -> regex.append('.');
+                default -> regex.append(Pattern.quote(String.valueOf(c)));
+            }
+        }
+        return Pattern.compile(regex.toString(), Pattern.DOTALL);
+    }
+
+}
@@ -34,6 +34,7 @@
 import org.apache.causeway.applib.services.publishing.spi.CommandSubscriber;
 import org.apache.causeway.applib.services.wrapper.WrapperFactory;
 import org.apache.causeway.applib.services.wrapper.control.AsyncControl;
+import org.apache.causeway.applib.util.schema.CommandDtoUtils;
 import org.apache.causeway.commons.functional.Try;
 import org.apache.causeway.schema.cmd.v2.CommandDto;
 
@@ -342,4 +343,24 @@ public Updater updater() {
         return UPDATER;
     }
 
+    /**
+     * <b>NOT API</b>: intended to be called only by the framework.
+     *
+     * <p>
+     *     Returns a copy of this command's current state (with its own copy of the {@link #getCommandDto() CommandDto}),
+     *     unaffected by any subsequent changes to this command; used to hand commands to subscribers asynchronously.
+     * </p>
+     */
+    public Command snapshot() {
+        var snapshot = new Command(interactionId);
+        snapshot.commandDto = CommandDtoUtils.dtoMapper().clone(commandDto);
+        snapshot.parentInteractionId = parentInteractionId;
+        snapshot.startedAt = startedAt;
+        snapshot.completedAt = completedAt;
+        snapshot.result = result;
+        snapshot.exception = exception;
+        snapshot.publishingPhase = publishingPhase;
+        return snapshot;
+    }
+
 }
@@ -0,0 +1,64 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.applib.services.publishing.spi;
+
+/**
+ * Optional mix-in for {@link ExecutionSubscriber}, {@link CommandSubscriber} and
+ * {@link EntityPropertyChangeSubscriber} implementations, declaring that they tolerate being notified
+ * asynchronously.
+ *
+ * <p>
+ *     If asynchronous publishing is enabled (<code>causeway.core.runtime-services.async-publishing.enabled</code>),
+ *     such subscribers are no longer called on the thread of the interaction being published, and not within its
+ *     transaction.  Instead events are captured as snapshots when published (executions as
+ *     {@link org.apache.causeway.schema.ixn.v2.InteractionDto}s, commands as
+ *     {@link org.apache.causeway.applib.services.command.Command#snapshot() copies}), held back until the
+ *     originating transaction has committed (and discarded should it roll back), and then handed to the subscriber
+ *     by a background writer, in micro-batches (see
+ *     {@link ExecutionSubscriber#onExecutions(org.apache.causeway.commons.collections.Can)},
+ *     {@link CommandSubscriber#onCompleted(org.apache.causeway.commons.collections.Can)} and
+ *     {@link EntityPropertyChangeSubscriber#onChanging(org.apache.causeway.commons.collections.Can)}),
+ *     each within its own interaction (run as the system user) and transaction.
+ * </p>
+ *
+ * <p>
+ *     Delivery is best-effort: events are queued in memory only, so are lost should the JVM terminate before they
+ *     have been delivered.  If delivering a micro-batch fails, its events are retried once each, individually;
+ *     any that still fail are logged and dropped.
+ * </p>
+ *
+ * <p>
+ *     Subscribers should only opt in if they do not rely on the publishing thread's state, if it is acceptable
+ *     that their side effects are neither rolled back with nor visible within the originating transaction, and if
+ *     the occasional loss of an event is tolerable.
+ * </p>
+ *
+ * @since 4.0 {@index}
+ */
+public interface AsyncTolerantSubscriber {
+
+    /**
+     * Whether this subscriber may currently be notified asynchronously; allows implementations to opt in
+     * conditionally, eg. based on their own configuration.
+     */
+    default boolean isAsyncTolerant() {
+        return true;
+    }
+
+}
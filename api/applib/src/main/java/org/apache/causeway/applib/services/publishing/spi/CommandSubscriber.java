@@ -19,6 +19,7 @@
 package org.apache.causeway.applib.services.publishing.spi;
 
 import org.apache.causeway.applib.services.command.Command;
+import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.having.HasEnabling;
 
 /**
@@ -59,4 +60,18 @@ public interface CommandSubscriber extends HasEnabling {
      */
     void onCompleted(Command command);
 
+    /**
+     * Receives a micro-batch of commands that have completed, in the order they completed.
+     *
+     * <p>
+     *     Only called when notified asynchronously (see {@link AsyncTolerantSubscriber}), each command being a
+     *     {@link Command#snapshot() snapshot} taken when it was published.
+     *     The default implementation simply delegates to {@link #onCompleted(Command)} for each,
+     *     but implementations could override in order to perform work in bulk.
+     * </p>
+     */
+    default void onCompleted(final Can<Command> commands) {
+        commands.forEach(this::onCompleted);
+    }
+
 }
@@ -22,7 +22,9 @@
 import org.apache.causeway.applib.annotation.Property;
 import org.apache.causeway.applib.services.iactn.Execution;
 import org.apache.causeway.applib.util.schema.InteractionDtoUtils;
+import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.having.HasEnabling;
+import org.apache.causeway.schema.ixn.v2.InteractionDto;
 
 /**
  * SPI that allows the execution of individual interactions (action invocations
@@ -68,4 +70,23 @@ public interface ExecutionSubscriber extends HasEnabling {
      */
     void onExecution(Execution<?, ?> execution);
 
+    /**
+     * Receives a micro-batch of completed executions, in the order they completed.
+     *
+     * <p>
+     *     Only called when notified asynchronously (see {@link AsyncTolerantSubscriber}), in which case the live
+     *     {@link Execution}s are no longer available.  Instead each is passed as a snapshot, as created by
+     *     {@link InteractionDtoUtils#newInteractionDto(Execution)} at the time it was published.
+     * </p>
+     *
+     * <p>
+     *     Subscribers opting in to being notified asynchronously must override this method; the default
+     *     implementation throws an {@link UnsupportedOperationException}.
+     * </p>
+     */
+    default void onExecutions(final Can<InteractionDto> interactionDtos) {
+        throw new UnsupportedOperationException(String.format(
+                "%s is async tolerant, so must implement onExecutions(Can<InteractionDto>)", getClass().getName()));
+    }
+
 }
@@ -22,6 +22,7 @@
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.Callable;
 
 import org.apache.causeway.applib.CausewayModuleApplib;
@@ -144,6 +145,45 @@ public <R, A0, A1, A2, A3, A4> R execute(final MethodReferences.Call5<? extends
         return executeWithCaching(()->action.call(arg0, arg1, arg2, arg3, arg4), cacheKey);
     }
 
+    /**
+     * As per {@link #execute(Callable, Class, String, Object...)}, but additionally consults the application-wide
+     * {@link SharedQueryResultsCache} (if any is configured and enabled) on a miss, so that the result can be
+     * reused by subsequent interactions, not just the current one.
+     *
+     * <p>
+     *     Intended for expensive lookups that are the same for every user, such as reference data, choices or counts.
+     *     The result is evicted from the shared tier once any of the entity types it {@code dependsOn} has been
+     *     changed by a committed transaction.
+     * </p>
+     *
+     * @param callable
+     * @param dependsOn - the entity types the result is derived from
+     * @param callingClass
+     * @param methodName
+     * @param keys
+     * @param <T>
+     * @since 4.0
+     */
+    public <T> T executeShared(
+            final Callable<T> callable,
+            final Set<Class<?>> dependsOn,
+            final Class<?> callingClass,
+            final String methodName,
+            final Object... keys) {
+        if(isIgnoreCache()) {
+            try {
+                return callable.call();
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        }
+        final Key cacheKey = new Key(callingClass, methodName, keys);
+        if(sharedCache == null
+                || !sharedCache.isEnabled())
+            return executeWithCaching(callable, cacheKey);
+        return executeWithCaching(()->sharedCache.execute(cacheKey, dependsOn, callable), cacheKey);
+    }
+
     @Getter @EqualsAndHashCode
     public static class Key {
 
@@ -226,6 +266,9 @@ public void destroy() throws Exception {
     @Autowired(required = false)
     protected List<QueryResultsCacheControl> cacheControl;
 
+    @Autowired(required = false)
+    protected SharedQueryResultsCache sharedCache;
+
     private boolean isIgnoreCache() {
         return _NullSafe.stream(cacheControl)
                 .anyMatch(QueryResultsCacheControl::isIgnoreCache);
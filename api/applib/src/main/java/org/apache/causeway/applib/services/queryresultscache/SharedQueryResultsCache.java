@@ -0,0 +1,89 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.applib.services.queryresultscache;
+
+import java.util.Set;
+import java.util.concurrent.Callable;
+
+/**
+ * SPI for the application-wide (second-level) tier of the {@link QueryResultsCache}, consulted by
+ * {@link QueryResultsCache#executeShared(Callable, Set, Class, String, Object...)} whenever the
+ * interaction-scoped tier misses.
+ *
+ * <p>
+ *     Each entry is tagged with the entity types its result depends upon; the framework calls
+ *     {@link #invalidate(Set)} once a transaction that created, updated or deleted instances of any such types
+ *     has committed.  Entries are additionally bounded in number and in time.
+ * </p>
+ *
+ * <p>
+ *     Because results are shared across interactions (and hence across users), they should be values
+ *     (or immutable view models, bookmarks and the like) that are safe to hand out to any user; in particular
+ *     they should not be entities attached to the persistence context of the interaction that computed them.
+ * </p>
+ *
+ * @since 4.0 {@index}
+ */
+public interface SharedQueryResultsCache {
+
+    /**
+     * Whether this tier is active; if not, {@link QueryResultsCache#executeShared(Callable, Set, Class, String, Object...)}
+     * falls back to the interaction-scoped tier only.
+     */
+    boolean isEnabled();
+
+    /**
+     * Returns the result cached under given {@code key}, else calls the {@code callable} and caches its result,
+     * tagged with the entity types it {@code dependsOn}.
+     */
+    <T> T execute(QueryResultsCache.Key key, Set<Class<?>> dependsOn, Callable<T> callable) throws Exception;
+
+    /**
+     * Evicts all entries that depend on any of the given entity types (or any of their super types).
+     */
+    void invalidate(Set<Class<?>> changedEntityTypes);
+
+    /**
+     * Evicts all entries.
+     */
+    void invalidateAll();
+
+    /**
+     * Snapshot of the hit, miss, eviction and invalidation counts since the cache was created.
+     */
+    Stats stats();
+
+    record Stats(
+            long hitCount,
+            long missCount,
+            /** entries removed because they expired or to honor the size bound */
+            long evictionCount,
+            /** entries removed because an entity type they depend upon changed */
+            long invalidationCount,
+            long size) {
+
+        public double hitRate() {
+            var requestCount = hitCount + missCount;
+            return requestCount == 0
+                    ? 1.0
+                    : (double) hitCount / requestCount;
+        }
+    }
+
+}
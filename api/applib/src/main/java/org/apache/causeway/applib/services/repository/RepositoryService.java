@@ -22,6 +22,7 @@
 import java.util.Optional;
 import java.util.concurrent.Callable;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 import org.jspecify.annotations.Nullable;
 
@@ -136,6 +137,30 @@ default void persistAndFlush(final Object... domainObjects) {
         }
     }
 
+    /**
+     * Persist the specified objects (or do nothing if already persistent), flushing changes to the database
+     * in batches.
+     *
+     * <p>
+     *     Intended for writing many new instances at once.  The default implementation flushes after every
+     *     <code>causeway.persistence.commons.repository-service.persist-batch-size</code> objects (and at the end),
+     *     allowing the persistence mechanism to send each batch as a single JDBC batch of INSERTs.
+     * </p>
+     *
+     * <p>
+     *     Hence (if so configured) the objects are written using JDBC batches rather than one by one, which is why
+     *     the framework's extensions use this to write their entries in bulk (eg. audit trail, execution log and
+     *     execution outbox entries, when published asynchronously).
+     * </p>
+     *
+     * @see #persistAndFlush(Object...)
+     * @since 4.0
+     */
+    default <T> List<T> persistInBatches(final @NonNull List<T> domainObjects) {
+        persistAndFlush(domainObjects.toArray());
+        return domainObjects;
+    }
+
     /**
      * Remove (ie delete) an object from the persistent object store
      * (or do nothing if it has already been deleted).
@@ -233,6 +258,12 @@ <T> List<T> allInstances(
      * instances.  Use {@link #allMatches(Query)} for production code.
      * </p>
      *
+     * <p>
+     * If the predicate is a {@link org.apache.causeway.applib.query.QueryPredicate}
+     * (on persistent properties), filtering is instead pushed down to the
+     * database, if the persistence stack supports it.
+     * </p>
+     *
      * @apiNote This method creates a new {@link List} object each time it is
      *          called so the caller is free to use or modify the returned
      *          {@link List}. Changes will <i>not</i> be reflected back to the
@@ -247,8 +278,9 @@ <T> List<T> allMatches(
      * of persisted instances of specified type (including subtypes).
      *
      * <p>
-     * If the optional range parameters are used, the dataset considered (before filtering) starts
-     * from (0 based) index, runs through up to count items.
+     * If the optional range parameters are used, the dataset returned (after filtering) starts
+     * from (0 based) index, and consists of only up to count items;
+     * whether the predicate is evaluated client-side or pushed down to the database.
      * </p>
      *
      * @param ofType
@@ -293,6 +325,50 @@ <T> List<T> allMatches(
      */
     <T> List<T> allMatches(Query<T> query);
 
+    /**
+     * Streaming variant of {@link #allMatches(Query)}, intended for scans over
+     * arbitrarily large result sets.
+     *
+     * <p>
+     *     Instances are fetched lazily in batches (as supported by the
+     *     underlying persistence stack), rather than being materialized into a
+     *     {@link List} up front. The stream should be consumed within the
+     *     same transaction and should not be collected.
+     * </p>
+     *
+     * <p>
+     *     Entities remain attached to the persistence context; use
+     *     {@link #streamMatches(Query, int)} to also keep the persistence context
+     *     from growing.
+     * </p>
+     *
+     * @see #allMatches(Query)
+     * @see #streamMatches(Query, int)
+     */
+    default <T> Stream<T> streamMatches(final Query<T> query) {
+        return allMatches(query).stream();
+    }
+
+    /**
+     * Overload of {@link #streamMatches(Query)}, that in addition flushes and
+     * then clears the persistence context every {@code clearEvery} instances,
+     * such that memory consumption stays constant.
+     *
+     * <p>
+     *     Intended for read-only scans: instances of previous batches are
+     *     detached once the next batch is fetched, hence should neither be
+     *     modified nor retained by the consumer.
+     * </p>
+     *
+     * @param query
+     * @param clearEvery - number of instances fetched per batch, after which the
+     *      persistence context is flushed and cleared (must be positive)
+     * @param <T>
+     */
+    default <T> Stream<T> streamMatches(final Query<T> query, final int clearEvery) {
+        return streamMatches(query);
+    }
+
     /**
      * Finds the only instance of the specified type (including subtypes) that
      * satifies the (client-side) predicate.
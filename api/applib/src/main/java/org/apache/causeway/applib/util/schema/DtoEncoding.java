@@ -0,0 +1,113 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.applib.util.schema;
+
+import java.nio.charset.StandardCharsets;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import org.apache.causeway.commons.internal.base._Bytes;
+import org.apache.causeway.commons.io.DtoMapper;
+
+/**
+ * Textual encoding used when persisting schema DTOs (such as
+ * {@link org.apache.causeway.schema.cmd.v2.CommandDto},
+ * {@link org.apache.causeway.schema.ixn.v2.InteractionDto} or
+ * {@link org.apache.causeway.schema.chg.v2.ChangesDto}) into a character column.
+ *
+ * <p>Decoding is format agnostic: {@link #decode(DtoMapper, String)} recognizes both plain XML and
+ * {@link #COMPRESSED_XML compressed} values, so that switching the encoding never makes existing rows unreadable.
+ *
+ * @since 4.0 {@index}
+ */
+public enum DtoEncoding {
+
+    /**
+     * The DTO is stored as its XML representation. This is the default.
+     */
+    XML,
+
+    /**
+     * The DTO's XML representation is compressed and stored as base64, prefixed with {@value #COMPRESSED_PREFIX}.
+     *
+     * <p>Typically reduces the stored size by a factor of 5 to 10, at the expense of the column no longer being
+     * human readable or searchable by SQL.
+     */
+    COMPRESSED_XML;
+
+    /**
+     * Marker prefix of {@link #COMPRESSED_XML} values; cannot clash with XML, which always starts with {@code <}.
+     */
+    public static final String COMPRESSED_PREFIX = "gz:";
+
+    public boolean isXml() { return this == XML; }
+    public boolean isCompressedXml() { return this == COMPRESSED_XML; }
+
+    /**
+     * Encodes given {@code dto} using this encoding.
+     * @return null if {@code dto} is null
+     */
+    @Nullable
+    public <T> String encode(final @NonNull DtoMapper<T> dtoMapper, final @Nullable T dto) {
+        var xml = dtoMapper.toString(dto);
+        if(xml==null
+                || this == XML)
+            return xml;
+        var compressed = _Bytes.asCompressedBase64.apply(xml.getBytes(StandardCharsets.UTF_8));
+        return COMPRESSED_PREFIX + new String(compressed, StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Decodes given {@code encoded} value, regardless of which {@link DtoEncoding} was used to produce it.
+     * @return null if {@code encoded} is null
+     */
+    @Nullable
+    public static <T> T decode(final @NonNull DtoMapper<T> dtoMapper, final @Nullable String encoded) {
+        return dtoMapper.read(toXml(encoded));
+    }
+
+    /**
+     * Whether given {@code encoded} value was produced by {@link #COMPRESSED_XML}.
+     */
+    public static boolean isCompressed(final @Nullable String encoded) {
+        return encoded!=null
+                && encoded.startsWith(COMPRESSED_PREFIX);
+    }
+
+    /**
+     * Returns the {@link DtoEncoding} that was used to produce given {@code encoded} value.
+     */
+    public static DtoEncoding detect(final @Nullable String encoded) {
+        return isCompressed(encoded)
+                ? COMPRESSED_XML
+                : XML;
+    }
+
+    // -- HELPER
+
+    @Nullable
+    private static String toXml(final @Nullable String encoded) {
+        if(!isCompressed(encoded))
+            return encoded;
+        var base64 = encoded.substring(COMPRESSED_PREFIX.length()).getBytes(StandardCharsets.US_ASCII);
+        return new String(_Bytes.ofCompressedBase64.apply(base64), StandardCharsets.UTF_8);
+    }
+
+}
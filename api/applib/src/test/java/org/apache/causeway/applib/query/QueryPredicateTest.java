@@ -0,0 +1,173 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.applib.query;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class QueryPredicateTest {
+
+    record Address(String city) {}
+
+    static class Customer {
+        private final String lastName;
+        private final int age;
+        private final boolean active;
+        private final Address address;
+        private final LocalDate since;
+
+        Customer(final String lastName, final int age, final boolean active, final Address address, final LocalDate since) {
+            this.lastName = lastName;
+            this.age = age;
+            this.active = active;
+            this.address = address;
+            this.since = since;
+        }
+        public String getLastName() { return lastName; }
+        public int getAge() { return age; }
+        public boolean isActive() { return active; }
+        public Address getAddress() { return address; }
+        // no getter for 'since', hence resolved by field
+    }
+
+    private final Customer smith = new Customer("Smith", 42, true, new Address("London"), LocalDate.of(2020, 1, 1));
+    private final Customer jones = new Customer("Jones", 17, false, null, null);
+
+    @Test
+    void comparisons() {
+        assertTrue(QueryPredicate.<Customer>eq("lastName", "Smith").test(smith));
+        assertFalse(QueryPredicate.<Customer>eq("lastName", "Smith").test(jones));
+        assertTrue(QueryPredicate.<Customer>ne("lastName", "Smith").test(jones));
+        assertTrue(QueryPredicate.<Customer>ge("age", 18).test(smith));
+        assertFalse(QueryPredicate.<Customer>ge("age", 18).test(jones));
+        assertTrue(QueryPredicate.<Customer>lt("since", LocalDate.of(2021, 1, 1)).test(smith));
+        assertFalse(QueryPredicate.<Customer>lt("since", LocalDate.of(2021, 1, 1)).test(jones));
+        assertTrue(QueryPredicate.<Customer>eq("active", true).test(smith));
+        assertTrue(QueryPredicate.<Customer>in("lastName", List.of("Jones", "Brown")).test(jones));
+    }
+
+    @Test
+    void nullHandling() {
+        assertTrue(QueryPredicate.<Customer>eq("address", null).test(jones));
+        assertTrue(QueryPredicate.<Customer>isNotNull("address").test(smith));
+        assertTrue(QueryPredicate.<Customer>isNull("address.city").test(jones));
+    }
+
+    @Test
+    void nullHandling_followsThreeValuedLogic() {
+        // comparing against a null property value is UNKNOWN, hence neither matches nor does its negation
+        assertFalse(QueryPredicate.<Customer>ne("address.city", "London").test(jones));
+        assertFalse(QueryPredicate.<Customer>eq("address.city", "London").negate().test(jones));
+        assertFalse(QueryPredicate.<Customer>lt("since", LocalDate.of(2021, 1, 1)).negate().test(jones));
+        // UNKNOWN OR TRUE is TRUE
+        assertTrue(QueryPredicate.<Customer>anyOf(
+                    QueryPredicate.ne("address.city", "London"),
+                    QueryPredicate.isNull("address"))
+                .test(jones));
+        // NOT (UNKNOWN AND FALSE) is TRUE
+        assertTrue(QueryPredicate.<Customer>allOf(
+                    QueryPredicate.ne("address.city", "London"),
+                    QueryPredicate.isNotNull("address"))
+                .negate()
+                .test(jones));
+    }
+
+    @Test
+    void emptyIn_matchesNothing() {
+        assertFalse(QueryPredicate.<Customer>in("lastName", List.of()).test(smith));
+        assertFalse(QueryPredicate.<Customer>in("address.city", List.of()).test(jones));
+        assertTrue(QueryPredicate.<Customer>in("address.city", List.of()).negate().test(jones));
+    }
+
+    @Test
+    void nestedProperties() {
+        assertTrue(QueryPredicate.<Customer>eq("address.city", "London").test(smith));
+    }
+
+    @Test
+    void like() {
+        assertTrue(QueryPredicate.<Customer>like("lastName", "Sm%").test(smith));
+        assertTrue(QueryPredicate.<Customer>like("lastName", "_ones").test(jones));
+        assertFalse(QueryPredicate.<Customer>like("lastName", "S.%").test(smith));
+    }
+
+    @Test
+    void like_escaped() {
+        var percentOff = new Customer("50% off", 1, true, null, null);
+        var fiftyOff = new Customer("500 off", 1, true, null, null);
+        var pattern = "%" + QueryPredicate.escapeLike("0% o") + "%";
+        assertEquals("%0\\% o%", pattern);
+        assertTrue(QueryPredicate.<Customer>like("lastName", pattern).test(percentOff));
+        assertFalse(QueryPredicate.<Customer>like("lastName", pattern).test(fiftyOff));
+        assertTrue(QueryPredicate.<Customer>like("lastName", QueryPredicate.escapeLike("Sm_th")).negate().test(smith));
+        assertEquals("a\\\\b", QueryPredicate.escapeLike("a\\b"));
+    }
+
+    @Test
+    void likeIgnoreCase() {
+        assertTrue(QueryPredicate.<Customer>likeIgnoreCase("lastName", "%MIT%").test(smith));
+        assertTrue(QueryPredicate.<Customer>likeIgnoreCase("address.city", "lon%").test(smith));
+        assertFalse(QueryPredicate.<Customer>like("lastName", "%MIT%").test(smith));
+        // UNKNOWN for a null property value
+        assertFalse(QueryPredicate.<Customer>likeIgnoreCase("address.city", "%").negate().test(jones));
+    }
+
+    @Test
+    void composition() {
+        var adultSmith = QueryPredicate.<Customer>eq("lastName", "Smith")
+                .and(QueryPredicate.ge("age", 18));
+        assertTrue(adultSmith.test(smith));
+        assertFalse(adultSmith.negate().test(smith));
+        assertTrue(QueryPredicate.<Customer>anyOf(
+                    QueryPredicate.eq("lastName", "Smith"),
+                    QueryPredicate.eq("lastName", "Jones"))
+                .test(jones));
+        assertEquals("NOT (lastName = Smith AND age >= 18)", adultSmith.negate().toString());
+    }
+
+    @Test
+    void queryDescription() {
+        var query = Query.matching(Customer.class, QueryPredicate.<Customer>isNull("address"))
+                .withLimit(1L);
+        assertEquals(Customer.class.getName() + " matching address IS NULL", query.getDescription());
+        assertEquals(1L, query.getRange().getLimit());
+    }
+
+    @Test
+    void sortKeys() {
+        var query = Query.matching(Customer.class, QueryPredicate.<Customer>ge("age", 18))
+                .orderBy("lastName", true)
+                .orderBy("age", false);
+        assertEquals(List.of(
+                    new PredicateQuery.SortKey("lastName", true),
+                    new PredicateQuery.SortKey("age", false)),
+                query.getSortKeys());
+        assertEquals(Customer.class.getName() + " matching age >= 18 order by lastName ASC, age DESC",
+                query.getDescription());
+        // sort keys survive range changes
+        assertEquals(query.getSortKeys(), query.withRange(QueryRange.limit(10L)).getSortKeys());
+    }
+
+}
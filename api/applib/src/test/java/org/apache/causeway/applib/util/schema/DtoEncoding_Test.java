@@ -0,0 +1,73 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.applib.util.schema;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.startsWith;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import org.apache.causeway.schema.cmd.v2.CommandDto;
+
+class DtoEncoding_Test {
+
+    CommandDto dto;
+    @BeforeEach
+    void setUp() {
+        dto = new CommandDto();
+        dto.setUsername("sven");
+        CommandDtoUtils.setUserData(dto, "someKey", "someValue");
+    }
+
+    @Test
+    void xml_roundtrip() {
+        var encoded = DtoEncoding.XML.encode(CommandDtoUtils.dtoMapper(), dto);
+
+        assertThat(encoded, startsWith("<"));
+        assertThat(DtoEncoding.detect(encoded), is(DtoEncoding.XML));
+
+        var decoded = DtoEncoding.decode(CommandDtoUtils.dtoMapper(), encoded);
+        assertThat(decoded.getUsername(), is("sven"));
+        assertThat(CommandDtoUtils.getUserData(decoded, "someKey"), is("someValue"));
+    }
+
+    @Test
+    void compressed_roundtrip() {
+        var xml = DtoEncoding.XML.encode(CommandDtoUtils.dtoMapper(), dto);
+        var encoded = DtoEncoding.COMPRESSED_XML.encode(CommandDtoUtils.dtoMapper(), dto);
+
+        assertThat(encoded, startsWith(DtoEncoding.COMPRESSED_PREFIX));
+        assertThat(DtoEncoding.detect(encoded), is(DtoEncoding.COMPRESSED_XML));
+
+        // decoding is format agnostic, so either yields the same XML
+        var decoded = DtoEncoding.decode(CommandDtoUtils.dtoMapper(), encoded);
+        assertThat(DtoEncoding.XML.encode(CommandDtoUtils.dtoMapper(), decoded), is(xml));
+    }
+
+    @Test
+    void nulls_passThrough() {
+        assertThat(DtoEncoding.COMPRESSED_XML.encode(CommandDtoUtils.dtoMapper(), null), is(nullValue()));
+        assertThat(DtoEncoding.decode(CommandDtoUtils.dtoMapper(), null), is(nullValue()));
+        assertThat(DtoEncoding.isCompressed(null), is(false));
+    }
+
+}
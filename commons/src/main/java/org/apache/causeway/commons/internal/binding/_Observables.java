@@ -54,6 +54,13 @@ public void invalidate() {
             super.fireValueChanged();
         }
 
+        /**
+         * Whether the value has already been computed (and not invalidated since).
+         */
+        public boolean isMemoized() {
+            return lazyValue.isMemoized();
+        }
+
         @Override
         public void setValue(final T newValue) {
             // just ignore
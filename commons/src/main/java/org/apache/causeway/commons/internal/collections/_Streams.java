@@ -19,7 +19,15 @@
 package org.apache.causeway.commons.internal.collections;
 
 import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.jspecify.annotations.Nullable;
 
@@ -105,6 +113,119 @@ public static <T> Stream<T> concat(
                 Stream.concat(Stream.concat(e, f), Stream.concat(g, h)));
     }
 
+    // -- PAGING
+
+    /**
+     * Lazily concatenates the pages as provided by given {@code pageFetcher}, such that at most one page
+     * is held in memory at a time (provided the consumer does not collect).
+     * <p>
+     * The {@code pageFetcher} is called with (offset, maxResults) and is expected to return
+     * fewer than maxResults elements only when exhausted.
+     *
+     * @param start - offset of the first element to fetch
+     * @param limit - max number of elements to fetch in total
+     * @param pageSize - max number of elements to fetch per page (must be positive)
+     * @param beforeNextPage - called before each page fetch (except the first),
+     *      that is, after all elements of the previous page have been consumed
+     */
+    public static <T> Stream<T> paged(
+            final long start,
+            final long limit,
+            final int pageSize,
+            final BiFunction<Long, Integer, List<T>> pageFetcher,
+            final Runnable beforeNextPage) {
+        if(pageSize<1)
+            throw new IllegalArgumentException("pageSize must be positive, got " + pageSize);
+
+        var pages = new Iterator<List<T>>() {
+            long offset = start;
+            long remaining = limit;
+            boolean exhausted = false;
+            @Override
+            public boolean hasNext() {
+                return !exhausted && remaining>0;
+            }
+            @Override
+            public List<T> next() {
+                if(!hasNext())
+                    throw new NoSuchElementException();
+                if(offset>start) {
+                    beforeNextPage.run();
+                }
+                var maxResults = (int) Math.min(pageSize, remaining);
+                var page = pageFetcher.apply(offset, maxResults);
+                offset += page.size();
+                remaining -= page.size();
+                exhausted = page.size() < maxResults;
+                return page;
+            }
+        };
+        return StreamSupport.stream(
+                    Spliterators.spliteratorUnknownSize(pages, Spliterator.ORDERED | Spliterator.NONNULL),
+                    false)
+                .flatMap(List::stream);
+    }
+
+    /**
+     * Lazily concatenates the pages as provided by given {@code pageFetcher}, such that at most one page
+     * is held in memory at a time (provided the consumer does not collect).
+     * <p>
+     * Unlike {@link #paged(long, long, int, BiFunction, Runnable)}, each page is fetched relative to the key of
+     * the last element of the previous page (keyset pagination), rather than by offset. Hence the cost of
+     * fetching a page does not grow with its position, and elements inserted or removed during consumption
+     * do not cause other elements to be skipped or repeated.
+     * <p>
+     * The {@code pageFetcher} is called with (key of the last element of the previous page, maxResults),
+     * the key being {@code null} for the first page; it is expected to return the elements ordered by key,
+     * and fewer than maxResults elements only when exhausted.
+     *
+     * @param limit - max number of elements to fetch in total
+     * @param pageSize - max number of elements to fetch per page (must be positive)
+     * @param keyOf - extracts the (unique) key of an element; applied to the last element of each page
+     *      as soon as the page has been fetched
+     * @param beforeNextPage - called before each page fetch (except the first),
+     *      that is, after all elements of the previous page have been consumed
+     */
+    public static <T, K> Stream<T> keysetPaged(
+            final long limit,
+            final int pageSize,
+            final Function<T, K> keyOf,
+            final BiFunction<@Nullable K, Integer, List<T>> pageFetcher,
+            final Runnable beforeNextPage) {
+        if(pageSize<1)
+            throw new IllegalArgumentException("pageSize must be positive, got " + pageSize);
+
+        var pages = new Iterator<List<T>>() {
+            @Nullable K lastKey = null;
+            long remaining = limit;
+            boolean exhausted = false;
+            @Override
+            public boolean hasNext() {
+                return !exhausted && remaining>0;
+            }
+            @Override
+            public List<T> next() {
+                if(!hasNext())
+                    throw new NoSuchElementException();
+                if(lastKey!=null) {
+                    beforeNextPage.run();
+                }
+                var maxResults = (int) Math.min(pageSize, remaining);
+                var page = pageFetcher.apply(lastKey, maxResults);
+                remaining -= page.size();
+                exhausted = page.size() < maxResults;
+                if(!page.isEmpty()) {
+                    lastKey = keyOf.apply(page.get(page.size() - 1));
+                }
+                return page;
+            }
+        };
+        return StreamSupport.stream(
+                    Spliterators.spliteratorUnknownSize(pages, Spliterator.ORDERED | Spliterator.NONNULL),
+                    false)
+                .flatMap(List::stream);
+    }
+
     /**
      * Conditionally sorts the stream based on presence of a comparator.
      * @return null for null
@@ -0,0 +1,322 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.commons.io;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import org.apache.causeway.commons.internal.base._Strings;
+import org.apache.causeway.commons.io.HashUtils.HashAlgorithm;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Bounded cache of HTML rendered from some markup source (such as AsciiDoc or Markdown),
+ * keyed by the SHA-256 hash of that source together with a fingerprint of the renderer's configuration,
+ * so that the same source need only be rendered once, irrespective of how many value instances hold it.
+ * <p>
+ * The least recently used entries are evicted first. If a directory is provided,
+ * rendered HTML is also written to (and read back from) files within it, so survives restarts;
+ * once there are more files than allowed, the least recently used are deleted.
+ * <p>
+ * HTML that the renderer reports as {@link Rendered#failed() failed} (for example because an external service
+ * could not be reached) is returned, but not cached.
+ *
+ * @since 4.0 {@index}
+ */
+@Slf4j
+public final class RenderedHtmlCache implements AutoCloseable {
+
+    /**
+     * The outcome of rendering some source.
+     *
+     * @param html - the rendered HTML
+     * @param failed - whether (some of) the source could not be rendered, in which case the HTML is not cached
+     */
+    public record Rendered(
+            @NonNull String html,
+            boolean failed) {
+
+        public static Rendered success(final @NonNull String html) {
+            return new Rendered(html, false);
+        }
+
+        public static Rendered failure(final @NonNull String html) {
+            return new Rendered(html, true);
+        }
+
+    }
+
+    /**
+     * Maximum number of sources waiting to be {@link #prerenderAsync(String, Function) pre-rendered};
+     * any more are dropped.
+     */
+    static final int PRERENDER_QUEUE_CAPACITY = 100;
+
+    /**
+     * A cache held in memory only.
+     */
+    public static RenderedHtmlCache inMemory(final @NonNull String name, final @NonNull String rendererFingerprint, final int maxEntries) {
+        return new RenderedHtmlCache(name, rendererFingerprint, maxEntries, null, 0);
+    }
+
+    private final String name;
+    private final String rendererFingerprint;
+    private final int maxEntries;
+    private final @Nullable Path directory;
+    private final int maxFiles;
+    private final Map<String, String> htmlByHash;
+    private final Set<String> hashesBeingPrerendered = ConcurrentHashMap.newKeySet();
+
+    private ThreadPoolExecutor prerenderExecutor;
+    private boolean closed;
+    private int fileCount = -1; // not yet counted
+
+    /**
+     * @param name - distinguishes the HTML of this cache from that of any other sharing the same directory
+     * @param rendererFingerprint - identifies the renderer and its configuration, such that HTML rendered
+     *      differently (say, by another version or with other extensions) is never served from the cache
+     * @param maxEntries - maximum number of entries held in memory; zero or less disables the cache altogether
+     * @param directory - if not null, the directory to also hold rendered HTML in, within a sub-directory of the given name
+     * @param maxFiles - maximum number of files held in that directory
+     */
+    public RenderedHtmlCache(
+            final @NonNull String name,
+            final @NonNull String rendererFingerprint,
+            final int maxEntries,
+            final @Nullable File directory,
+            final int maxFiles) {
+        this.name = name;
+        this.rendererFingerprint = rendererFingerprint;
+        this.maxEntries = maxEntries;
+        this.directory = directory != null && maxEntries > 0 && maxFiles > 0
+                ? directory.toPath().resolve(name)
+                : null;
+        this.maxFiles = maxFiles;
+        this.htmlByHash = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, String> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+
+    /**
+     * Returns the HTML previously rendered from the given source, else renders it using the given renderer
+     * and caches the result, unless it failed.
+     */
+    public String computeIfAbsent(final @Nullable String source, final @NonNull Function<String, Rendered> renderer) {
+        if (maxEntries <= 0
+                || _Strings.isEmpty(source)) {
+            return renderer.apply(source).html();
+        }
+        var hash = hashOf(source);
+        var html = htmlByHash.get(hash);
+        if (html == null) {
+            html = readFromDirectory(hash);
+            if (html == null) {
+                // concurrent misses for the same source may each render it, which is harmless
+                var rendered = renderer.apply(source);
+                if (rendered.failed()) {
+                    return rendered.html();
+                }
+                html = rendered.html();
+                writeToDirectory(hash, html);
+            }
+            htmlByHash.put(hash, html);
+        }
+        return html;
+    }
+
+    /**
+     * Renders and caches the HTML for the given source in the background, if not already cached in memory;
+     * for example when the source is persisted, so that subsequently viewing it costs only a lookup.
+     * <p>
+     * Sources are rendered one at a time; if too many are already waiting, the given one is dropped
+     * (to be rendered when first viewed instead).
+     */
+    public void prerenderAsync(final @Nullable String source, final @NonNull Function<String, Rendered> renderer) {
+        if (maxEntries <= 0
+                || _Strings.isEmpty(source)) {
+            return;
+        }
+        var hash = hashOf(source);
+        if (htmlByHash.containsKey(hash)
+                || !hashesBeingPrerendered.add(hash)) {
+            return;
+        }
+        try {
+            prerenderExecutor().execute(() -> {
+                try {
+                    computeIfAbsent(source, renderer);
+                } catch (Exception e) {
+                    log.warn("failed to pre-render {} HTML", name, e);
+                } finally {
+                    hashesBeingPrerendered.remove(hash);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            hashesBeingPrerendered.remove(hash);
+            log.debug("dropped pre-rendering of {} HTML, as the queue is full or the cache is closed", name);
+        }
+    }
+
+    /**
+     * Stops pre-rendering, discarding any sources still waiting. The cache itself remains usable.
+     */
+    @Override
+    public synchronized void close() {
+        closed = true;
+        if (prerenderExecutor != null) {
+            prerenderExecutor.shutdownNow();
+        }
+    }
+
+    // -- HELPER
+
+    private synchronized ThreadPoolExecutor prerenderExecutor() {
+        if (closed) {
+            throw new RejectedExecutionException("closed");
+        }
+        if (prerenderExecutor == null) {
+            // a single thread, so that pre-rendering (possibly calling out to other services) is throttled,
+            // and a bounded queue, so that bulk persisting cannot pile up work (and memory) without limit
+            prerenderExecutor = new ThreadPoolExecutor(
+                    1, 1, 0L, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(PRERENDER_QUEUE_CAPACITY),
+                    runnable -> {
+                        var thread = new Thread(runnable, "causeway-prerender-" + name);
+                        thread.setDaemon(true);
+                        return thread;
+                    },
+                    new ThreadPoolExecutor.AbortPolicy());
+        }
+        return prerenderExecutor;
+    }
+
+    private String hashOf(final String source) {
+        var bytes = (rendererFingerprint + "\n" + source).getBytes(StandardCharsets.UTF_8);
+        return HashUtils.tryDigest(HashAlgorithm.SHA256, bytes, 4096)
+                .valueAsNonNullElseFail()
+                .asHexString();
+    }
+
+    private @Nullable String readFromDirectory(final String hash) {
+        if (directory == null) {
+            return null;
+        }
+        var file = directory.resolve(hash + ".html");
+        try {
+            if (!Files.isRegularFile(file)) {
+                return null;
+            }
+            var html = Files.readString(file, StandardCharsets.UTF_8);
+            // marks the file as recently used, see pruneDirectory()
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+            return html;
+        } catch (IOException e) {
+            log.warn("failed to read cached HTML from {}", file, e);
+            return null;
+        }
+    }
+
+    private void writeToDirectory(final String hash, final String html) {
+        if (directory == null) {
+            return;
+        }
+        var file = directory.resolve(hash + ".html");
+        Path tempFile = null;
+        try {
+            Files.createDirectories(directory);
+            // write then move, so that concurrent readers never see a partially written file
+            tempFile = Files.createTempFile(directory, hash, ".tmp");
+            Files.writeString(tempFile, html, StandardCharsets.UTF_8);
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("failed to write cached HTML to {}", file, e);
+            if (tempFile != null) {
+                tempFile.toFile().delete();
+            }
+            return;
+        }
+        onFileWritten();
+    }
+
+    private synchronized void onFileWritten() {
+        // counted once, then tracked; overwriting an existing file over-counts, which merely prunes a little early
+        fileCount = fileCount < 0
+                ? htmlFiles().length
+                : fileCount + 1;
+        if (fileCount > maxFiles) {
+            pruneDirectory();
+        }
+    }
+
+    /**
+     * Deletes the least recently used files, down to 90% of the maximum, so that pruning is not needed
+     * on every subsequent write.
+     */
+    private void pruneDirectory() {
+        // snapshot the modification times, as these may change (on reads) while sorting
+        var files = Arrays.stream(htmlFiles())
+                .map(file -> Map.entry(file, file.lastModified()))
+                .sorted(Map.Entry.comparingByValue())
+                .map(Map.Entry::getKey)
+                .toList();
+        var target = maxFiles - maxFiles / 10;
+        var remaining = files.size();
+        for (var file : files) {
+            if (remaining <= target) {
+                break;
+            }
+            if (file.delete()) {
+                remaining--;
+            }
+        }
+        fileCount = remaining;
+    }
+
+    private File[] htmlFiles() {
+        var files = directory.toFile().listFiles((dir, fileName) -> fileName.endsWith(".html"));
+        return files != null
+                ? files
+                : new File[0];
+    }
+
+}
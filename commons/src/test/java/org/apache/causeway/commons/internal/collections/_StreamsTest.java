@@ -0,0 +1,143 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.commons.internal.collections;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class _StreamsTest {
+
+    private final List<Integer> source = IntStream.range(0, 10).boxed().collect(Collectors.toList());
+    private final List<String> fetches = new ArrayList<>();
+
+    private List<Integer> fetch(final long offset, final int maxResults) {
+        fetches.add(offset + ":" + maxResults);
+        var from = (int) Math.min(offset, source.size());
+        return source.subList(from, Math.min(from + maxResults, source.size()));
+    }
+
+    @Test
+    void paged_fetchesAllElementsPageByPage() {
+        var pageCount = new AtomicInteger();
+        var result = _Streams.<Integer>paged(0, Long.MAX_VALUE, 4, this::fetch, pageCount::incrementAndGet)
+                .collect(Collectors.toList());
+
+        assertEquals(source, result);
+        assertEquals(List.of("0:4", "4:4", "8:4"), fetches);
+        assertEquals(2, pageCount.get());
+    }
+
+    @Test
+    void paged_honorsStartAndLimit() {
+        var result = _Streams.<Integer>paged(3, 5, 2, this::fetch, ()->{})
+                .collect(Collectors.toList());
+
+        assertEquals(List.of(3, 4, 5, 6, 7), result);
+        assertEquals(List.of("3:2", "5:2", "7:1"), fetches);
+    }
+
+    @Test
+    void paged_isLazy() {
+        var result = _Streams.<Integer>paged(0, Long.MAX_VALUE, 4, this::fetch, ()->{})
+                .limit(2)
+                .collect(Collectors.toList());
+
+        assertEquals(List.of(0, 1), result);
+        assertEquals(List.of("0:4"), fetches);
+    }
+
+    @Test
+    void paged_rejectsNonPositivePageSize() {
+        assertThrows(IllegalArgumentException.class, ()->
+            _Streams.<Integer>paged(0, Long.MAX_VALUE, 0, this::fetch, ()->{}));
+    }
+
+    // -- KEYSET PAGING
+
+    private List<Integer> fetchAfter(final Integer lastKey, final int maxResults) {
+        fetches.add(lastKey + ":" + maxResults);
+        return source.stream()
+                .filter(i->lastKey==null || i > lastKey)
+                .limit(maxResults)
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    void keysetPaged_fetchesAllElementsPageByPage() {
+        var pageCount = new AtomicInteger();
+        var result = _Streams.<Integer, Integer>keysetPaged(Long.MAX_VALUE, 4, i->i, this::fetchAfter,
+                    pageCount::incrementAndGet)
+                .collect(Collectors.toList());
+
+        assertEquals(source, result);
+        assertEquals(List.of("null:4", "3:4", "7:4"), fetches);
+        assertEquals(2, pageCount.get());
+    }
+
+    @Test
+    void keysetPaged_honorsLimit() {
+        var result = _Streams.<Integer, Integer>keysetPaged(5, 2, i->i, this::fetchAfter, ()->{})
+                .collect(Collectors.toList());
+
+        assertEquals(List.of(0, 1, 2, 3, 4), result);
+        assertEquals(List.of("null:2", "1:2", "3:1"), fetches);
+    }
+
+    @Test
+    void keysetPaged_doesNotSkipWhenElementsAreRemovedDuringConsumption() {
+        // removing consumed elements would shift subsequent offsets, but not keys
+        var result = _Streams.<Integer, Integer>keysetPaged(Long.MAX_VALUE, 3, i->i, this::fetchAfter, ()->{})
+                .peek(i->source.remove((Object) i))
+                .collect(Collectors.toList());
+
+        assertEquals(List.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9), result);
+    }
+
+    @Test
+    void keysetPaged_extractsKeyBeforeNextPage() {
+        var keysExtracted = new ArrayList<Integer>();
+        var result = _Streams.<Integer, Integer>keysetPaged(Long.MAX_VALUE, 4,
+                    i->{ keysExtracted.add(i); return i; },
+                    this::fetchAfter,
+                    ()->assertEquals(fetches.size(), keysExtracted.size()))
+                .collect(Collectors.toList());
+
+        assertEquals(source, result);
+        assertEquals(List.of(3, 7, 9), keysExtracted);
+    }
+
+    @Test
+    void keysetPaged_isLazy() {
+        var result = _Streams.<Integer, Integer>keysetPaged(Long.MAX_VALUE, 4, i->i, this::fetchAfter, ()->{})
+                .limit(2)
+                .collect(Collectors.toList());
+
+        assertEquals(List.of(0, 1), result);
+        assertEquals(List.of("null:4"), fetches);
+    }
+
+}
@@ -0,0 +1,182 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.commons.io;
+
+import java.io.File;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import org.apache.causeway.commons.io.RenderedHtmlCache.Rendered;
+
+class RenderedHtmlCacheTest {
+
+    private final LongAdder renderCount = new LongAdder();
+
+    private final Function<String, Rendered> renderer = source -> {
+        renderCount.increment();
+        return Rendered.success("<p>" + source + "</p>");
+    };
+
+    @Test
+    void renders_same_source_only_once() {
+        var htmlCache = RenderedHtmlCache.inMemory("test", "v1", 10);
+
+        assertEquals("<p>a</p>", htmlCache.computeIfAbsent("a", renderer));
+        assertEquals("<p>a</p>", htmlCache.computeIfAbsent(new String("a"), renderer));
+        assertEquals("<p>b</p>", htmlCache.computeIfAbsent("b", renderer));
+
+        assertEquals(2L, renderCount.longValue());
+    }
+
+    @Test
+    void evicts_least_recently_used() {
+        var htmlCache = RenderedHtmlCache.inMemory("test", "v1", 2);
+
+        htmlCache.computeIfAbsent("a", renderer);
+        htmlCache.computeIfAbsent("b", renderer);
+        htmlCache.computeIfAbsent("a", renderer);
+        htmlCache.computeIfAbsent("c", renderer); // evicts b
+
+        htmlCache.computeIfAbsent("a", renderer);
+        assertEquals(3L, renderCount.longValue());
+
+        htmlCache.computeIfAbsent("b", renderer);
+        assertEquals(4L, renderCount.longValue());
+    }
+
+    @Test
+    void disabled_when_no_entries() {
+        var htmlCache = RenderedHtmlCache.inMemory("test", "v1", 0);
+
+        htmlCache.computeIfAbsent("a", renderer);
+        htmlCache.computeIfAbsent("a", renderer);
+
+        assertEquals(2L, renderCount.longValue());
+    }
+
+    @Test
+    void failed_renders_are_not_cached(final @TempDir File directory) {
+        var htmlCache = new RenderedHtmlCache("test", "v1", 10, directory, 10);
+        Function<String, Rendered> failingRenderer = source -> {
+            renderCount.increment();
+            return Rendered.failure("<p>diagram unavailable</p>");
+        };
+
+        assertEquals("<p>diagram unavailable</p>", htmlCache.computeIfAbsent("a", failingRenderer));
+        assertEquals("<p>a</p>", htmlCache.computeIfAbsent("a", renderer));
+
+        assertEquals(2L, renderCount.longValue());
+    }
+
+    @Test
+    void survives_restart_when_directory_provided(final @TempDir File directory) {
+        new RenderedHtmlCache("test", "v1", 10, directory, 10).computeIfAbsent("a", renderer);
+
+        // as if after a restart
+        assertEquals("<p>a</p>", new RenderedHtmlCache("test", "v1", 10, directory, 10).computeIfAbsent("a", renderer));
+
+        assertEquals(1L, renderCount.longValue());
+    }
+
+    @Test
+    void rendered_again_when_renderer_changes(final @TempDir File directory) {
+        new RenderedHtmlCache("test", "v1", 10, directory, 10).computeIfAbsent("a", renderer);
+
+        // as if restarted with another renderer configuration
+        new RenderedHtmlCache("test", "v2", 10, directory, 10).computeIfAbsent("a", renderer);
+
+        assertEquals(2L, renderCount.longValue());
+    }
+
+    @Test
+    void prunes_directory_when_more_files_than_allowed(final @TempDir File directory) {
+        var htmlCache = new RenderedHtmlCache("test", "v1", 100, directory, 10);
+
+        for (int i = 0; i < 10; i++) {
+            htmlCache.computeIfAbsent("source " + i, renderer);
+        }
+        assertEquals(10, htmlFileCount(directory));
+
+        htmlCache.computeIfAbsent("one too many", renderer);
+
+        // pruned to 90% of the maximum
+        assertEquals(9, htmlFileCount(directory));
+    }
+
+    @Test
+    void prerendering_drops_sources_when_queue_is_full() throws InterruptedException {
+        var htmlCache = RenderedHtmlCache.inMemory("test", "v1", 1000);
+        var release = new CountDownLatch(1);
+        // one more than can be accepted, that is, including the one expected to be dropped
+        var prerendered = new CountDownLatch(2 + RenderedHtmlCache.PRERENDER_QUEUE_CAPACITY);
+        Function<String, Rendered> blockingRenderer = source -> {
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            var rendered = renderer.apply(source);
+            prerendered.countDown();
+            return rendered;
+        };
+
+        // the first is being rendered (blocked), the rest are waiting until the queue is full
+        for (int i = 0; i <= RenderedHtmlCache.PRERENDER_QUEUE_CAPACITY; i++) {
+            htmlCache.prerenderAsync("source " + i, blockingRenderer);
+        }
+        htmlCache.prerenderAsync("dropped", blockingRenderer);
+        release.countDown();
+
+        assertFalse(prerendered.await(2, TimeUnit.SECONDS));
+        assertEquals(1L + RenderedHtmlCache.PRERENDER_QUEUE_CAPACITY, renderCount.longValue());
+        htmlCache.close();
+    }
+
+    @Test
+    void prerendering_stops_once_closed() throws InterruptedException {
+        var htmlCache = RenderedHtmlCache.inMemory("test", "v1", 10);
+        htmlCache.close();
+
+        htmlCache.prerenderAsync("a", renderer);
+        Thread.sleep(100);
+        assertEquals(0L, renderCount.longValue());
+
+        // still usable to render on demand
+        assertEquals("<p>a</p>", htmlCache.computeIfAbsent("a", renderer));
+        assertEquals(1L, renderCount.longValue());
+    }
+
+    // -- HELPER
+
+    private static int htmlFileCount(final File directory) {
+        var files = new File(directory, "test").listFiles((dir, fileName) -> fileName.endsWith(".html"));
+        return files != null
+                ? files.length
+                : 0;
+    }
+
+}
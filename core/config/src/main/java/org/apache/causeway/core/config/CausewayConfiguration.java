@@ -18,6 +18,7 @@
  */
 package org.apache.causeway.core.config;
 
+import java.io.File;
 import java.lang.annotation.Documented;
 import java.lang.annotation.Retention;
 import java.lang.annotation.Target;
@@ -84,6 +85,7 @@
 import org.apache.causeway.applib.services.i18n.Mode;
 import org.apache.causeway.applib.services.iactn.Execution;
 import org.apache.causeway.applib.services.publishing.spi.ExecutionSubscriber;
+import org.apache.causeway.applib.util.schema.DtoEncoding;
 import org.apache.causeway.applib.value.semantics.TemporalValueSemantics.TemporalDisplayPattern;
 import org.apache.causeway.applib.value.semantics.TemporalValueSemantics.TemporalEditingPattern;
 import org.apache.causeway.commons.functional.Try;
@@ -1645,6 +1647,19 @@ public record MetaModel(
              */
             @DefaultValue("true")
             boolean filterVisibility,
+            /**
+             * Whether tables of (parented) collections and of actions returning a {@link java.util.Set} of entities
+             * should fetch their rows page by page, pushing column sort, search argument and paging down to the
+             * database, provided the persistence stack can express the collection as a query.
+             *
+             * <p>If enabled, the search argument is matched (ignoring case) against the table's <code>String</code>
+             * typed property columns by the database, the collection's getter is bypassed, and row indexes
+             * (hence any selection) are reset whenever column sort or search argument change.
+             *
+             * <p>Tables created explicitly for a query are always backed by that query.
+             */
+            @DefaultValue("false")
+            boolean queryBackedTables,
             @DefaultValue
             ProgrammingModel programmingModel,
             @DefaultValue
@@ -1840,7 +1855,153 @@ public record RuntimeServices(
             @DefaultValue
             EntityPropertyChangePublisher entityPropertyChangePublisher,
             @DefaultValue
-            CommandExecutorService commandExecutorService) {
+            CommandExecutorService commandExecutorService,
+            @DefaultValue
+            WrapperFactory wrapperFactory,
+            @DefaultValue
+            QueryResultsCache queryResultsCache,
+            @DefaultValue
+            AsyncPublishing asyncPublishing) {
+
+            /**
+             * Configures the optional asynchronous delivery of published executions, commands and entity property
+             * changes to those {@link org.apache.causeway.applib.services.publishing.spi.ExecutionSubscriber},
+             * {@link org.apache.causeway.applib.services.publishing.spi.CommandSubscriber} and
+             * {@link org.apache.causeway.applib.services.publishing.spi.EntityPropertyChangeSubscriber}
+             * implementations that declare themselves as
+             * {@link org.apache.causeway.applib.services.publishing.spi.AsyncTolerantSubscriber async tolerant}.
+             */
+            public record AsyncPublishing(
+                /**
+                 * Whether async tolerant subscribers are notified by a background writer, rather than synchronously
+                 * on the thread (and within the transaction) of the interaction being published.
+                 *
+                 * <p>Events are then queued once the originating transaction has committed, and delivered in
+                 * micro-batches, each subscriber in its own transaction, and in the order published.  Delivery is
+                 * best-effort: pending events are drained on shutdown, but are lost should the JVM terminate
+                 * abnormally, and events that still fail when retried individually are logged and dropped.
+                 *
+                 * <p>The execution log and command log extensions opt in (the command log only if its recording
+                 * support is not enabled), while the audit trail and execution outbox extensions only do if
+                 * configured to (see {@link Extensions.AuditTrail#asyncPublishing()} and
+                 * {@link Extensions.ExecutionOutbox#asyncPublishing()}).
+                 *
+                 * <p>Default is <code>false</code>.
+                 */
+                @DefaultValue("false")
+                boolean enabled,
+                /**
+                 * Maximum number of events waiting to be delivered.
+                 *
+                 * <p>Default is 10000.
+                 */
+                @Min(1)
+                @DefaultValue("10000")
+                int queueCapacity,
+                /**
+                 * Maximum number of events taken from the queue per drain cycle, and thus the upper bound of any
+                 * micro-batch handed to a single subscriber.
+                 *
+                 * <p>Default is 100.
+                 */
+                @Min(1)
+                @DefaultValue("100")
+                int maxBatchSize,
+                /**
+                 * How long queueing waits for space in a full queue, before logging a warning; it then keeps
+                 * waiting (back-pressure), as delivering the event on the publishing thread instead would overtake
+                 * the events queued already.  Events are therefore neither dropped for lack of space, nor delivered
+                 * out of order.
+                 *
+                 * <p>Default is 500ms.
+                 */
+                @DurationUnit(ChronoUnit.MILLIS)
+                @DefaultValue("500")
+                Duration offerTimeout,
+                /**
+                 * How long to wait on shutdown for pending events to be delivered.
+                 *
+                 * <p>Default is 10s.
+                 */
+                @DurationUnit(ChronoUnit.MILLIS)
+                @DefaultValue("10000")
+                Duration shutdownTimeout) {
+            }
+
+            /**
+             * Configures the default implementation of {@link org.apache.causeway.applib.services.wrapper.WrapperFactory}.
+             */
+            public record WrapperFactory(
+                /**
+                 * The kind of {@link java.util.concurrent.ExecutorService} used to run async wrapper invocations,
+                 * unless an executor is provided explicitly by the
+                 * {@link org.apache.causeway.applib.services.wrapper.control.AsyncControl}.
+                 *
+                 * <p>Each async invocation opens its own interaction (and transaction) on the executing thread,
+                 * so no thread-bound context is carried over from the calling thread: the interaction layers,
+                 * interaction-scoped beans and transaction-scoped beans of the caller are not visible to the
+                 * async invocation, whichever kind of executor is used.
+                 */
+                @DefaultValue("FIXED_THREAD_POOL")
+                CommonExecutor commonExecutor) {
+
+                public enum CommonExecutor {
+                    /**
+                     * A bounded pool of platform threads, sized between 2 and 4 depending on the available processors.
+                     */
+                    FIXED_THREAD_POOL,
+                    /**
+                     * A new virtual thread per task, suited to large numbers of concurrent async invocations that
+                     * mostly block on I/O. Requires a Java runtime that supports virtual threads (Java 21+);
+                     * on older runtimes falls back to {@link #FIXED_THREAD_POOL}, logging a warning.
+                     */
+                    VIRTUAL_THREAD_PER_TASK
+                }
+            }
+
+            /**
+             * Configures the {@link org.apache.causeway.applib.services.queryresultscache.QueryResultsCache}.
+             */
+            public record QueryResultsCache(
+                @DefaultValue
+                Shared shared) {
+
+                /**
+                 * Configures the application-wide (second-level) tier of the
+                 * {@link org.apache.causeway.applib.services.queryresultscache.QueryResultsCache}, as used by
+                 * {@link org.apache.causeway.applib.services.queryresultscache.QueryResultsCache#executeShared(java.util.concurrent.Callable, java.util.Set, Class, String, Object...) executeShared(...)}.
+                 */
+                public record Shared(
+                    /**
+                     * Whether results requested through <code>executeShared(...)</code> are cached application-wide
+                     * (across interactions and users), rather than just for the duration of a single interaction.
+                     *
+                     * <p>Entries are evicted once a transaction that created, updated or deleted an instance of any
+                     * of the entity types they depend upon has committed.  Note that such invalidation is local to
+                     * the node that made the change; when running multiple nodes against a shared database, the
+                     * {@link #expiryDurationInMinutes()} bounds the staleness on all other nodes.
+                     *
+                     * <p>Default is <code>false</code>.
+                     */
+                    @DefaultValue("false")
+                    boolean enabled,
+                    /**
+                     * Duration that entries remain in the cache, in minutes.
+                     *
+                     * <p>Default is 5 minutes.
+                     */
+                    @DefaultValue("5")
+                    int expiryDurationInMinutes,
+                    /**
+                     * Maximum number of query results held in the cache; once reached, the least recently used
+                     * entry is evicted.
+                     *
+                     * <p>Default is 10000
+                     */
+                    @DefaultValue("10000")
+                    int maxSizeInEntries) {
+                }
+            }
 
             /**
              * Controls interaction-advisor checks performed when command DTOs are executed.
@@ -2038,7 +2199,31 @@ public record RepositoryService(
                  *
                  */
                 @DefaultValue("false")
-                boolean disableAutoFlush) {
+                boolean disableAutoFlush,
+
+                /**
+                 * Number of instances fetched at a time by
+                 * {@link org.apache.causeway.applib.services.repository.RepositoryService#streamMatches(org.apache.causeway.applib.query.Query)}.
+                 */
+                @DefaultValue("1000")
+                int streamBatchSize,
+
+                /**
+                 * Number of instances persisted between flushes by
+                 * {@link org.apache.causeway.applib.services.repository.RepositoryService#persistInBatches(List)},
+                 * as used for example by the audit trail and execution log extensions to write many entries at once.
+                 *
+                 * <p>
+                 * If greater than zero, JPA/EclipseLink is additionally configured for JDBC batch writing of this size,
+                 * so that each such flush is sent to the database as a single batch of statements (unless
+                 * <code>eclipselink.jdbc.batch-writing</code> is configured explicitly).
+                 *
+                 * <p>
+                 * Default is <code>0</code>, meaning that all instances are flushed at once, without JDBC batching.
+                 */
+                @Min(0)
+                @DefaultValue("0")
+                int persistBatchSize) {
             }
 
             public record EntityChangeTracker(
@@ -2386,7 +2571,15 @@ public record Graphql(
             @DefaultValue
             Resources resources,
             @DefaultValue
-            Authentication authentication
+            Authentication authentication,
+            @DefaultValue
+            Batching batching,
+            @DefaultValue
+            Pagination pagination,
+            @DefaultValue
+            DocumentCache documentCache,
+            @DefaultValue
+            Limits limits
             ) {
 
             /**
@@ -2566,6 +2759,89 @@ public record Lookup(
                 String argName) {
             }
 
+            public record Batching(
+                /**
+                 * Whether reference properties and collections are resolved through a
+                 * <a href="https://www.graphql-java.com/documentation/batching">data loader</a>, so that the
+                 * same field of sibling objects (for example the customer of each of a list of orders) is resolved
+                 * as one batch, within a single interaction, rather than one at a time.
+                 */
+                @DefaultValue("true")
+                boolean enabled) {
+            }
+
+            public record Pagination(
+                /**
+                 * Upper bound on the number of elements returned for any collection, or for any action returning a
+                 * collection, irrespective of the <code>limit</code> argument requested by the client.  Also applies
+                 * if no <code>limit</code> is requested.
+                 *
+                 * <p>A value of zero (the default) means unbounded.
+                 */
+                @DefaultValue("0")
+                int maxLimit) {
+            }
+
+            public record DocumentCache(
+                /**
+                 * Maximum number of parsed and validated query documents to retain, keyed by the SHA-256 hash of
+                 * the query text, so that repeated queries are neither re-parsed nor re-validated.  Once full, the
+                 * documents least likely to be reused (by recency and frequency) are evicted first.
+                 *
+                 * <p>A value of zero disables the cache (and with it, {@link #persistedQueries() persisted queries}).
+                 */
+                @DefaultValue("1000")
+                int maxEntries,
+                /**
+                 * Whether clients may send just the SHA-256 hash of a previously sent query (as per the
+                 * <code>persistedQuery</code> extension of
+                 * <a href="https://www.apollographql.com/docs/apollo-server/performance/apq">automatic persisted queries</a>),
+                 * rather than the query text itself.
+                 *
+                 * <p>If the hash is not (or is no longer) in the cache, then the client is told so and is expected to
+                 * resend the query along with its hash.
+                 */
+                @DefaultValue("true")
+                boolean persistedQueries) {
+            }
+
+            public record Limits(
+                /**
+                 * Maximum depth of fields that a query may select, with queries exceeding it rejected before they
+                 * are executed.
+                 *
+                 * <p>A value of zero (the default) means unbounded.  Note that the 'rich' schema nests more deeply
+                 * than the 'simple' one.
+                 */
+                @DefaultValue("0")
+                int maxDepth,
+                /**
+                 * Maximum total cost of the fields that a query may select, with queries exceeding it rejected before
+                 * they are executed.  Each field costs one of {@link #propertyCost()}, {@link #collectionCost()} or
+                 * {@link #actionCost()}, depending upon the member of the metamodel that it represents.
+                 *
+                 * <p>A value of zero (the default) means unbounded.
+                 */
+                @DefaultValue("0")
+                int maxComplexity,
+                /**
+                 * Cost of a field that represents a property (or any other field that is neither a collection
+                 * nor an action).
+                 */
+                @DefaultValue("1")
+                int propertyCost,
+                /**
+                 * Cost of a field that represents a collection.
+                 */
+                @DefaultValue("10")
+                int collectionCost,
+                /**
+                 * Cost of a field that invokes an action.
+                 */
+                @DefaultValue("25")
+                int actionCost) {
+            }
+
             public record Mutation(
                 /**
                  * The name of the synthetic argument of mutators representing the target domain object.
@@ -2747,6 +3023,21 @@ public record Restfulobjects(@DefaultValue
         @DefaultValue("false")
         boolean suppressUpdateLink,
 
+        /**
+         * If set, then representations are serialized straight to the response's output stream,
+         * rather than first being serialized to an intermediate string.  Moreover, the elements of lists and
+         * collections are only rendered as these are written, one after the other, so are never held as a tree
+         * all at once.  This reduces the memory footprint and time-to-first-byte for large representations.
+         *
+         * <p>Representations built by content negotiation services that post-process them (into a root
+         * representation) are still rendered as a whole.
+         *
+         * <p>Relies on Spring Boot registering the RO viewer's <code>JsonRepresentationHttpMessageConverter</code>
+         * bean with Spring MVC.  This is disabled by default.
+         */
+        @DefaultValue("false")
+        boolean streamResponses,
+
         @jakarta.validation.constraints.Pattern(regexp="^[/].*[^/]$")
         @DefaultValue("/restful")
         String basePath,
@@ -3405,7 +3696,9 @@ public record ValueTypes(
         @DefaultValue
         BigDecimal bigDecimal,
         @DefaultValue
-        Kroki kroki) {
+        Kroki kroki,
+        @DefaultValue
+        HtmlCache htmlCache) {
 
         public record Temporal(
             @DefaultValue
@@ -3475,6 +3768,44 @@ public record Kroki(
 
         }
 
+        /**
+         * Caching of the HTML rendered from the AsciiDoc and Markdown value types, keyed by a hash of their content.
+         */
+        public record HtmlCache(
+            /**
+             * Maximum number of rendered documents held in memory, for each of the value types.
+             *
+             * <p>A value of zero disables the cache (and with it, pre-rendering), such that the HTML is
+             * rendered afresh for every value instance.
+             */
+            @DefaultValue("500")
+            int maxEntries,
+
+            /**
+             * If set, rendered HTML is also written to (and read back from) files within this directory, so that
+             * documents need not be rendered again after a restart.
+             */
+            File directory,
+
+            /**
+             * Maximum number of rendered documents held as files within the {@link #directory()}, for each of the
+             * value types.  Once exceeded, the least recently used files are deleted.
+             */
+            @DefaultValue("10000")
+            int directoryMaxEntries,
+
+            /**
+             * Whether to render the HTML of documents in the background as they are persisted (using JPA),
+             * so that viewing them subsequently costs only a lookup in the cache.
+             *
+             * <p>Documents are rendered one at a time; those persisted while many others are still waiting are
+             * instead rendered when first viewed.
+             */
+            @DefaultValue("false")
+            boolean prerenderOnPersist) {
+
+        }
+
     }
 
     public record Testing(
@@ -3647,7 +3978,19 @@ public record AuditTrail(
              * doing anything using this setting.
              */
             @DefaultValue("ENABLED")
-            PersistPolicy persist
+            PersistPolicy persist,
+            /**
+             * Whether the audit trail is written by the background writer, if
+             * {@link Core.RuntimeServices.AsyncPublishing#enabled() async publishing} is enabled.
+             *
+             * <p>Async delivery is best-effort: entries pending when the JVM terminates abnormally are lost,
+             * as are entries that still fail when retried individually.  Hence by default the audit trail is
+             * written synchronously, within the originating transaction.
+             *
+             * <p>Default is <code>false</code>.
+             */
+            @DefaultValue("false")
+            boolean asyncPublishing
             ) {
 
             /**
@@ -3699,7 +4042,16 @@ public record CommandLog(
             @DefaultValue
             ReplayResultMapping replayResultMapping,
             @DefaultValue
-            RunBackgroundCommands runBackgroundCommands) {
+            RunBackgroundCommands runBackgroundCommands,
+            /**
+             * How the {@link org.apache.causeway.schema.cmd.v2.CommandDto} of each command log entry is encoded when written to its (character) column.
+             *
+             * <p>Rows are always readable irrespective of the encoding that was used to write them, so this setting
+             * can be changed at any time; existing rows can be rewritten using the repository's
+             * {@code reencodeDtos(...)} method.
+             */
+            @DefaultValue("XML")
+            DtoEncoding dtoEncoding) {
 
             /**
              * Configures the built-in command replay result mapping listener.
@@ -3779,7 +4131,36 @@ public record RunBackgroundCommands(
                  * If there is an exception executing one of the commands, what should be done?
                  */
                 @DefaultValue("STOP_THE_LINE")
-                OnFailurePolicy onFailurePolicy
+                OnFailurePolicy onFailurePolicy,
+                /**
+                 * The number of worker threads that the <code>RunBackgroundCommandsJob</code> uses to execute
+                 * pending commands.
+                 *
+                 * <p>With the default of 1, commands are executed one after another within the job's own thread.
+                 *
+                 * <p>With a value greater than 1, each batch of pending commands is first claimed atomically (so
+                 * that multiple application nodes can share the same database), and then executed concurrently,
+                 * each in its own interaction.  A command is only claimed once all earlier commands on the same
+                 * target have completed, so that commands on the same object are still executed in order, also
+                 * across application nodes.  With {@link OnFailurePolicy#STOP_THE_LINE}, a failure only
+                 * stops the line of its own target; the failed command is released to be retried.
+                 */
+                @DefaultValue("1")
+                int parallelism,
+                /**
+                 * Applies only if {@link #parallelism()} is greater than 1: for how long a claimed command is
+                 * reserved for the claiming application node.  If not completed by then (eg. because that node
+                 * has crashed), the command is claimed again (by any node).
+                 *
+                 * <p>While the job runs, the claiming node renews the claims it holds every half lease, so the lease
+                 * need not exceed the execution time of the commands; a command whose claim was lost nevertheless
+                 * is not executed.
+                 *
+                 * <p>Default is 10 minutes.
+                 */
+                @DurationUnit(ChronoUnit.MILLIS)
+                @DefaultValue("600000")
+                Duration claimLease
                 ) {
 
                 /**
@@ -3973,7 +4354,16 @@ public record ExecutionLog(
              * doing anything using this setting.
              */
             @DefaultValue("ENABLED")
-            PersistPolicy persist) {
+            PersistPolicy persist,
+            /**
+             * How the {@link org.apache.causeway.schema.ixn.v2.InteractionDto} of each execution log entry is encoded when written to its (character) column.
+             *
+             * <p>Rows are always readable irrespective of the encoding that was used to write them, so this setting
+             * can be changed at any time; existing rows can be rewritten using the repository's
+             * {@code reencodeDtos(...)} method.
+             */
+            @DefaultValue("XML")
+            DtoEncoding dtoEncoding) {
 
             /**
              * As per {@link ExecutionLog#persist()}.
@@ -4012,7 +4402,29 @@ public record ExecutionOutbox(
              * doing anything using this setting.
              */
             @DefaultValue("ENABLED")
-            ExecutionOutbox.PersistPolicy persist) {
+            ExecutionOutbox.PersistPolicy persist,
+            /**
+             * How the {@link org.apache.causeway.schema.ixn.v2.InteractionDto} of each outbox entry is encoded when written to its (character) column.
+             *
+             * <p>Rows are always readable irrespective of the encoding that was used to write them, so this setting
+             * can be changed at any time; existing rows can be rewritten using the repository's
+             * {@code reencodeDtos(...)} method.
+             */
+            @DefaultValue("XML")
+            DtoEncoding dtoEncoding,
+            /**
+             * Whether outbox entries are written by the background writer, if
+             * {@link Core.RuntimeServices.AsyncPublishing#enabled() async publishing} is enabled.
+             *
+             * <p>Async delivery is best-effort: entries pending when the JVM terminates abnormally are lost,
+             * as are entries that still fail when retried individually, so clients polling the outbox would
+             * never see these executions.  Hence by default outbox entries are written synchronously, within
+             * the originating transaction.
+             *
+             * <p>Default is <code>false</code>.
+             */
+            @DefaultValue("false")
+            boolean asyncPublishing) {
 
             @Valid
             public record RestApi(
@@ -4022,7 +4434,19 @@ public record RestApi(
                 @Min(value = 1)
                 @Max(value = 1000)
                 @DefaultValue("100")
-                int maxPending) {
+                int maxPending,
+                /**
+                 * The longest a client may ask {@code pendingAfter} to wait for new interactions to arrive, if
+                 * there are none pending when it is called (long polling).
+                 *
+                 * <p>A client requesting a longer wait is capped to this value.  Set to 0 to disable long polling,
+                 * in which case {@code pendingAfter} always returns immediately.
+                 *
+                 * <p>Default is 30s.
+                 */
+                @DurationUnit(ChronoUnit.MILLIS)
+                @DefaultValue("30000")
+                Duration maxLongPollWait) {
             }
 
             /**
@@ -4092,6 +4516,8 @@ public record Secman(
             @DefaultValue("ALLOW_BEATS_VETO")
             PermissionsEvaluationPolicy permissionsEvaluationPolicy,
             @DefaultValue
+            PermissionCache permissionCache,
+            @DefaultValue
             UserRegistration userRegistration) {
 
             public record Seed(
@@ -4285,6 +4711,38 @@ public enum PermissionsEvaluationPolicy {
                 VETO_BEATS_ALLOW
             }
 
+            public record PermissionCache(
+                /**
+                 * Whether the permissions of a user, once looked up by the <code>AuthorizorSecman</code>, are cached
+                 * application-wide (across interactions), rather than just for the duration of a single interaction.
+                 *
+                 * <p>The cache is invalidated whenever an <code>ApplicationUser</code>, <code>ApplicationRole</code> or
+                 * <code>ApplicationPermission</code> is created, updated or deleted, once the change is enlisted and
+                 * again after its transaction has completed (irrespective of whether lifecycle events or entity change
+                 * publishing are enabled).  Note that such invalidation is local to the node that made the change; when
+                 * running multiple nodes against a shared database, the {@link #expiryDurationInMinutes()} bounds
+                 * the staleness on all other nodes.
+                 *
+                 * <p>Default is <code>false</code>.
+                 */
+                @DefaultValue("false")
+                boolean enabled,
+                /**
+                 * Duration that entries remain in the cache, in minutes.
+                 *
+                 * <p>Default is 5 minutes.
+                 */
+                @DefaultValue("5")
+                int expiryDurationInMinutes,
+                /**
+                 * Maximum number of users whose permissions are held in the cache.
+                 *
+                 * <p>Default is 1000
+                 */
+                @DefaultValue("1000")
+                int maxSizeInEntries) {
+            }
+
             public record UserRegistration(
                 /**
                  * The set of roles that users registering with the app are granted
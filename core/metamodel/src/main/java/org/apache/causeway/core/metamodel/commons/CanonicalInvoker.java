@@ -42,6 +42,10 @@
  * <p>
  * We do this for collection parameter types List, Set, SortedSet, Collection, Can, Arrays
  * missing arguments and primitives that are not initialized.
+ * <p>
+ * Methods are invoked via {@link java.lang.invoke.MethodHandle}s, compiled once per method
+ * (at introspection time, see {@link #compile(Method)}), with reflection as fallback
+ * (see {@link CompiledMethodInvoker}).
  */
 @UtilityClass
 public class CanonicalInvoker {
@@ -57,6 +61,15 @@ public <T> T construct(final Constructor<T> constructor, final @Nullable Object.
         return _Casts.uncheckedCast(t);
     }
 
+    // -- COMPILE
+
+    /**
+     * Compiles given {@code method} for invocation up front, rather than on its first invocation.
+     */
+    public void compile(final Method method) {
+        CompiledMethodInvoker.forMethod(method);
+    }
+
     // -- INVOKE
 
     public Object invoke(
@@ -78,7 +91,7 @@ public Object invoke(
             final Object targetPojo,
             final @Nullable Object ... executionParameters) {
         var convertedExecutionParameters = ParameterConverters.DEFAULT.convertAll(method, executionParameters);
-        return _Reflect.invokeMethodOn(method, targetPojo, convertedExecutionParameters)
+        return CompiledMethodInvoker.forMethod(method).invoke(targetPojo, convertedExecutionParameters)
             .mapFailure(ex->toVerboseException(ex,
                     method,
                     convertedExecutionParameters))
@@ -89,7 +102,7 @@ public Object invokeWithConvertedArgs(
             final Method method,
             final Object targetPojo,
             final @Nullable Object ... convertedExecutionParameters) {
-        return _Reflect.invokeMethodOn(method, targetPojo, convertedExecutionParameters)
+        return CompiledMethodInvoker.forMethod(method).invoke(targetPojo, convertedExecutionParameters)
             .mapFailure(ex->toVerboseException(ex,
                     method,
                     convertedExecutionParameters))
@@ -0,0 +1,135 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.commons;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jspecify.annotations.Nullable;
+
+import org.apache.causeway.commons.functional.Try;
+import org.apache.causeway.commons.internal.base._NullSafe;
+import org.apache.causeway.commons.internal.reflection._Reflect;
+
+/**
+ * Invokes a {@link Method} through a {@link MethodHandle}, compiled once per method and cached
+ * (per declaring class), as an alternative to {@link Method#invoke(Object, Object...)} on the hot path
+ * (property getters, actions and supporting methods).
+ * <p>
+ * The cached invokers reference their declaring class, hence keep it (and its class-loader) from being garbage
+ * collected, for as long as the framework's classes are loaded; a {@link ClassValue} whose values reference their
+ * own class is subject to that known leak.  This is no different from the metamodel itself, which also holds on
+ * to the domain classes it has introspected.
+ * <p>
+ * Falls back to reflective invocation, if the method cannot be unreflected (eg. module access rules),
+ * or if the arguments (or the target) are not compatible with the method's signature, such that
+ * failure semantics stay the same as with plain reflection.
+ * The arguments are checked before invoking, such that the method is never run twice.
+ * Exceptions thrown by the invoked method are wrapped into an {@link InvocationTargetException},
+ * just as reflection does.
+ */
+record CompiledMethodInvoker(
+        Method method,
+        /**
+         * Takes the target as first argument, followed by the method arguments spread from an {@code Object[]};
+         * empty if the method could not be unreflected.
+         */
+        Optional<MethodHandle> spreadingHandle) {
+
+    private static final ClassValue<Map<Method, CompiledMethodInvoker>> CACHE = new ClassValue<>() {
+        @Override
+        protected Map<Method, CompiledMethodInvoker> computeValue(final Class<?> declaringClass) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    static CompiledMethodInvoker forMethod(final Method method) {
+        return CACHE.get(method.getDeclaringClass())
+                .computeIfAbsent(method, CompiledMethodInvoker::compile);
+    }
+
+    Try<Object> invoke(final Object target, final @Nullable Object[] args) {
+        if(spreadingHandle.isEmpty()
+                // let reflection produce its usual failure (or apply widening conversions)
+                || !isInvocableWith(target, args))
+            return _Reflect.invokeMethodOn(method, target, args);
+        try {
+            final Object result = (Object) spreadingHandle.get().invokeExact(target, args);
+            return Try.success(result);
+        } catch (Throwable e) {
+            // the method has run, so must not be invoked again
+            return Try.failure(new InvocationTargetException(e));
+        }
+    }
+
+    // -- HELPER
+
+    private static CompiledMethodInvoker compile(final Method method) {
+        return new CompiledMethodInvoker(method, unreflect(method));
+    }
+
+    private static Optional<MethodHandle> unreflect(final Method method) {
+        try {
+            // work on a copy, as the accessible flag of the original may be toggled concurrently
+            var copy = method.getDeclaringClass()
+                    .getDeclaredMethod(method.getName(), method.getParameterTypes());
+            if(!copy.trySetAccessible())
+                return Optional.empty();
+            var handle = MethodHandles.lookup().unreflect(copy).asFixedArity();
+            if(Modifier.isStatic(method.getModifiers())) {
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+            }
+            final int paramCount = method.getParameterCount();
+            return Optional.of(handle
+                    .asType(MethodType.genericMethodType(paramCount + 1))
+                    .asSpreader(Object[].class, paramCount));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return Optional.empty();
+        }
+    }
+
+    private boolean isInvocableWith(final Object target, final @Nullable Object[] args) {
+        if(!Modifier.isStatic(method.getModifiers())
+                && !method.getDeclaringClass().isInstance(target))
+            return false;
+        var paramTypes = method.getParameterTypes();
+        if(paramTypes.length != _NullSafe.size(args))
+            return false;
+        for (int i = 0; i < paramTypes.length; i++) {
+            var arg = args[i];
+            if(arg==null) {
+                if(paramTypes[i].isPrimitive())
+                    return false;
+                continue;
+            }
+            if(!ClassExtensions.equalsWhenBoxing(arg.getClass(), paramTypes[i])
+                    && !paramTypes[i].isAssignableFrom(arg.getClass()))
+                return false;
+        }
+        return true;
+    }
+
+}
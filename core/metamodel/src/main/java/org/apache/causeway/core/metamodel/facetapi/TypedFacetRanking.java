@@ -18,21 +18,20 @@
  */
 package org.apache.causeway.core.metamodel.facetapi;
 
-import java.util.Collections;
-import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import org.apache.causeway.applib.services.grid.GridService.LayoutKey;
 import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.internal.assertions._Assert;
-import org.apache.causeway.commons.internal.collections._Maps;
 import org.apache.causeway.commons.internal.exceptions._Exceptions;
 import org.apache.causeway.core.metamodel.facetapi.Facet.Precedence;
 import org.jspecify.annotations.NonNull;
@@ -54,7 +53,9 @@
  * <li>find the winning facet, that is the one with highest precedence</li>
  * </ul>
  *
- * @implNote thread-safe
+ * @implNote thread-safe; ranks are held in an array indexed by {@link Facet.Precedence#ordinal()},
+ * so that lookups (which vastly outnumber additions, once the metamodel is introspected) are lock-free.
+ * The winner for the common case of no layout qualifier being active is cached in a volatile field.
  * @since 2.0
  */
 @RequiredArgsConstructor
@@ -64,13 +65,22 @@
 
     @Getter @Accessors(fluent = true) private final @NonNull Class<F> facetType;
 
-    private final Map<Facet.Precedence, FacetRank<F>> ranksByPrecedence =
-            Collections.synchronizedMap(new EnumMap<Facet.Precedence, FacetRank<F>>(Facet.Precedence.class));
+    private final AtomicReferenceArray<FacetRank<F>> ranksByPrecedence =
+            new AtomicReferenceArray<>(Facet.Precedence.values().length);
 
     private final @NonNull AtomicReference<F> eventFacetRef = new AtomicReference<>();
-    //TODO if does not help with performance, can be removed (needs performance testing)
     private final @NonNull Map<QualifiedFacet.Key, Optional<F>> nonEventWinnerCache = new ConcurrentHashMap<>();
 
+    /**
+     * Incremented on every modification, so that a winner computed concurrently with a modification is not cached.
+     */
+    private final AtomicInteger modificationCount = new AtomicInteger();
+    private record CachedWinner<F>(int modificationCount, Optional<F> winner) {}
+    /**
+     * Caches the non-event winner for when no layout qualifier is active.
+     */
+    private volatile CachedWinner<F> unqualifiedNonEventWinner;
+
     /**
      * @return whether the top rank changed,
      * that is whether the winning facet should be reconsidered as a consequence of this call
@@ -98,16 +108,13 @@ public void add(final @NonNull F facet) {
             return;
         }
 
-        var rank = ranksByPrecedence
-                .computeIfAbsent(facetPrecedence, __->new FacetRank<>(facetType(), facetPrecedence));
-        rank.add(facet);
+        rankFor(facetPrecedence).add(facet);
 
-        nonEventWinnerCache.clear(); // for simplicity invalidate the entire cache
+        invalidateWinnerCaches();
     }
 
     public void addAll(final @NonNull TypedFacetRanking<F> facetRanking) {
-        facetRanking.ranksByPrecedence
-            .forEach((k, rank)->rank.facetsByQualifier().streamElements()
+        facetRanking.forEachDescending(rank->rank.facetsByQualifier().streamElements()
                     .forEach(this::add));
     }
 
@@ -124,9 +131,9 @@ public void remove(final F facet) {
                 ()->String.format("facet %s declares no precedence", facet.getClass()));
         if(facetPrecedence.ordinal()>=Facet.Precedence.EVENT.ordinal())
 			throw new IllegalArgumentException("removal of facet with EVENT precedence is not supported");
-		ranksByPrecedence.get(facetPrecedence)
+		ranksByPrecedence.get(facetPrecedence.ordinal())
 			.remove(facet);
-		nonEventWinnerCache.clear(); // for simplicity invalidate the entire cache
+		invalidateWinnerCaches();
 	}
 
     /**
@@ -147,9 +154,18 @@ public Optional<F> getWinner() {
      * @param facetType - for convenience, so the caller does not need to cast the result
      */
     public Optional<F> getWinnerNonEvent() {
+        if(LAYOUT.get()==null) {
+            var modificationCount = this.modificationCount.get();
+            var cached = unqualifiedNonEventWinner;
+            if(cached!=null
+                    && cached.modificationCount()==modificationCount)
+                return cached.winner();
+            var winner = findWinnerNonEvent(QualifiedFacet.Key.unqualified(facetType));
+            unqualifiedNonEventWinner = new CachedWinner<>(modificationCount, winner);
+            return winner;
+        }
         var key = key();
-        return nonEventWinnerCache.computeIfAbsent(key, __->topRankInternal(key)
-                .flatMap(topRank->topRank.findBest(key)));
+        return nonEventWinnerCache.computeIfAbsent(key, this::findWinnerNonEvent);
     }
 
     /**
@@ -162,7 +178,7 @@ public Optional<F> getWinnerNonEventLowerOrEqualTo(final @NonNull Precedence pre
         var key = key();
         var selectedRank = getHighestPrecedenceLowerOrEqualTo(precedenceUpper);
         return selectedRank
-                .map(ranksByPrecedence::get)
+                .map(this::rankAt)
                 .flatMap(rank->rank.findBest(key));
     }
 
@@ -194,7 +210,7 @@ public Can<F> getRankLowerOrEqualTo(final @NonNull Precedence precedenceUpper) {
         var key = key();
         var precedenceSelected = getHighestPrecedenceLowerOrEqualTo(precedenceUpper);
         return precedenceSelected
-            .map(ranksByPrecedence::get)
+            .map(this::rankAt)
             .map(rank->rank.facetsMatching(key))
             .orElseGet(Can::empty);
     }
@@ -235,20 +251,25 @@ public void purgeIf(
                 rank.purgeIf(qualifierKey, facetFilter);
             }
         });
+        invalidateWinnerCaches();
     }
 
     /**
      * Introduced for JUnit testing.
      */
     public int totalFacetCount() {
-        return ranksByPrecedence.values()
-            .stream()
-            .mapToInt(rank-> rank.facetsByQualifier()
-                .values()
-                .stream()
-                .mapToInt(List::size)
-                .sum())
-            .sum();
+        int total = 0;
+        for (int ord = 0; ord < ranksByPrecedence.length(); ord++) {
+            var rank = ranksByPrecedence.get(ord);
+            if(rank!=null) {
+                total += rank.facetsByQualifier()
+                    .values()
+                    .stream()
+                    .mapToInt(List::size)
+                    .sum();
+            }
+        }
+        return total;
     }
 
     // -- LAYOUT SWITCHING
@@ -273,12 +294,44 @@ private Optional<FacetRank<F>> topRankInternal(final QualifiedFacet.Key key) {
         return findFirstDescending(rank->rank.hasAny(key));
     }
 
-    private final static Facet.Precedence[] PRECEDENCE_KEY_UNIVERSE = Facet.Precedence.values();
+    private Optional<F> findWinnerNonEvent(final QualifiedFacet.Key key) {
+        return topRankInternal(key)
+            .flatMap(topRank->topRank.findBest(key));
+    }
+
+    private void invalidateWinnerCaches() {
+        // for simplicity invalidate the entire cache
+        modificationCount.incrementAndGet();
+        nonEventWinnerCache.clear();
+    }
+
+    private FacetRank<F> rankAt(final Facet.Precedence precedence) {
+        return ranksByPrecedence.get(precedence.ordinal());
+    }
+    private FacetRank<F> rankFor(final Facet.Precedence precedence) {
+        var ord = precedence.ordinal();
+        var rank = ranksByPrecedence.get(ord);
+        if(rank!=null)
+            return rank;
+        ranksByPrecedence.compareAndSet(ord, null, new FacetRank<>(facetType, precedence));
+        return ranksByPrecedence.get(ord);
+    }
     private void forEachDescending(final Consumer<FacetRank<F>> consumer) {
-        _Maps.forEachDescending(PRECEDENCE_KEY_UNIVERSE, ranksByPrecedence, consumer);
+        for (int ord = ranksByPrecedence.length() - 1; ord >= 0; ord--) {
+            var rank = ranksByPrecedence.get(ord);
+            if(rank!=null) {
+                consumer.accept(rank);
+            }
+        }
     }
     private Optional<FacetRank<F>> findFirstDescending(final Predicate<FacetRank<F>> filter) {
-        return _Maps.findFirstDescending(PRECEDENCE_KEY_UNIVERSE, ranksByPrecedence, filter);
+        for (int ord = ranksByPrecedence.length() - 1; ord >= 0; ord--) {
+            var rank = ranksByPrecedence.get(ord);
+            if(rank!=null
+                    && filter.test(rank))
+                return Optional.of(rank);
+        }
+        return Optional.empty();
     }
 
 }
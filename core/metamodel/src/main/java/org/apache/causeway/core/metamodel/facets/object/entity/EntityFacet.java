@@ -19,13 +19,19 @@
 package org.apache.causeway.core.metamodel.facets.object.entity;
 
 import java.lang.reflect.Method;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 import org.jspecify.annotations.Nullable;
 import org.springframework.util.ClassUtils;
 
+import org.apache.causeway.applib.query.PredicateQuery;
 import org.apache.causeway.applib.query.Query;
+import org.apache.causeway.applib.query.QueryPredicate;
+import org.apache.causeway.applib.query.QueryRange;
 import org.apache.causeway.applib.services.bookmark.Bookmark;
 import org.apache.causeway.applib.services.bookmark.IdStringifier;
 import org.apache.causeway.applib.services.repository.EntityState;
@@ -140,8 +146,100 @@ default Bookmark bookmarkForElseFail(final @Nullable Object pojo) {
      */
     Optional<Object> fetchByBookmark(Bookmark bookmark);
 
+    /**
+     * Bulk variant of {@link #fetchByBookmark(Bookmark)}, for bookmarks that all refer to
+     * this facet's entity type.
+     *
+     * <p>
+     * Returns the entity pojos that could be found, keyed by their {@link Bookmark}
+     * and iterating in the order of the given bookmarks.
+     * Bookmarks that could not be found have no entry.
+     *
+     * @implSpec the default fetches one entity at a time;
+     *      persistence stacks should override to fetch in batches (eg. using an SQL {@code IN} clause)
+     */
+    default Map<Bookmark, Object> fetchByBookmarks(final Can<Bookmark> bookmarks) {
+        var entities = new LinkedHashMap<Bookmark, Object>();
+        bookmarks.forEach(bookmark->
+            fetchByBookmark(bookmark)
+                .ifPresent(entityPojo->entities.put(bookmark, entityPojo)));
+        return entities;
+    }
+
     Can<ManagedObject> fetchByQuery(Query<?> query);
 
+    /**
+     * Whether given {@link QueryPredicate} can be translated into a server-side query,
+     * that is, whether {@link #fetchByQuery(Query)} supports a {@link PredicateQuery} using it.
+     *
+     * @implSpec the default returns {@code false}
+     */
+    default boolean canTranslate(final QueryPredicate<?> predicate) {
+        return false;
+    }
+
+    /**
+     * Optionally a {@link PredicateQuery}, that matches the elements of given owner's collection,
+     * such that these can be queried page by page, rather than loaded in their entirety.
+     *
+     * <p>
+     * Only applicable to collections, whose elements hold a back reference to their owner
+     * (bidirectional one-to-many associations), and are not ordered by any other means than sorting.
+     *
+     * @param ownerPojo - entity of this facet's entity type
+     * @param collectionId - the collection's member id
+     *
+     * @implSpec the default returns empty
+     */
+    default Optional<PredicateQuery<?>> queryForCollection(final Object ownerPojo, final String collectionId) {
+        return Optional.empty();
+    }
+
+    /**
+     * Optionally a {@link PredicateQuery}, that matches exactly the given entities (by their ids),
+     * irrespective of their order.
+     *
+     * @param entityPojos - attached entities of this facet's entity type
+     *
+     * @implSpec the default returns empty
+     */
+    default Optional<PredicateQuery<?>> queryForEntities(final Can<Object> entityPojos) {
+        return Optional.empty();
+    }
+
+    /**
+     * Counts the entities matched by given {@link Query}, ignoring its {@link Query#getRange() range}.
+     *
+     * @implSpec the default fetches the entire result via {@link #fetchByQuery(Query)};
+     *      persistence stacks should override to issue a {@code COUNT} query instead
+     */
+    default long countByQuery(final Query<?> query) {
+        return fetchByQuery(query.withRange(QueryRange.unconstrained())).size();
+    }
+
+    /**
+     * Streaming variant of {@link #fetchByQuery(Query)}, that fetches and adapts the entities lazily,
+     * {@code batchSize} rows at a time.
+     *
+     * <p>
+     * Intended for read-only scans over arbitrarily large result sets, hence to be consumed within a single transaction
+     * and without collecting the stream.
+     *
+     * @param batchSize - number of rows fetched at a time (must be positive)
+     * @param clearAfterEachBatch - whether to flush and clear the persistence context after each batch
+     *      (before the next is fetched), such that memory consumption stays constant; entities of previous batches
+     *      are no longer managed thereafter
+     *
+     * @implSpec the default fetches the entire result eagerly via {@link #fetchByQuery(Query)};
+     *      persistence stacks should override to fetch in batches
+     */
+    default Stream<ManagedObject> streamByQuery(
+            final Query<?> query,
+            final int batchSize,
+            final boolean clearAfterEachBatch) {
+        return fetchByQuery(query).stream();
+    }
+
     void persist(Object pojo);
 
     @Nullable <T> T refresh(@Nullable T pojo);
@@ -65,9 +65,10 @@ public int compare(final @Nullable ManagedObject p, final @Nullable ManagedObjec
 
     // -- PREDEFINED COMPARATOR
 
-    final Comparator<ManagedObject> NATURAL_NULL_FIRST = (a, b) -> {
-        var aPojo = MmUnwrapUtils.single(a);
-        var bPojo = MmUnwrapUtils.single(b);
+    /**
+     * Same as {@link #NATURAL_NULL_FIRST}, but operating on already unwrapped pojos.
+     */
+    final Comparator<Object> NATURAL_POJO_NULL_FIRST = (aPojo, bPojo) -> {
         if(Objects.equals(aPojo, bPojo)) return 0;
         if((aPojo==null
                 || aPojo instanceof Comparable)
@@ -81,6 +82,9 @@ public int compare(final @Nullable ManagedObject p, final @Nullable ManagedObjec
         return -1;
     };
 
+    final Comparator<ManagedObject> NATURAL_NULL_FIRST = (a, b) ->
+        NATURAL_POJO_NULL_FIRST.compare(MmUnwrapUtils.single(a), MmUnwrapUtils.single(b));
+
     public int memberIdentifierCompare(final FacetHolder o1, final FacetHolder o2) {
         final Identifier identifier1 = o1.getFeatureIdentifier();
         final Identifier identifier2 = o2.getFeatureIdentifier();
@@ -18,8 +18,15 @@
  */
 package org.apache.causeway.core.metamodel.objectmanager;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import jakarta.inject.Named;
 
@@ -119,6 +126,58 @@ public Optional<ManagedObject> loadObject(final @Nullable Bookmark bookmark) {
                 .map(this::loadObject);
     }
 
+    /**
+     * Bulk variant of {@link #loadObject(Bookmark)}.
+     * <p>
+     * Entities of the same type are fetched in batches (as supported by the
+     * entity's persistence stack), all other objects are loaded one by one.
+     * <p>
+     * Returns the objects that could be recovered, keyed by their {@link Bookmark}
+     * and iterating in the order of the given bookmarks.
+     * Bookmarks that could not be resolved have no entry.
+     * <p>
+     * Resolves injection-points for the result. (Handles service injection.)
+     */
+    public Map<Bookmark, ManagedObject> loadObjects(final @Nullable Can<Bookmark> bookmarks) {
+        if(bookmarks==null
+                || bookmarks.isEmpty())
+            return Map.of();
+        var specLoader = getMetaModelContext().getSpecificationLoader();
+
+        // group entity bookmarks by type, such that each group can be fetched in one go
+        var entityBookmarksBySpec = new LinkedHashMap<ObjectSpecification, List<Bookmark>>();
+        bookmarks.forEach(bookmark->
+            ProtoObject.resolve(specLoader, bookmark)
+                .filter(protoObject->protoObject.objectSpecification().isEntity())
+                .ifPresent(protoObject->entityBookmarksBySpec
+                        .computeIfAbsent(protoObject.objectSpecification(), __->new ArrayList<>())
+                        .add(bookmark)));
+
+        var entitiesByBookmark = new HashMap<Bookmark, ManagedObject>();
+        entityBookmarksBySpec.forEach((spec, entityBookmarks)->
+            spec.entityFacetElseFail()
+                .fetchByBookmarks(Can.ofCollection(entityBookmarks))
+                .forEach((bookmark, entityPojo)->
+                    entitiesByBookmark.put(bookmark,
+                            ManagedObject.entity(spec, entityPojo, Optional.of(bookmark)))));
+        var entityBookmarks = entityBookmarksBySpec.values().stream()
+                .flatMap(List::stream)
+                .collect(Collectors.toSet());
+
+        var objects = new LinkedHashMap<Bookmark, ManagedObject>();
+        bookmarks.forEach(bookmark->{
+            var object = entityBookmarks.contains(bookmark)
+                    ? entitiesByBookmark.get(bookmark)
+                    : loadObject(bookmark)
+                        .filter(mo->!ManagedObjects.isNullOrUnspecifiedOrEmpty(mo))
+                        .orElse(null);
+            if(object!=null) {
+                objects.put(bookmark, object);
+            }
+        });
+        return objects;
+    }
+
     /**
      * Introduced for serializing action parameter values to bookmarks and vice versa.
      * <p>
@@ -161,6 +220,26 @@ public Can<ManagedObject> queryObjects(final BulkLoadRequest objectQuery) {
         return objectBulkLoader().handleElseFail(objectQuery);
     }
 
+    /**
+     * Streaming variant of {@link #queryObjects(BulkLoadRequest)}.
+     * <p>
+     * Entities are fetched lazily, {@code batchSize} at a time (as supported by the entity's persistence stack).
+     * <p>
+     * Resolves injection-points for the result. (Handles service injection.)
+     *
+     * @see org.apache.causeway.core.metamodel.facets.object.entity.EntityFacet#streamByQuery(Query, int, boolean)
+     */
+    public Stream<ManagedObject> streamObjects(
+            final BulkLoadRequest objectQuery,
+            final int batchSize,
+            final boolean clearAfterEachBatch) {
+        var spec = objectQuery.objectSpecification();
+        return spec!=null
+                && spec.isEntity()
+            ? spec.entityFacetElseFail().streamByQuery(objectQuery.query(), batchSize, clearAfterEachBatch)
+            : queryObjects(objectQuery).stream();
+    }
+
     public Optional<ObjectSpecification> specForPojo(final @Nullable Object pojo) {
         if(pojo==null) return Optional.empty();
 
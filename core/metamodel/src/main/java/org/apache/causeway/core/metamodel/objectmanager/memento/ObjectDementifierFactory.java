@@ -66,8 +66,19 @@ public boolean isHandling(final MementoRecreateRequest request) {
             public ManagedObject handle(final MementoRecreateRequest request) {
                 var elementSpec = request.objectSpecification();
                 var om = elementSpec.getMetaModelContext().getObjectManager();
-                var objects = ((ObjectMementoPacked)request.memento()).streamElements()
-                        .map(om::demementify) // recursively unwrap
+                var elementMementos = ((ObjectMementoPacked)request.memento()).streamElements()
+                        .collect(Can.toCan());
+                // bulk load singular elements (entities of same type are fetched in batches)
+                var preloaded = om.loadObjects(elementMementos.stream()
+                        .filter(ObjectMementoSingular.class::isInstance)
+                        .map(ObjectMemento::bookmark)
+                        .distinct()
+                        .collect(Can.toCan()));
+                var objects = elementMementos.stream()
+                        .map(memento->memento instanceof ObjectMementoSingular singular
+                                && preloaded.containsKey(singular.bookmark())
+                                ? preloaded.get(singular.bookmark())
+                                : om.demementify(memento)) // recursively unwrap
                         .collect(Can.toCan());
                 return ManagedObject.packed(elementSpec, objects);
             }
@@ -0,0 +1,80 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.postprocessors.all;
+
+import org.apache.causeway.core.metamodel.commons.CanonicalInvoker;
+import org.apache.causeway.core.metamodel.context.MetaModelContext;
+import org.apache.causeway.core.metamodel.facetapi.FacetHolder;
+import org.apache.causeway.core.metamodel.facets.ImperativeFacet;
+import org.apache.causeway.core.metamodel.postprocessors.MetaModelPostProcessorAbstract;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
+import org.apache.causeway.core.metamodel.spec.feature.ObjectAction;
+import org.apache.causeway.core.metamodel.spec.feature.ObjectActionParameter;
+import org.apache.causeway.core.metamodel.spec.feature.OneToManyAssociation;
+import org.apache.causeway.core.metamodel.spec.feature.OneToOneAssociation;
+
+import jakarta.inject.Inject;
+
+/**
+ * Compiles the methods of all {@link ImperativeFacet}s for invocation (see {@link CanonicalInvoker#compile}),
+ * such that this is done at introspection time rather than on first invocation.
+ */
+public class CompileImperativeMethodsPostProcessor
+extends MetaModelPostProcessorAbstract {
+
+    @Inject
+    public CompileImperativeMethodsPostProcessor(final MetaModelContext metaModelContext) {
+        super(metaModelContext);
+    }
+
+    @Override
+    public void postProcessObject(final ObjectSpecification objSpec) {
+        compileAll(objSpec);
+    }
+
+    @Override
+    public void postProcessAction(final ObjectSpecification objSpec, final ObjectAction act) {
+        compileAll(act);
+    }
+
+    @Override
+    public void postProcessParameter(final ObjectSpecification objSpec, final ObjectAction act, final ObjectActionParameter param) {
+        compileAll(param);
+    }
+
+    @Override
+    public void postProcessProperty(final ObjectSpecification objSpec, final OneToOneAssociation prop) {
+        compileAll(prop);
+    }
+
+    @Override
+    public void postProcessCollection(final ObjectSpecification objSpec, final OneToManyAssociation coll) {
+        compileAll(coll);
+    }
+
+    // -- HELPER
+
+    private static void compileAll(final FacetHolder facetHolder) {
+        facetHolder.streamFacets(ImperativeFacet.class)
+            .flatMap(imperativeFacet->imperativeFacet.getMethods().stream())
+            .map(methodFacade->methodFacade.asMethodForIntrospection().method())
+            .forEach(CanonicalInvoker::compile);
+    }
+
+}
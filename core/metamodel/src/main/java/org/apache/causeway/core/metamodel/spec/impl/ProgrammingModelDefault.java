@@ -83,6 +83,7 @@
 import org.apache.causeway.core.metamodel.facets.properties.validating.dflt.PropertyValidateFacetDefaultFactory;
 import org.apache.causeway.core.metamodel.facets.properties.validating.method.PropertyValidateFacetViaMethodFactory;
 import org.apache.causeway.core.metamodel.facets.value.semantics.ValueSemanticsAnnotationFacetFactory;
+import org.apache.causeway.core.metamodel.postprocessors.all.CompileImperativeMethodsPostProcessor;
 import org.apache.causeway.core.metamodel.postprocessors.all.CssOnActionFromConfiguredRegexPostProcessor;
 import org.apache.causeway.core.metamodel.postprocessors.all.DescribedAsFromTypePostProcessor;
 import org.apache.causeway.core.metamodel.postprocessors.all.MixinSanityChecksValidator;
@@ -269,6 +270,9 @@ private void addPostProcessors() {
         addPostProcessor(PostProcessingOrder.A1_BUILTIN, new TranslationPostProcessor(mmc));
 
         addPostProcessor(PostProcessingOrder.A1_BUILTIN, new AuthorizationPostProcessor(mmc));
+
+        // must be after all imperative facets have been installed
+        addPostProcessor(PostProcessingOrder.A1_BUILTIN, new CompileImperativeMethodsPostProcessor(mmc));
     }
 
     private void addValidators() {
@@ -0,0 +1,45 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.spi;
+
+import org.apache.causeway.applib.annotation.EntityChangeKind;
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+
+/**
+ * Notified of entities being created, updated or deleted, irrespective of whether their type is enabled for
+ * entity change publishing; allows for caches of state derived from entities (such as their titles) to be kept
+ * in sync.
+ *
+ * <p>
+ *     Each change is notified as soon as it is enlisted with the entity change tracker, and once more after the
+ *     transaction has completed (whether committed or rolled back), so that any state derived from uncommitted
+ *     changes in the meantime can be discarded as well.
+ * </p>
+ *
+ * @since 4.0
+ */
+public interface EntityChangeSubscriber {
+
+    /**
+     * @param bookmark
+     * @param changeKind
+     */
+    void entityChanged(Bookmark bookmark, EntityChangeKind changeKind);
+
+}
@@ -18,7 +18,11 @@
  */
 package org.apache.causeway.core.metamodel.spi;
 
+import java.util.Map;
+
 import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
 
 public interface EntityTitleSubscriber {
 
@@ -28,4 +32,30 @@ public interface EntityTitleSubscriber {
      */
     void entityTitleIs(Bookmark bookmark, String title);
 
+    /**
+     * Hint that the titles of given entities are about to be rendered (eg. as the rows of a table page),
+     * allowing for them to be looked up in bulk, rather than one by one.
+     *
+     * <p>
+     *     Returns those bookmarks, this subscriber has no title for (yet). The framework then computes
+     *     these titles in a single pass and hands them over via {@link #entityTitlesAre(Map)}.
+     * </p>
+     *
+     * @param elementType - common type of the entities
+     * @param bookmarks
+     */
+    default Can<Bookmark> entityTitlesRequired(final ObjectSpecification elementType, final Can<Bookmark> bookmarks) {
+        return Can.empty();
+    }
+
+    /**
+     * The titles computed in bulk for those bookmarks, previously returned by
+     * {@link #entityTitlesRequired(ObjectSpecification, Can)}.
+     *
+     * @param titlesByBookmark (untranslated)
+     */
+    default void entityTitlesAre(final Map<Bookmark, String> titlesByBookmark) {
+        titlesByBookmark.forEach(this::entityTitleIs);
+    }
+
 }
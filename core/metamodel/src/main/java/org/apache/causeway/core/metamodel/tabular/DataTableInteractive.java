@@ -26,6 +26,7 @@
 
 import org.apache.causeway.applib.annotation.TableDecorator;
 import org.apache.causeway.applib.annotation.Where;
+import org.apache.causeway.applib.query.PredicateQuery;
 import org.apache.causeway.commons.binding.Bindable;
 import org.apache.causeway.commons.binding.Observable;
 import org.apache.causeway.commons.collections.Can;
@@ -58,6 +59,19 @@ public static DataTableInteractive forAction(
         return DataTableInternal.forAction(managedAction, actionResult);
     }
 
+    /**
+     * Table of the entities matched by given query, with column sort, search argument and paging
+     * pushed down to the database (if supported by the persistence stack).
+     *
+     * @see #isQueryBacked()
+     */
+    public static DataTableInteractive forQuery(
+            final ManagedMember managedMember,
+            final Where where,
+            final PredicateQuery<?> query) {
+        return DataTableInternal.forQuery(managedMember, where, query);
+    }
+
     // --
 
     /**
@@ -79,6 +93,13 @@ public Optional<Comparator<ManagedObject>> asComparator(final Can<? extends Data
 
     Observable<String> titleObservable();
     Observable<Can<DataColumn>> dataColumnsObservable();
+    /**
+     * All elements (unfiltered).
+     * <p>
+     * If {@link #isQueryBacked()}, fetches all of them from the database,
+     * hence use {@link #getVisibleElementCount()} to count these,
+     * or {@link #getFetchedElements()} for those fetched already.
+     */
     Observable<Can<ManagedObject>> dataElementsObservable();
     Observable<Can<DataRow>> dataRowsFilteredAndSortedObservable();
 
@@ -93,11 +114,45 @@ public Optional<Comparator<ManagedObject>> asComparator(final Can<? extends Data
 
     // -- ROW COUNT
 
+    /**
+     * Counts number of elements in {@link #dataElementsObservable()}.
+     * <p>
+     * If {@link #isQueryBacked()}, issues a {@code COUNT} query instead of fetching all elements.
+     */
+    int getVisibleElementCount();
+
     /**
      * Counts number of rows in {@link #dataRowsFilteredAndSortedObservable()}.
+     * <p>
+     * If {@link #isQueryBacked()}, issues a {@code COUNT} query instead of fetching all rows.
      */
     int getFilteredElementCount();
 
+    /**
+     * Page of {@link #dataRowsFilteredAndSortedObservable()}, starting at row {@code skip},
+     * with at most {@code limit} rows.
+     * <p>
+     * If {@link #isQueryBacked()}, fetches only the requested page from the database.
+     */
+    Can<DataRow> dataRowsFilteredAndSorted(int skip, int limit);
+
+    /**
+     * The elements held in memory: same as {@link #dataElementsObservable()},
+     * unless {@link #isQueryBacked()}, in which case only those of the rows fetched most recently
+     * (eg. the page rendered), ordered by row index.
+     */
+    Can<ManagedObject> getFetchedElements();
+
+    /**
+     * Whether rows are fetched from the database page by page,
+     * with column sort and search argument translated into the query,
+     * rather than all elements held in memory.
+     * <p>
+     * If so, row indexes refer to the position within the filtered and sorted result,
+     * hence are reset (and any selection is cleared), when column sort or search argument change.
+     */
+    boolean isQueryBacked();
+
     // -- ROW LOOKUP
 
     /**
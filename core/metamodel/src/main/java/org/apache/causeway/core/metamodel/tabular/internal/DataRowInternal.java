@@ -19,12 +19,14 @@
 package org.apache.causeway.core.metamodel.tabular.internal;
 
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import org.jspecify.annotations.Nullable;
 
 import org.apache.causeway.applib.annotation.Where;
 import org.apache.causeway.applib.services.filter.CollectionFilterService;
 import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.commons.internal.base._Lazy;
 import org.apache.causeway.commons.internal.binding._Bindables;
 import org.apache.causeway.commons.internal.binding._Bindables.BooleanBindable;
 import org.apache.causeway.core.metamodel.consent.InteractionInitiatedBy;
@@ -41,16 +43,35 @@ record DataRowInternal(
     ManagedObject rowElement,
     BooleanBindable selectToggleBindable,
     DataTableInternal parentTable,
-    Optional<CollectionFilterService.Tokens> filterTokens
+    /**
+     * Tokenized on first use (that is, once a search argument is entered),
+     * then reused for any subsequent filtering or sorting.
+     */
+    _Lazy<Optional<CollectionFilterService.Tokens>> lazyFilterTokens
     ) implements DataRow {
 
     DataRowInternal(
             final int rowIndex,
             final @NonNull DataTableInternal parentTable,
             final @NonNull ManagedObject rowElement,
-            final CollectionFilterService.@Nullable Tokens filterTokens) {
-        this(rowIndex, rowElement, _Bindables.forBoolean(false), parentTable, Optional.ofNullable(filterTokens));
-        selectToggleBindable.addListener((event, old, neW)->parentTable.handleRowSelectToggle());
+            final @NonNull Supplier<CollectionFilterService.@Nullable Tokens> filterTokensSupplier) {
+        this(rowIndex, parentTable, rowElement, filterTokensSupplier, false);
+    }
+
+    DataRowInternal(
+            final int rowIndex,
+            final @NonNull DataTableInternal parentTable,
+            final @NonNull ManagedObject rowElement,
+            final @NonNull Supplier<CollectionFilterService.@Nullable Tokens> filterTokensSupplier,
+            final boolean selected) {
+        this(rowIndex, rowElement, _Bindables.forBoolean(selected), parentTable,
+                _Lazy.threadSafe(()->Optional.ofNullable(filterTokensSupplier.get())));
+        selectToggleBindable.addListener((event, old, neW)->parentTable.handleRowSelectToggle(rowIndex, neW));
+    }
+
+    @Override
+    public Optional<CollectionFilterService.Tokens> filterTokens() {
+        return lazyFilterTokens.get();
     }
 
     @Override
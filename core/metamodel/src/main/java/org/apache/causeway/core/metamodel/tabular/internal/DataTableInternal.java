@@ -19,12 +19,18 @@
 package org.apache.causeway.core.metamodel.tabular.internal;
 
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.SortedSet;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
@@ -32,17 +38,23 @@
 import org.apache.causeway.applib.Identifier;
 import org.apache.causeway.applib.annotation.TableDecorator;
 import org.apache.causeway.applib.annotation.Where;
+import org.apache.causeway.applib.query.PredicateQuery;
+import org.apache.causeway.applib.services.bookmark.Bookmark;
 import org.apache.causeway.applib.services.filter.CollectionFilterService;
 import org.apache.causeway.applib.services.metamodel.MetaModelService.AssociationsLookup;
 import org.apache.causeway.commons.binding.Bindable;
 import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.functional.IndexedFunction;
+import org.apache.causeway.commons.internal.base._Strings;
 import org.apache.causeway.commons.internal.binding._BindableAbstract;
 import org.apache.causeway.commons.internal.binding._Bindables;
 import org.apache.causeway.commons.internal.binding._Observables;
 import org.apache.causeway.commons.internal.binding._Observables.LazyObservable;
 import org.apache.causeway.commons.internal.collections._Streams;
 import org.apache.causeway.commons.internal.exceptions._Exceptions;
+import org.apache.causeway.core.metamodel.facets.object.hidden.HiddenObjectFacet;
+import org.apache.causeway.core.metamodel.facets.object.title.TitleFacet;
+import org.apache.causeway.core.metamodel.facets.object.title.TitleRenderRequest;
 import org.apache.causeway.core.metamodel.interactions.managed.ActionInteraction;
 import org.apache.causeway.core.metamodel.interactions.managed.ManagedAction;
 import org.apache.causeway.core.metamodel.interactions.managed.ManagedCollection;
@@ -53,6 +65,7 @@
 import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
 import org.apache.causeway.core.metamodel.spec.feature.ObjectAssociationContainer.ColumnQuery;
 import org.apache.causeway.core.metamodel.spec.feature.ObjectMember;
+import org.apache.causeway.core.metamodel.spi.EntityTitleSubscriber;
 import org.apache.causeway.core.metamodel.tabular.DataColumn;
 import org.apache.causeway.core.metamodel.tabular.DataRow;
 import org.apache.causeway.core.metamodel.tabular.DataTableInteractive;
@@ -74,12 +87,22 @@ public static DataTableInternal empty(final ManagedMember managedMember, final W
         return new DataTableInternal(managedMember, where, Can.empty());
     }
 
+    /**
+     * Rows are fetched page by page (as with {@link #forQuery(ManagedMember, Where, PredicateQuery)}),
+     * provided query backed tables are enabled (opt-in), the persistence stack can express the collection
+     * as a query and no element could be hidden from the user;
+     * otherwise all elements are fetched (using the getter) and held in memory.
+     *
+     * @see org.apache.causeway.core.config.CausewayConfiguration.Core.MetaModel#queryBackedTables()
+     */
     public static DataTableInternal forCollection(
             final ManagedCollection managedCollection) {
-        return new DataTableInternal(managedCollection, managedCollection.getWhere(),
-            managedCollection
-            .streamElements()
-            .collect(Can.toCan()));
+        return tableQueryForCollection(managedCollection)
+            .map(tableQuery->new DataTableInternal(managedCollection, managedCollection.getWhere(), Can.empty(), tableQuery))
+            .orElseGet(()->new DataTableInternal(managedCollection, managedCollection.getWhere(),
+                managedCollection
+                .streamElements()
+                .collect(Can.toCan())));
     }
 
     public static DataTableInternal forAction(
@@ -95,7 +118,72 @@ public static DataTableInternal forAction(
         var elements = ((PackedManagedObject)actionResult).unpack();
         elements.forEach(ManagedObject::getBookmark);
 
-        return new DataTableInternal(managedAction, managedAction.getWhere(), elements);
+        return tableQueryForActionResult(managedAction, elements)
+            .map(tableQuery->new DataTableInternal(managedAction, managedAction.getWhere(), Can.empty(), tableQuery))
+            .orElseGet(()->new DataTableInternal(managedAction, managedAction.getWhere(), elements));
+    }
+
+    /**
+     * Rows are fetched page by page, with column sort, search argument and paging pushed down to the database,
+     * provided the element type is an entity type and its persistence stack can translate the query;
+     * otherwise all elements are fetched and held in memory.
+     * <p>
+     * The {@link PredicateQuery#getRange() range} of given query is ignored.
+     */
+    public static DataTableInternal forQuery(
+            final ManagedMember managedMember,
+            final Where where,
+            final PredicateQuery<?> query) {
+        var elementType = managedMember.getElementType();
+        return DataTableQuery.create(elementType, query)
+            .map(tableQuery->new DataTableInternal(managedMember, where, Can.empty(), tableQuery))
+            .orElseGet(()->new DataTableInternal(managedMember, where,
+                    elementType.entityFacet()
+                        .map(entityFacet->entityFacet.fetchByQuery(query))
+                        .orElseGet(Can::empty)));
+    }
+
+    private static Optional<DataTableQuery> tableQueryForCollection(final ManagedCollection managedCollection) {
+        var elementType = managedCollection.getElementType();
+        if(!isQueryBackedTablesEnabled(elementType))
+            return Optional.empty();
+        // type level hiding applies to all elements alike (and would hide the collection itself),
+        // whereas instance level hiding cannot be translated into a query
+        if(managedCollection.checkVisibility().isPresent()
+                || (elementType.getConfiguration().core().metaModel().filterVisibility()
+                        && elementType.containsFacet(HiddenObjectFacet.class))) {
+            return Optional.empty();
+        }
+        var owner = managedCollection.getOwner();
+        return owner.objSpec().entityFacet()
+            .flatMap(entityFacet->entityFacet.queryForCollection(owner.getPojo(), managedCollection.getId()))
+            .flatMap(query->DataTableQuery.create(elementType, query));
+    }
+
+    /**
+     * An action's resulting entities are re-queried by their ids (such that column sort, search argument and paging
+     * are pushed down to the database, and mementos hold ids only), provided the action is declared to return
+     * a {@link Set} (other than a {@link SortedSet}), hence promises no order, that would need to be preserved,
+     * and query backed tables are enabled (opt-in).
+     */
+    private static Optional<DataTableQuery> tableQueryForActionResult(
+            final ManagedAction managedAction,
+            final Can<ManagedObject> elements) {
+        var returnType = managedAction.getAction().getReturnType().correspondingClass();
+        var elementType = managedAction.getElementType();
+        if(elements.isEmpty()
+                || !isQueryBackedTablesEnabled(elementType)
+                || !Set.class.isAssignableFrom(returnType)
+                || SortedSet.class.isAssignableFrom(returnType)) {
+            return Optional.empty();
+        }
+        return elementType.entityFacet()
+            .flatMap(entityFacet->entityFacet.queryForEntities(elements.map(ManagedObject::getPojo)))
+            .flatMap(query->DataTableQuery.create(elementType, query));
+    }
+
+    private static boolean isQueryBackedTablesEnabled(final ObjectSpecification elementType) {
+        return elementType.getConfiguration().core().metaModel().queryBackedTables();
     }
 
     // -- CONSTRUCTION
@@ -130,6 +218,46 @@ public static DataTableInternal forAction(
 
     private final Optional<FilterHandler> filterHandler;
 
+    /**
+     * Present, if rows are fetched from the database page by page;
+     * empty, if all elements are held in memory.
+     */
+    private final Optional<DataTableQuery> tableQuery;
+
+    /**
+     * Query backed mode only: the rows fetched most recently (for the current search argument and column sort),
+     * keyed by row index; the row index is the position within the filtered and sorted result.
+     * <p>
+     * Bounded to {@link #QUERIED_ROWS_MAX} rows, least recently used rows are evicted first,
+     * as their selection state is held by {@link #querySelection} instead.
+     */
+    private final Map<Integer, DataRowInternal> queriedRows = new LinkedHashMap<>(16, 0.75f, /*accessOrder*/true) {
+        private static final long serialVersionUID = 1L;
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<Integer, DataRowInternal> eldest) {
+            return size() > QUERIED_ROWS_MAX;
+        }
+    };
+    private static final int QUERIED_ROWS_MAX = 1000;
+
+    /**
+     * Query backed mode only: page size, when the selected rows are fetched after a select all.
+     */
+    private static final int QUERIED_ROWS_PAGE_SIZE = 100;
+
+    /**
+     * Query backed mode only: which rows are selected, without these having to be fetched.
+     */
+    private final QuerySelection querySelection = new QuerySelection();
+
+    /**
+     * Query backed mode only: the current search argument and column sort applied to the table's query.
+     */
+    private final @NonNull LazyObservable<PredicateQuery<?>> refinedQueryObservable;
+
+    private final @NonNull LazyObservable<Integer> visibleElementCountObservable;
+    private final @NonNull LazyObservable<Integer> filteredElementCountObservable;
+
     /**
      * On data row selection changes (originating from UI),
      * the framework updates this {@link Bindable},
@@ -142,40 +270,67 @@ private DataTableInternal(
             final ManagedMember managedMember,
             final Where where,
             final Can<ManagedObject> elements) {
+        this(managedMember, where, elements, null);
+    }
+
+    private DataTableInternal(
+            final ManagedMember managedMember,
+            final Where where,
+            final Can<ManagedObject> elements,
+            final @Nullable DataTableQuery tableQuery) {
 
         this.managedMember = managedMember;
         this.where = where;
+        this.tableQuery = Optional.ofNullable(tableQuery);
         this.filterHandler = FilterUtils.createFilterHandler(managedMember.getElementType());
 
         this.searchArgumentBindable = _Bindables.forValue("");
         this.columnSortBindable = _Bindables.forValue(null);
 
-        this.dataElementsObservable = _Observables.lazy(()->elements);
+        this.dataElementsObservable = _Observables.lazy(()->tableQuery==null
+            ? elements
+            : tableQuery.fetchAll(tableQuery.query()));
+
+        this.refinedQueryObservable = _Observables.lazy(()->tableQuery==null
+            ? null
+            : tableQuery.refine(
+                    searchArgumentBindable.getValue(),
+                    columnSortBindable.getValue(),
+                    dataColumnsObservable().getValue()));
 
         this.dataRowsObservable = _Observables.lazy(()->
             dataElementsObservable.getValue().stream()
-                .map(IndexedFunction.zeroBased((rowIndex, element)->new DataRowInternal(rowIndex, this, element, tokens(element))))
+                .map(IndexedFunction.zeroBased((rowIndex, element)->new DataRowInternal(rowIndex, this, element, ()->tokens(element))))
                 .collect(Can.toCan()));
 
-        this.dataRowsFilteredAndSortedObservable = _Observables.lazy(()->
-            _Streams.sortConditionally(
-                dataRowsObservable.getValue().stream().filter(adaptSearchPredicate()),
-                    sortingComparator().orElse(null))
-                .collect(Can.toCan()));
+        this.dataRowsFilteredAndSortedObservable = _Observables.lazy(()->tableQuery==null
+            ? sorted(dataRowsObservable.getValue().stream().filter(adaptSearchPredicate()))
+                .collect(Can.toCan())
+            : toQueriedRows(0, tableQuery.fetchAll(refinedQueryObservable.getValue())));
+
+        this.visibleElementCountObservable = _Observables.lazy(()->tableQuery==null
+            ? dataElementsObservable.getValue().size()
+            : (int) Math.min(Integer.MAX_VALUE, tableQuery.count(tableQuery.query())));
+
+        this.filteredElementCountObservable = _Observables.lazy(()->tableQuery==null
+            ? dataRowsFilteredAndSortedObservable.getValue().size()
+            : (int) Math.min(Integer.MAX_VALUE, tableQuery.count(refinedQueryObservable.getValue())));
 
         this.dataRowsSelectedObservable = _Observables.lazy(()->
-            dataRowsObservable.getValue().stream()
+            (tableQuery==null
+                ? dataRowsObservable.getValue().stream()
+                : streamQueriedRowsMaybeSelected())
                 .filter(dataRow->dataRow.selectToggleBindable().getValue().booleanValue())
                 .collect(Can.toCan()));
 
         this.selectionChanges = _Bindables.forValue(Boolean.FALSE);
 
         this.searchArgumentBindable.addListener((e,o,n)->{
-            dataRowsFilteredAndSortedObservable.invalidate();
+            invalidateFilteredAndSorted();
         });
 
         this.columnSortBindable.addListener((e,o,n)->{
-            dataRowsFilteredAndSortedObservable.invalidate();
+            invalidateFilteredAndSorted();
         });
 
         this.dataColumnsObservable = _Observables.lazy(()->
@@ -193,7 +348,14 @@ private DataTableInternal(
 
     @Override
     public boolean isSearchSupported() {
-        return filterHandler.isPresent();
+        return tableQuery.isEmpty()
+            ? filterHandler.isPresent()
+            : tableQuery.get().searchablePropertyPaths(dataColumnsObservable.getValue()).isNotEmpty();
+    }
+
+    @Override
+    public boolean isQueryBacked() {
+        return tableQuery.isPresent();
     }
 
     @Override
@@ -209,8 +371,19 @@ public Optional<TableDecorator> getTableDecoratorIfAny() {
     /**
      * Count all data rows (the user is allowed to see).
      */
+    @Override
     public int getVisibleElementCount() {
-        return dataElementsObservable.getValue().size();
+        return visibleElementCountObservable.getValue();
+    }
+
+    @Override
+    public Can<ManagedObject> getFetchedElements() {
+        return tableQuery.isEmpty()
+            ? dataElementsObservable.getValue()
+            : streamFetchedDataRows()
+                .sorted(Comparator.comparingInt(DataRow::rowIndex))
+                .map(DataRow::rowElement)
+                .collect(Can.toCan());
     }
 
     /**
@@ -218,7 +391,19 @@ public int getVisibleElementCount() {
      */
     @Override
     public int getFilteredElementCount() {
-        return dataRowsFilteredAndSortedObservable.getValue().size();
+        return filteredElementCountObservable.getValue();
+    }
+
+    @Override
+    public Can<DataRow> dataRowsFilteredAndSorted(final int skip, final int limit) {
+        if(tableQuery.isEmpty()
+                || dataRowsFilteredAndSortedObservable.isMemoized()) {
+            var endExclusive = (int) Math.min(Integer.MAX_VALUE, (long)skip + limit);
+            return withEntityTitlesRequired(
+                    dataRowsFilteredAndSortedObservable.getValue().subCan(skip, endExclusive));
+        }
+        return withEntityTitlesRequired(
+                toQueriedRows(skip, tableQuery.get().fetch(refinedQueryObservable.getValue(), skip, limit)));
     }
 
     @Override
@@ -232,10 +417,148 @@ public ObjectSpecification getElementType() {
 
     @Override
     public Optional<DataRow> lookupDataRow(final int rowIndex) {
+        if(tableQuery.isPresent()) {
+            var queriedRow = queriedRows.get(rowIndex);
+            return queriedRow!=null
+                ? Optional.<DataRow>of(queriedRow)
+                : dataRowsFilteredAndSorted(rowIndex, 1).getFirst();
+        }
         return dataRowsObservable().getValue().get(rowIndex)
                 .map(DataRow.class::cast);
     }
 
+    /**
+     * Gives any {@link EntityTitleSubscriber}s the chance to look up the titles of the
+     * given (page of) rows in bulk, before these get rendered one by one.
+     * <p>
+     * Titles missing with any of the subscribers are computed once each (in a single pass),
+     * then handed over to each subscriber in bulk.
+     */
+    private Can<DataRow> withEntityTitlesRequired(final Can<DataRow> dataRows) {
+        var elementType = getElementType();
+        if(dataRows.isEmpty()
+                || !elementType.isEntity())
+            return dataRows;
+        var titleSubscribers = elementType.getMetaModelContext().getServiceRegistry()
+            .select(EntityTitleSubscriber.class);
+        if(titleSubscribers.isEmpty())
+            return dataRows;
+
+        var entitiesByBookmark = new LinkedHashMap<Bookmark, ManagedObject>();
+        dataRows.forEach(dataRow->{
+            var entity = dataRow.rowElement();
+            entity.getBookmark().ifPresent(bookmark->entitiesByBookmark.putIfAbsent(bookmark, entity));
+        });
+        if(entitiesByBookmark.isEmpty())
+            return dataRows;
+        var bookmarks = Can.ofCollection(entitiesByBookmark.keySet());
+
+        // ask each subscriber once, which titles it is missing
+        var missingBySubscriber = new LinkedHashMap<EntityTitleSubscriber, Can<Bookmark>>();
+        titleSubscribers.forEach(subscriber->{
+            var missing = subscriber.entityTitlesRequired(elementType, bookmarks);
+            if(missing.isNotEmpty()) {
+                missingBySubscriber.put(subscriber, missing);
+            }
+        });
+        if(missingBySubscriber.isEmpty())
+            return dataRows;
+
+        // compute each missing title once, bypassing the per entity notification of the subscribers ...
+        var titlesByBookmark = new HashMap<Bookmark, String>();
+        missingBySubscriber.values().stream()
+            .flatMap(Can::stream)
+            .distinct()
+            .forEach(bookmark->{
+                var entity = entitiesByBookmark.get(bookmark);
+                if(entity==null) return;
+                entity.objSpec().lookupNonFallbackFacet(TitleFacet.class)
+                    .map(titleFacet->titleFacet.title(TitleRenderRequest.forObject(entity)))
+                    .filter(_Strings::isNotEmpty)
+                    .ifPresent(title->titlesByBookmark.put(bookmark, title));
+            });
+
+        // ... then hand them over in bulk
+        missingBySubscriber.forEach((subscriber, missing)->{
+            var titles = new HashMap<Bookmark, String>();
+            missing.forEach(bookmark->{
+                var title = titlesByBookmark.get(bookmark);
+                if(title!=null) {
+                    titles.put(bookmark, title);
+                }
+            });
+            if(!titles.isEmpty()) {
+                subscriber.entityTitlesAre(titles);
+            }
+        });
+        return dataRows;
+    }
+
+    // -- QUERY BACKED MODE
+
+    /**
+     * Wraps given elements as rows, with row indexes starting at {@code skip},
+     * reusing rows already fetched, and selecting new ones as recorded by the {@link #querySelection}.
+     */
+    private Can<DataRow> toQueriedRows(final int skip, final Can<ManagedObject> elements) {
+        return elements.stream()
+            .map(IndexedFunction.zeroBased((offset, element)->
+                (DataRow) queriedRows.computeIfAbsent(skip + offset, rowIndex->
+                    new DataRowInternal(rowIndex, this, element, ()->null, querySelection.isSelected(rowIndex)))))
+            .collect(Can.toCan());
+    }
+
+    /**
+     * Query backed mode only: the rows fetched already, which (once all rows were fetched)
+     * might be more than those held by the bounded {@link #queriedRows}.
+     */
+    private Stream<DataRow> streamFetchedDataRows() {
+        return dataRowsFilteredAndSortedObservable.isMemoized()
+            ? dataRowsFilteredAndSortedObservable.getValue().stream()
+            : queriedRows.values().stream()
+                .map(DataRow.class::cast);
+    }
+
+    private Optional<DataRow> lookupFetchedDataRow(final int rowIndex) {
+        return dataRowsFilteredAndSortedObservable.isMemoized()
+            ? dataRowsFilteredAndSortedObservable.getValue().get(rowIndex)
+            : Optional.ofNullable(queriedRows.get(rowIndex));
+    }
+
+    /**
+     * Those rows, that might be selected: if not selected by default, the rows toggled individually
+     * (fetched one by one, unless fetched already), otherwise the filtered and sorted result (fetched page by page).
+     */
+    private Stream<DataRow> streamQueriedRowsMaybeSelected() {
+        if(!querySelection.selectedByDefault)
+            return querySelection.toggledRowIndexes.stream()
+                .sorted()
+                .map(this::lookupDataRow)
+                .flatMap(Optional::stream);
+        var filteredElementCount = getFilteredElementCount();
+        return IntStream.iterate(0, skip->skip < filteredElementCount, skip->skip + QUERIED_ROWS_PAGE_SIZE)
+            .mapToObj(skip->dataRowsFilteredAndSorted(skip, QUERIED_ROWS_PAGE_SIZE))
+            .flatMap(Can::stream);
+    }
+
+    /**
+     * In query backed mode, changing search argument or column sort changes the meaning of row indexes,
+     * hence any rows fetched so far (including their selection state) are discarded.
+     */
+    private void invalidateFilteredAndSorted() {
+        dataRowsFilteredAndSortedObservable.invalidate();
+        filteredElementCountObservable.invalidate();
+        if(tableQuery.isPresent()) {
+            refinedQueryObservable.invalidate();
+            if(!queriedRows.isEmpty()
+                    || querySelection.isAnySelected()) {
+                queriedRows.clear();
+                querySelection.selectAll(false);
+                invalidateSelectionThenNotifyListeners();
+            }
+        }
+    }
+
     // -- FILTER
 
     @Override
@@ -259,10 +582,25 @@ private Predicate<DataRow> adaptSearchPredicate() {
 
     // -- SORTING
 
-    private Optional<Comparator<DataRow>> sortingComparator() {
-        return Optional.ofNullable(columnSortBindable.getValue())
-                .flatMap(sort->sort.asComparator(dataColumnsObservable.getValue()))
-                .or(()->managedMember.getMetaModel().getElementComparator())
+    /**
+     * Sorts by column (if any), else by the member's element comparator (if any).
+     * <p>
+     * Column sort reads each row's property value only once, see {@link DataRowSorter}.
+     */
+    private Stream<DataRow> sorted(final Stream<DataRow> dataRows) {
+        var columnSort = columnSortBindable.getValue();
+        var sortProperty = columnSort!=null
+                ? dataColumnsObservable.getValue().get(columnSort.columnIndex())
+                    .map(column->column.associationMetaModel().getSpecialization().leftIfAny())
+                    .orElse(null)
+                : null;
+        if(sortProperty!=null)
+            return DataRowSorter.sortByProperty(dataRows, sortProperty, columnSort.sortDirection());
+        return _Streams.sortConditionally(dataRows, elementComparator().orElse(null));
+    }
+
+    private Optional<Comparator<DataRow>> elementComparator() {
+        return managedMember.getMetaModel().getElementComparator()
                 .map(elementComparator->(rowA, rowB)->elementComparator.compare(rowA.rowElement(), rowB.rowElement()));
     }
 
@@ -283,7 +621,10 @@ public void doProgrammaticToggle(final @NonNull Runnable runnable) {
 
     // -- DATA ROW TOGGLE
 
-    void handleRowSelectToggle() {
+    void handleRowSelectToggle(final int rowIndex, final boolean select) {
+        if(tableQuery.isPresent()) {
+            querySelection.select(rowIndex, select);
+        }
         if(isProgrammaticToggle.get()) return;
         invalidateSelectionThenNotifyListeners();
     }
@@ -294,8 +635,16 @@ private void invalidateSelectionThenNotifyListeners() {
         selectionChanges.setValue(!selectionChanges.getValue());
     }
 
+    /**
+     * In query backed mode, only rows can be selected, that match the current search argument
+     * (as row indexes are relative to the filtered and sorted result).
+     */
     @Override
     public void selectAll(final boolean select) {
+        if(tableQuery.isPresent()) {
+            selectAllQueried(select);
+            return;
+        }
         doProgrammaticToggle(()->{
             dataRowsObservable.getValue()
                 .forEach(dataRow->{
@@ -306,6 +655,10 @@ public void selectAll(final boolean select) {
 
     @Override
     public void selectAllFiltered(final boolean select) {
+        if(tableQuery.isPresent()) {
+            selectAllQueried(select);
+            return;
+        }
         doProgrammaticToggle(()->{
             dataRowsFilteredAndSortedObservable.getValue()
                 .forEach(dataRow->{
@@ -316,6 +669,18 @@ public void selectAllFiltered(final boolean select) {
 
     @Override
     public void selectRangeOfRowsByIndex(final IntStream range, final boolean select) {
+        if(tableQuery.isPresent()) {
+            var filteredElementCount = getFilteredElementCount();
+            doProgrammaticToggle(()->{
+                range.filter(rowIndex->rowIndex>=0 && rowIndex<filteredElementCount)
+                    .forEach(rowIndex->{
+                        querySelection.select(rowIndex, select);
+                        lookupFetchedDataRow(rowIndex)
+                            .ifPresent(dataRow->dataRow.selectToggleBindable().setValue(select));
+                    });
+            });
+            return;
+        }
         doProgrammaticToggle(()->{
             dataRowsFilteredAndSortedObservable.getValue()
                 .pickByIndex(range)
@@ -325,6 +690,48 @@ public void selectRangeOfRowsByIndex(final IntStream range, final boolean select
         });
     }
 
+    /**
+     * Query backed mode: records the selection (rather than fetching all rows),
+     * then updates those rows fetched already.
+     */
+    private void selectAllQueried(final boolean select) {
+        doProgrammaticToggle(()->{
+            querySelection.selectAll(select);
+            streamFetchedDataRows()
+                .forEach(dataRow->{
+                    dataRow.selectToggleBindable().setValue(select);
+                });
+        });
+    }
+
+    /**
+     * Query backed mode only: rows are either selected by default (after select all) or not,
+     * except for those (by row index) toggled individually.
+     */
+    private static final class QuerySelection {
+        private boolean selectedByDefault;
+        private final Set<Integer> toggledRowIndexes = new HashSet<>();
+
+        boolean isSelected(final int rowIndex) {
+            return selectedByDefault != toggledRowIndexes.contains(rowIndex);
+        }
+        boolean isAnySelected() {
+            return selectedByDefault
+                || !toggledRowIndexes.isEmpty();
+        }
+        void select(final int rowIndex, final boolean select) {
+            if(select == selectedByDefault) {
+                toggledRowIndexes.remove(rowIndex);
+            } else {
+                toggledRowIndexes.add(rowIndex);
+            }
+        }
+        void selectAll(final boolean select) {
+            selectedByDefault = select;
+            toggledRowIndexes.clear();
+        }
+    }
+
 //    // -- DATA ROW VISIBILITY
 //
 //    private boolean ignoreHidden(final ManagedObject adapter) {
@@ -350,12 +757,30 @@ public Can<ManagedObject> getSelected() {
 
     @Override
     public Set<Integer> getSelectedRowIndexes() {
+        if(tableQuery.isPresent())
+            // without fetching any rows
+            return querySelection.selectedByDefault
+                ? IntStream.range(0, getFilteredElementCount())
+                    .filter(querySelection::isSelected)
+                    .boxed()
+                    .collect(Collectors.toSet())
+                : new HashSet<>(querySelection.toggledRowIndexes);
         return dataRowsSelectedObservable.getValue()
             .stream()
             .map(DataRow::rowIndex)
             .collect(Collectors.toSet());
     }
 
+    /**
+     * If query backed, those rows toggled individually (as to be interpreted with
+     * {@link QuerySelection#selectedByDefault}), otherwise the selected rows.
+     */
+    private Set<Integer> selectedRowIndexesForMemento() {
+        return tableQuery.isPresent()
+            ? new HashSet<>(querySelection.toggledRowIndexes)
+            : getSelectedRowIndexes();
+    }
+
     @Override
     public ActionInteraction startAssociatedActionInteraction(final String actionId, final Where where) {
 
@@ -375,6 +800,11 @@ public ActionInteraction startAssociatedActionInteraction(final String actionId,
 
     // -- EXPORT
 
+    /**
+     * In query backed mode, the filtered and sorted elements are fetched in one go, bypassing the rows
+     * (and their selection state) altogether; as the exported table is passed on as a whole,
+     * its elements are held in memory until the export is done.
+     */
     @Override
     public DataTable export() {
         return new DataTable(
@@ -382,10 +812,12 @@ public DataTable export() {
                 titleObservable().getValue(),
                 dataColumnsObservable().getValue()
                     .map(DataColumn::associationMetaModel),
-                dataRowsFilteredAndSortedObservable().getValue()
-                    .stream()
-                    .map(DataRow::rowElement)
-                    .collect(Can.toCan()));
+                tableQuery.isPresent()
+                    ? tableQuery.get().fetchAll(refinedQueryObservable.getValue())
+                    : dataRowsFilteredAndSortedObservable().getValue()
+                        .stream()
+                        .map(DataRow::rowElement)
+                        .collect(Can.toCan()));
     }
 
     // used internally for serialization
@@ -398,6 +830,16 @@ private DataTable exportAll() {
                 dataElementsObservable().getValue());
     }
 
+    // used internally for serialization, when query backed
+    private DataTable exportColumnsOnly() {
+        return new DataTable(
+                getElementType(),
+                titleObservable().getValue(),
+                dataColumnsObservable().getValue()
+                    .map(DataColumn::associationMetaModel),
+                Can.empty());
+    }
+
     // -- MEMENTO
 
     @Override
@@ -428,17 +870,33 @@ static Memento create(
             return new Memento(
                     tableInteractive.managedMember.getIdentifier(),
                     tableInteractive.where,
-                    tableInteractive.exportAll(),
+                    // if query backed, the query is memoized instead of the rows
+                    tableInteractive.tableQuery.isPresent()
+                        ? tableInteractive.exportColumnsOnly()
+                        : tableInteractive.exportAll(),
+                    tableInteractive.isQueryBacked(),
+                    // a collection's query refers to its owner, hence is re-created from the (re-created) owner instead
+                    tableInteractive.managedMember instanceof ManagedCollection
+                        ? null
+                        : tableInteractive.tableQuery.map(DataTableQuery::query).orElse(null),
                     tableInteractive.searchArgumentBindable.getValue(),
-                    tableInteractive.getSelectedRowIndexes(),
+                    tableInteractive.querySelection.selectedByDefault,
+                    tableInteractive.selectedRowIndexesForMemento(),
                     tableInteractive.columnSortBindable().getValue());
         }
 
         private final @NonNull Identifier featureId;
         private final @NonNull Where where;
         private final @NonNull DataTable dataTable;
+        private final boolean queryBacked;
+        private final @Nullable PredicateQuery<?> query;
 
         private @Nullable String searchArgument;
+        /**
+         * Query backed mode only: whether rows are selected by default (after select all),
+         * in which case {@link #selectedRowIndexes} are those rows deselected individually.
+         */
+        private boolean selectedByDefault;
         private @NonNull Set<Integer> selectedRowIndexes;
         private DataTableInteractive.@Nullable ColumnSort columnSort;
 
@@ -452,7 +910,11 @@ public DataTableInternal recreateDataTableModel(final ManagedObject owner) {
                     : ManagedAction.lookupAction(owner, memberId, where)
                         .orElseThrow();
 
-            var dataTableInteractive = new DataTableInternal(managedMember, where,
+            var dataTableInteractive = queryBacked
+                ? (query!=null
+                    ? DataTableInternal.forQuery(managedMember, where, query)
+                    : DataTableInternal.forCollection((ManagedCollection) managedMember))
+                : new DataTableInternal(managedMember, where,
                     dataTable.streamDataElements()
                     .peek(obj->{
                         if(obj.specialization().isViewmodel()) {
@@ -467,6 +929,13 @@ public DataTableInternal recreateDataTableModel(final ManagedObject owner) {
             }
             dataTableInteractive.searchArgumentBindable.setValue(searchArgument);
             dataTableInteractive.doProgrammaticToggle(()->{
+                if(dataTableInteractive.isQueryBacked()) {
+                    // without fetching any rows
+                    dataTableInteractive.querySelection.selectAll(selectedByDefault);
+                    selectedRowIndexes.forEach(rowIndex->
+                        dataTableInteractive.querySelection.select(rowIndex, !selectedByDefault));
+                    return;
+                }
                 dataTableInteractive.dataRowsObservable.getValue().stream()
                     .filter(dataRow->selectedRowIndexes.contains(dataRow.rowIndex()))
                     .forEach(dataRow->dataRow.selectToggleBindable().setValue(true));
@@ -479,8 +948,10 @@ public void setupBindings(final DataTableInteractive tableInteractive) {
             tableInteractive.searchArgumentBindable().addListener((e, o, searchArg)->{
                 this.searchArgument = searchArg;
             });
-            ((DataTableInternal)tableInteractive).selectionChanges.addListener((e, o, n)->{
-                this.selectedRowIndexes = tableInteractive.getSelectedRowIndexes();
+            var dataTableInternal = (DataTableInternal)tableInteractive;
+            dataTableInternal.selectionChanges.addListener((e, o, n)->{
+                this.selectedByDefault = dataTableInternal.querySelection.selectedByDefault;
+                this.selectedRowIndexes = dataTableInternal.selectedRowIndexesForMemento();
             });
         }
 
@@ -0,0 +1,155 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.tabular.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import org.apache.causeway.applib.query.PredicateQuery;
+import org.apache.causeway.applib.query.PredicateQuery.SortKey;
+import org.apache.causeway.applib.query.Query;
+import org.apache.causeway.applib.query.QueryPredicate;
+import org.apache.causeway.applib.query.QueryRange;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.commons.internal.base._Casts;
+import org.apache.causeway.commons.internal.base._Strings;
+import org.apache.causeway.core.metamodel.facets.object.entity.EntityFacet;
+import org.apache.causeway.core.metamodel.object.ManagedObject;
+import org.apache.causeway.core.metamodel.object.MmSortUtils;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
+import org.apache.causeway.core.metamodel.tabular.DataColumn;
+import org.apache.causeway.core.metamodel.tabular.DataTableInteractive.ColumnSort;
+
+/**
+ * Backs a {@link DataTableInternal} by a {@link PredicateQuery},
+ * such that column sort, search argument and paging translate into
+ * {@code ORDER BY}, {@code WHERE} and {@code OFFSET/LIMIT} respectively,
+ * and the row count into a {@code COUNT} query.
+ */
+record DataTableQuery(
+        @NonNull EntityFacet entityFacet,
+        @NonNull PredicateQuery<?> query) {
+
+    /**
+     * Empty, if the element type is not an entity,
+     * or its persistence stack cannot translate the query.
+     */
+    static Optional<DataTableQuery> create(
+            final @NonNull ObjectSpecification elementType,
+            final @NonNull PredicateQuery<?> query) {
+        return elementType.entityFacet()
+                .filter(entityFacet->entityFacet.canTranslate(query.getPredicate()))
+                .filter(entityFacet->query.getSortKeys().stream()
+                        .allMatch(sortKey->isQueryable(entityFacet, sortKey.propertyPath())))
+                .map(entityFacet->new DataTableQuery(entityFacet, query));
+    }
+
+    /**
+     * The given query, further restricted by the search argument (if any),
+     * and ordered by the column sort (if any), of highest precedence.
+     */
+    PredicateQuery<?> refine(
+            final @Nullable String searchArg,
+            final @Nullable ColumnSort columnSort,
+            final @NonNull Can<DataColumn> columns) {
+        return refine(query, searchArg, columnSort, columns);
+    }
+
+    long count(final @NonNull PredicateQuery<?> refinedQuery) {
+        return entityFacet.countByQuery(refinedQuery);
+    }
+
+    Can<ManagedObject> fetch(final @NonNull PredicateQuery<?> refinedQuery, final long skip, final long limit) {
+        return entityFacet.fetchByQuery(refinedQuery.withRange(skip, limit));
+    }
+
+    Can<ManagedObject> fetchAll(final @NonNull PredicateQuery<?> refinedQuery) {
+        return entityFacet.fetchByQuery(refinedQuery.withRange(QueryRange.unconstrained()));
+    }
+
+    /**
+     * Paths of those (String typed) property columns, that can be searched server-side.
+     */
+    Can<String> searchablePropertyPaths(final @NonNull Can<DataColumn> columns) {
+        return columns.stream()
+                .map(column->column.associationMetaModel().getSpecialization().leftIfAny())
+                .filter(property->property!=null
+                        && property.getElementType().correspondingClass() == String.class)
+                .map(property->property.getId())
+                .filter(propertyPath->isQueryable(entityFacet, propertyPath))
+                .collect(Can.toCan());
+    }
+
+    // -- HELPER
+
+    private <T> PredicateQuery<T> refine(
+            final PredicateQuery<T> query,
+            final @Nullable String searchArg,
+            final @Nullable ColumnSort columnSort,
+            final Can<DataColumn> columns) {
+
+        QueryPredicate<T> predicate = _Casts.uncheckedCast(query.getPredicate());
+        if(_Strings.isNotEmpty(searchArg)) {
+            // the search argument is taken literally, and matched ignoring case
+            var pattern = "%" + QueryPredicate.escapeLike(searchArg.trim()) + "%";
+            var likes = searchablePropertyPaths(columns).stream()
+                    .map(propertyPath->QueryPredicate.<T>likeIgnoreCase(propertyPath, pattern))
+                    .toList();
+            if(!likes.isEmpty()) {
+                predicate = predicate.and(new QueryPredicate.Junction<>(QueryPredicate.Junction.Kind.OR, likes));
+            }
+        }
+
+        var sortKeys = new ArrayList<SortKey>();
+        columnSortKey(columnSort, columns).ifPresent(sortKeys::add);
+        sortKeys.addAll(query.getSortKeys());
+
+        return Query.matching(query.getResultType(), predicate)
+                .withSortKeys(List.copyOf(sortKeys));
+    }
+
+    /**
+     * Empty, if the sorted column is not a property or cannot be ordered by server-side.
+     */
+    private Optional<SortKey> columnSortKey(
+            final @Nullable ColumnSort columnSort,
+            final Can<DataColumn> columns) {
+        if(columnSort==null)
+            return Optional.empty();
+        return columns.get(columnSort.columnIndex())
+                .map(column->column.associationMetaModel().getSpecialization().leftIfAny())
+                .map(property->property.getId())
+                .filter(propertyPath->isQueryable(entityFacet, propertyPath))
+                .map(propertyPath->new SortKey(
+                        propertyPath,
+                        columnSort.sortDirection() == MmSortUtils.SortDirection.ASCENDING));
+    }
+
+    /**
+     * A property path, that can be filtered on server-side, can also be ordered by.
+     */
+    private static boolean isQueryable(final EntityFacet entityFacet, final String propertyPath) {
+        return entityFacet.canTranslate(QueryPredicate.isNotNull(propertyPath));
+    }
+
+}
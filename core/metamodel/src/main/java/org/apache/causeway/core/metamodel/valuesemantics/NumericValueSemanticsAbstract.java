@@ -24,6 +24,8 @@
 import java.text.NumberFormat;
 import java.text.ParseException;
 import java.text.ParsePosition;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.UnaryOperator;
@@ -33,7 +35,9 @@
 
 import org.springframework.util.StringUtils;
 
+import org.apache.causeway.applib.Identifier;
 import org.apache.causeway.applib.exceptions.recoverable.TextEntryParseException;
+import org.apache.causeway.applib.locale.UserLocale;
 import org.apache.causeway.applib.value.semantics.DefaultsProvider;
 import org.apache.causeway.applib.value.semantics.NumericValueSemantics;
 import org.apache.causeway.applib.value.semantics.Parser;
@@ -276,11 +280,39 @@ protected void validateNumericalInput(
         }
     }
 
+    /**
+     * Formats resolved so far, per feature, user locale and usage.
+     *
+     * <p>As {@link DecimalFormat} is not thread-safe, these are confined to the thread that resolved them;
+     * hence rendering or parsing a value only needs to create a format the first time a thread
+     * encounters a given feature and locale.
+     */
+    private final ThreadLocal<Map<FormatKey, DecimalFormatEx>> formatsByKey = ThreadLocal.withInitial(HashMap::new);
+
+    private record FormatKey(
+            @Nullable Identifier featureIdentifier,
+            UserLocale userLocale,
+            FormatUsageFor usedFor) {
+    }
+
     /**
      * @return {@link NumberFormat} the default from given context's locale
      *      or else system's default locale
+     * @implNote the format is resolved once per feature, user locale and usage (and thread);
+     *      hence {@link #configureDecimalFormat(ValueSemanticsProvider.Context, DecimalFormat, FormatUsageFor)}
+     *      and {@link #grouping()} must not depend on any other state of the given context
      */
     protected DecimalFormatEx getNumberFormat(
+        final ValueSemanticsProvider.@Nullable Context context,
+        final @NonNull FormatUsageFor usedFor) {
+        var key = new FormatKey(
+                context!=null ? context.featureIdentifier() : null,
+                ValueSemanticsProvider.getUserLocale(context),
+                usedFor);
+        return formatsByKey.get().computeIfAbsent(key, __->createNumberFormat(context, usedFor));
+    }
+
+    private DecimalFormatEx createNumberFormat(
         final ValueSemanticsProvider.@Nullable Context context,
         final @NonNull FormatUsageFor usedFor) {
         var format = NumericValueSemantics.localeDecimalFormat(context);
@@ -306,23 +338,55 @@ protected record DecimalFormatEx(
                     : UnaryOperator.identity();
         }
         static DecimalFormatEx of(final DecimalFormat format, @Nullable final String groupingSeparator) {
+            format.setParseBigDecimal(true);
             if(StringUtils.hasLength(groupingSeparator)) {
                 format.setGroupingUsed(true);
                 var decimalFormatSymbols = format.getDecimalFormatSymbols();
-                decimalFormatSymbols.setGroupingSeparator('_');
+                // a single character separator is rendered directly, otherwise via a placeholder
+                var isSingleChar = groupingSeparator.length()==1
+                        && groupingSeparator.charAt(0)!=decimalFormatSymbols.getDecimalSeparator();
+                decimalFormatSymbols.setGroupingSeparator(isSingleChar
+                        ? groupingSeparator.charAt(0)
+                        : '_');
                 format.setDecimalFormatSymbols(decimalFormatSymbols);
                 return new DecimalFormatEx(
-                        in->in.replace(groupingSeparator, "").replaceAll("\\s+", ""),
+                        in->removeWhitespace(in.replace(groupingSeparator, "")),
                         format,
-                        out->out.replace("_", groupingSeparator));
+                        isSingleChar
+                            ? UnaryOperator.identity()
+                            : out->out.replace("_", groupingSeparator));
             } else {
                 format.setGroupingUsed(false);
                 return new DecimalFormatEx(
-                        in->in.replaceAll("\\s+", ""),
+                        DecimalFormatEx::removeWhitespace,
                         format,
                         UnaryOperator.identity());
             }
         }
+        /**
+         * Removes any (ASCII) white-space characters, as matched by regex {@code \s};
+         * returns the input as is, if there are none.
+         */
+        static String removeWhitespace(final String input) {
+            final int length = input.length();
+            int i = 0;
+            while(i<length && !isWhitespace(input.charAt(i))) {
+                i++;
+            }
+            if(i==length)
+                return input;
+            var sb = new StringBuilder(length).append(input, 0, i);
+            for(; i<length; i++) {
+                var c = input.charAt(i);
+                if(!isWhitespace(c)) {
+                    sb.append(c);
+                }
+            }
+            return sb.toString();
+        }
+        private static boolean isWhitespace(final char c) {
+            return c==' ' || c=='\t' || c=='\n' || c=='\013' || c=='\f' || c=='\r';
+        }
         public String format(final double number) {
             return postprocess.apply(format.format(number));
         }
@@ -335,7 +399,6 @@ public String format(final Object number) {
         public BigDecimal parse(final String rawInput) throws ParseException {
             var position = new ParsePosition(0);
             var input = preprocess.apply(rawInput);
-            format.setParseBigDecimal(true);
             var decimal = (BigDecimal) format.parse(input, position);
             if (position.getErrorIndex() != -1)
                 throw new ParseException("could not parse input='" + rawInput + "'", position.getErrorIndex());
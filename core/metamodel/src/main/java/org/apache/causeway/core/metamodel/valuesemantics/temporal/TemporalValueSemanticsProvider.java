@@ -28,14 +28,18 @@
 import java.time.temporal.ChronoUnit;
 import java.time.temporal.Temporal;
 import java.time.temporal.TemporalQuery;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
 
+import org.apache.causeway.applib.Identifier;
 import org.apache.causeway.applib.annotation.TimePrecision;
 import org.apache.causeway.applib.annotation.TimeZoneTranslation;
 import org.apache.causeway.applib.exceptions.recoverable.TextEntryParseException;
+import org.apache.causeway.applib.locale.UserLocale;
 import org.apache.causeway.applib.util.schema.CommonDtoUtils;
 import org.apache.causeway.applib.value.semantics.TemporalValueSemantics;
 import org.apache.causeway.applib.value.semantics.ValueDecomposition;
@@ -207,20 +211,13 @@ protected Function<T, String> getRenderingFormatter(
             final ValueSemanticsProvider.Context context,
             final BadgeRenderer badgeRenderer) {
 
-        var dateAndTimeFormatStyle = DateAndTimeFormatStyle.forContext(mmc, context);
-
-        var datePattern = mmc.getConfiguration().valueTypes().temporal().display().datePattern();
-        var dateTimePattern = mmc.getConfiguration().valueTypes().temporal().display().dateTimePattern();
-        var temporalNoZoneRenderingFormat = getTemporalNoZoneRenderingFormat(
-                context, temporalCharacteristic, offsetCharacteristic,
-                dateAndTimeFormatStyle.dateFormatStyle(),
-                dateAndTimeFormatStyle.timeFormatStyle(),
-                datePattern, dateTimePattern);
-
-        var temporalZoneOnlyRenderingFormat = getTemporalZoneOnlyRenderingFormat(
-                context, temporalCharacteristic, offsetCharacteristic).orElse(null);
+        var renderingFormats = renderingFormatsByKey.computeIfAbsent(
+                formatKey(context, null),
+                __->createRenderingFormats(context));
 
-        var timeZoneTranslation = dateAndTimeFormatStyle.timeZoneTranslation();
+        var temporalNoZoneRenderingFormat = renderingFormats.noZoneFormat();
+        var temporalZoneOnlyRenderingFormat = renderingFormats.zoneOnlyFormat();
+        var timeZoneTranslation = renderingFormats.timeZoneTranslation();
 
         return time-> {
 
@@ -277,6 +274,57 @@ protected Function<T, String> getRenderingFormatter(
 
     // -- FORMAT
 
+    /**
+     * Formats resolved so far, per feature, user locale and (if for editing) direction.
+     *
+     * <p>{@link DateTimeFormatter}s are immutable and thread-safe, so are shared across threads;
+     * hence rendering or parsing a value only needs to create formats the first time a given feature
+     * and locale is encountered.
+     */
+    private final Map<FormatKey, RenderingFormats> renderingFormatsByKey = new ConcurrentHashMap<>();
+    private final Map<FormatKey, DateTimeFormatter> editingFormatsByKey = new ConcurrentHashMap<>();
+
+    private record FormatKey(
+            @Nullable Identifier featureIdentifier,
+            UserLocale userLocale,
+            @Nullable EditingFormatDirection editingFormatDirection) {
+    }
+
+    private record RenderingFormats(
+            DateTimeFormatter noZoneFormat,
+            @Nullable DateTimeFormatter zoneOnlyFormat,
+            TimeZoneTranslation timeZoneTranslation) {
+    }
+
+    private FormatKey formatKey(
+            final ValueSemanticsProvider.@Nullable Context context,
+            final @Nullable EditingFormatDirection editingFormatDirection) {
+        return new FormatKey(
+                context!=null ? context.featureIdentifier() : null,
+                getUserLocale(context),
+                editingFormatDirection);
+    }
+
+    private RenderingFormats createRenderingFormats(final ValueSemanticsProvider.Context context) {
+        var dateAndTimeFormatStyle = DateAndTimeFormatStyle.forContext(mmc, context);
+
+        var datePattern = mmc.getConfiguration().valueTypes().temporal().display().datePattern();
+        var dateTimePattern = mmc.getConfiguration().valueTypes().temporal().display().dateTimePattern();
+        var temporalNoZoneRenderingFormat = getTemporalNoZoneRenderingFormat(
+                context, temporalCharacteristic, offsetCharacteristic,
+                dateAndTimeFormatStyle.dateFormatStyle(),
+                dateAndTimeFormatStyle.timeFormatStyle(),
+                datePattern, dateTimePattern);
+
+        var temporalZoneOnlyRenderingFormat = getTemporalZoneOnlyRenderingFormat(
+                context, temporalCharacteristic, offsetCharacteristic).orElse(null);
+
+        return new RenderingFormats(
+                temporalNoZoneRenderingFormat,
+                temporalZoneOnlyRenderingFormat,
+                dateAndTimeFormatStyle.timeZoneTranslation());
+    }
+
     protected DateTimeFormatter getTemporalNoZoneRenderingFormat(
             final @Nullable Context context,
             final TemporalValueSemantics.@NonNull TemporalCharacteristic temporalCharacteristic,
@@ -358,25 +406,29 @@ private Temporal translateToUserLocalTimeZone(final ValueSemanticsProvider.Conte
      * Format used for rendering editable text representation.
      */
     protected DateTimeFormatter getEditingOutputFormat(final ValueSemanticsProvider.Context context) {
-
-        var dateAndTimeFormatStyle = DateAndTimeFormatStyle.forContext(mmc, context);
-
-        return getTemporalEditingFormat(context, temporalCharacteristic, offsetCharacteristic,
-                dateAndTimeFormatStyle.timePrecision(),
-                EditingFormatDirection.OUTPUT,
-                temporalEditingPattern());
+        return editingFormatsByKey.computeIfAbsent(
+                formatKey(context, EditingFormatDirection.OUTPUT),
+                key->createEditingFormat(context, key.editingFormatDirection()));
     }
 
     /**
      * Format used for parsing editable text representation.
      */
     protected DateTimeFormatter getEditingInputFormat(final ValueSemanticsProvider.Context context) {
+        return editingFormatsByKey.computeIfAbsent(
+                formatKey(context, EditingFormatDirection.INPUT),
+                key->createEditingFormat(context, key.editingFormatDirection()));
+    }
+
+    private DateTimeFormatter createEditingFormat(
+            final ValueSemanticsProvider.Context context,
+            final EditingFormatDirection direction) {
 
         var dateAndTimeFormatStyle = DateAndTimeFormatStyle.forContext(mmc, context);
 
         return getTemporalEditingFormat(context, temporalCharacteristic, offsetCharacteristic,
                 dateAndTimeFormatStyle.timePrecision(),
-                EditingFormatDirection.INPUT,
+                direction,
                 temporalEditingPattern());
     }
 
@@ -0,0 +1,115 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.commons;
+
+import java.lang.reflect.InvocationTargetException;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import lombok.SneakyThrows;
+
+class CompiledMethodInvokerTest {
+
+    public static class Customer {
+        private String name = "Smith";
+        public String getName() { return name; }
+        public void setName(final String name) { this.name = name; }
+        public int add(final int a, final Integer b) { return a + b; }
+        public static String greet(final String name) { return "Hello " + name; }
+        public void fail() { throw new IllegalStateException("failed"); }
+        private int invocationCount;
+        public long widen(final long a) { invocationCount++; return a; }
+        public void failWithClassCast() { invocationCount++; throw new ClassCastException("failed"); }
+        @SuppressWarnings("unused")
+        private String secret() { return "secret"; }
+    }
+
+    private final Customer customer = new Customer();
+
+    @Test
+    void invokes_instance_and_static_methods() {
+        assertTrue(invoker("getName").spreadingHandle().isPresent());
+
+        assertEquals("Smith", invoker("getName").invoke(customer, new Object[0]).valueAsNonNullElseFail());
+        invoker("setName", String.class).invoke(customer, new Object[] {"Jones"});
+        assertEquals("Jones", customer.getName());
+        assertEquals(3, invoker("add", int.class, Integer.class).invoke(customer, new Object[] {1, 2}).valueAsNonNullElseFail());
+        assertEquals("Hello Jones", invoker("greet", String.class).invoke(null, new Object[] {"Jones"}).valueAsNonNullElseFail());
+        assertEquals("secret", invoker("secret").invoke(customer, new Object[0]).valueAsNonNullElseFail());
+    }
+
+    @Test
+    void wraps_exceptions_as_reflection_does() {
+        var failure = invoker("fail").invoke(customer, new Object[0]).getFailure().orElseThrow();
+        assertInstanceOf(InvocationTargetException.class, failure);
+        assertInstanceOf(IllegalStateException.class, failure.getCause());
+    }
+
+    @Test
+    void falls_back_to_reflection_when_arguments_are_incompatible() {
+        // null for a primitive, wrong type, wrong arity and wrong target
+        assertInstanceOf(IllegalArgumentException.class, invoker("add", int.class, Integer.class)
+                .invoke(customer, new Object[] {null, 2}).getFailure().orElseThrow());
+        assertInstanceOf(IllegalArgumentException.class, invoker("setName", String.class)
+                .invoke(customer, new Object[] {42}).getFailure().orElseThrow());
+        assertInstanceOf(IllegalArgumentException.class, invoker("getName")
+                .invoke(customer, new Object[] {"unexpected"}).getFailure().orElseThrow());
+        assertInstanceOf(IllegalArgumentException.class, invoker("getName")
+                .invoke("not a customer", new Object[0]).getFailure().orElseThrow());
+    }
+
+    @Test
+    void runs_the_method_only_once() {
+        // widening conversions are left to reflection, without the method handle running first
+        assertEquals(1L, invoker("widen", long.class).invoke(customer, new Object[] {1}).valueAsNonNullElseFail());
+        assertEquals(1, customer.invocationCount);
+
+        // an exception thrown by the method itself is never mistaken for incompatible arguments
+        var failure = invoker("failWithClassCast").invoke(customer, new Object[0]).getFailure().orElseThrow();
+        assertInstanceOf(InvocationTargetException.class, failure);
+        assertInstanceOf(ClassCastException.class, failure.getCause());
+        assertEquals(2, customer.invocationCount);
+    }
+
+    @Test
+    void compiles_once_per_method() {
+        assertSame(invoker("getName"), invoker("getName"));
+
+        var method = method("getName");
+        CanonicalInvoker.compile(method);
+        assertSame(CompiledMethodInvoker.forMethod(method), invoker("getName"));
+    }
+
+    // -- HELPER
+
+    private static CompiledMethodInvoker invoker(final String name, final Class<?>... parameterTypes) {
+        return CompiledMethodInvoker.forMethod(method(name, parameterTypes));
+    }
+
+    @SneakyThrows
+    private static java.lang.reflect.Method method(final String name, final Class<?>... parameterTypes) {
+        return Customer.class.getDeclaredMethod(name, parameterTypes);
+    }
+
+}
@@ -0,0 +1,119 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.facetapi;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.apache.causeway.applib.services.grid.GridService.LayoutKey;
+import org.apache.causeway.core.metamodel.facetapi.Facet.Precedence;
+import org.apache.causeway.core.mmtestsupport.MetaModelContext_forTesting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TypedFacetRankingTest {
+
+    static interface FooFacet extends Facet {
+    }
+
+    static class FooFacetAbstract extends FacetAbstract implements FooFacet {
+        FooFacetAbstract(final FacetHolder holder) {
+            super(FooFacet.class, holder);
+        }
+    }
+
+    // precedence() is consulted by the FacetAbstract constructor, hence cannot be held in a field
+    static class DefaultFooFacet extends FooFacetAbstract {
+        DefaultFooFacet(final FacetHolder holder) { super(holder); }
+    }
+    static class HighFooFacet extends FooFacetAbstract {
+        HighFooFacet(final FacetHolder holder) { super(holder); }
+        @Override public Precedence precedence() { return Precedence.HIGH; }
+    }
+    static class LowFooFacet extends FooFacetAbstract {
+        LowFooFacet(final FacetHolder holder) { super(holder); }
+        @Override public Precedence precedence() { return Precedence.LOW; }
+    }
+
+    static class QualifiedFooFacet extends FacetAbstract implements FooFacet, QualifiedFacet {
+        QualifiedFooFacet(final FacetHolder holder) {
+            super(FooFacet.class, holder);
+        }
+        @Override
+        public String qualifier() {
+            return "simple";
+        }
+    }
+
+    private FacetHolder facetHolder;
+
+    @BeforeEach
+    void setUp() {
+        facetHolder = FacetHolder.forTesting(MetaModelContext_forTesting.buildDefault());
+    }
+
+    @AfterEach
+    void tearDown() {
+        FacetRanking.removeQualifier();
+    }
+
+    @Test
+    void cached_winner_is_invalidated_when_higher_precedence_facet_is_added() {
+        var defaultFacet = new DefaultFooFacet(facetHolder);
+        assertSame(defaultFacet, facetHolder.lookupFacet(FooFacet.class).orElseThrow());
+
+        var highFacet = new HighFooFacet(facetHolder);
+        assertSame(highFacet, facetHolder.lookupFacet(FooFacet.class).orElseThrow());
+
+        var lowFacet = new LowFooFacet(facetHolder);
+        assertSame(highFacet, facetHolder.lookupFacet(FooFacet.class).orElseThrow());
+        assertEquals(3, facetHolder.lookupFacetRanking(FooFacet.class).orElseThrow().totalFacetCount());
+        assertSame(lowFacet, facetHolder.lookupFacetRanking(FooFacet.class).orElseThrow()
+                .getWinnerNonEventLowerOrEqualTo(FooFacet.class, Precedence.LOW).orElseThrow());
+    }
+
+    @Test
+    void cached_winner_is_invalidated_when_purged() {
+        var defaultFacet = new DefaultFooFacet(facetHolder);
+        var highFacet = new HighFooFacet(facetHolder);
+        assertSame(highFacet, facetHolder.lookupFacet(FooFacet.class).orElseThrow());
+
+        facetHolder.lookupFacetRanking(FooFacet.class).orElseThrow()
+            .purgeIf(FooFacet.class, QualifiedFacet.Key.unqualified(FooFacet.class),
+                    facet->facet==highFacet, precedence->true);
+
+        assertSame(defaultFacet, facetHolder.lookupFacet(FooFacet.class).orElseThrow());
+    }
+
+    @Test
+    void qualified_winner_is_not_served_from_unqualified_cache() {
+        var defaultFacet = new DefaultFooFacet(facetHolder);
+        assertSame(defaultFacet, facetHolder.lookupFacet(FooFacet.class).orElseThrow());
+
+        var qualifiedFacet = new QualifiedFooFacet(facetHolder);
+
+        FacetRanking.setQualifier(new LayoutKey(Object.class, "simple"));
+        assertSame(qualifiedFacet, facetHolder.lookupFacet(FooFacet.class).orElseThrow());
+
+        FacetRanking.removeQualifier();
+        assertSame(defaultFacet, facetHolder.lookupFacet(FooFacet.class).orElseThrow());
+    }
+
+}
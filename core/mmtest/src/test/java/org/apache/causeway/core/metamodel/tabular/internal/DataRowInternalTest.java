@@ -0,0 +1,102 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.tabular.internal;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.applib.services.filter.CollectionFilterService;
+import org.apache.causeway.core.metamodel.context.HasMetaModelContext;
+import org.apache.causeway.core.metamodel.execution.MemberExecutorService;
+import org.apache.causeway.core.metamodel.object.ManagedObject;
+import org.apache.causeway.core.mmtestsupport.MetaModelContext_forTesting;
+
+class DataRowInternalTest implements HasMetaModelContext {
+
+    private DataTableInternal parentTable;
+    private ManagedObject rowElement;
+
+    @BeforeEach
+    void setUp() {
+        MetaModelContext_forTesting.builder()
+            .singleton(Mockito.mock(MemberExecutorService.class))
+            .build();
+        parentTable = Mockito.mock(DataTableInternal.class);
+        rowElement = getObjectManager().adapt("Spice must flow");
+    }
+
+    @Test
+    void filterTokens_areComputedLazily_andOnlyOnce() {
+        var tokenizerCalls = new AtomicInteger();
+        CollectionFilterService.Tokens tokens = searchArg->"spice".equals(searchArg);
+
+        var dataRow = new DataRowInternal(0, parentTable, rowElement, ()->{
+            tokenizerCalls.incrementAndGet();
+            return tokens;
+        });
+        assertEquals(0, tokenizerCalls.get());
+
+        assertSame(tokens, dataRow.filterTokens().orElseThrow());
+        assertTrue(dataRow.filterTokens().orElseThrow().match("spice"));
+        assertFalse(dataRow.filterTokens().orElseThrow().match("melange"));
+        assertEquals(1, tokenizerCalls.get());
+    }
+
+    @Test
+    void filterTokens_areEmpty_whenNotTokenized() {
+        var tokenizerCalls = new AtomicInteger();
+
+        var dataRow = new DataRowInternal(0, parentTable, rowElement, ()->{
+            tokenizerCalls.incrementAndGet();
+            return null;
+        });
+
+        assertTrue(dataRow.filterTokens().isEmpty());
+        assertTrue(dataRow.filterTokens().isEmpty());
+        assertEquals(1, tokenizerCalls.get());
+    }
+
+    @Test
+    void filterTokens_areComputedOnlyOnce_whenAccessedConcurrently() {
+        var tokenizerCalls = new AtomicInteger();
+        CollectionFilterService.Tokens tokens = searchArg->true;
+
+        var dataRow = new DataRowInternal(0, parentTable, rowElement, ()->{
+            tokenizerCalls.incrementAndGet();
+            return tokens;
+        });
+
+        var futures = IntStream.range(0, 8)
+                .mapToObj(i->CompletableFuture.supplyAsync(()->dataRow.filterTokens().orElseThrow()))
+                .toList();
+        futures.forEach(future->assertSame(tokens, future.join()));
+        assertEquals(1, tokenizerCalls.get());
+    }
+
+}
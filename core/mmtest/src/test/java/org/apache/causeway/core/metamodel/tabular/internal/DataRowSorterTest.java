@@ -0,0 +1,161 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.tabular.internal;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import jakarta.inject.Named;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.apache.causeway.applib.ViewModel;
+import org.apache.causeway.applib.annotation.Property;
+import org.apache.causeway.core.metamodel.context.HasMetaModelContext;
+import org.apache.causeway.core.metamodel.execution.MemberExecutorService;
+import org.apache.causeway.core.metamodel.object.MmSortUtils.SortDirection;
+import org.apache.causeway.core.metamodel.spec.feature.ObjectAssociation;
+import org.apache.causeway.core.metamodel.tabular.DataRow;
+import org.apache.causeway.core.mmtestsupport.MetaModelContext_forTesting;
+
+class DataRowSorterTest implements HasMetaModelContext {
+
+    @Named("DataRowSorterTest.Customer")
+    public static class Customer implements ViewModel {
+
+        static final AtomicInteger nameReads = new AtomicInteger();
+
+        private final String name;
+        private final int number;
+
+        public Customer(final String name, final int number) {
+            this.name = name;
+            this.number = number;
+        }
+
+        @Property
+        public String getName() {
+            nameReads.incrementAndGet();
+            return name;
+        }
+
+        @Override public String viewModelMemento() { return name + ":" + number; }
+    }
+
+    private DataTableInternal parentTable;
+    private ObjectAssociation nameProperty;
+
+    @BeforeEach
+    void setUp() {
+        MetaModelContext_forTesting.builder()
+            .singleton(Mockito.mock(MemberExecutorService.class))
+            .build();
+        parentTable = Mockito.mock(DataTableInternal.class);
+        nameProperty = getSpecificationLoader().specForTypeElseFail(Customer.class)
+                .getAssociationElseFail("name");
+        Customer.nameReads.set(0);
+    }
+
+    @Test
+    void ascending_nullsFirst_andStable() {
+        var rows = rows(
+                new Customer("b", 0),
+                new Customer(null, 1),
+                new Customer("a", 2),
+                new Customer("b", 3),
+                new Customer("a", 4));
+
+        assertEquals(List.of(1, 2, 4, 0, 3), sortedNumbers(rows, SortDirection.ASCENDING));
+    }
+
+    @Test
+    void descending_nullsLast_andStable() {
+        var rows = rows(
+                new Customer("b", 0),
+                new Customer(null, 1),
+                new Customer("a", 2),
+                new Customer("b", 3),
+                new Customer("a", 4));
+
+        assertEquals(List.of(0, 3, 2, 4, 1), sortedNumbers(rows, SortDirection.DESCENDING));
+    }
+
+    @Test
+    void readsEachSortKeyOnlyOnce() {
+        var rows = rows(IntStream.range(0, 100)
+                .mapToObj(i->new Customer("name-" + (i % 7), i))
+                .toArray(Customer[]::new));
+        Customer.nameReads.set(0);
+
+        sortedNumbers(rows, SortDirection.ASCENDING);
+
+        assertEquals(100, Customer.nameReads.get());
+    }
+
+    @Test
+    void parallelSort_agreesWithSequentialSort() {
+        var size = DataRowSorter.PARALLEL_SORT_THRESHOLD + 100;
+        var rows = rows(IntStream.range(0, size)
+                .mapToObj(i->new Customer(i % 10 == 0 ? null : "name-" + (i % 97), i))
+                .toArray(Customer[]::new));
+
+        var expected = IntStream.range(0, size).boxed()
+                .sorted(DataRowSorterTest::byNameThenPosition)
+                .toList();
+
+        assertEquals(expected, sortedNumbers(rows, SortDirection.ASCENDING));
+    }
+
+    // -- HELPER
+
+    /**
+     * Reference ordering for {@link #parallelSort_agreesWithSequentialSort()}:
+     * by name (nulls first), then by original position (stability).
+     */
+    private static int byNameThenPosition(final int a, final int b) {
+        var nameA = a % 10 == 0 ? null : "name-" + (a % 97);
+        var nameB = b % 10 == 0 ? null : "name-" + (b % 97);
+        if(nameA == null || nameB == null) {
+            return nameA == nameB
+                    ? Integer.compare(a, b)
+                    : nameA == null ? -1 : 1;
+        }
+        var byName = nameA.compareTo(nameB);
+        return byName != 0 ? byName : Integer.compare(a, b);
+    }
+
+    private List<DataRow> rows(final Customer... customers) {
+        return IntStream.range(0, customers.length)
+                .<DataRow>mapToObj(i->new DataRowInternal(
+                        i, parentTable, getObjectManager().adapt(customers[i]), ()->null))
+                .toList();
+    }
+
+    private List<Integer> sortedNumbers(final List<DataRow> rows, final SortDirection sortDirection) {
+        return DataRowSorter.sortByProperty(rows.stream(), nameProperty, sortDirection)
+                .map(dataRow->((Customer) dataRow.rowElement().getPojo()).number)
+                .toList();
+    }
+
+}
@@ -0,0 +1,76 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.valuesemantics;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.apache.causeway.applib.value.semantics.ValueSemanticsAbstract.FormatUsageFor;
+
+class NumericValueSemanticsAbstract_getNumberFormat_Test {
+
+    private final IntValueSemantics valueSemantics = new IntValueSemantics();
+
+    @Test
+    void formats_are_resolved_once_per_usage_and_thread() {
+        var format = valueSemantics.getNumberFormat(null, FormatUsageFor.RENDERING_AS_TEXT);
+
+        assertThat(valueSemantics.getNumberFormat(null, FormatUsageFor.RENDERING_AS_TEXT)).isSameAs(format);
+        assertThat(valueSemantics.getNumberFormat(null, FormatUsageFor.PARSING)).isNotSameAs(format);
+        assertThat(CompletableFuture
+                .supplyAsync(()->valueSemantics.getNumberFormat(null, FormatUsageFor.RENDERING_AS_TEXT))
+                .join())
+            .isNotSameAs(format);
+    }
+
+    @Test
+    void renders_single_character_grouping_separator() {
+        var separator = valueSemantics.grouping().separator(null, FormatUsageFor.RENDERING_AS_TEXT);
+
+        assertThat(valueSemantics.parseableTextRepresentation(null, 1234567))
+            .isEqualTo("1" + separator + "234" + separator + "567");
+    }
+
+    @Test
+    void renders_multi_character_grouping_separator() {
+        var separator = valueSemantics.grouping().separator(null, FormatUsageFor.RENDERING_AS_HTML);
+
+        assertThat(valueSemantics.getNumberFormat(null, FormatUsageFor.RENDERING_AS_HTML).format(1234567L))
+            .isEqualTo("1" + separator + "234" + separator + "567");
+    }
+
+    @Test
+    void parses_ignoring_grouping_separator_and_whitespace() {
+        var separator = valueSemantics.grouping().separator(null, FormatUsageFor.PARSING);
+
+        assertThat(valueSemantics.parseTextRepresentation(null, " 1" + separator + "234\t"))
+            .isEqualTo(1234);
+    }
+
+    @Test
+    void removeWhitespace() {
+        var noWhitespace = "1234";
+        assertThat(NumericValueSemanticsAbstract.DecimalFormatEx.removeWhitespace(noWhitespace)).isSameAs(noWhitespace);
+        assertThat(NumericValueSemanticsAbstract.DecimalFormatEx.removeWhitespace(" 1 2\t3\n4\r")).isEqualTo("1234");
+    }
+
+}
@@ -34,6 +34,7 @@
     exports org.apache.causeway.core.runtimeservices.message;
     exports org.apache.causeway.core.runtimeservices.render;
     exports org.apache.causeway.core.runtimeservices.publish;
+    exports org.apache.causeway.core.runtimeservices.queryresultscache;
     exports org.apache.causeway.core.runtimeservices.recognizer;
     exports org.apache.causeway.core.runtimeservices.recognizer.dae;
     exports org.apache.causeway.core.runtimeservices.scratchpad;
@@ -78,6 +79,7 @@
     requires spring.aop;
     requires java.management;
     requires spring.boot.autoconfigure;
+    requires static micrometer.core;
 
     opens org.apache.causeway.core.runtimeservices;
     opens org.apache.causeway.core.runtimeservices.wrapper;
@@ -57,12 +57,15 @@
 import org.apache.causeway.core.runtimeservices.menubars.bootstrap.MenuBarsMarshallerServiceBootstrap;
 import org.apache.causeway.core.runtimeservices.menubars.bootstrap.MenuBarsServiceBootstrap;
 import org.apache.causeway.core.runtimeservices.message.MessageServiceDefault;
+import org.apache.causeway.core.runtimeservices.publish.AsyncPublishingPipeline;
 import org.apache.causeway.core.runtimeservices.publish.CommandPublisherDefault;
 import org.apache.causeway.core.runtimeservices.publish.EntityChangesPublisherDefault;
 import org.apache.causeway.core.runtimeservices.publish.EntityPropertyChangePublisherDefault;
 import org.apache.causeway.core.runtimeservices.publish.ExecutionPublisherDefault;
 import org.apache.causeway.core.runtimeservices.publish.LifecycleCallbackNotifier;
 import org.apache.causeway.core.runtimeservices.publish.ObjectLifecyclePublisherDefault;
+import org.apache.causeway.core.runtimeservices.queryresultscache.SharedQueryResultsCacheDefault;
+import org.apache.causeway.core.runtimeservices.queryresultscache.SharedQueryResultsCacheMetrics;
 import org.apache.causeway.core.runtimeservices.recognizer.ExceptionRecognizerServiceDefault;
 import org.apache.causeway.core.runtimeservices.recognizer.dae.ExceptionRecognizerForDataAccessException;
 import org.apache.causeway.core.runtimeservices.render.PlaceholderRenderServiceDefault;
@@ -87,6 +90,7 @@
         CausewayModuleCoreCodegenByteBuddy.class,
 
         // @Service's
+        AsyncPublishingPipeline.class,
         BookmarkServiceDefault.class,
         CommandDtoFactoryDefault.class,
         CommandExecutorServiceDefault.class,
@@ -118,6 +122,8 @@
         LifecycleCallbackNotifier.class,
         SchemaValueMarshallerDefault.class,
         ScratchpadDefault.class,
+        SharedQueryResultsCacheDefault.class,
+        SharedQueryResultsCacheMetrics.class,
         SitemapServiceDefault.class,
         SpringBeansService.class,
         TransactionServiceSpring.class,
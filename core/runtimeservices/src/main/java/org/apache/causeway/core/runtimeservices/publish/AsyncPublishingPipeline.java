@@ -0,0 +1,395 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.runtimeservices.publish;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.annotation.Priority;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+import jakarta.inject.Provider;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.applib.services.command.Command;
+import org.apache.causeway.applib.services.iactn.Execution;
+import org.apache.causeway.applib.services.iactn.InteractionContext;
+import org.apache.causeway.applib.services.iactn.InteractionService;
+import org.apache.causeway.applib.services.publishing.spi.AsyncTolerantSubscriber;
+import org.apache.causeway.applib.services.publishing.spi.CommandSubscriber;
+import org.apache.causeway.applib.services.publishing.spi.EntityPropertyChange;
+import org.apache.causeway.applib.services.publishing.spi.EntityPropertyChangeSubscriber;
+import org.apache.causeway.applib.services.publishing.spi.ExecutionSubscriber;
+import org.apache.causeway.applib.services.user.UserMemento;
+import org.apache.causeway.applib.services.xactn.TransactionService;
+import org.apache.causeway.applib.util.schema.InteractionDtoUtils;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.commons.internal.base._Casts;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.runtimeservices.CausewayModuleCoreRuntimeServices;
+import org.apache.causeway.schema.ixn.v2.InteractionDto;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Hands published events to {@link AsyncTolerantSubscriber async tolerant} subscribers on a background writer,
+ * as configured by {@link CausewayConfiguration.Core.RuntimeServices.AsyncPublishing}.
+ *
+ * <p>
+ *     Published events are captured as snapshots on the publishing thread (executions as {@link InteractionDto}s,
+ *     commands as {@link Command#snapshot() copies}; entity property changes are immutable already), so that
+ *     subsequent changes to the live objects do not leak into what is delivered.  Within a transaction, the
+ *     snapshots are held back until it has committed, and are discarded if it rolls back.
+ * </p>
+ *
+ * <p>
+ *     Events are then held in a bounded queue, drained by a single writer thread in micro-batches of up to
+ *     {@code maxBatchSize} events.  Each subscriber receives its events in publishing order, within an interaction
+ *     (as the system user) and transaction of its own.  If a batch fails, its events are retried one by one,
+ *     so that a single failing event does not prevent the others from being delivered; events failing even then
+ *     are logged, counted as {@link Stats#failedCount() failed} and dropped.
+ * </p>
+ *
+ * <p>
+ *     If the queue is full, the publishing thread waits for space (back-pressure), logging a warning once it has
+ *     waited for longer than {@code offerTimeout}; it never delivers ahead of the events queued already, as that
+ *     would break each subscriber's order.  Only once the writer has stopped, events are delivered on the publishing
+ *     thread (in a transaction of its own), after any events still queued.  Delivery is nevertheless best-effort
+ *     only: the queue is held in memory, so pending events are lost should the JVM terminate abnormally.
+ * </p>
+ *
+ * @since 4.0 {@index}
+ */
+@Service
+@Named(CausewayModuleCoreRuntimeServices.NAMESPACE + ".AsyncPublishingPipeline")
+@Priority(PriorityPrecedence.MIDPOINT)
+@Qualifier("Default")
+@Slf4j
+public class AsyncPublishingPipeline {
+
+    /**
+     * Kind of event, determining the subscriber callback.
+     */
+    public enum Channel {
+        EXECUTION,
+        COMMAND_READY,
+        COMMAND_STARTED,
+        COMMAND_COMPLETED,
+        ENTITY_PROPERTY_CHANGES
+    }
+
+    /**
+     * Point in time snapshot of the pipeline's counters.
+     *
+     * @param enqueuedCount number of events handed to the background writer
+     * @param deliveredCount number of events successfully delivered
+     * @param batchCount number of micro-batches delivered
+     * @param overflowCount number of events not queued within {@code offerTimeout}, either because the queue was full
+     *      (waiting for space then), or because the writer had stopped (delivered on the publishing thread then)
+     * @param failedCount number of events whose delivery failed, even when retried individually (these are dropped)
+     * @param pending number of events currently waiting to be delivered
+     * @param lag age of the oldest event waiting to be delivered
+     */
+    public record Stats(
+            long enqueuedCount,
+            long deliveredCount,
+            long batchCount,
+            long overflowCount,
+            long failedCount,
+            int pending,
+            Duration lag) {
+    }
+
+    private record Event(
+            Object subscriber,
+            Channel channel,
+            Can<?> payloads,
+            long enqueuedAtNanos) {
+    }
+
+    private final CausewayConfiguration.Core.RuntimeServices.AsyncPublishing config;
+    private final Provider<InteractionService> interactionServiceProvider;
+    private final Provider<TransactionService> transactionServiceProvider;
+
+    private final BlockingQueue<Event> queue;
+    private final LongAdder enqueuedCount = new LongAdder();
+    private final LongAdder deliveredCount = new LongAdder();
+    private final LongAdder batchCount = new LongAdder();
+    private final LongAdder overflowCount = new LongAdder();
+    private final LongAdder failedCount = new LongAdder();
+
+    private volatile boolean running;
+    private Thread writer;
+
+    @Inject
+    public AsyncPublishingPipeline(
+            final CausewayConfiguration causewayConfiguration,
+            final Provider<InteractionService> interactionServiceProvider,
+            final Provider<TransactionService> transactionServiceProvider) {
+        this.config = causewayConfiguration.core().runtimeServices().asyncPublishing();
+        this.interactionServiceProvider = interactionServiceProvider;
+        this.transactionServiceProvider = transactionServiceProvider;
+        this.queue = new ArrayBlockingQueue<>(config.enabled()
+                ? config.queueCapacity()
+                : 1);
+    }
+
+    @PostConstruct
+    public void init() {
+        if(!config.enabled())
+            return;
+        running = true;
+        writer = new Thread(this::drainLoop, "causeway-async-publishing");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        if(writer==null)
+            return;
+        running = false;
+        writer.join(config.shutdownTimeout().toMillis());
+        if(!queue.isEmpty()) {
+            log.warn("shutting down with {} published event(s) not delivered to async subscribers", queue.size());
+        }
+    }
+
+    /**
+     * Whether given subscriber is to be notified by the background writer.
+     */
+    public boolean isAsync(final Object subscriber) {
+        return running
+                && subscriber instanceof AsyncTolerantSubscriber asyncTolerant
+                && asyncTolerant.isAsyncTolerant();
+    }
+
+    /**
+     * Takes snapshots of given payloads, to be handed to the background writer for delivery to given subscriber
+     * once the current transaction (if any) has committed.
+     *
+     * @return {@code false} if the caller has to notify the subscriber synchronously instead, because it is
+     *      not {@link #isAsync(Object) async}
+     */
+    public boolean offer(final Object subscriber, final Channel channel, final Can<?> payloads) {
+        if(!isAsync(subscriber))
+            return false;
+        if(payloads.isEmpty())
+            return true;
+        var snapshots = snapshot(channel, payloads);
+        if(!TransactionSynchronizationManager.isSynchronizationActive()) {
+            enqueue(subscriber, channel, snapshots);
+            return true;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override public void afterCommit() {
+                enqueue(subscriber, channel, snapshots);
+            }
+        });
+        return true;
+    }
+
+    public Stats stats() {
+        var oldest = queue.peek();
+        return new Stats(
+                enqueuedCount.sum(),
+                deliveredCount.sum(),
+                batchCount.sum(),
+                overflowCount.sum(),
+                failedCount.sum(),
+                queue.size(),
+                oldest!=null
+                    ? Duration.ofNanos(System.nanoTime() - oldest.enqueuedAtNanos())
+                    : Duration.ZERO);
+    }
+
+    // -- HELPER
+
+    private static Can<?> snapshot(final Channel channel, final Can<?> payloads) {
+        return switch (channel) {
+            case EXECUTION -> payloads.map(execution->
+                InteractionDtoUtils.dtoMapper().clone(
+                        InteractionDtoUtils.newInteractionDto((Execution<?, ?>) execution)));
+            case COMMAND_READY, COMMAND_STARTED, COMMAND_COMPLETED -> payloads.map(command->
+                ((Command) command).snapshot());
+            case ENTITY_PROPERTY_CHANGES -> payloads;
+        };
+    }
+
+    /**
+     * Waits for space in the queue, for as long as it takes (back-pressure), as delivering on the calling thread
+     * instead would overtake the events queued already; only if the writer has stopped (or if interrupted),
+     * delivers the event on the calling thread, after any events still queued.
+     */
+    private void enqueue(final Object subscriber, final Channel channel, final Can<?> snapshots) {
+        var event = new Event(subscriber, channel, snapshots, System.nanoTime());
+        try {
+            if(running) {
+                if(!queue.offer(event, config.offerTimeout().toNanos(), TimeUnit.NANOSECONDS)) {
+                    overflowCount.increment();
+                    log.warn("async publishing queue full for longer than {}, waiting for the writer to catch up",
+                            config.offerTimeout());
+                    queue.put(event);
+                }
+                enqueuedCount.increment();
+                if(!running) {
+                    // the writer might have stopped meanwhile, without having seen this event
+                    deliverQueuedOnCallingThread(List.of());
+                }
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        overflowCount.increment();
+        deliverQueuedOnCallingThread(List.of(event));
+    }
+
+    /**
+     * Once the writer has stopped (or was given up on), delivers any events it left behind in the queue,
+     * followed by given events.
+     */
+    private void deliverQueuedOnCallingThread(final List<Event> events) {
+        if(writer!=null
+                && writer.isAlive()
+                && writer!=Thread.currentThread()) {
+            try {
+                writer.join(config.shutdownTimeout().toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        var batch = new ArrayList<Event>();
+        queue.drainTo(batch);
+        batch.addAll(events);
+        if(!batch.isEmpty()) {
+            deliver(batch);
+        }
+    }
+
+    private void drainLoop() {
+        var batch = new ArrayList<Event>(config.maxBatchSize());
+        while(running
+                || !queue.isEmpty()) {
+            try {
+                var first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if(first==null)
+                    continue;
+                batch.add(first);
+                queue.drainTo(batch, config.maxBatchSize() - 1);
+                deliver(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Throwable e) {
+                log.error("failed to deliver published events to async subscribers", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Groups given events by subscriber (retaining their order), then each subscriber's events into runs of the
+     * same channel, each such run becoming a single callback.
+     */
+    private void deliver(final List<Event> batch) {
+        var eventsBySubscriber = new LinkedHashMap<Object, List<Event>>();
+        for(var event : batch) {
+            eventsBySubscriber.computeIfAbsent(event.subscriber(), __->new ArrayList<>()).add(event);
+        }
+        eventsBySubscriber.forEach((subscriber, events)->{
+            var eventCount = events.size();
+            var result = runInteractionAndTransaction(()->{
+                int i = 0;
+                while(i < eventCount) {
+                    var channel = events.get(i).channel();
+                    var payloads = new ArrayList<Object>();
+                    for(; i < eventCount && events.get(i).channel() == channel; i++) {
+                        events.get(i).payloads().forEach(payloads::add);
+                    }
+                    notify(subscriber, channel, Can.ofCollection(payloads));
+                }
+            });
+            if(result) {
+                deliveredCount.add(eventCount);
+                batchCount.increment();
+                return;
+            }
+            // retry individually
+            for(var event : events) {
+                if(runInteractionAndTransaction(()->notify(subscriber, event.channel(), event.payloads()))) {
+                    deliveredCount.increment();
+                } else {
+                    failedCount.increment();
+                }
+            }
+        });
+    }
+
+    /**
+     * Always in a new transaction, as when delivering on the publishing thread, its own transaction has committed
+     * already (though is still bound to the thread).
+     */
+    private boolean runInteractionAndTransaction(final Runnable runnable) {
+        return interactionServiceProvider.get()
+            .runAndCatch(InteractionContext.ofUserWithSystemDefaults(UserMemento.system()), ()->
+                transactionServiceProvider.get()
+                    .runTransactional(Propagation.REQUIRES_NEW, runnable::run)
+                    .ifFailureFail())
+            .ifFailure(e->log.error("failed to deliver published events to async subscriber", e))
+            .isSuccess();
+    }
+
+    private static void notify(final Object subscriber, final Channel channel, final Can<?> payloads) {
+        switch (channel) {
+            case EXECUTION -> {
+                Can<InteractionDto> interactionDtos = _Casts.uncheckedCast(payloads);
+                ((ExecutionSubscriber) subscriber).onExecutions(interactionDtos);
+            }
+            case COMMAND_READY -> payloads.forEach(command->
+                ((CommandSubscriber) subscriber).onReady((Command) command));
+            case COMMAND_STARTED -> payloads.forEach(command->
+                ((CommandSubscriber) subscriber).onStarted((Command) command));
+            case COMMAND_COMPLETED -> {
+                Can<Command> commands = _Casts.uncheckedCast(payloads);
+                ((CommandSubscriber) subscriber).onCompleted(commands);
+            }
+            case ENTITY_PROPERTY_CHANGES -> {
+                Can<EntityPropertyChange> propertyChanges = _Casts.uncheckedCast(payloads);
+                ((EntityPropertyChangeSubscriber) subscriber).onChanging(propertyChanges);
+            }
+        }
+    }
+
+}
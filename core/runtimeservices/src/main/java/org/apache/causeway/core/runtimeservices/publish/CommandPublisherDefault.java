@@ -19,6 +19,7 @@
 package org.apache.causeway.core.runtimeservices.publish;
 
 import java.util.List;
+import java.util.function.BiConsumer;
 
 import jakarta.annotation.Priority;
 import jakarta.inject.Inject;
@@ -39,6 +40,7 @@
 import org.apache.causeway.core.metamodel.execution.InteractionLayerTracker;
 import org.apache.causeway.core.metamodel.services.publishing.CommandPublisher;
 import org.apache.causeway.core.runtimeservices.CausewayModuleCoreRuntimeServices;
+import org.apache.causeway.core.runtimeservices.publish.AsyncPublishingPipeline.Channel;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -56,15 +58,18 @@ public class CommandPublisherDefault implements CommandPublisher {
 
     final List<CommandSubscriber> subscribers;
     final Provider<InteractionLayerTracker> interactionServiceProvider;
+    final AsyncPublishingPipeline asyncPublishingPipeline;
 
     final Can<CommandSubscriber> enabledSubscribers;
 
     @Inject
     public CommandPublisherDefault(
             final List<CommandSubscriber> subscribers,
-            final Provider<InteractionLayerTracker> interactionServiceProvider) {
+            final Provider<InteractionLayerTracker> interactionServiceProvider,
+            final AsyncPublishingPipeline asyncPublishingPipeline) {
         this.subscribers = subscribers;
         this.interactionServiceProvider = interactionServiceProvider;
+        this.asyncPublishingPipeline = asyncPublishingPipeline;
 
         enabledSubscribers = Can.ofCollection(subscribers)
                 .filter(HasEnabling::isEnabled);
@@ -81,7 +86,7 @@ public void ready(final @NonNull Command command) {
 
         if(canPublish(command) && command.getPublishingPhase().isReady()) {
             log.debug("about to PUBLISH command {}: {} to {}", "ready", command, enabledSubscribers);
-            enabledSubscribers.forEach(subscriber -> subscriber.onReady(command));
+            notifySubscribers(command, Channel.COMMAND_READY, CommandSubscriber::onReady);
         }
 
         _Xray.exitPublishing(handle);
@@ -98,7 +103,7 @@ public void start(final @NonNull Command command) {
 
         if(canPublish(command) && command.getPublishingPhase().isStarted()) {
             log.debug("about to PUBLISH command {}: {} to {}", "started", command, enabledSubscribers);
-            enabledSubscribers.forEach(subscriber -> subscriber.onStarted(command));
+            notifySubscribers(command, Channel.COMMAND_STARTED, CommandSubscriber::onStarted);
         }
 
         _Xray.exitPublishing(handle);
@@ -115,7 +120,7 @@ public void complete(final @NonNull Command command) {
 
         if(canPublish(command) && command.getPublishingPhase().isCompleted()) {
             log.debug("about to PUBLISH command {}: {} to {}", "completed", command, enabledSubscribers);
-            enabledSubscribers.forEach(subscriber -> subscriber.onCompleted(command));
+            notifySubscribers(command, Channel.COMMAND_COMPLETED, CommandSubscriber::onCompleted);
         }
 
         _Xray.exitPublishing(handle);
@@ -123,6 +128,17 @@ public void complete(final @NonNull Command command) {
 
     // -- HELPER
 
+    private void notifySubscribers(
+            final Command command,
+            final Channel channel,
+            final BiConsumer<CommandSubscriber, Command> callback) {
+        for (var subscriber : enabledSubscribers) {
+            if(!asyncPublishingPipeline.offer(subscriber, channel, Can.ofSingleton(command))) {
+                callback.accept(subscriber, command);
+            }
+        }
+    }
+
     private boolean canPublish(final Command command) {
         return enabledSubscribers.isNotEmpty()
                 && command.getLogicalMemberIdentifier() != null; // eg null when seed fixtures
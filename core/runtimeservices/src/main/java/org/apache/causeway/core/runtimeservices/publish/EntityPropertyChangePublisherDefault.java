@@ -46,6 +46,7 @@
 import org.apache.causeway.core.metamodel.execution.InteractionLayerTracker;
 import org.apache.causeway.core.metamodel.services.objectlifecycle.HasEnlistedEntityPropertyChanges;
 import org.apache.causeway.core.runtimeservices.CausewayModuleCoreRuntimeServices;
+import org.apache.causeway.core.runtimeservices.publish.AsyncPublishingPipeline.Channel;
 import org.apache.causeway.core.security.util.XrayUtil;
 import org.apache.causeway.core.transaction.changetracking.EntityPropertyChangePublisher;
 
@@ -72,6 +73,7 @@ public class EntityPropertyChangePublisherDefault implements EntityPropertyChang
     private final InteractionLayerTracker iaTracker;
     private final Provider<HasEnlistedEntityPropertyChanges> hasEnlistedEntityPropertyChangesProvider;
     private final CausewayConfiguration causewayConfiguration;
+    private final AsyncPublishingPipeline asyncPublishingPipeline;
 
     private Can<EntityPropertyChangeSubscriber> enabledSubscribers = Can.empty();
 
@@ -120,15 +122,19 @@ public void publishChangedProperties() {
                     () -> getCannotPublishReason(uniquePropertyChanges)
             );
 
+            var syncSubscribers = enabledSubscribers
+                    .filter(subscriber -> !asyncPublishingPipeline.offer(
+                            subscriber, Channel.ENTITY_PROPERTY_CHANGES, uniquePropertyChanges));
+
             if (uniquePropertyChanges.size() <= causewayConfiguration.core().runtimeServices()
                 .entityPropertyChangePublisher().bulk().threshold()) {
                 uniquePropertyChanges.forEach(propertyChange -> {
-                    for (var subscriber : enabledSubscribers) {
+                    for (var subscriber : syncSubscribers) {
                         subscriber.onChanging(propertyChange);
                     }
                 });
             } else {
-                for (var subscriber : enabledSubscribers) {
+                for (var subscriber : syncSubscribers) {
                     subscriber.onChanging(uniquePropertyChanges);
                 }
             }
@@ -42,6 +42,7 @@
 import org.apache.causeway.core.metamodel.execution.InteractionLayerTracker;
 import org.apache.causeway.core.metamodel.services.publishing.ExecutionPublisher;
 import org.apache.causeway.core.runtimeservices.CausewayModuleCoreRuntimeServices;
+import org.apache.causeway.core.runtimeservices.publish.AsyncPublishingPipeline.Channel;
 
 /**
  * Default implementation of {@link ExecutionPublisher}.
@@ -59,6 +60,7 @@
     private final Can<ExecutionSubscriber> enabledSubscribers;
     private final InteractionLayerTracker iaTracker;
     private final ObservationProvider observationProvider;
+    private final AsyncPublishingPipeline asyncPublishingPipeline;
 
     /**
      * this is the reason that this service is @InteractionScope'd
@@ -69,8 +71,10 @@
     public ExecutionPublisherDefault(
             final InteractionLayerTracker iaTracker,
             final List<ExecutionSubscriber> subscribers,
-            final CausewayObservationIntegration observationIntegration) {
+            final CausewayObservationIntegration observationIntegration,
+            final AsyncPublishingPipeline asyncPublishingPipeline) {
         this.iaTracker = iaTracker;
+        this.asyncPublishingPipeline = asyncPublishingPipeline;
         this.enabledSubscribers = Can.ofCollection(subscribers)
                 .filter(HasEnabling::isEnabled);
         this.observationProvider = observationIntegration.provider(getClass(),
@@ -117,7 +121,9 @@ private void notifySubscribers(final Execution<?,?> execution) {
                     .formatted(enabledSubscribers.size()))
                 .observe(()->{
                     for (var subscriber : enabledSubscribers) {
-                        subscriber.onExecution(execution);
+                        if(!asyncPublishingPipeline.offer(subscriber, Channel.EXECUTION, Can.ofSingleton(execution))) {
+                            subscriber.onExecution(execution);
+                        }
                     }
                 });
         }
@@ -0,0 +1,230 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.runtimeservices.queryresultscache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import jakarta.annotation.Priority;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.applib.services.queryresultscache.QueryResultsCache;
+import org.apache.causeway.applib.services.queryresultscache.SharedQueryResultsCache;
+import org.apache.causeway.commons.internal.base._Casts;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.runtimeservices.CausewayModuleCoreRuntimeServices;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Default implementation of {@link SharedQueryResultsCache}, holding results in-memory, bounded both in size
+ * (least recently used entries are evicted first) and in time, as configured by
+ * {@link org.apache.causeway.core.config.CausewayConfiguration.Core.RuntimeServices.QueryResultsCache.Shared}.
+ *
+ * <p>
+ *     The result of a query is computed outside of any lock, so concurrent misses for the same key may each
+ *     call the query; the result is only cached if none of the entity types it depends upon was invalidated
+ *     while it was being computed.
+ * </p>
+ *
+ * @since 4.0 {@index}
+ */
+@Service
+@Named(CausewayModuleCoreRuntimeServices.NAMESPACE + ".SharedQueryResultsCacheDefault")
+@Priority(PriorityPrecedence.MIDPOINT)
+@Qualifier("Default")
+@Slf4j
+public class SharedQueryResultsCacheDefault implements SharedQueryResultsCache {
+
+    private final boolean enabled;
+    private final long expiryDurationInNanos;
+    private final int maxSizeInEntries;
+
+    /**
+     * Access-ordered, so iteration starts with the least recently used entry.
+     * @implNote guarded by synchronizing on the map itself
+     */
+    private final Map<QueryResultsCache.Key, Entry> entriesByKey;
+
+    /**
+     * Per entity type, the generation at which it was last invalidated.
+     */
+    private final Map<Class<?>, Long> invalidatedAtGenerationByType = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private volatile long invalidatedAllAtGeneration;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    private final LongAdder invalidationCount = new LongAdder();
+
+    @Inject
+    public SharedQueryResultsCacheDefault(final CausewayConfiguration causewayConfiguration) {
+        var config = causewayConfiguration.core().runtimeServices().queryResultsCache().shared();
+        this.enabled = config.enabled();
+        this.expiryDurationInNanos = TimeUnit.MINUTES.toNanos(config.expiryDurationInMinutes());
+        this.maxSizeInEntries = config.maxSizeInEntries();
+        this.entriesByKey = new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<QueryResultsCache.Key, Entry> eldest) {
+                if(size() <= maxSizeInEntries)
+                    return false;
+                evictionCount.increment();
+                return true;
+            }
+        };
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public <T> T execute(
+            final QueryResultsCache.Key key,
+            final Set<Class<?>> dependsOn,
+            final Callable<T> callable) throws Exception {
+
+        if(!enabled)
+            return callable.call();
+
+        synchronized(entriesByKey) {
+            var entry = entriesByKey.get(key);
+            if(entry != null) {
+                if(!entry.isExpired(System.nanoTime())) {
+                    hitCount.increment();
+                    log.debug("SHARED HIT: {}", key);
+                    return _Casts.uncheckedCast(entry.result());
+                }
+                entriesByKey.remove(key);
+                evictionCount.increment();
+            }
+        }
+
+        missCount.increment();
+        log.debug("SHARED MISS: {}", key);
+
+        final long computedAtGeneration = generation.get();
+        final T result = callable.call();
+
+        synchronized(entriesByKey) {
+            if(!isInvalidatedSince(computedAtGeneration, dependsOn)) {
+                entriesByKey.put(key, new Entry(result, Set.copyOf(dependsOn), System.nanoTime() + expiryDurationInNanos));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void invalidate(final Set<Class<?>> changedEntityTypes) {
+        if(!enabled
+                || changedEntityTypes.isEmpty())
+            return;
+
+        synchronized(entriesByKey) {
+            var invalidatedAt = generation.incrementAndGet();
+            changedEntityTypes.forEach(type->invalidatedAtGenerationByType.put(type, invalidatedAt));
+
+            var now = System.nanoTime();
+            var iterator = entriesByKey.values().iterator();
+            while(iterator.hasNext()) {
+                var entry = iterator.next();
+                if(entry.dependsOnAnyOf(changedEntityTypes)) {
+                    iterator.remove();
+                    invalidationCount.increment();
+                } else if(entry.isExpired(now)) {
+                    iterator.remove();
+                    evictionCount.increment();
+                }
+            }
+        }
+        if(log.isDebugEnabled()) {
+            log.debug("invalidated shared query results depending on {}; stats: {}", changedEntityTypes, stats());
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        synchronized(entriesByKey) {
+            invalidatedAllAtGeneration = generation.incrementAndGet();
+            invalidationCount.add(entriesByKey.size());
+            entriesByKey.clear();
+        }
+    }
+
+    @Override
+    public Stats stats() {
+        final int size;
+        synchronized(entriesByKey) {
+            size = entriesByKey.size();
+        }
+        return new Stats(
+                hitCount.sum(),
+                missCount.sum(),
+                evictionCount.sum(),
+                invalidationCount.sum(),
+                size);
+    }
+
+    // -- HELPER
+
+    private boolean isInvalidatedSince(final long computedAtGeneration, final Set<Class<?>> dependsOn) {
+        if(generation.get() == computedAtGeneration)
+            return false;
+        if(invalidatedAllAtGeneration > computedAtGeneration)
+            return true;
+        return invalidatedAtGenerationByType.entrySet().stream()
+                .filter(e->e.getValue() > computedAtGeneration)
+                .anyMatch(e->dependsOn.stream().anyMatch(type->type.isAssignableFrom(e.getKey())));
+    }
+
+    private record Entry(
+            Object result,
+            Set<Class<?>> dependsOn,
+            long expiresAtNanos) {
+
+        boolean isExpired(final long nowNanos) {
+            return nowNanos - expiresAtNanos >= 0;
+        }
+
+        boolean dependsOnAnyOf(final Set<Class<?>> changedEntityTypes) {
+            for(var type : dependsOn) {
+                for(var changedType : changedEntityTypes) {
+                    if(type.isAssignableFrom(changedType))
+                        return true;
+                }
+            }
+            return false;
+        }
+    }
+
+}
@@ -0,0 +1,96 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.runtimeservices.queryresultscache;
+
+import java.util.function.ToDoubleFunction;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import org.apache.causeway.applib.services.queryresultscache.SharedQueryResultsCache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Exposes the {@link SharedQueryResultsCache#stats() statistics} of the {@link SharedQueryResultsCache}
+ * (hits, misses, evictions, invalidations and size) as meters named <code>cache.*</code>,
+ * tagged with <code>cache=causeway.queryResultsCache.shared</code>,
+ * following the naming conventions of Micrometer's own cache metrics.
+ *
+ * <p>
+ *     Only active if Micrometer is on the classpath; the {@link MeterBinder} is bound to the meter registry by
+ *     Spring Boot's actuator.
+ * </p>
+ *
+ * @since 4.0 {@index}
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+public class SharedQueryResultsCacheMetrics {
+
+    public static final String CACHE_NAME = "causeway.queryResultsCache.shared";
+
+    @Bean
+    public MeterBinder sharedQueryResultsCacheMeterBinder(final SharedQueryResultsCache sharedQueryResultsCache) {
+        return registry->bindTo(registry, sharedQueryResultsCache);
+    }
+
+    // -- HELPER
+
+    private static void bindTo(final MeterRegistry registry, final SharedQueryResultsCache cache) {
+        var tags = Tags.of("cache", CACHE_NAME);
+
+        counter(registry, "cache.gets", tags.and("result", "hit"), cache,
+                c->c.stats().hitCount(),
+                "The number of times cache lookup methods have returned a cached value");
+        counter(registry, "cache.gets", tags.and("result", "miss"), cache,
+                c->c.stats().missCount(),
+                "The number of times cache lookup methods have returned an uncached (newly loaded) value");
+        counter(registry, "cache.evictions", tags, cache,
+                c->c.stats().evictionCount(),
+                "The number of entries evicted, because they expired or to honor the size bound");
+        counter(registry, "cache.invalidations", tags, cache,
+                c->c.stats().invalidationCount(),
+                "The number of entries invalidated, because an entity type they depend upon changed");
+
+        Gauge.builder("cache.size", cache, c->c.stats().size())
+            .tags(tags)
+            .description("The number of entries in this cache")
+            .register(registry);
+    }
+
+    private static void counter(
+            final MeterRegistry registry,
+            final String name,
+            final Tags tags,
+            final SharedQueryResultsCache cache,
+            final ToDoubleFunction<SharedQueryResultsCache> countFunction,
+            final String description) {
+        FunctionCounter.builder(name, cache, countFunction)
+            .tags(tags)
+            .description(description)
+            .register(registry);
+    }
+
+}
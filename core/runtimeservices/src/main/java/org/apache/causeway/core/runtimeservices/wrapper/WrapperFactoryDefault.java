@@ -56,6 +56,7 @@
 import org.apache.causeway.commons.internal.base._Casts;
 import org.apache.causeway.commons.internal.exceptions._Exceptions;
 import org.apache.causeway.commons.internal.proxy.ProxyFactoryService;
+import org.apache.causeway.core.config.CausewayConfiguration.Core.RuntimeServices.WrapperFactory.CommonExecutor;
 import org.apache.causeway.core.metamodel.context.HasMetaModelContext;
 import org.apache.causeway.core.metamodel.context.MetaModelContext;
 import org.apache.causeway.core.metamodel.execution.InteractionIdGenerator;
@@ -83,6 +84,7 @@
 import jakarta.inject.Provider;
 import lombok.Getter;
 import lombok.experimental.Accessors;
+import lombok.extern.slf4j.Slf4j;
 
 /**
  * Default implementation of {@link WrapperFactory}.
@@ -93,6 +95,7 @@
 @Named(WrapperFactoryDefault.LOGICAL_TYPE_NAME)
 @Priority(PriorityPrecedence.MIDPOINT)
 @Qualifier("Default")
+@Slf4j
 public class WrapperFactoryDefault
 implements WrapperFactory, HasMetaModelContext {
 
@@ -111,7 +114,7 @@
     private final Map<Class<? extends InteractionEvent>, InteractionEventDispatcher>
         dispatchersByEventClass = new HashMap<>();
 
-    private ExecutorService commonExecutorService;
+    ExecutorService commonExecutorService; // package private: in support of JUnit tests
     private ProxyGenerator proxyGenerator;
 
     @Getter(lazy = true) @Accessors(fluent=true)
@@ -308,6 +311,15 @@ public void dispatchTypeSafe(final T interactionEvent) {
     private final static int MIN_POOL_SIZE = 2; // at least 2
     private final static int MAX_POOL_SIZE = 4; // max 4
     private ExecutorService newCommonExecutorService() {
+        var commonExecutor = getConfiguration().core().runtimeServices().wrapperFactory().commonExecutor();
+        if(commonExecutor == CommonExecutor.VIRTUAL_THREAD_PER_TASK) {
+            var virtualThreadExecutor = newVirtualThreadPerTaskExecutor();
+            if(virtualThreadExecutor.isPresent())
+                return virtualThreadExecutor.get();
+            log.warn("virtual threads not supported by this Java runtime ({}), "
+                    + "falling back to a fixed thread pool for async wrapper invocations",
+                    System.getProperty("java.version"));
+        }
         final int poolSize = Math.min(
                 MAX_POOL_SIZE,
                 Math.max(
@@ -316,4 +328,16 @@ private ExecutorService newCommonExecutorService() {
         return Executors.newFixedThreadPool(poolSize);
     }
 
+    /**
+     * Looked up reflectively, as we compile against a Java release that predates virtual threads.
+     */
+    protected Optional<ExecutorService> newVirtualThreadPerTaskExecutor() { // protected: in support of JUnit tests
+        try {
+            var factoryMethod = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return Optional.of((ExecutorService) factoryMethod.invoke(null));
+        } catch (ReflectiveOperationException | UnsupportedOperationException e) {
+            return Optional.empty();
+        }
+    }
+
 }
@@ -0,0 +1,279 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.runtimeservices.publish;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.util.TestPropertyValues;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import org.apache.causeway.applib.services.command.Command;
+import org.apache.causeway.applib.services.iactn.InteractionService;
+import org.apache.causeway.applib.services.publishing.spi.AsyncTolerantSubscriber;
+import org.apache.causeway.applib.services.publishing.spi.CommandSubscriber;
+import org.apache.causeway.applib.services.xactn.TransactionService;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.commons.functional.ThrowingRunnable;
+import org.apache.causeway.commons.functional.Try;
+import org.apache.causeway.core.mmtestsupport.ConfigurationTester;
+import org.apache.causeway.core.runtimeservices.publish.AsyncPublishingPipeline.Channel;
+import org.apache.causeway.schema.cmd.v2.CommandDto;
+
+class AsyncPublishingPipelineTest {
+
+    static class RecordingSubscriber implements CommandSubscriber, AsyncTolerantSubscriber {
+        final List<String> calls = new CopyOnWriteArrayList<>();
+        volatile String failOn;
+        @Override public void onReady(final Command command) { record("ready", command); }
+        @Override public void onStarted(final Command command) { record("started", command); }
+        @Override public void onCompleted(final Command command) { record("completed", command); }
+        @Override public void onCompleted(final Can<Command> commands) {
+            calls.add("batch-of-" + commands.size());
+            CommandSubscriber.super.onCompleted(commands);
+        }
+        private void record(final String phase, final Command command) {
+            if(command.getUsername().equals(failOn))
+                throw new IllegalStateException("failing on " + failOn);
+            calls.add(phase + ":" + command.getUsername());
+        }
+    }
+
+    static class SyncOnlySubscriber extends RecordingSubscriber {
+        @Override public boolean isAsyncTolerant() { return false; }
+    }
+
+    private AsyncPublishingPipeline pipeline;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if(TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        if(pipeline!=null) {
+            pipeline.shutdown();
+        }
+    }
+
+    @Test
+    void when_disabled_always_publishes_synchronously() {
+        pipeline = newPipeline(false);
+
+        assertFalse(pipeline.offer(new RecordingSubscriber(), Channel.COMMAND_READY, Can.ofSingleton(command("a"))));
+    }
+
+    @Test
+    void when_enabled_publishes_synchronously_to_subscribers_not_async_tolerant() {
+        pipeline = newPipeline(true);
+
+        assertFalse(pipeline.offer(new SyncOnlySubscriber(), Channel.COMMAND_READY, Can.ofSingleton(command("a"))));
+        assertTrue(pipeline.offer(new RecordingSubscriber(), Channel.COMMAND_READY, Can.ofSingleton(command("a"))));
+    }
+
+    @Test
+    void delivers_in_order_batching_runs_of_completed_commands() throws InterruptedException {
+        pipeline = newPipeline(true);
+        var subscriber = new RecordingSubscriber();
+
+        pipeline.offer(subscriber, Channel.COMMAND_READY, Can.ofSingleton(command("a")));
+        pipeline.offer(subscriber, Channel.COMMAND_COMPLETED, Can.ofSingleton(command("a")));
+        pipeline.offer(subscriber, Channel.COMMAND_COMPLETED, Can.ofSingleton(command("b")));
+        pipeline.shutdown(); // drains
+
+        var calls = subscriber.calls;
+        assertEquals("ready:a", calls.get(0));
+        assertEquals(List.of("completed:a", "completed:b"),
+                calls.stream().filter(call->call.startsWith("completed")).toList());
+        var stats = pipeline.stats();
+        assertEquals(3, stats.enqueuedCount());
+        assertEquals(3, stats.deliveredCount());
+        assertEquals(0, stats.pending());
+        assertEquals(Duration.ZERO, stats.lag());
+    }
+
+    @Test
+    void retries_failed_batch_event_by_event() throws InterruptedException {
+        pipeline = newPipeline(true);
+        var subscriber = new RecordingSubscriber();
+        subscriber.failOn = "b";
+
+        pipeline.offer(subscriber, Channel.COMMAND_READY, Can.ofSingleton(command("a")));
+        pipeline.offer(subscriber, Channel.COMMAND_READY, Can.ofSingleton(command("b")));
+        pipeline.offer(subscriber, Channel.COMMAND_READY, Can.ofSingleton(command("c")));
+        pipeline.shutdown();
+
+        assertTrue(subscriber.calls.contains("ready:a"));
+        assertTrue(subscriber.calls.contains("ready:c"));
+        var stats = pipeline.stats();
+        assertEquals(1, stats.failedCount());
+        assertEquals(2, stats.deliveredCount());
+    }
+
+    @Test
+    void delivers_snapshot_taken_when_offered() throws InterruptedException {
+        pipeline = newPipeline(true);
+        var subscriber = new RecordingSubscriber();
+        var command = command("a");
+
+        pipeline.offer(subscriber, Channel.COMMAND_COMPLETED, Can.ofSingleton(command));
+        command.getCommandDto().setUsername("z"); // subsequent change to the live command
+        pipeline.shutdown();
+
+        assertEquals(List.of("batch-of-1", "completed:a"), subscriber.calls);
+    }
+
+    @Test
+    void within_transaction_enqueues_only_once_committed() throws InterruptedException {
+        pipeline = newPipeline(true);
+        var subscriber = new RecordingSubscriber();
+        TransactionSynchronizationManager.initSynchronization();
+
+        pipeline.offer(subscriber, Channel.COMMAND_READY, Can.ofSingleton(command("a")));
+        pipeline.offer(subscriber, Channel.COMMAND_READY, Can.ofSingleton(command("b")));
+        assertEquals(0, pipeline.stats().enqueuedCount());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.clearSynchronization();
+        pipeline.shutdown();
+
+        assertEquals(List.of("ready:a", "ready:b"), subscriber.calls);
+        assertEquals(2, pipeline.stats().deliveredCount());
+    }
+
+    @Test
+    void within_transaction_discards_when_rolled_back() throws InterruptedException {
+        pipeline = newPipeline(true);
+        var subscriber = new RecordingSubscriber();
+        TransactionSynchronizationManager.initSynchronization();
+
+        pipeline.offer(subscriber, Channel.COMMAND_READY, Can.ofSingleton(command("a")));
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(synchronization->
+            synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        TransactionSynchronizationManager.clearSynchronization();
+        pipeline.shutdown();
+
+        assertTrue(subscriber.calls.isEmpty());
+        assertEquals(0, pipeline.stats().enqueuedCount());
+    }
+
+    @Test
+    void once_stopped_delivers_on_calling_thread() throws InterruptedException {
+        pipeline = newPipeline(true);
+        var subscriber = new RecordingSubscriber();
+        TransactionSynchronizationManager.initSynchronization();
+        pipeline.offer(subscriber, Channel.COMMAND_READY, Can.ofSingleton(command("a")));
+        pipeline.shutdown();
+
+        // the transaction only commits after the writer has stopped
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        assertEquals(List.of("ready:a"), subscriber.calls);
+        var stats = pipeline.stats();
+        assertEquals(1, stats.overflowCount());
+        assertEquals(1, stats.deliveredCount());
+    }
+
+    @Test
+    void when_queue_full_waits_rather_than_overtaking_queued_events() throws InterruptedException {
+        pipeline = newPipeline(true,
+                "causeway.core.runtime-services.async-publishing.queue-capacity=1",
+                "causeway.core.runtime-services.async-publishing.offer-timeout=10");
+        var delivering = new CountDownLatch(1);
+        var proceed = new CountDownLatch(1);
+        var subscriber = new RecordingSubscriber() {
+            @Override public void onReady(final Command command) {
+                if(command.getUsername().equals("a")) {
+                    delivering.countDown();
+                    try {
+                        proceed.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                super.onReady(command);
+            }
+        };
+
+        pipeline.offer(subscriber, Channel.COMMAND_READY, Can.ofSingleton(command("a")));
+        delivering.await(); // the writer is busy delivering "a" ...
+        pipeline.offer(subscriber, Channel.COMMAND_READY, Can.ofSingleton(command("b"))); // ... while "b" fills the queue
+        var publisher = new Thread(()->
+            pipeline.offer(subscriber, Channel.COMMAND_READY, Can.ofSingleton(command("c"))));
+        publisher.start();
+
+        publisher.join(500);
+        assertTrue(publisher.isAlive()); // still waiting for space, rather than delivering "c" ahead of "b"
+
+        proceed.countDown();
+        publisher.join();
+        pipeline.shutdown();
+
+        assertEquals(List.of("ready:a", "ready:b", "ready:c"), subscriber.calls);
+        var stats = pipeline.stats();
+        assertEquals(1, stats.overflowCount());
+        assertEquals(3, stats.deliveredCount());
+    }
+
+    // -- HELPER
+
+    private static AsyncPublishingPipeline newPipeline(final boolean enabled, final String... moreProperties) {
+        var conf = new ConfigurationTester(TestPropertyValues.of(
+                "causeway.core.runtime-services.async-publishing.enabled=" + enabled)
+                .and(moreProperties))
+            .causewayConfiguration();
+
+        var interactionService = mock(InteractionService.class);
+        when(interactionService.runAndCatch(any(), any()))
+            .thenAnswer(inv->Try.run(inv.<ThrowingRunnable>getArgument(1)));
+        var transactionService = mock(TransactionService.class);
+        when(transactionService.runTransactional(eq(Propagation.REQUIRES_NEW), any(ThrowingRunnable.class)))
+            .thenAnswer(inv->Try.run(inv.<ThrowingRunnable>getArgument(1)));
+
+        var pipeline = new AsyncPublishingPipeline(conf, ()->interactionService, ()->transactionService);
+        pipeline.init();
+        return pipeline;
+    }
+
+    private static Command command(final String username) {
+        var interactionId = UUID.randomUUID();
+        var commandDto = new CommandDto();
+        commandDto.setInteractionId(interactionId.toString());
+        commandDto.setUsername(username);
+        var command = new Command(interactionId);
+        command.updater().setCommandDtoAndIdentifier(commandDto);
+        return command;
+    }
+
+}
@@ -0,0 +1,131 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.runtimeservices.queryresultscache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.util.TestPropertyValues;
+
+import org.apache.causeway.applib.services.queryresultscache.QueryResultsCache;
+import org.apache.causeway.core.mmtestsupport.ConfigurationTester;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class SharedQueryResultsCacheDefaultTest {
+
+    static class Customer {}
+    static class PremiumCustomer extends Customer {}
+    static class Country {}
+
+    private SharedQueryResultsCacheDefault cache;
+    private AtomicInteger callCount;
+
+    @BeforeEach
+    void setUp() {
+        var conf = new ConfigurationTester(TestPropertyValues.of(
+                "causeway.core.runtime-services.query-results-cache.shared.enabled=true",
+                "causeway.core.runtime-services.query-results-cache.shared.max-size-in-entries=2"))
+            .causewayConfiguration();
+        cache = new SharedQueryResultsCacheDefault(conf);
+        callCount = new AtomicInteger();
+    }
+
+    @Test
+    void caches_across_calls() throws Exception {
+        assertEquals(1, execute("a", Customer.class));
+        assertEquals(1, execute("a", Customer.class));
+
+        var stats = cache.stats();
+        assertEquals(1, stats.hitCount());
+        assertEquals(1, stats.missCount());
+        assertEquals(1, stats.size());
+    }
+
+    @Test
+    void evicts_least_recently_used_when_full() throws Exception {
+        execute("a", Customer.class);
+        execute("b", Customer.class);
+        execute("a", Customer.class); // touch
+        execute("c", Customer.class); // evicts b
+
+        assertEquals(3, callCount.get());
+        execute("a", Customer.class);
+        assertEquals(3, callCount.get());
+        execute("b", Customer.class);
+        assertEquals(4, callCount.get());
+        assertEquals(2, cache.stats().evictionCount());
+    }
+
+    @Test
+    void invalidates_dependents_of_changed_types_only() throws Exception {
+        execute("customers", Customer.class);
+        execute("countries", Country.class);
+
+        cache.invalidate(Set.of(PremiumCustomer.class));
+
+        assertEquals(1, cache.stats().invalidationCount());
+        assertEquals(1, cache.stats().size());
+        execute("countries", Country.class);
+        assertEquals(2, callCount.get());
+        execute("customers", Customer.class);
+        assertEquals(3, callCount.get());
+    }
+
+    @Test
+    void does_not_cache_result_invalidated_while_computing() throws Exception {
+        var key = new QueryResultsCache.Key(getClass(), "customers");
+        cache.execute(key, Set.of(Customer.class), ()->{
+            cache.invalidate(Set.of(Customer.class));
+            return callCount.incrementAndGet();
+        });
+
+        assertEquals(0, cache.stats().size());
+    }
+
+    @Test
+    void exposes_stats_as_meters() throws Exception {
+        var registry = new SimpleMeterRegistry();
+        new SharedQueryResultsCacheMetrics().sharedQueryResultsCacheMeterBinder(cache).bindTo(registry);
+
+        execute("customers", Customer.class);
+        execute("customers", Customer.class);
+        execute("countries", Country.class);
+        cache.invalidate(Set.of(Country.class));
+
+        var search = registry.find("cache.gets").tag("cache", SharedQueryResultsCacheMetrics.CACHE_NAME);
+        assertEquals(1., search.tag("result", "hit").functionCounter().count());
+        assertEquals(2., registry.find("cache.gets").tag("result", "miss").functionCounter().count());
+        assertEquals(1., registry.find("cache.invalidations").functionCounter().count());
+        assertEquals(0., registry.find("cache.evictions").functionCounter().count());
+        assertEquals(1., registry.find("cache.size").gauge().value());
+    }
+
+    // -- HELPER
+
+    private int execute(final String methodName, final Class<?> dependsOn) throws Exception {
+        var key = new QueryResultsCache.Key(getClass(), methodName);
+        return cache.execute(key, Set.of(dependsOn), callCount::incrementAndGet);
+    }
+
+}
@@ -0,0 +1,131 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.runtimeservices.wrapper;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.mockito.Mockito;
+
+import org.springframework.boot.test.util.TestPropertyValues;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+import org.apache.causeway.commons.internal.proxy.ProxyFactoryService;
+import org.apache.causeway.core.mmtestsupport.MetaModelContext_forTesting;
+
+import lombok.SneakyThrows;
+
+class WrapperFactoryDefaultTest_commonExecutor {
+
+    private WrapperFactoryDefault wrapperFactory;
+
+    @AfterEach
+    void tearDown() {
+        if(wrapperFactory!=null) {
+            wrapperFactory.close();
+        }
+    }
+
+    @Test
+    void byDefault_usesFixedThreadPool() {
+        wrapperFactory = wrapperFactory(TestPropertyValues.empty(), true);
+
+        assertFixedThreadPool(wrapperFactory.commonExecutorService);
+    }
+
+    @Test
+    void virtualThreadPerTask_fallsBackToFixedThreadPool_whenNotSupported() {
+        wrapperFactory = wrapperFactory(virtualThreadPerTask(), false);
+
+        assertFixedThreadPool(wrapperFactory.commonExecutorService);
+    }
+
+    @Test
+    @EnabledForJreRange(max = JRE.JAVA_20)
+    void virtualThreadPerTask_fallsBackToFixedThreadPool_onJavaRuntimePredatingVirtualThreads() {
+        wrapperFactory = wrapperFactory(virtualThreadPerTask(), true);
+
+        assertFixedThreadPool(wrapperFactory.commonExecutorService);
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    @SneakyThrows
+    void virtualThreadPerTask_runsOnVirtualThreads_whenSupported() {
+        wrapperFactory = wrapperFactory(virtualThreadPerTask(), true);
+
+        var thread = wrapperFactory.commonExecutorService.submit(Thread::currentThread).get();
+
+        // looked up reflectively, as we compile against a Java release that predates virtual threads
+        assertThat(Thread.class.getMethod("isVirtual").invoke(thread), is(true));
+    }
+
+    // -- HELPER
+
+    private static TestPropertyValues virtualThreadPerTask() {
+        return TestPropertyValues.of(
+                "causeway.core.runtime-services.wrapper-factory.common-executor=VIRTUAL_THREAD_PER_TASK");
+    }
+
+    private static WrapperFactoryDefault wrapperFactory(
+            final TestPropertyValues testPropertyValues,
+            final boolean virtualThreadsSupported) {
+
+        var mmc = MetaModelContext_forTesting.builder()
+                .testPropertyValues(testPropertyValues)
+                .build();
+
+        var wrapperFactory = new WrapperFactoryDefault() {
+
+            @Override
+            public void init() {
+                this.metaModelContext = mmc;
+                this.proxyFactoryService = Mockito.mock(ProxyFactoryService.class);
+                super.init();
+            }
+
+            @Override
+            protected Optional<ExecutorService> newVirtualThreadPerTaskExecutor() {
+                return virtualThreadsSupported
+                        ? super.newVirtualThreadPerTaskExecutor()
+                        : Optional.empty();
+            }
+        };
+        wrapperFactory.init();
+        return wrapperFactory;
+    }
+
+    private static void assertFixedThreadPool(final ExecutorService executorService) {
+        assertThat(executorService, instanceOf(ThreadPoolExecutor.class));
+        var poolSize = ((ThreadPoolExecutor) executorService).getCorePoolSize();
+        assertThat(poolSize, greaterThanOrEqualTo(2));
+        assertThat(poolSize, lessThanOrEqualTo(4));
+    }
+
+}
@@ -151,6 +151,9 @@ public static class Nq {
 
         public static final String FIND_BACKGROUND_AND_NOT_YET_STARTED  = LOGICAL_TYPE_NAME + ".findBackgroundAndNotYetStarted";
         public static final String FIND_RECENT_BACKGROUND_BY_TARGET     = LOGICAL_TYPE_NAME + ".findRecentBackgroundByTarget";
+        public static final String FIND_BACKGROUND_CLAIMABLE            = LOGICAL_TYPE_NAME + ".findBackgroundClaimable";
+        public static final String CLAIM_BACKGROUND                     = LOGICAL_TYPE_NAME + ".claimBackground";
+        public static final String RENEW_BACKGROUND_CLAIM               = LOGICAL_TYPE_NAME + ".renewBackgroundClaim";
     }
 
     @Programmatic
@@ -159,6 +159,55 @@ default List<CommandLogEntry> findForegroundSinceTimestamp(final Timestamp since
      */
     List<CommandLogEntry> findBackgroundAndNotYetStarted();
 
+    /**
+     * Variant of {@link #findBackgroundAndNotYetStarted()}, returning at most {@code limit} (the oldest)
+     * pending commands, with the limit being applied by the database.
+     */
+    List<CommandLogEntry> findBackgroundAndNotYetStarted(int limit);
+
+    /**
+     * Returns at most {@code limit} (the oldest) background commands that can be
+     * {@link #claimBackground(UUID, Timestamp, Timestamp) claimed}, that is, that are not completed and either
+     * not yet started or claimed before {@code claimExpiredBefore}.
+     *
+     * <p>
+     * Commands that have an earlier, not yet completed background command on the same target are excluded,
+     * such that commands on the same target are executed in order, even across application nodes.
+     * </p>
+     */
+    List<CommandLogEntry> findBackgroundClaimable(Timestamp claimExpiredBefore, int limit);
+
+    /**
+     * Claims the background command with given {@code interactionId} for execution,
+     * by setting its {@link CommandLogEntry#getStartedAt() startedAt}, but only if not completed and
+     * either not yet started or claimed before {@code claimExpiredBefore} (that is, its lease has expired).
+     *
+     * <p>
+     * Returns whether the claim succeeded; if it was claimed concurrently (eg. by another application node
+     * sharing the same database), then returns {@code false}.  The claim must be performed as a single
+     * conditional update, such that it is atomic.
+     * </p>
+     */
+    boolean claimBackground(UUID interactionId, Timestamp startedAt, Timestamp claimExpiredBefore);
+
+    /**
+     * Renews a {@link #claimBackground(UUID, Timestamp, Timestamp) claim} that is still held, by moving its
+     * {@link CommandLogEntry#getStartedAt() startedAt} on from {@code claimedAt} to {@code renewedAt}, but only if
+     * not completed and not claimed again since (eg. by another application node, after the lease had expired).
+     *
+     * <p>
+     * Returns whether the claim is still held.  As for claiming, the renewal must be performed as a single
+     * conditional update, such that it is atomic.
+     * </p>
+     */
+    boolean renewBackgroundClaim(UUID interactionId, Timestamp claimedAt, Timestamp renewedAt);
+
+    /**
+     * Reverts a {@link #claimBackground(UUID, Timestamp, Timestamp) claim} for a command that was not (successfully)
+     * executed, so that it is picked up again.
+     */
+    void releaseBackground(UUID interactionId);
+
     List<CommandLogEntry> findRecentBackgroundByTarget(Bookmark target);
 
     /**
@@ -286,6 +286,66 @@ public List<CommandLogEntry> findBackgroundAndNotYetStarted() {
                     Query.named(commandLogEntryClass, CommandLogEntry.Nq.FIND_BACKGROUND_AND_NOT_YET_STARTED)));
     }
 
+    @Override
+    public List<CommandLogEntry> findBackgroundAndNotYetStarted(final int limit) {
+        return _Casts.uncheckedCast(
+                repositoryService().allMatches(
+                    Query.named(commandLogEntryClass, CommandLogEntry.Nq.FIND_BACKGROUND_AND_NOT_YET_STARTED)
+                        .withLimit(limit)));
+    }
+
+    @Override
+    public List<CommandLogEntry> findBackgroundClaimable(final Timestamp claimExpiredBefore, final int limit) {
+        return _Casts.uncheckedCast(
+                repositoryService().allMatches(
+                    Query.named(commandLogEntryClass, CommandLogEntry.Nq.FIND_BACKGROUND_CLAIMABLE)
+                        .withParameter("claimExpiredBefore", claimExpiredBefore)
+                        .withLimit(limit)));
+    }
+
+    /**
+     * This default implementation reads and then updates the entry, which is atomic within a single application
+     * node (as the {@link org.apache.causeway.extensions.commandlog.applib.job.RunBackgroundCommandsJob} is not run
+     * concurrently), but not across application nodes sharing the same database; subclasses should override using
+     * a conditional update.
+     */
+    @Override
+    public boolean claimBackground(final UUID interactionId, final Timestamp startedAt, final Timestamp claimExpiredBefore) {
+        return findByInteractionId(interactionId)
+            .filter(commandLogEntry->commandLogEntry.getCompletedAt()==null)
+            .filter(commandLogEntry->commandLogEntry.getStartedAt()==null
+                    || commandLogEntry.getStartedAt().before(claimExpiredBefore))
+            .map(commandLogEntry->{
+                commandLogEntry.setStartedAt(startedAt);
+                return true;
+            })
+            .orElse(false);
+    }
+
+    /**
+     * As for {@link #claimBackground(UUID, Timestamp, Timestamp)}, this default implementation reads and then
+     * updates the entry, so is not atomic across application nodes; subclasses should override using
+     * a conditional update.
+     */
+    @Override
+    public boolean renewBackgroundClaim(final UUID interactionId, final Timestamp claimedAt, final Timestamp renewedAt) {
+        return findByInteractionId(interactionId)
+            .filter(commandLogEntry->commandLogEntry.getCompletedAt()==null)
+            .filter(commandLogEntry->claimedAt.equals(commandLogEntry.getStartedAt()))
+            .map(commandLogEntry->{
+                commandLogEntry.setStartedAt(renewedAt);
+                return true;
+            })
+            .orElse(false);
+    }
+
+    @Override
+    public void releaseBackground(final UUID interactionId) {
+        findByInteractionId(interactionId)
+            .filter(commandLogEntry->commandLogEntry.getCompletedAt()==null)
+            .ifPresent(commandLogEntry->commandLogEntry.setStartedAt(null));
+    }
+
     @Override
     public List<CommandLogEntry> findRecentBackgroundByTarget(final Bookmark target) {
         return _Casts.uncheckedCast(
@@ -18,10 +18,18 @@
  */
 package org.apache.causeway.extensions.commandlog.applib.job;
 
+import java.sql.Timestamp;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 import jakarta.inject.Inject;
@@ -32,9 +40,11 @@
 import org.quartz.PersistJobDataAfterExecution;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Propagation;
 
+import org.apache.causeway.applib.services.bookmark.Bookmark;
 import org.apache.causeway.applib.services.clock.ClockService;
 import org.apache.causeway.applib.services.command.CommandExecutorService;
 import org.apache.causeway.applib.services.iactn.InteractionContext;
@@ -61,6 +71,16 @@
  * executes them.
  *
  * <p>
+ *     By default the commands are executed one after another.  If
+ *     {@link CausewayConfiguration.Extensions.CommandLog.RunBackgroundCommands#parallelism() parallelism} is
+ *     greater than 1, then the commands are instead claimed and executed concurrently, partitioned by target.
+ *     A command is only claimed once all earlier commands on its target have completed, and a claim that is not
+ *     renewed within its
+ *     {@link CausewayConfiguration.Extensions.CommandLog.RunBackgroundCommands#claimLease() lease} is claimed again.
+ *     Claims are renewed while the job runs, and a command is only executed if its claim is still held.
+ * </p>
+ *
+ * <p>
  *     Note that although this is a component, a new instance is created for each run.  It is for this reason that
  *     the control is managed through the injected {@link BackgroundCommandsJobControl}
  * </p>
@@ -100,6 +120,12 @@ public void execute(final JobExecutionContext quartzContext) {
         var userMemento = UserMemento.ofNameAndRoleNames("scheduler_user", "admin_role");
         var interactionContext = InteractionContext.builder().user(userMemento).build();
 
+        var parallelism = causewayConfiguration.extensions().commandLog().runBackgroundCommands().parallelism();
+        if(parallelism > 1) {
+            executeConcurrently(interactionContext, parallelism);
+            return;
+        }
+
         // we obtain the list of Commands first; we use their CommandDto as it is serializable across transactions
         final Optional<List<CommandDto>> commandDtosIfAny = pendingCommandDtos(interactionContext);
 
@@ -118,19 +144,196 @@ public void execute(final JobExecutionContext quartzContext) {
                 commandResults.add(apply);
             }
 
-            // an enhancement for the listener interface would be to say whether each interaction succeeded or not
-            // whether his is relevant depends on the onFailurePolicy (if it's set to STOP_THE_LINE, then everything passed on will have succeeded)
-            var interactionIds = commandResults.stream()
-                    .filter(commandAndResult -> commandAndResult.getExecutionResult().isSuccess())  // only the successes
-                    .map(CommandAndResult::getCommandDto)
-                    .map(CommandDto::getInteractionId)
-                    .collect(Collectors.toList());
-            listeners.forEach(listener -> {
-                invokeListenerCallbackWithinTransaction(listener, interactionIds, interactionContext);
-            });
+            notifyListeners(commandResults, interactionContext);
+        });
+    }
+
+    private void notifyListeners(final List<CommandAndResult> commandResults, final InteractionContext interactionContext) {
+        // an enhancement for the listener interface would be to say whether each interaction succeeded or not
+        // whether his is relevant depends on the onFailurePolicy (if it's set to STOP_THE_LINE, then everything passed on will have succeeded)
+        var interactionIds = commandResults.stream()
+                .filter(commandAndResult -> commandAndResult.getExecutionResult().isSuccess())  // only the successes
+                .map(CommandAndResult::getCommandDto)
+                .map(CommandDto::getInteractionId)
+                .collect(Collectors.toList());
+        listeners.forEach(listener -> {
+            invokeListenerCallbackWithinTransaction(listener, interactionIds, interactionContext);
         });
     }
 
+    // -- WORKER POOL MODE
+
+    /**
+     * A claimed command, along with the key of the partition it is executed in, and the
+     * {@link CommandLogEntry#getStartedAt() startedAt} that its claim is currently held with.
+     */
+    record ClaimedCommand(CommandDto commandDto, String partitionKey, AtomicReference<Timestamp> claimedAt) {
+        static ClaimedCommand of(final CommandLogEntry commandLogEntry, final Timestamp claimedAt) {
+            // commands without a target all share the same partition, so remain ordered among themselves
+            var partitionKey = Optional.ofNullable(commandLogEntry.getTarget())
+                    .map(Bookmark::stringify)
+                    .orElse("");
+            return new ClaimedCommand(commandLogEntry.getCommandDto(), partitionKey, new AtomicReference<>(claimedAt));
+        }
+        UUID interactionId() {
+            return UUID.fromString(commandDto.getInteractionId());
+        }
+    }
+
+    /**
+     * Claims the next batch of pending commands, then executes them on a bounded pool of worker threads,
+     * partitioned by target, so that commands on the same target are executed in order.
+     *
+     * <p>
+     *     The claims of the commands not yet finished are renewed every half lease, so that these are not claimed
+     *     again by another application node while still being executed (or waiting to be).
+     * </p>
+     */
+    private void executeConcurrently(final InteractionContext interactionContext, final int parallelism) {
+
+        var claimedCommands = claimPendingCommands(interactionContext);
+        if(claimedCommands.isEmpty()) {
+            return;
+        }
+
+        var partitions = claimedCommands.stream()
+                .collect(Collectors.groupingBy(ClaimedCommand::partitionKey, LinkedHashMap::new, Collectors.toList()));
+
+        final Set<ClaimedCommand> unfinished = ConcurrentHashMap.newKeySet();
+        unfinished.addAll(claimedCommands);
+
+        var renewEveryMillis = Math.max(1L,
+                causewayConfiguration.extensions().commandLog().runBackgroundCommands().claimLease().toMillis() / 2);
+        var leaseRenewer = Executors.newSingleThreadScheduledExecutor(
+                new CustomizableThreadFactory("causeway-background-command-lease-"));
+        leaseRenewer.scheduleAtFixedRate(
+                // a claim no longer held is not renewed any further; the partition then skips its command
+                () -> unfinished.removeIf(claimedCommand -> !renewClaim(claimedCommand, interactionContext)),
+                renewEveryMillis, renewEveryMillis, TimeUnit.MILLISECONDS);
+
+        var executor = Executors.newFixedThreadPool(
+                Math.min(parallelism, partitions.size()),
+                new CustomizableThreadFactory("causeway-background-command-"));
+        try {
+            var futures = partitions.values().stream()
+                    .map(partition -> executor.submit(() -> executePartition(partition, unfinished, interactionContext)))
+                    .collect(Collectors.toList());
+
+            var commandResults = new ArrayList<CommandAndResult>();
+            for (var future : futures) {
+                commandResults.addAll(Try.call(future::get)
+                        .ifFailure(throwable -> log.error("Failed to execute partition of background commands", throwable))
+                        .getValue()
+                        .orElseGet(List::of));
+            }
+            notifyListeners(commandResults, interactionContext);
+        } finally {
+            executor.shutdown();
+            leaseRenewer.shutdownNow();
+        }
+    }
+
+    private List<ClaimedCommand> claimPendingCommands(final InteractionContext interactionContext) {
+        var runBackgroundCommands = causewayConfiguration.extensions().commandLog().runBackgroundCommands();
+        return interactionService.callAndCatch(interactionContext, () ->
+            transactionService.callTransactional(Propagation.REQUIRES_NEW, () -> {
+                var claimedAt = claimTimestamp();
+                var claimExpiredBefore = Timestamp.from(claimedAt.toInstant().minus(runBackgroundCommands.claimLease()));
+                return commandLogEntryRepository.findBackgroundClaimable(claimExpiredBefore, runBackgroundCommands.batchSize())
+                        .stream()
+                        .filter(commandLogEntry -> commandLogEntryRepository.claimBackground(
+                                commandLogEntry.getInteractionId(), claimedAt, claimExpiredBefore))
+                        .map(commandLogEntry -> ClaimedCommand.of(commandLogEntry, claimedAt))
+                        .collect(Collectors.toList());
+                })
+                .ifFailureFail()
+                .valueAsNonNullElseFail()
+            )
+            .ifFailureFail()    // we give up if unable to claim these
+            .getValue()
+            .orElseGet(List::of);
+    }
+
+    /**
+     * Executes the commands of a single partition in order, each within its own interaction, but only while their
+     * claims are still held.
+     */
+    private List<CommandAndResult> executePartition(
+            final List<ClaimedCommand> partition,
+            final Set<ClaimedCommand> unfinished,
+            final InteractionContext interactionContext) {
+        var onFailurePolicy = causewayConfiguration.extensions().commandLog().runBackgroundCommands().onFailurePolicy();
+        var commandResults = new ArrayList<CommandAndResult>();
+        try {
+            for (int i = 0; i < partition.size(); i++) {
+                var claimedCommand = partition.get(i);
+                if(!renewClaim(claimedCommand, interactionContext)) {
+                    // claimed again by another application node (the lease having expired), so is executed there;
+                    // the rest of this partition is released, to be executed after it
+                    log.warn("Lost claim on background command {}, hence skipping it", claimedCommand.interactionId());
+                    partition.subList(i + 1, partition.size())
+                        .forEach(remaining -> releaseClaim(remaining, interactionContext));
+                    break;
+                }
+                Try<?> attempt = executeCommandWithinTransaction(claimedCommand.commandDto(), interactionContext);
+                unfinished.remove(claimedCommand);
+                if(attempt.isFailure()
+                        && onFailurePolicy == CausewayConfiguration.Extensions.CommandLog.RunBackgroundCommands.OnFailurePolicy.STOP_THE_LINE) {
+                    // release the failed command and the rest of this partition, so that these are picked up again
+                    partition.subList(i, partition.size())
+                        .forEach(remaining -> releaseClaim(remaining, interactionContext));
+                    break;
+                }
+                commandResults.add(CommandAndResult.of(claimedCommand.commandDto(), attempt));
+            }
+        } finally {
+            unfinished.removeAll(partition);
+        }
+        return commandResults;
+    }
+
+    /**
+     * Renews the claim on given command, provided it is still held; the claim is then held with the new
+     * {@link CommandLogEntry#getStartedAt() startedAt}.
+     *
+     * @return whether the claim is still held
+     */
+    private boolean renewClaim(final ClaimedCommand claimedCommand, final InteractionContext interactionContext) {
+        // renewed both by the lease renewer and by the partition (prior to execution)
+        synchronized (claimedCommand) {
+            var claimedAt = claimedCommand.claimedAt().get();
+            var renewedAt = claimTimestamp();
+            var renewed = interactionService.callAndCatch(interactionContext, () ->
+                transactionService.callTransactional(Propagation.REQUIRES_NEW, () ->
+                    commandLogEntryRepository.renewBackgroundClaim(claimedCommand.interactionId(), claimedAt, renewedAt))
+                    .ifFailureFail()
+                    .valueAsNonNullElseFail()
+                )
+                .ifFailure(throwable -> log.error("Failed to renew claim on background command {}", claimedCommand.interactionId(), throwable))
+                .getValue()
+                .orElse(false);
+            if(renewed) {
+                claimedCommand.claimedAt().set(renewedAt);
+            }
+            return renewed;
+        }
+    }
+
+    /**
+     * Claims are matched on their {@link CommandLogEntry#getStartedAt() startedAt}, so are truncated to whole
+     * seconds, as (depending on the database) any fraction of a second might not be stored as is.
+     */
+    private Timestamp claimTimestamp() {
+        return Timestamp.from(clockService.getClock().nowAsInstant().truncatedTo(ChronoUnit.SECONDS));
+    }
+
+    private void releaseClaim(final ClaimedCommand claimedCommand, final InteractionContext interactionContext) {
+        interactionService.runAndCatch(interactionContext, () ->
+            transactionService.runTransactional(Propagation.REQUIRES_NEW, () ->
+                commandLogEntryRepository.releaseBackground(claimedCommand.interactionId())))
+        .ifFailure(throwable -> log.error("Failed to release claim on background command {}", claimedCommand.interactionId(), throwable));
+    }
+
     @Getter
     @RequiredArgsConstructor(staticName = "of")
     static class CommandAndResult {
@@ -139,12 +342,12 @@ static class CommandAndResult {
     }
 
     private Optional<List<CommandDto>> pendingCommandDtos(final InteractionContext interactionContext) {
+        var batchSize = causewayConfiguration.extensions().commandLog().runBackgroundCommands().batchSize();
         return interactionService.callAndCatch(interactionContext, () ->
             transactionService.callTransactional(Propagation.REQUIRES_NEW, () ->
-                commandLogEntryRepository.findBackgroundAndNotYetStarted()
+                commandLogEntryRepository.findBackgroundAndNotYetStarted(batchSize)
                         .stream()
                         .map(CommandLogEntry::getCommandDto)
-                        .limit(causewayConfiguration.extensions().commandLog().runBackgroundCommands().batchSize())
                         .collect(Collectors.toList())
                 )
                 .ifFailureFail()
@@ -28,6 +28,7 @@
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
 import org.apache.causeway.applib.services.clock.ClockService;
 import org.apache.causeway.applib.services.command.Command;
+import org.apache.causeway.applib.services.publishing.spi.AsyncTolerantSubscriber;
 import org.apache.causeway.applib.services.publishing.spi.CommandSubscriber;
 import org.apache.causeway.applib.services.repository.RepositoryService;
 import org.apache.causeway.applib.util.schema.CommandDtoUtils;
@@ -46,6 +47,12 @@
  * Implementation of {@link CommandSubscriber} responsible for persisting the {@link Command} as a
  * {@link CommandLogEntry}.
  *
+ * <p>
+ *     Is {@link AsyncTolerantSubscriber async tolerant} (unless recording support is enabled, as its guard against
+ *     pending background commands has to veto the originating interaction), so if async publishing is enabled,
+ *     entries are instead created and updated from command snapshots, once the originating transaction has committed.
+ * </p>
+ *
  * @since 2.0 {@index}
  */
 @Service
@@ -54,7 +61,7 @@
 @Qualifier("Default")
 @RequiredArgsConstructor(onConstructor_ = {@Inject})
 @Slf4j
-public class CommandSubscriberForCommandLog implements CommandSubscriber {
+public class CommandSubscriberForCommandLog implements CommandSubscriber, AsyncTolerantSubscriber {
 
     static final String LOGICAL_TYPE_NAME = CausewayModuleExtCommandLogApplib.NAMESPACE + ".CommandSubscriberForCommandLog";
 
@@ -69,6 +76,11 @@ public boolean isEnabled() {
         return causewayConfiguration.extensions().commandLog().persist().isEnabled();
     }
 
+    @Override
+    public boolean isAsyncTolerant() {
+        return causewayConfiguration.extensions().commandLog().recordingSupport() != RecordingSupport.ENABLED;
+    }
+
     @Override
     public void onReady(final Command command) {
 
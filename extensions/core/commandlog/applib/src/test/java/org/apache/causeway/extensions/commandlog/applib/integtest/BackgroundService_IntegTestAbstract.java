@@ -21,7 +21,12 @@
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -220,6 +225,109 @@ void using_background_service() {
 
     }
 
+    @SneakyThrows
+    @Test
+    void claims_are_exclusive_ordered_per_target_and_expire_after_lease() {
+
+        // given
+        removeAllCommandLogEntriesAndCounters();
+
+        // ... two background commands on the same target
+        for (int i = 0; i < 2; i++) {
+            final AtomicReference<AsyncProxy<Counter>> asyncProxyUnderTest = new AtomicReference<>();
+            transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+                var counter = bookmarkService.lookup(bookmark, Counter.class).orElseThrow();
+                asyncProxyUnderTest.set(backgroundService.execute(counter));
+            }).ifFailureFail();
+
+            asyncProxyUnderTest.get()
+                .acceptAsync(Counter::bumpUsingDeclaredAction)
+                .tryGet(5, TimeUnit.SECONDS); // wait till done
+            Thread.sleep(10); // distinct timestamps
+        }
+
+        var claimedAt = new Timestamp(System.currentTimeMillis());
+        var leaseValid = Timestamp.from(claimedAt.toInstant().minus(Duration.ofMinutes(10)));
+        var leaseExpired = Timestamp.from(claimedAt.toInstant().plusSeconds(1));
+
+        // when
+        transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+            // then only the first is claimable, as the second has to wait for it to complete
+            var claimable = commandLogEntryRepository.findBackgroundClaimable(leaseValid, 10);
+            assertThat(claimable).hasSize(1);
+            var first = claimable.get(0).getInteractionId();
+
+            assertThat(commandLogEntryRepository.claimBackground(first, claimedAt, leaseValid)).isTrue();
+            // and can be claimed only once
+            assertThat(commandLogEntryRepository.claimBackground(first, claimedAt, leaseValid)).isFalse();
+        }).ifFailureFail();
+
+        transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+            // then neither the claimed first nor the second (waiting for the first) is claimable
+            assertThat(commandLogEntryRepository.findBackgroundClaimable(leaseValid, 10)).isEmpty();
+
+            // unless the lease of the first has expired, in which case it is claimed again
+            var reclaimable = commandLogEntryRepository.findBackgroundClaimable(leaseExpired, 10);
+            assertThat(reclaimable).hasSize(1);
+            assertThat(commandLogEntryRepository.claimBackground(
+                    reclaimable.get(0).getInteractionId(), leaseExpired, leaseExpired)).isTrue();
+        }).ifFailureFail();
+    }
+
+    @SneakyThrows
+    @Test
+    void claims_are_renewed_only_while_still_held() {
+
+        // given
+        removeAllCommandLogEntriesAndCounters();
+
+        // ... a background command
+        final AtomicReference<AsyncProxy<Counter>> asyncProxyUnderTest = new AtomicReference<>();
+        transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+            var counter = bookmarkService.lookup(bookmark, Counter.class).orElseThrow();
+            asyncProxyUnderTest.set(backgroundService.execute(counter));
+        }).ifFailureFail();
+
+        asyncProxyUnderTest.get()
+            .acceptAsync(Counter::bumpUsingDeclaredAction)
+            .tryGet(5, TimeUnit.SECONDS); // wait till done
+
+        var claimedAt = Timestamp.from(Instant.now().truncatedTo(ChronoUnit.SECONDS));
+        var renewedAt = Timestamp.from(claimedAt.toInstant().plusSeconds(1));
+        var leaseValid = Timestamp.from(claimedAt.toInstant().minus(Duration.ofMinutes(10)));
+        var leaseExpired = Timestamp.from(claimedAt.toInstant().plusSeconds(5));
+        var reclaimedAt = Timestamp.from(claimedAt.toInstant().plusSeconds(6));
+
+        final AtomicReference<UUID> interactionIdRef = new AtomicReference<>();
+
+        // when
+        transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+            var claimable = commandLogEntryRepository.findBackgroundClaimable(leaseValid, 10);
+            assertThat(claimable).hasSize(1);
+            interactionIdRef.set(claimable.get(0).getInteractionId());
+            assertThat(commandLogEntryRepository.claimBackground(interactionIdRef.get(), claimedAt, leaseValid)).isTrue();
+        }).ifFailureFail();
+
+        var interactionId = interactionIdRef.get();
+        transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+            // then can only be renewed by the holder of the claim
+            assertThat(commandLogEntryRepository.renewBackgroundClaim(interactionId, leaseValid, renewedAt)).isFalse();
+            assertThat(commandLogEntryRepository.renewBackgroundClaim(interactionId, claimedAt, renewedAt)).isTrue();
+
+            // and once renewed, is no longer claimable where the original claim would have expired
+            assertThat(commandLogEntryRepository.findBackgroundClaimable(
+                    Timestamp.from(renewedAt.toInstant().minusMillis(1)), 10)).isEmpty();
+        }).ifFailureFail();
+
+        transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+            // when the lease expires, and the command is claimed again (eg. by another node)
+            assertThat(commandLogEntryRepository.claimBackground(interactionId, reclaimedAt, leaseExpired)).isTrue();
+
+            // then the original claim can no longer be renewed
+            assertThat(commandLogEntryRepository.renewBackgroundClaim(interactionId, renewedAt, leaseExpired)).isFalse();
+        }).ifFailureFail();
+    }
+
     private void removeAllCommandLogEntriesAndCounters() {
         transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
             commandLogEntryRepository.removeAll();
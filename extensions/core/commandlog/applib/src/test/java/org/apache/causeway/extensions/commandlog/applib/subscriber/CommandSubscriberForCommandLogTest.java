@@ -18,6 +18,7 @@
  */
 package org.apache.causeway.extensions.commandlog.applib.subscriber;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
@@ -171,6 +172,16 @@ void disabledCommandLogSkipsPendingBackgroundGate() {
         verify(repository, never()).findBackgroundAndNotYetStarted();
     }
 
+    @Test
+    void asyncTolerantUnlessRecordingSupportEnabled() {
+        var repository = mock(CommandLogEntryRepository.class);
+
+        assertThat(subscriber(repository, new CommandLogPauseState(), RecordingSupport.DISABLED, true)
+                .isAsyncTolerant()).isTrue();
+        assertThat(subscriber(repository, new CommandLogPauseState(), RecordingSupport.ENABLED, true)
+                .isAsyncTolerant()).isFalse();
+    }
+
     private CommandSubscriberForCommandLog subscriber(
             final CommandLogEntryRepository commandLogEntryRepository,
             final CommandLogPauseState commandLogPauseState) {
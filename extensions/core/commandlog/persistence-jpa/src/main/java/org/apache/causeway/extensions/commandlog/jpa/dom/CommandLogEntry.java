@@ -48,7 +48,6 @@
 import org.apache.causeway.persistence.jpa.applib.integration.CausewayEntityListener;
 import org.apache.causeway.persistence.jpa.integration.typeconverters.applib.CausewayBookmarkConverter;
 import org.apache.causeway.persistence.jpa.integration.typeconverters.java.util.JavaUtilUuidConverter;
-import org.apache.causeway.persistence.jpa.integration.typeconverters.schema.v2.CausewayCommandDtoConverter;
 import org.apache.causeway.schema.cmd.v2.CommandDto;
 
 import lombok.Getter;
@@ -194,6 +193,35 @@
                   + " WHERE cl.executeIn = org.apache.causeway.extensions.commandlog.applib.dom.ExecuteIn.BACKGROUND "
                   + "   AND cl.target    = :target "
                   + " ORDER BY cl.timestamp DESC"),
+    @NamedQuery(
+            name  = Nq.FIND_BACKGROUND_CLAIMABLE,
+            query = "SELECT cl "
+                  + "  FROM CommandLogEntry cl "
+                  + " WHERE cl.executeIn = org.apache.causeway.extensions.commandlog.applib.dom.ExecuteIn.BACKGROUND "
+                  + "   AND cl.completedAt is null "
+                  + "   AND (cl.startedAt is null OR cl.startedAt < :claimExpiredBefore) "
+                  + "   AND NOT EXISTS ("
+                  + "       SELECT prev "
+                  + "         FROM CommandLogEntry prev "
+                  + "        WHERE prev.executeIn = org.apache.causeway.extensions.commandlog.applib.dom.ExecuteIn.BACKGROUND "
+                  + "          AND (prev.target = cl.target OR (prev.target is null AND cl.target is null)) "
+                  + "          AND prev.timestamp < cl.timestamp "
+                  + "          AND prev.completedAt is null) "
+                  + " ORDER BY cl.timestamp ASC"),
+    @NamedQuery(
+            name  = Nq.CLAIM_BACKGROUND,
+            query = "UPDATE CommandLogEntry cl "
+                  + "   SET cl.startedAt = :startedAt "
+                  + " WHERE cl.pk.interactionId = :interactionId "
+                  + "   AND cl.completedAt is null "
+                  + "   AND (cl.startedAt is null OR cl.startedAt < :claimExpiredBefore)"),
+    @NamedQuery(
+            name  = Nq.RENEW_BACKGROUND_CLAIM,
+            query = "UPDATE CommandLogEntry cl "
+                  + "   SET cl.startedAt = :renewedAt "
+                  + " WHERE cl.pk.interactionId = :interactionId "
+                  + "   AND cl.completedAt is null "
+                  + "   AND cl.startedAt = :claimedAt"),
     @NamedQuery(
             name  = Nq.FIND_MOST_RECENT_REPLAYED,
             query = "SELECT cl "
@@ -319,7 +347,7 @@ public void setInteractionId(final UUID interactionId) {
     @Getter @Setter
     private String logicalMemberIdentifier;
 
-    @Convert(converter = CausewayCommandDtoConverter.class)
+    @Convert(converter = CommandLogEntryCommandDtoConverter.class)
     @Lob @Basic(fetch = FetchType.LAZY)
     @Column(nullable = CommandDtoAnnot.NULLABLE, columnDefinition = "CLOB")
     @CommandDtoAnnot
@@ -18,14 +18,24 @@
  */
 package org.apache.causeway.extensions.commandlog.jpa.dom;
 
+import java.sql.Timestamp;
+import java.util.UUID;
+
+import jakarta.inject.Inject;
 import jakarta.inject.Named;
 
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.applib.services.xactn.TransactionService;
+import org.apache.causeway.applib.util.schema.CommandDtoUtils;
+import org.apache.causeway.applib.util.schema.DtoEncoding;
+import org.apache.causeway.extensions.commandlog.applib.dom.CommandLogEntry.Nq;
 import org.apache.causeway.extensions.commandlog.applib.dom.CommandLogEntryRepositoryAbstract;
 import org.apache.causeway.extensions.commandlog.jpa.CausewayModuleExtCommandLogPersistenceJpa;
+import org.apache.causeway.persistence.jpa.applib.services.JpaSupportService;
+import org.apache.causeway.persistence.jpa.integration.services.JpaKeysetBatchRewrite;
 
 /**
  * Provides supporting functionality for querying and persisting
@@ -44,4 +54,59 @@ public CommandLogEntryRepository() {
         super(CommandLogEntry.class);
     }
 
+    @Inject JpaSupportService jpaSupportService;
+    @Inject TransactionService transactionService;
+
+    /**
+     * Claims using a single conditional {@code UPDATE}, which is atomic even across application nodes.
+     */
+    @Override
+    public boolean claimBackground(final UUID interactionId, final Timestamp startedAt, final Timestamp claimExpiredBefore) {
+        var updated = jpaSupportService.getEntityManagerElseFail(CommandLogEntry.class)
+                .createNamedQuery(Nq.CLAIM_BACKGROUND)
+                .setParameter("interactionId", interactionId)
+                .setParameter("startedAt", startedAt)
+                .setParameter("claimExpiredBefore", claimExpiredBefore)
+                .executeUpdate();
+        return updated == 1;
+    }
+
+    /**
+     * Renews using a single conditional {@code UPDATE}, which is atomic even across application nodes.
+     */
+    @Override
+    public boolean renewBackgroundClaim(final UUID interactionId, final Timestamp claimedAt, final Timestamp renewedAt) {
+        var updated = jpaSupportService.getEntityManagerElseFail(CommandLogEntry.class)
+                .createNamedQuery(Nq.RENEW_BACKGROUND_CLAIM)
+                .setParameter("interactionId", interactionId)
+                .setParameter("claimedAt", claimedAt)
+                .setParameter("renewedAt", renewedAt)
+                .executeUpdate();
+        return updated == 1;
+    }
+
+    /**
+     * Rewrites the {@link CommandLogEntry#getCommandDto() CommandDto} of all persisted entries, so that they are stored using
+     * the currently configured {@link DtoEncoding}, in batches of given {@code batchSize}, as per
+     * {@link JpaKeysetBatchRewrite}.
+     * Intended as a one-off migration after changing the encoding; entries are readable irrespective of
+     * their encoding, so this is optional.
+     *
+     * @return the number of entries rewritten
+     */
+    public int reencodeDtos(final int batchSize) {
+        var dtoMapper = CommandDtoUtils.dtoMapper();
+        return JpaKeysetBatchRewrite.<CommandLogEntry, UUID>rewriteAll(
+                transactionService, jpaSupportService, CommandLogEntry.class, batchSize,
+                (em, after)->after == null
+                    ? em.createQuery(
+                        "SELECT cl FROM CommandLogEntry cl ORDER BY cl.pk.interactionId", CommandLogEntry.class)
+                    : em.createQuery(
+                        "SELECT cl FROM CommandLogEntry cl WHERE cl.pk.interactionId > :after ORDER BY cl.pk.interactionId", CommandLogEntry.class)
+                        .setParameter("after", after),
+                CommandLogEntry::getInteractionId,
+                // a cloned DTO is never equal to the loaded one, so forces the column to be written again
+                entry->entry.setCommandDto(dtoMapper.clone(entry.getCommandDto())));
+    }
+
 }
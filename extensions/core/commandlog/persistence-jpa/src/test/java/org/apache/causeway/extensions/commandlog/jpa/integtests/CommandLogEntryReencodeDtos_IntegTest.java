@@ -0,0 +1,173 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.commandlog.jpa.integtests;
+
+import java.sql.Clob;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.applib.services.iactn.InteractionService;
+import org.apache.causeway.applib.services.repository.RepositoryService;
+import org.apache.causeway.applib.services.xactn.TransactionService;
+import org.apache.causeway.applib.util.schema.CommandDtoUtils;
+import org.apache.causeway.applib.util.schema.DtoEncoding;
+import org.apache.causeway.extensions.commandlog.applib.dom.ExecuteIn;
+import org.apache.causeway.extensions.commandlog.jpa.dom.CommandLogEntry;
+import org.apache.causeway.extensions.commandlog.jpa.dom.CommandLogEntryRepository;
+import org.apache.causeway.persistence.jpa.applib.services.JpaSupportService;
+import org.apache.causeway.schema.cmd.v2.CommandDto;
+import org.apache.causeway.testing.integtestsupport.applib.CausewayIntegrationTestAbstract;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(
+        classes = AppManifest.class,
+        properties = "causeway.extensions.command-log.dto-encoding=COMPRESSED_XML")
+@ActiveProfiles("test")
+class CommandLogEntryReencodeDtos_IntegTest extends CausewayIntegrationTestAbstract {
+
+    @Inject CommandLogEntryRepository repository;
+    @Inject InteractionService interactionService;
+    @Inject JpaSupportService jpaSupportService;
+    @Inject RepositoryService repositoryService;
+    @Inject TransactionService transactionService;
+
+    @BeforeEach
+    void setUp() {
+        interactionService.nextInteraction();
+        removeAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        removeAll();
+    }
+
+    @Test
+    void converter_writesConfiguredEncoding() {
+        var interactionId = persist("sven");
+
+        assertThat(DtoEncoding.detect(storedCommandDto(interactionId))).isEqualTo(DtoEncoding.COMPRESSED_XML);
+        assertThat(usernameOf(interactionId)).isEqualTo("sven");
+    }
+
+    @Test
+    void reencodeDtos_rewritesAllEntries_inBatches() {
+        var interactionIds = List.of(persist("a"), persist("b"), persist("c"), persist("d"), persist("e"));
+        // as if written before the encoding was switched
+        interactionIds.forEach(this::storeAsPlainXml);
+        interactionIds.forEach(interactionId->
+            assertThat(DtoEncoding.detect(storedCommandDto(interactionId))).isEqualTo(DtoEncoding.XML));
+
+        // 5 entries in batches of 2, so the last batch is partial
+        var rewritten = repository.reencodeDtos(2);
+
+        assertThat(rewritten).isEqualTo(5);
+        interactionIds.forEach(interactionId->
+            assertThat(DtoEncoding.detect(storedCommandDto(interactionId))).isEqualTo(DtoEncoding.COMPRESSED_XML));
+        assertThat(interactionIds.stream().map(this::usernameOf))
+            .containsExactly("a", "b", "c", "d", "e");
+    }
+
+    @Test
+    void reencodeDtos_ofEmptyTable() {
+        assertThat(repository.reencodeDtos(10)).isZero();
+    }
+
+    // -- HELPER
+
+    private void removeAll() {
+        transactionService.runTransactional(Propagation.REQUIRES_NEW, () ->
+            repositoryService.removeAll(CommandLogEntry.class))
+        .ifFailureFail();
+    }
+
+    private UUID persist(final String username) {
+        var interactionId = UUID.randomUUID();
+        transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+            var commandDto = new CommandDto();
+            commandDto.setInteractionId(interactionId.toString());
+            commandDto.setUsername(username);
+
+            var entry = new CommandLogEntry();
+            entry.setInteractionId(interactionId);
+            entry.setUsername(username);
+            entry.setTimestamp(Timestamp.from(Instant.parse("2026-08-05T10:00:00Z")));
+            entry.setTarget(Bookmark.forLogicalTypeNameAndIdentifier("demo.Customer", "1"));
+            entry.setExecuteIn(ExecuteIn.FOREGROUND);
+            entry.setLogicalMemberIdentifier("demo.Customer#update");
+            entry.setCommandDto(commandDto);
+            repository.persist(entry);
+        }).ifFailureFail();
+        return interactionId;
+    }
+
+    private String usernameOf(final UUID interactionId) {
+        return transactionService.callTransactional(Propagation.REQUIRES_NEW, () ->
+            repository.findByInteractionId(interactionId)
+                .map(entry->entry.getCommandDto())
+                .map(CommandDto::getUsername)
+                .orElse(null))
+        .ifFailureFail()
+        .valueAsNullableElseFail();
+    }
+
+    private String storedCommandDto(final UUID interactionId) {
+        return transactionService.callTransactional(Propagation.REQUIRES_NEW, () -> {
+            var value = jpaSupportService.getEntityManagerElseFail(CommandLogEntry.class)
+                .createNativeQuery(
+                    "SELECT commandDto FROM causewayExtCommandLog.CommandLogEntry WHERE interactionId = ?1")
+                .setParameter(1, interactionId.toString())
+                .getSingleResult();
+            return value instanceof Clob clob
+                ? clob.getSubString(1, (int) clob.length())
+                : (String) value;
+        })
+        .ifFailureFail()
+        .valueAsNonNullElseFail();
+    }
+
+    private void storeAsPlainXml(final UUID interactionId) {
+        var commandDto = new CommandDto();
+        commandDto.setInteractionId(interactionId.toString());
+        commandDto.setUsername(usernameOf(interactionId));
+        transactionService.runTransactional(Propagation.REQUIRES_NEW, () ->
+            jpaSupportService.getEntityManagerElseFail(CommandLogEntry.class)
+                .createNativeQuery(
+                    "UPDATE causewayExtCommandLog.CommandLogEntry SET commandDto = ?1 WHERE interactionId = ?2")
+                .setParameter(1, DtoEncoding.XML.encode(CommandDtoUtils.dtoMapper(), commandDto))
+                .setParameter(2, interactionId.toString())
+                .executeUpdate())
+        .ifFailureFail();
+    }
+
+}
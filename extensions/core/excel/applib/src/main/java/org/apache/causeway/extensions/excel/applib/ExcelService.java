@@ -20,6 +20,7 @@
 
 import java.io.InputStream;
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.apache.causeway.applib.exceptions.RecoverableException;
 import org.apache.causeway.applib.value.Blob;
@@ -89,6 +90,22 @@ <T> List<T> fromExcel(Blob excelBlob, Class<T> cls, String sheetName, Mode mode)
 
     List<List<?>> fromExcel(Blob excelBlob, List<WorksheetSpec> worksheetSpecs) throws ExcelService.Exception;
 
+    /**
+     * As {@link #fromExcel(Blob, WorksheetSpec)}, but rather than returning the objects as a list, hands them over to
+     * the consumer one row at a time, while the sheet is still being read.
+     *
+     * <p>
+     *     <code>.xlsx</code> workbooks are read using a streaming parser, so that (provided the consumer does not
+     *     hold on to them) very large sheets can be imported without holding either the workbook or all of the
+     *     imported objects in memory.  The consumer is a natural place to persist the objects, and to periodically
+     *     flush or commit.
+     * </p>
+     *
+     * @return the number of objects handed over to the consumer
+     */
+    <T> int fromExcel(Blob excelBlob, WorksheetSpec worksheetSpec, Consumer<? super T> consumer)
+            throws ExcelService.Exception;
+
     List<List<?>> fromExcel(Blob excelBlob, WorksheetSpec.Matcher matcher) throws ExcelService.Exception;
 
     List<List<?>> fromExcel(Blob excelBlob, WorksheetSpec.Matcher matcher, WorksheetSpec.Sequencer sequencer)
@@ -18,11 +18,10 @@
  */
 package org.apache.causeway.extensions.excel.applib.service;
 
-import java.io.ByteArrayInputStream;
-import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
 import org.apache.causeway.applib.services.inject.ServiceInjector;
@@ -32,8 +31,6 @@
 import org.apache.causeway.extensions.excel.applib.Mode;
 import org.apache.causeway.extensions.excel.applib.WorksheetContent;
 import org.apache.causeway.extensions.excel.applib.WorksheetSpec;
-import org.apache.poi.ss.usermodel.Sheet;
-import org.apache.poi.ss.usermodel.Workbook;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
@@ -177,6 +174,14 @@ public List<List<?>> fromExcel(
         return helper.fromExcel(excelBlob, worksheetSpecs);
     }
 
+    @Override
+    public <T> int fromExcel(
+            final Blob excelBlob,
+            final WorksheetSpec worksheetSpec,
+            final Consumer<? super T> consumer) throws ExcelServiceDefault.Exception {
+        return helper.fromExcel(excelBlob, worksheetSpec, consumer);
+    }
+
     @Override
     public List<List<?>> fromExcel(
             final Blob excelBlob,
@@ -192,19 +197,11 @@ public List<List<?>> fromExcel(
             final WorksheetSpec.Sequencer sequencer) throws ExcelServiceDefault.Exception {
 
         List<WorksheetSpec> worksheetSpecs = new ArrayList<>();
-        try (ByteArrayInputStream bais = new ByteArrayInputStream(excelBlob.bytes())) {
-            try (final Workbook wb = org.apache.poi.ss.usermodel.WorkbookFactory.create(bais)) {
-                final int numberOfSheets = wb.getNumberOfSheets();
-                for (int i = 0; i < numberOfSheets; i++) {
-                    final Sheet sheet = wb.getSheetAt(i);
-                    WorksheetSpec worksheetSpec = matcher.fromSheet(sheet.getSheetName());
-                    if(worksheetSpec != null) {
-                        worksheetSpecs.add(worksheetSpec);
-                    }
-                }
+        for (final String sheetName : helper.sheetNames(excelBlob)) {
+            WorksheetSpec worksheetSpec = matcher.fromSheet(sheetName);
+            if(worksheetSpec != null) {
+                worksheetSpecs.add(worksheetSpec);
             }
-        } catch (IOException e) {
-            throw new ExcelServiceDefault.Exception(e);
         }
 
         if(sequencer != null) {
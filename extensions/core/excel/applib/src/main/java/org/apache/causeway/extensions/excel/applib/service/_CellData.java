@@ -0,0 +1,126 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.excel.applib.service;
+
+import java.util.Date;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.Comment;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.usermodel.RichTextString;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Detached value of a single spreadsheet cell, as read either from a workbook held in memory
+ * or from a sheet that is being streamed by {@link _StreamingSheetReader}.
+ * <p>
+ * Formula cells are represented by their cached result.
+ */
+final class _CellData {
+
+    private final int columnIndex;
+    private final CellType cellType;
+    private final double numericValue;
+    private final @Nullable String stringValue;
+    private final boolean date1904;
+    private final @Nullable String commentText;
+
+    _CellData(
+            final int columnIndex,
+            final CellType cellType,
+            final double numericValue,
+            final @Nullable String stringValue,
+            final boolean date1904,
+            final @Nullable String commentText) {
+        this.columnIndex = columnIndex;
+        this.cellType = cellType;
+        this.numericValue = numericValue;
+        this.stringValue = stringValue;
+        this.date1904 = date1904;
+        this.commentText = commentText;
+    }
+
+    static _CellData of(final Cell cell, final boolean date1904) {
+        final CellType cellType = cell.getCellType() == CellType.FORMULA
+                ? cell.getCachedFormulaResultType()
+                : cell.getCellType();
+        final Comment comment = cell.getCellComment();
+        final RichTextString commentRts = comment != null ? comment.getString() : null;
+        final String commentText = commentRts != null ? commentRts.getString() : null;
+        return switch (cellType) {
+            case NUMERIC -> new _CellData(cell.getColumnIndex(), cellType, cell.getNumericCellValue(), null, date1904, commentText);
+            case BOOLEAN -> new _CellData(cell.getColumnIndex(), cellType, cell.getBooleanCellValue() ? 1 : 0, null, date1904, commentText);
+            case STRING -> new _CellData(cell.getColumnIndex(), cellType, 0, cell.getStringCellValue(), date1904, commentText);
+            default -> new _CellData(cell.getColumnIndex(), cellType, 0, null, date1904, commentText);
+        };
+    }
+
+    int getColumnIndex() {
+        return columnIndex;
+    }
+
+    CellType getCellType() {
+        return cellType;
+    }
+
+    boolean getBooleanCellValue() {
+        return switch (cellType) {
+            case BOOLEAN -> numericValue != 0;
+            case BLANK -> false;
+            default -> throw typeMismatch(CellType.BOOLEAN);
+        };
+    }
+
+    double getNumericCellValue() {
+        return switch (cellType) {
+            case NUMERIC -> numericValue;
+            case BLANK -> 0.0;
+            default -> throw typeMismatch(CellType.NUMERIC);
+        };
+    }
+
+    @Nullable Date getDateCellValue() {
+        return switch (cellType) {
+            case NUMERIC -> DateUtil.getJavaDate(numericValue, date1904);
+            case BLANK -> null;
+            default -> throw typeMismatch(CellType.NUMERIC);
+        };
+    }
+
+    String getStringCellValue() {
+        return switch (cellType) {
+            case STRING -> stringValue;
+            case BLANK -> "";
+            default -> throw typeMismatch(CellType.STRING);
+        };
+    }
+
+    @Nullable String getCommentText() {
+        return commentText;
+    }
+
+    // -- HELPER
+
+    private IllegalStateException typeMismatch(final CellType expectedType) {
+        return new IllegalStateException(String.format(
+                "Cannot get a %s value from a %s cell", expectedType, cellType));
+    }
+
+}
@@ -53,6 +53,7 @@
     private final CellStyle dateCellStyle;
     private final CellStyle defaultCellStyle;
     private final BookmarkService bookmarkService;
+    private CellStyle wrappedCellStyle;
 
     _CellMarshaller(
             final BookmarkService bookmarkService,
@@ -239,19 +240,26 @@ private boolean setCellValue(final Cell cell, final Object valueAsObj) {
         return false;
     }
 
-    private static void setCellValueForString(final Cell cell, final String objectAsStr, final CellStyle cellStyle) {
+    private void setCellValueForString(final Cell cell, final String objectAsStr, final CellStyle cellStyle) {
         // char 10 is for linebreak within a cell; to display correctly wrap text needs to be set to true
         if (objectAsStr.contains(Character.toString((char)10))) {
-            CellStyle wrappedCellStyle = cell.getSheet().getWorkbook().createCellStyle();
-            wrappedCellStyle.setVerticalAlignment(VerticalAlignment.TOP);
-            wrappedCellStyle.setWrapText(true);
-            cell.setCellStyle(wrappedCellStyle);
+            cell.setCellStyle(wrappedCellStyle(cell));
         } else {
             cell.setCellStyle(cellStyle);
         }
         cell.setCellValue(objectAsStr);
     }
 
+    // the workbook holds a limited number of cell styles, so share a single one for all multi-line cells
+    private CellStyle wrappedCellStyle(final Cell cell) {
+        if (wrappedCellStyle == null) {
+            wrappedCellStyle = cell.getSheet().getWorkbook().createCellStyle();
+            wrappedCellStyle.setVerticalAlignment(VerticalAlignment.TOP);
+            wrappedCellStyle.setWrapText(true);
+        }
+        return wrappedCellStyle;
+    }
+
     private void setCellValueForBookmark(final Cell cell, final Object propertyAsObject, final String propertyAsTitle, final CellStyle cellStyle) {
         Bookmark bookmark = bookmarkService.bookmarkForElseFail(propertyAsObject);
         setCellComment(cell, bookmark.toString());
@@ -296,11 +304,11 @@ private static void setCellValueForDate(final Cell cell, final Date date, final
         cell.setCellStyle(dateCellStyle);
     }
 
-    String getStringCellValue(final Cell cell) {
+    String getStringCellValue(final _CellData cell) {
         return getCellValue(cell, String.class);
     }
 
-    Object getCellValue(final Cell cell, final OneToOneAssociation otoa) {
+    Object getCellValue(final _CellData cell, final OneToOneAssociation otoa) {
 
         final CellType cellType = cell.getCellType();
 
@@ -325,7 +333,7 @@ Object getCellValue(final Cell cell, final OneToOneAssociation otoa) {
     }
 
     @SuppressWarnings("unchecked")
-    private <T> T getCellValue(final Cell cell, final Class<T> requiredType) {
+    private <T> T getCellValue(final _CellData cell, final Class<T> requiredType) {
         final CellType cellType = cell.getCellType();
 
         if(requiredType == boolean.class || requiredType == Boolean.class) {
@@ -483,16 +491,11 @@ private <T> T getCellValue(final Cell cell, final Class<T> requiredType) {
         return null;
     }
 
-    private Object getCellComment(final Cell cell, final Class<?> requiredType) {
-        final Comment comment = cell.getCellComment();
-        if(comment == null) {
-            return null;
-        }
-        final RichTextString commentRts = comment.getString();
-        if(commentRts == null) {
+    private Object getCellComment(final _CellData cell, final Class<?> requiredType) {
+        final String bookmarkStr = cell.getCommentText();
+        if(bookmarkStr == null) {
             return null;
         }
-        final String bookmarkStr = commentRts.getString();
         final Bookmark bookmark = Bookmark.parse(bookmarkStr).orElse(null);
         return bookmarkService.lookup(bookmark, requiredType).orElse(null);
     }
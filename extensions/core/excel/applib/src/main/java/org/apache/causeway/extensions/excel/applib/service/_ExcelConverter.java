@@ -31,6 +31,7 @@
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -60,18 +61,20 @@
 import org.apache.causeway.extensions.excel.applib.annotation.PivotDecoration;
 import org.apache.causeway.extensions.excel.applib.annotation.PivotRow;
 import org.apache.causeway.extensions.excel.applib.annotation.PivotValue;
-import org.apache.causeway.extensions.excel.applib.util.PivotUtils;
 import org.apache.causeway.extensions.excel.applib.util.SheetPivoter;
-import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.poifs.filesystem.FileMagic;
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.CellStyle;
 import org.apache.poi.ss.usermodel.CellType;
 import org.apache.poi.ss.usermodel.CreationHelper;
+import org.apache.poi.ss.usermodel.Date1904Support;
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.VerticalAlignment;
 import org.apache.poi.ss.usermodel.Workbook;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.ss.usermodel.WorkbookFactory;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.jspecify.annotations.Nullable;
 
 import lombok.ToString;
@@ -117,7 +120,7 @@ public Row newRow() {
 
     // //////////////////////////////////////
 
-    File appendSheet(final List<WorksheetContent> worksheetContents, final XSSFWorkbook workbook) throws IOException {
+    File appendSheet(final List<WorksheetContent> worksheetContents, final Workbook workbook) throws IOException {
         final Set<String> worksheetNames = worksheetContents.stream()
                 .map(x -> x.getSpec().getSheetName())
                 .collect(Collectors.toSet());
@@ -136,7 +139,7 @@ File appendSheet(final List<WorksheetContent> worksheetContents, final XSSFWorkb
 
             for (WorksheetContent worksheetContent : worksheetContents) {
                 final WorksheetSpec spec = worksheetContent.getSpec();
-                appendSheet(workbook, worksheetContent.getDomainObjects(), spec.getFactory(), spec.getSheetName());
+                appendSheet(workbook, worksheetContent.getDomainObjects(), spec.getFactory(), spec.getSheetName(), null);
             }
             workbook.write(fos);
         }
@@ -144,32 +147,49 @@ File appendSheet(final List<WorksheetContent> worksheetContents, final XSSFWorkb
     }
 
     private Sheet appendSheet(
-            final XSSFWorkbook workbook,
+            final Workbook workbook,
             final List<?> domainObjects,
             final WorksheetSpec.RowFactory<?> factory,
-            final String sheetName) throws IOException {
+            final String sheetName,
+            final @Nullable Consumer<Row> rowListener) throws IOException {
+
+        final Sheet sheet = workbook.createSheet(sheetName);
 
-        final List<ManagedObject> adapters = domainObjects.stream()
-                .map(objectManager::adapt)
-                .collect(Collectors.toList());
+        appendRows(workbook, new RowFactory(sheet), domainObjects, factory.getCls(), rowListener);
+
+        // freeze panes
+        sheet.createFreezePane(0, 1);
+
+        return sheet;
+    }
+
+    /**
+     * Appends a header row and a detail row per domain object; the domain objects are adapted one at a time,
+     * so that rows already flushed by a streaming workbook do not keep their adapters reachable.
+     * <p>
+     * The optional row listener is passed each row once written, that is, before a streaming workbook may flush it.
+     */
+    private void appendRows(
+            final Workbook workbook,
+            final RowFactory rowFactory,
+            final List<?> domainObjects,
+            final Class<?> cls,
+            final @Nullable Consumer<Row> rowListener) {
 
         final List<OneToOneAssociation> propertyList = new ArrayList<>();
 
-        specificationLoader.specForType(factory.getCls())
+        specificationLoader.specForType(cls)
         .ifPresent(spec->spec.streamProperties(MixedIn.INCLUDED)
                 .filter(VISIBLE_PROPERTIES)
                 .forEach(propertyList::add));
 
         List<ObjectAssociation> annotatedAsHyperlink = new ArrayList<>();
-        for (Field f : fieldsAnnotatedWith(factory.getCls(), HyperLink.class)){
+        for (Field f : fieldsAnnotatedWith(cls, HyperLink.class)){
             propertyList.stream()
                     .filter(oa -> Objects.equals(oa.getId(), f.getName()))
                     .forEach(annotatedAsHyperlink::add);
         }
 
-        final Sheet sheet = workbook.createSheet(sheetName);
-
-        final RowFactory rowFactory = new RowFactory(sheet);
         final Row headerRow = rowFactory.newRow();
 
         // header row
@@ -178,11 +198,15 @@ private Sheet appendSheet(
             final Cell cell = headerRow.createCell(i++);
             cell.setCellValue(property.getCanonicalFriendlyName());
         }
+        if (rowListener != null) {
+            rowListener.accept(headerRow);
+        }
 
         final _CellMarshaller cellMarshaller = newCellMarshaller(workbook);
 
         // detail rows
-        for (final ManagedObject objectAdapter : adapters) {
+        for (final Object domainObject : domainObjects) {
+            final ManagedObject objectAdapter = objectManager.adapt(domainObject);
             final Row detailRow = rowFactory.newRow();
             i = 0;
             for (var property : propertyList) {
@@ -193,12 +217,10 @@ private Sheet appendSheet(
                     cellMarshaller.setCellValue(objectAdapter, property, cell);
                 }
             }
+            if (rowListener != null) {
+                rowListener.accept(detailRow);
+            }
         }
-
-        // freeze panes
-        sheet.createFreezePane(0, 1);
-
-        return sheet;
     }
 
     File appendPivotSheet(final List<WorksheetContent> worksheetContents) throws IOException {
@@ -220,23 +242,28 @@ File appendPivotSheet(final List<WorksheetContent> worksheetContents) throws IOE
                                 worksheetName));
         }
 
-        try(final XSSFWorkbook workbook = new XSSFWorkbook()) {
-            final File tempFile =
-                    File.createTempFile(_ExcelConverter.class.getName(), UUID.randomUUID().toString() + XLSX_SUFFIX);
-            try(final FileOutputStream fos = new FileOutputStream(tempFile)) {
+        try(final SXSSFWorkbook workbook = new SXSSFWorkbook()) {
+            try {
+                final File tempFile =
+                        File.createTempFile(_ExcelConverter.class.getName(), UUID.randomUUID().toString() + XLSX_SUFFIX);
+                try(final FileOutputStream fos = new FileOutputStream(tempFile)) {
 
-                for (WorksheetContent worksheetContent : worksheetContents) {
-                    final WorksheetSpec spec = worksheetContent.getSpec();
-                    appendPivotSheet(workbook, worksheetContent.getDomainObjects(), spec.getFactory(), spec.getSheetName());
+                    for (WorksheetContent worksheetContent : worksheetContents) {
+                        final WorksheetSpec spec = worksheetContent.getSpec();
+                        appendPivotSheet(workbook, worksheetContent.getDomainObjects(), spec.getFactory(), spec.getSheetName());
+                    }
+                    workbook.write(fos);
                 }
-                workbook.write(fos);
+                return tempFile;
+            } finally {
+                // removes the temporary files backing the streamed sheets
+                workbook.dispose();
             }
-            return tempFile;
         }
     }
 
     private void appendPivotSheet(
-            final XSSFWorkbook workbook,
+            final SXSSFWorkbook workbook,
             final List<?> domainObjects,
             final WorksheetSpec.RowFactory<?> factory,
             final String sheetName) throws IOException {
@@ -261,30 +288,21 @@ private void appendPivotSheet(
             typeList.add(annotationOrderAndType.type);
         }
 
-        // create pivot sheet
+        // create pivot sheet (written once the source sheet is complete, so ahead of it)
         final Sheet pivotSheet = workbook.createSheet(sheetName);
 
-        // Create source sheet for pivot
+        // Create source sheet for pivot, and pivot its rows as these are written, that is, before these are flushed;
+        // empty row and column labels are shown as "(empty)" in the source sheet, just as in the pivot
         String pivotSourceSheetName = ("source for ".concat(sheetName));
         if (WorksheetSpec.isTooLong(pivotSourceSheetName)) {
             pivotSourceSheetName = WorksheetSpec.trim(pivotSourceSheetName);
         }
-        final Sheet pivotSourceSheet = appendSheet(workbook, domainObjects, factory, pivotSourceSheetName);
-        pivotSourceSheet.shiftRows(0, pivotSourceSheet.getLastRowNum(), 3);
-        final Row annotationRow = pivotSourceSheet.createRow(0);
-        final Row orderRow = pivotSourceSheet.createRow(1);
-        final Row typeRow = pivotSourceSheet.createRow(2);
-        PivotUtils.createAnnotationRow(annotationRow, annotationList);
-        PivotUtils.createOrderRow(orderRow, orderList);
-        PivotUtils.createTypeRow(typeRow, typeList);
+        final SheetPivoter p = new SheetPivoter();
+        p.begin(annotationList, orderList, typeList);
+        appendSheet(workbook, domainObjects, factory, pivotSourceSheetName, p::accept);
 
         // And finally: fill the pivot sheet with a pivot of the values found in pivot source sheet
-        SheetPivoter p = new SheetPivoter();
-        p.pivot(pivotSourceSheet, pivotSheet);
-        pivotSourceSheet.removeRow(annotationRow);
-        pivotSourceSheet.removeRow(orderRow);
-        pivotSourceSheet.removeRow(typeRow);
-        pivotSourceSheet.shiftRows(3, pivotSourceSheet.getLastRowNum(), -3);
+        p.writeTo(pivotSheet);
     }
 
     private void validateAnnotations(final List<? extends ObjectAssociation> list, final Class<?> cls) throws IllegalArgumentException{
@@ -357,7 +375,7 @@ private class AnnotationOrderAndType {
 
     List<List<?>> fromBytes(
             final List<WorksheetSpec> worksheetSpecs,
-            final byte[] bs) throws IOException, InvalidFormatException {
+            final byte[] bs) throws IOException, OpenXML4JException {
 
         final List<List<?>> listOfLists = new ArrayList<>();
         for (WorksheetSpec worksheetSpec : worksheetSpecs) {
@@ -368,40 +386,99 @@ List<List<?>> fromBytes(
 
     <T> List<T> fromBytes(
             final byte[] bs,
-            final WorksheetSpec worksheetSpec) throws IOException, InvalidFormatException {
+            final WorksheetSpec worksheetSpec) throws IOException, OpenXML4JException {
 
-        try (ByteArrayInputStream bais = new ByteArrayInputStream(bs)) {
-            final Workbook wb = org.apache.poi.ss.usermodel.WorkbookFactory.create(bais);
-            return fromWorkbook(wb, worksheetSpec);
-        }
+        final List<T> importedItems = new ArrayList<>();
+        fromBytes(bs, worksheetSpec, importedItems::add);
+        return importedItems;
     }
 
-    private <T> List<T> fromWorkbook(
-            final Workbook workbook,
-            final WorksheetSpec worksheetSpec) {
-
-        final WorksheetSpec.RowFactory<Object> factory = worksheetSpec.getFactory();
-        this.serviceInjector.injectServicesInto(factory);
-
-        final Class<T> cls = _Casts.uncheckedCast(factory.getCls());
-        final String sheetName = worksheetSpec.getSheetName();
-        final Mode mode = worksheetSpec.getMode();
-
-        final List<T> importedItems = new ArrayList<>();
+    /**
+     * Hands over the objects read from the sheet to the consumer one row at a time, while the sheet is being read.
+     * <p>
+     * <code>.xlsx</code> workbooks are streamed using {@link _StreamingSheetReader}; any other format
+     * (that is, <code>.xls</code>) is loaded into memory as a whole.
+     *
+     * @return the number of objects handed over to the consumer
+     */
+    <T> int fromBytes(
+            final byte[] bs,
+            final WorksheetSpec worksheetSpec,
+            final Consumer<? super T> consumer) throws IOException, OpenXML4JException {
 
-        final _CellMarshaller cellMarshaller = this.newCellMarshaller(workbook);
+        final SheetImporter<T> sheetImporter = new SheetImporter<>(worksheetSpec, consumer);
+        final List<String> sheetNames = determineCandidateSheetNames(worksheetSpec.getSheetName(), sheetImporter.cls);
 
-        final Sheet sheet = lookupSheet(cls, sheetName, workbook);
+        if (FileMagic.valueOf(bs) == FileMagic.OOXML) {
+            try (final _StreamingSheetReader reader = new _StreamingSheetReader(bs)) {
+                reader.readSheet(sheetNames, row -> sheetImporter.importRow(row.rowNum(), row.cells()));
+            }
+        } else {
+            try (ByteArrayInputStream bais = new ByteArrayInputStream(bs);
+                    final Workbook wb = WorkbookFactory.create(bais)) {
+                final boolean date1904 = wb instanceof Date1904Support date1904Support
+                        && date1904Support.isDate1904();
+                for (final Row row : lookupSheet(wb, sheetNames)) {
+                    final List<_CellData> cells = new ArrayList<>();
+                    for (final Cell cell : row) {
+                        cells.add(_CellData.of(cell, date1904));
+                    }
+                    sheetImporter.importRow(row.getRowNum(), cells);
+                }
+            }
+        }
+        return sheetImporter.importedCount;
+    }
 
-        boolean header = true;
-        final Map<Integer, Property> propertyByColumn = new HashMap<>();
+    List<String> sheetNamesFromBytes(final byte[] bs) throws IOException, OpenXML4JException {
+        if (FileMagic.valueOf(bs) == FileMagic.OOXML) {
+            try (final _StreamingSheetReader reader = new _StreamingSheetReader(bs)) {
+                return reader.sheetNames();
+            }
+        }
+        try (ByteArrayInputStream bais = new ByteArrayInputStream(bs);
+                final Workbook wb = WorkbookFactory.create(bais)) {
+            final List<String> sheetNames = new ArrayList<>();
+            for (int i = 0; i < wb.getNumberOfSheets(); i++) {
+                sheetNames.add(wb.getSheetName(i));
+            }
+            return sheetNames;
+        }
+    }
 
-        final ObjectSpecification objectSpec = specificationLoader.specForType(cls).orElse(null);
+    /**
+     * Turns the rows of a sheet (the header row first) into domain objects, one row at a time.
+     */
+    private class SheetImporter<T> {
+
+        private final WorksheetSpec.RowFactory<Object> factory;
+        private final Class<T> cls;
+        private final String sheetName;
+        private final Mode mode;
+        private final Consumer<? super T> consumer;
+        private final _CellMarshaller cellMarshaller;
+        private final ObjectSpecification objectSpec;
+        private final Map<Integer, Property> propertyByColumn = new HashMap<>();
+
+        private boolean header = true;
+        private T previousRow;
+        private int importedCount;
+
+        SheetImporter(final WorksheetSpec worksheetSpec, final Consumer<? super T> consumer) {
+            this.factory = worksheetSpec.getFactory();
+            serviceInjector.injectServicesInto(factory);
+            this.cls = _Casts.uncheckedCast(factory.getCls());
+            this.sheetName = worksheetSpec.getSheetName();
+            this.mode = worksheetSpec.getMode();
+            this.consumer = consumer;
+            // cell styles are only needed when writing
+            this.cellMarshaller = new _CellMarshaller(bookmarkService, null, null);
+            this.objectSpec = specificationLoader.specForType(cls).orElse(null);
+        }
 
-        T previousRow = null;
-        for (final Row row : sheet) {
+        void importRow(final int rowNum, final List<_CellData> cells) {
             if (header) {
-                for (final Cell cell : row) {
+                for (final _CellData cell : cells) {
 
                     try{
                         if (cell.getCellType() != CellType.BLANK) {
@@ -416,8 +493,8 @@ private <T> List<T> fromWorkbook(
 
                     } catch (final Exception e) {
                         switch (mode) {
-							case RELAXED -> throw new ExcelServiceDefault.Exception(String.format("Error processing Excel row nr. %d. Message: %s", row.getRowNum(), e.getMessage()), e);
-							default -> throw new ExcelServiceDefault.Exception(String.format("Error processing Excel row nr. %d. Message: %s", row.getRowNum(), e.getMessage()), e);
+							case RELAXED -> throw new ExcelServiceDefault.Exception(String.format("Error processing Excel row nr. %d. Message: %s", rowNum, e.getMessage()), e);
+							default -> throw new ExcelServiceDefault.Exception(String.format("Error processing Excel row nr. %d. Message: %s", rowNum, e.getMessage()), e);
 						}
                     }
 
@@ -430,7 +507,7 @@ private <T> List<T> fromWorkbook(
                 // Excel can have physical rows with cells empty that it seem do not existent for the user.
                 ManagedObject templateAdapter = null;
                 T imported = null;
-                for (final Cell cell : row) {
+                for (final _CellData cell : cells) {
 
                     try {
 
@@ -446,13 +523,13 @@ private <T> List<T> fromWorkbook(
                                     // set excel metadata if applicable
                                     if (ExcelMetaDataEnabled.class.isAssignableFrom(cls)){
                                         ExcelMetaDataEnabled importedEnhanced = (ExcelMetaDataEnabled) imported;
-                                        importedEnhanced.setExcelRowNumber(row.getRowNum());
+                                        importedEnhanced.setExcelRowNumber(rowNum);
                                         importedEnhanced.setExcelSheetName(sheetName);
                                         imported = _Casts.uncheckedCast(importedEnhanced);
                                     }
-                                    templateAdapter = this.objectManager.adapt(imported);
+                                    templateAdapter = objectManager.adapt(imported);
                                 }
-                                final ManagedObject valueAdapter = this.objectManager.adapt(value);
+                                final ManagedObject valueAdapter = objectManager.adapt(value);
                                 otoa.set(templateAdapter, valueAdapter, InteractionInitiatedBy.PASS_THROUGH);
                             }
                         } else {
@@ -465,7 +542,7 @@ private <T> List<T> fromWorkbook(
                             // ignore
                             break;
                         default:
-                            throw new ExcelServiceDefault.Exception(String.format("Error processing Excel row nr. %d. Message: %s", row.getRowNum(), e.getMessage()), e);
+                            throw new ExcelServiceDefault.Exception(String.format("Error processing Excel row nr. %d. Message: %s", rowNum, e.getMessage()), e);
 
                         }
                     }
@@ -484,8 +561,6 @@ private <T> List<T> fromWorkbook(
 //                }
 
                 if (imported != null) {
-                    importedItems.add(imported);
-
                     if(imported instanceof RowHandler) {
                         var rowHandler = (RowHandler<?>) imported;
                         var rowHandlerPrev = (RowHandler<?>) previousRow;
@@ -493,18 +568,14 @@ private <T> List<T> fromWorkbook(
                         rowHandler.handleRow(_Casts.uncheckedCast(rowHandlerPrev));
                     }
 
+                    consumer.accept(imported);
+                    importedCount++;
+
                     previousRow = imported;
                 }
 
             }
-
         }
-        return importedItems;
-    }
-
-    protected <T> Sheet lookupSheet(final Class<T> cls, final String sheetName, final Workbook workbook) {
-        final List<String> sheetNames = determineCandidateSheetNames(sheetName, cls);
-        return lookupSheet(workbook, sheetNames);
     }
 
     private static <T> List<String> determineCandidateSheetNames(final String sheetName, final Class<T> cls) {
@@ -23,8 +23,10 @@
 import java.io.InputStream;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Consumer;
 
-import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 
 import org.apache.causeway.applib.services.bookmark.BookmarkService;
@@ -103,9 +105,8 @@ <T> Blob toExcel(final WorksheetContent worksheetContent, final String fileName,
      * As {@link #toExcel(WorksheetContent, String)}, but with multiple sheets.
      */
     Blob toExcel(final List<WorksheetContent> worksheetContents, final String fileName) {
-        try {
-            final File file = newExcelConverter().appendSheet(worksheetContents, new XSSFWorkbook());
-            return excelFileBlobConverter.toBlob(fileName, file);
+        try (final SXSSFWorkbook workbook = new SXSSFWorkbook()) {
+            return writeToBlob(worksheetContents, fileName, workbook);
         } catch (final IOException ex) {
             throw new ExcelServiceDefault.Exception(ex);
         }
@@ -115,9 +116,9 @@ Blob toExcel(final List<WorksheetContent> worksheetContents, final String fileNa
      * As {@link #toExcel(WorksheetContent, String)}, but with multiple sheets and an input stream.
      */
     Blob toExcel(final List<WorksheetContent> worksheetContents, final String fileName, final InputStream in) {
-        try {
-            final File file = newExcelConverter().appendSheet(worksheetContents, new XSSFWorkbook(in));
-            return excelFileBlobConverter.toBlob(fileName, file);
+        // the sheets of the existing workbook are held in memory, only the appended ones are streamed
+        try (final SXSSFWorkbook workbook = new SXSSFWorkbook(new XSSFWorkbook(in))) {
+            return writeToBlob(worksheetContents, fileName, workbook);
         } catch (final IOException ex) {
             throw new ExcelServiceDefault.Exception(ex);
         }
@@ -212,13 +213,52 @@ List<List<?>> fromExcel(
             final List<WorksheetSpec> worksheetSpecs) throws ExcelServiceDefault.Exception {
         try {
             return newExcelConverter().fromBytes(worksheetSpecs, excelBlob.bytes());
-        } catch (final IOException | InvalidFormatException e) {
+        } catch (final IOException | OpenXML4JException e) {
+            throw new ExcelServiceDefault.Exception(e);
+        }
+    }
+
+    /**
+     * As {@link #fromExcel(Blob, WorksheetSpec)}, but handing over the domain objects to the consumer one row at a
+     * time rather than returning them as a list.
+     */
+    <T> int fromExcel(
+            final Blob excelBlob,
+            final WorksheetSpec worksheetSpec,
+            final Consumer<? super T> consumer) throws ExcelServiceDefault.Exception {
+        try {
+            return newExcelConverter().fromBytes(excelBlob.bytes(), worksheetSpec, consumer);
+        } catch (final IOException | OpenXML4JException e) {
+            throw new ExcelServiceDefault.Exception(e);
+        }
+    }
+
+    /**
+     * Returns the names of the sheets of the workbook, in workbook order.
+     */
+    List<String> sheetNames(final Blob excelBlob) throws ExcelServiceDefault.Exception {
+        try {
+            return newExcelConverter().sheetNamesFromBytes(excelBlob.bytes());
+        } catch (final IOException | OpenXML4JException e) {
             throw new ExcelServiceDefault.Exception(e);
         }
     }
 
     // -- HELPER
 
+    private Blob writeToBlob(
+            final List<WorksheetContent> worksheetContents,
+            final String fileName,
+            final SXSSFWorkbook workbook) throws IOException {
+        try {
+            final File file = newExcelConverter().appendSheet(worksheetContents, workbook);
+            return excelFileBlobConverter.toBlob(fileName, file);
+        } finally {
+            // removes the temporary files backing the streamed sheets
+            workbook.dispose();
+        }
+    }
+
     @SneakyThrows
     private _ExcelConverter newExcelConverter() {
         return new _ExcelConverter(specificationLoader, objectManager, bookmarkService, serviceInjector);
@@ -0,0 +1,290 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.excel.applib.service;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import javax.xml.parsers.ParserConfigurationException;
+
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.util.CellAddress;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.model.Comments;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.jspecify.annotations.Nullable;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
+
+/**
+ * Reads the rows of an <code>.xlsx</code> workbook using the POI event (SAX) model, handing each row over
+ * as soon as it has been parsed, so that neither the workbook nor the whole sheet is ever held in memory.
+ * <p>
+ * The workbook bytes are spooled to a temporary file (deleted on {@link #close()}), which allows the
+ * zip entries to be read on demand rather than being inflated into memory up front.
+ */
+final class _StreamingSheetReader implements AutoCloseable {
+
+    private static final String XLSX_SUFFIX = ".xlsx";
+
+    /**
+     * @param rowNum - zero-based, as per {@link org.apache.poi.ss.usermodel.Row#getRowNum()}
+     * @param cells - the cells physically present in the row, left-to-right
+     */
+    record StreamedRow(
+            int rowNum,
+            List<_CellData> cells) {
+    }
+
+    private final File tempFile;
+    private final OPCPackage opcPackage;
+    private final XSSFReader xssfReader;
+    private final ReadOnlySharedStringsTable sharedStrings;
+    private final boolean date1904;
+
+    _StreamingSheetReader(final byte[] bs) throws IOException, OpenXML4JException {
+        this.tempFile = File.createTempFile(_StreamingSheetReader.class.getName(), UUID.randomUUID().toString() + XLSX_SUFFIX);
+        try {
+            Files.write(tempFile.toPath(), bs);
+            this.opcPackage = OPCPackage.open(tempFile, PackageAccess.READ);
+            this.xssfReader = new XSSFReader(opcPackage);
+            this.sharedStrings = new ReadOnlySharedStringsTable(opcPackage);
+            this.date1904 = parseDate1904();
+        } catch (final SAXException e) {
+            close();
+            throw new IOException(e);
+        } catch (final IOException | OpenXML4JException | RuntimeException e) {
+            close();
+            throw e;
+        }
+    }
+
+    /**
+     * The names of all sheets, in workbook order.
+     */
+    List<String> sheetNames() throws IOException, OpenXML4JException {
+        final List<String> sheetNames = new ArrayList<>();
+        final XSSFReader.SheetIterator sheets = sheetIterator();
+        while (sheets.hasNext()) {
+            try (InputStream is = sheets.next()) {
+                sheetNames.add(sheets.getSheetName());
+            }
+        }
+        return sheetNames;
+    }
+
+    /**
+     * Streams the rows of the first sheet whose name matches (case-insensitively, as does
+     * {@link org.apache.poi.ss.usermodel.Workbook#getSheet(String)}) any of the given candidate names,
+     * trying the candidates in order.
+     */
+    void readSheet(
+            final List<String> candidateSheetNames,
+            final Consumer<StreamedRow> rowConsumer) throws IOException, OpenXML4JException {
+
+        final List<String> sheetNames = sheetNames();
+        final String sheetName = candidateSheetNames.stream()
+                .flatMap(candidate -> sheetNames.stream().filter(candidate::equalsIgnoreCase))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException(
+                        String.format("Could not locate sheet named any of: '%s'", candidateSheetNames)));
+
+        final XSSFReader.SheetIterator sheets = sheetIterator();
+        while (sheets.hasNext()) {
+            try (InputStream is = sheets.next()) {
+                if (sheets.getSheetName().equals(sheetName)) {
+                    parse(is, new SheetHandler(sheets.getSheetComments(), rowConsumer));
+                    return;
+                }
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        if (opcPackage != null) {
+            // opened read-only, so there is nothing to save
+            opcPackage.revert();
+        }
+        tempFile.delete();
+    }
+
+    // -- HELPER
+
+    private XSSFReader.SheetIterator sheetIterator() throws IOException, OpenXML4JException {
+        final Iterator<InputStream> sheetsData = xssfReader.getSheetsData();
+        return (XSSFReader.SheetIterator) sheetsData;
+    }
+
+    private boolean parseDate1904() throws IOException, OpenXML4JException {
+        final boolean[] date1904 = {false};
+        try (InputStream is = xssfReader.getWorkbookData()) {
+            parse(is, new DefaultHandler() {
+                @Override
+                public void startElement(final String uri, final String localName, final String qName, final Attributes attributes) {
+                    if ("workbookPr".equals(localName)) {
+                        final String value = attributes.getValue("date1904");
+                        date1904[0] = "1".equals(value) || "true".equalsIgnoreCase(value);
+                    }
+                }
+            });
+        }
+        return date1904[0];
+    }
+
+    private static void parse(final InputStream is, final DefaultHandler handler) throws IOException {
+        try {
+            final XMLReader xmlReader = XMLHelper.newXMLReader();
+            xmlReader.setContentHandler(handler);
+            xmlReader.parse(new InputSource(is));
+        } catch (final SAXException | ParserConfigurationException e) {
+            throw new IOException(e);
+        }
+    }
+
+    /**
+     * Collects the <code>&lt;c&gt;</code> elements of each <code>&lt;row&gt;</code> of a worksheet part.
+     */
+    private final class SheetHandler extends DefaultHandler {
+
+        private final @Nullable Comments comments;
+        private final Consumer<StreamedRow> rowConsumer;
+        private final StringBuilder text = new StringBuilder();
+
+        private int rowNum = -1;
+        private List<_CellData> cells;
+
+        private int columnIndex;
+        private @Nullable String cellTypeAttr;
+        private boolean inValue;
+        private boolean inInlineText;
+        private boolean hasValue;
+
+        SheetHandler(final @Nullable Comments comments, final Consumer<StreamedRow> rowConsumer) {
+            this.comments = comments;
+            this.rowConsumer = rowConsumer;
+        }
+
+        @Override
+        public void startElement(final String uri, final String localName, final String qName, final Attributes attributes) {
+            switch (localName) {
+            case "row" -> {
+                final String r = attributes.getValue("r");
+                rowNum = r != null
+                        ? Integer.parseInt(r) - 1
+                        : rowNum + 1;
+                cells = new ArrayList<>();
+                columnIndex = -1;
+            }
+            case "c" -> {
+                final String r = attributes.getValue("r");
+                columnIndex = r != null
+                        ? new CellReference(r).getCol()
+                        : columnIndex + 1;
+                cellTypeAttr = attributes.getValue("t");
+                hasValue = false;
+                text.setLength(0);
+            }
+            case "v" -> {
+                inValue = true;
+                hasValue = true;
+            }
+            case "t" -> {
+                // text runs of an inline string, as nested within <is>
+                if ("inlineStr".equals(cellTypeAttr)) {
+                    inInlineText = true;
+                    hasValue = true;
+                }
+            }
+            default -> {
+                // not of interest
+            }
+            }
+        }
+
+        @Override
+        public void characters(final char[] ch, final int start, final int length) {
+            if (inValue || inInlineText) {
+                text.append(ch, start, length);
+            }
+        }
+
+        @Override
+        public void endElement(final String uri, final String localName, final String qName) {
+            switch (localName) {
+            case "v" -> inValue = false;
+            case "t" -> inInlineText = false;
+            case "c" -> {
+                cells.add(toCellData());
+                cellTypeAttr = null;
+            }
+            case "row" -> {
+                rowConsumer.accept(new StreamedRow(rowNum, cells));
+                cells = null;
+            }
+            default -> {
+                // not of interest
+            }
+            }
+        }
+
+        private _CellData toCellData() {
+            final String commentText = commentText();
+            if (!hasValue) {
+                return new _CellData(columnIndex, CellType.BLANK, 0, null, date1904, commentText);
+            }
+            final String value = text.toString();
+            return switch (cellTypeAttr != null ? cellTypeAttr : "n") {
+                case "s" -> new _CellData(columnIndex, CellType.STRING, 0,
+                        sharedStrings.getItemAt(Integer.parseInt(value.trim())).getString(), date1904, commentText);
+                case "inlineStr", "str" -> new _CellData(columnIndex, CellType.STRING, 0, value, date1904, commentText);
+                case "b" -> new _CellData(columnIndex, CellType.BOOLEAN, "1".equals(value.trim()) ? 1 : 0, null, date1904, commentText);
+                case "e" -> new _CellData(columnIndex, CellType.ERROR, 0, null, date1904, commentText);
+                default -> new _CellData(columnIndex, CellType.NUMERIC, Double.parseDouble(value), null, date1904, commentText);
+            };
+        }
+
+        private @Nullable String commentText() {
+            if (comments == null) {
+                return null;
+            }
+            final XSSFComment comment = comments.findCellComment(new CellAddress(rowNum, columnIndex));
+            return comment != null && comment.getString() != null
+                    ? comment.getString().getString()
+                    : null;
+        }
+    }
+
+}
@@ -20,8 +20,10 @@
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Iterator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.apache.poi.hssf.util.HSSFColor;
 import org.apache.poi.ss.usermodel.BorderStyle;
@@ -30,31 +32,45 @@
 import org.apache.poi.ss.usermodel.CellType;
 import org.apache.poi.ss.usermodel.FillPatternType;
 import org.apache.poi.ss.usermodel.Font;
+import org.apache.poi.ss.usermodel.Hyperlink;
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
 
 import org.apache.causeway.extensions.excel.applib.AggregationType;
-import org.apache.causeway.extensions.excel.applib.service.ExcelServiceDefault;
 
 /**
  * @since 2.0 {@index}
  */
 public class SheetPivoter {
 
-    private Sheet sourceSheet;
-    private Sheet targetSheet;
+    private static final List<String> VALID_ANNOTATIONS = Arrays.asList("row", "deco", "column", "value");
+
     private AnnotationList annotations = new AnnotationList(new ArrayList<AnnotationTriplet>());
+    private Map<Integer, AggregationType> aggregationTypeByColumn = new HashMap<>();
 
     // source sheet stuff
     private int numberOfColumnAnnotationsInSource;
     private int numberOfValueAnnotationsInSource;
     private int numberOfDecorationAnnotationsInSource;
     private int rowAnnotatedColumnNumber; // just one row annotation is supported
+    private List<AnnotationTriplet> columnAnnotations;
+    private List<AnnotationTriplet> valueAnnotations;
+    private List<AnnotationTriplet> decorationAnnotations;
+
+    // aggregated while the source rows are passed (once), to then write the target sheet row by row
+    private Map<Integer, CellCopy> fieldNameByColumn;
+    private List<Map<CellKey, Integer>> distinctColumnValueIndexes;
+    private List<List<CellCopy>> distinctColumnValues;
+    private Map<CellKey, PivotRow> pivotRowsByLabel;
 
     // target sheet stuff
-    private List<Row> columnHeaderValueRows = new ArrayList<>();
-    private Row fieldNameRow;
+    private CellStyle fieldNameStyle;
+    private CellStyle columnHeaderValueStyle;
+    private CellStyle rowSumStyle;
+    private CellStyle columSumStyle;
+    private CellStyle totalSumStyle;
 
     int columnLabelOffsetX;
     int valueRowOffsetY;
@@ -85,12 +101,6 @@ private static class TargetLayOut {
         static final short fieldnameBgColorIndex = HSSFColor.HSSFColorPredefined.GREY_25_PERCENT.getIndex();
         static final short columnHeaderValueBgColorIndex = HSSFColor.HSSFColorPredefined.GREY_40_PERCENT.getIndex();
         static final short sumBgColorIndex = HSSFColor.HSSFColorPredefined.GREY_25_PERCENT.getIndex();
-        static CellStyle fieldNameStyle;
-        static CellStyle columnHeaderValueStyle;
-        static CellStyle rowSumStyle;
-        static CellStyle columSumStyle;
-        static CellStyle totalSumStyle;
-        static Font boldFont;
     }
 
     /**
@@ -134,40 +144,221 @@ private static class TargetLayOut {
      *     The values found in the column(s) marked "deco" are put in the column(s) 1 ..  following the row label and are meant as decoration.
      *     Since the assumption is that every distinct row label has the same decoration(s) only the first found value for each row will be added.
      * </p>
+     * <p>
+     *     The rows of the source sheet are read just once, in order, so when it is a streamed {@link SXSSFSheet},
+     *     none of its rows may have been flushed yet; to instead pivot the rows of a streamed sheet as these are
+     *     written, see {@link #begin(List, List, List)}. The target sheet is written row by row, in order.
+     * </p>
      */
     public void pivot(final Sheet pivotSourceSheet, final Sheet pivotTargetSheet) {
 
-        sourceSheet = pivotSourceSheet;
-        targetSheet = pivotTargetSheet;
+        assertNoRowsFlushed(pivotSourceSheet);
+
+        final List<String> annotationList = new ArrayList<>();
+        final List<Integer> orderList = new ArrayList<>();
+        final List<AggregationType> typeList = new ArrayList<>();
+        final Row annotationRow = pivotSourceSheet.getRow(SourceLayOut.ANNOTATION_ROW_NUMBER);
+        final Row orderRow = pivotSourceSheet.getRow(SourceLayOut.ORDER_ROW_NUMBER);
+        final Row typeRow = pivotSourceSheet.getRow(SourceLayOut.TYPE_ROW_NUMBER);
+        for (int col = 0; col < annotationRow.getLastCellNum(); col++) {
+            final Cell annotationCell = annotationRow.getCell(col);
+            annotationList.add(annotationCell != null && annotationCell.getCellType() == CellType.STRING
+                    ? annotationCell.getStringCellValue()
+                    : null);
+            final Cell orderCell = orderRow != null ? orderRow.getCell(col) : null;
+            orderList.add(orderCell != null && orderCell.getCellType() == CellType.NUMERIC
+                    ? (int) orderCell.getNumericCellValue()
+                    : 0);
+            final Cell typeCell = typeRow != null ? typeRow.getCell(col) : null;
+            typeList.add(typeCell != null
+                    && typeCell.getCellType() == CellType.STRING
+                    && typeCell.getStringCellValue().equals("COUNT")
+                    ? AggregationType.COUNT
+                    : AggregationType.SUM);
+        }
+
+        begin(annotationList, orderList, typeList);
+        for (Row r : pivotSourceSheet) {
+            if (r.getRowNum() >= SourceLayOut.FIELDNAME_ROW_NUMBER) {
+                accept(r);
+            }
+        }
+        writeTo(pivotTargetSheet);
+    }
+
+    /**
+     * Prepares to pivot source rows as these are written (say, to a streamed {@link SXSSFSheet}), in a single pass,
+     * such that only the aggregated pivot (rather than the source) is held in memory.
+     * <p>
+     *     The given lists hold, for each column of the source, what {@link #pivot(Sheet, Sheet)} otherwise reads
+     *     from the first three rows of the source sheet: the annotation ("row", "column", "value", "deco", or
+     *     anything else to skip the column), its order and its aggregation type.
+     *     Then pass the row of field labels and each row of data to {@link #accept(Row)}, and finally
+     *     call {@link #writeTo(Sheet)}.
+     * </p>
+     */
+    public void begin(
+            final List<String> annotationList,
+            final List<Integer> orderList,
+            final List<AggregationType> typeList) {
+
         annotations = new AnnotationList(new ArrayList<AnnotationTriplet>());
+        aggregationTypeByColumn = new HashMap<>();
+        for (int col = 0; col < annotationList.size(); col++) {
+            final String annotation = annotationList.get(col);
+            if (VALID_ANNOTATIONS.contains(annotation)) {
+                final Integer order = col < orderList.size() ? orderList.get(col) : null;
+                annotations.list.add(new AnnotationTriplet(annotation, col, order != null ? order : 0));
+            }
+            final AggregationType type = col < typeList.size() ? typeList.get(col) : null;
+            aggregationTypeByColumn.put(col, type != null ? type : AggregationType.SUM);
+        }
+
+        columnAnnotations = annotations.getByAnnotation_OrderBy_OrderAscending("column");
+        valueAnnotations = annotations.getByAnnotation_OrderBy_OrderAscending("value");
+        decorationAnnotations = annotations.getByAnnotation_OrderBy_OrderAscending("deco");
+
+        rowAnnotatedColumnNumber = annotations.getByAnnotation_OrderBy_OrderAscending("row").get(0).getColnumber();
+        numberOfColumnAnnotationsInSource = columnAnnotations.size();
+        numberOfValueAnnotationsInSource = valueAnnotations.size();
+        numberOfDecorationAnnotationsInSource = decorationAnnotations.size();
 
-        getAnnotationsFromSource();
         setOffsets();
-        validateAndAdaptSourceDataIfNeeded();
-        defineSomeCellStyles();
-        createEmptyHeaderRowsAndCells();
-        fillInHeaderRows();
-        pivotSourceRows();
-        addSummations();
+
+        fieldNameByColumn = null;
+        distinctColumnValueIndexes = new ArrayList<>();
+        distinctColumnValues = new ArrayList<>();
+        for (int i = 0; i < numberOfColumnAnnotationsInSource; i++) {
+            distinctColumnValueIndexes.add(new HashMap<>());
+            distinctColumnValues.add(new ArrayList<>());
+        }
+        pivotRowsByLabel = new LinkedHashMap<>();
     }
 
-    private void getAnnotationsFromSource() {
-        for (Cell cell : sourceSheet.getRow(SourceLayOut.ANNOTATION_ROW_NUMBER)){
-            List<String> validAnnotations = Arrays.asList("row", "deco", "column", "value");
-            if (validAnnotations.contains(cell.getStringCellValue())){
-                annotations.list.add(
-                        new AnnotationTriplet(
-                                cell.getStringCellValue(),
-                                cell.getColumnIndex(),
-                                (int) sourceSheet.getRow(SourceLayOut.ORDER_ROW_NUMBER).getCell(cell.getColumnIndex()).getNumericCellValue())
-                );
+    /**
+     * Passes the next row of the source, the first being the row of field labels; see {@link #begin(List, List, List)}.
+     * <p>
+     *     Empty row and column labels of the given row are replaced by "(empty)", so the source shows what the pivot
+     *     is made of. The row may be flushed once this returns.
+     * </p>
+     */
+    public void accept(final Row sourceRow) {
+        if (fieldNameByColumn == null) {
+            fieldNameByColumn = new HashMap<>();
+            for (Cell cell : sourceRow) {
+                fieldNameByColumn.put(cell.getColumnIndex(), CellCopy.of(cell));
             }
+            return;
         }
 
-        rowAnnotatedColumnNumber = annotations.getByAnnotation_OrderBy_OrderAscending("row").get(0).getColnumber();
-        numberOfColumnAnnotationsInSource = annotations.getByAnnotation_OrderBy_OrderAscending("column").size();
-        numberOfValueAnnotationsInSource = annotations.getByAnnotation_OrderBy_OrderAscending("value").size();
-        numberOfDecorationAnnotationsInSource = annotations.getByAnnotation_OrderBy_OrderAscending("deco").size();
+        validate(sourceRow);
+
+        // check and adapt empty row and column values
+        final Cell labelCell = adaptOrCreateEmptySourceCell(sourceRow, rowAnnotatedColumnNumber);
+        final List<Integer> columnValueIndexes = new ArrayList<>();
+        for (int i = 0; i < numberOfColumnAnnotationsInSource; i++) {
+            final Cell columnCell = adaptOrCreateEmptySourceCell(sourceRow, columnAnnotations.get(i).getColnumber());
+            final CellCopy columnValue = CellCopy.of(columnCell);
+            final List<CellCopy> distinctValues = distinctColumnValues.get(i);
+            columnValueIndexes.add(distinctColumnValueIndexes.get(i).computeIfAbsent(columnValue.key(), key -> {
+                distinctValues.add(columnValue);
+                return distinctValues.size() - 1;
+            }));
+        }
+
+        // the first row found for a label provides its decoration(s)
+        final CellCopy label = CellCopy.of(labelCell);
+        final PivotRow pivotRow = pivotRowsByLabel.computeIfAbsent(label.key(), key -> {
+            final List<CellCopy> decorations = new ArrayList<>();
+            for (AnnotationTriplet at : decorationAnnotations) {
+                decorations.add(CellCopy.of(sourceRow.getCell(at.getColnumber())));
+            }
+            return new PivotRow(label, decorations, new HashMap<>());
+        });
+
+        for (int valueIndex = 0; valueIndex < numberOfValueAnnotationsInSource; valueIndex++) {
+            final int colInSource = valueAnnotations.get(valueIndex).getColnumber();
+            final List<Integer> valueKey = new ArrayList<>(columnValueIndexes);
+            valueKey.add(valueIndex);
+            addValueToPivot(pivotRow, valueKey, sourceRow.getCell(colInSource), aggregationTypeByColumn.get(colInSource));
+        }
+    }
+
+    /**
+     * Writes the pivot of the rows passed to {@link #accept(Row)}, one row after the other.
+     */
+    public void writeTo(final Sheet pivotTargetSheet) {
+
+        defineSomeCellStyles(pivotTargetSheet);
+
+        // the columns (after those for the row label and decorations) for each combination of column values,
+        // that is, (the values of) the first column annotation vary slowest, and the value annotations fastest
+        int columnValueCounter = 1;
+        for (List<CellCopy> distinctValues : distinctColumnValues) {
+            columnValueCounter = columnValueCounter * distinctValues.size();
+        }
+        final int tableWidth = 1 + numberOfDecorationAnnotationsInSource + columnValueCounter * numberOfValueAnnotationsInSource;
+        final int tableHeight = valueRowOffsetY + 1 + pivotRowsByLabel.size();
+        final boolean withRowSums = numberOfValueAnnotationsInSource < 2; // (only makes sense with one value annotation)
+
+        int trCnt = TargetLayOut.columnLabelOffsetY;
+
+        // column header rows
+        for (int order = 0; order < numberOfColumnAnnotationsInSource; order++) {
+            final Row workRow = pivotTargetSheet.createRow(trCnt++);
+            writeColumnHeaderRow(workRow, order, tableWidth);
+            if (withRowSums) {
+                workRow.createCell(tableWidth).setCellStyle(rowSumStyle);
+            }
+        }
+
+        // field name row
+        final Row fieldNameRow = pivotTargetSheet.createRow(trCnt++);
+        valuesStartAtRownumber = trCnt;
+        writeFieldNameRow(fieldNameRow, tableWidth);
+        if (withRowSums) {
+            fieldNameRow.createCell(tableWidth).setCellStyle(rowSumStyle);
+        }
+
+        // value rows
+        final String firstValueColumn = CellReference.convertNumToColString(columnLabelOffsetX);
+        final String lastValueColumn = CellReference.convertNumToColString(tableWidth - 1);
+        for (PivotRow pivotRow : pivotRowsByLabel.values()) {
+            final Row workRow = pivotTargetSheet.createRow(trCnt++);
+            writeValueRow(workRow, pivotRow);
+            if (withRowSums) {
+                final Cell c = workRow.createCell(tableWidth);
+                c.setCellFormula("SUM(" + firstValueColumn + (workRow.getRowNum() + 1) + ":" + lastValueColumn + (workRow.getRowNum() + 1) + ")");
+                c.setCellStyle(rowSumStyle);
+            }
+        }
+
+        // summations for column
+        final Row r = pivotTargetSheet.createRow(tableHeight);
+        for (int tcCnt = 0; tcCnt < tableWidth; tcCnt++){
+            final Cell c = r.createCell(tcCnt);
+            if (tcCnt >= columnLabelOffsetX) {
+                final String columnStr = CellReference.convertNumToColString(tcCnt);
+                c.setCellFormula("SUM(" + columnStr + (valueRowOffsetY + 2) + ":" + columnStr + tableHeight + ")");
+            }
+            c.setCellStyle(columSumStyle);
+        }
+        if (withRowSums) {
+            // add total for sums
+            final Cell c = r.createCell(tableWidth);
+            final String columnStr = CellReference.convertNumToColString(tableWidth);
+            c.setCellFormula("SUM(" + columnStr + (valueRowOffsetY + 2) + ":" + columnStr + tableHeight + ")");
+            c.setCellStyle(totalSumStyle);
+        }
+    }
+
+    private static void assertNoRowsFlushed(final Sheet sheet) {
+        if (sheet instanceof SXSSFSheet sxssfSheet
+                && sxssfSheet.getLastFlushedRowNum() >= 0) {
+            throw new IllegalArgumentException(String.format(
+                    "Sheet '%s' has already flushed rows up to row nr. %d, which makes them inaccessible to the pivot",
+                    sheet.getSheetName(), sxssfSheet.getLastFlushedRowNum()));
+        }
     }
 
     private void setOffsets() {
@@ -197,34 +388,21 @@ private void setOffsets() {
         decoRowOffsetX = SourceLayOut.numberOfRowAnnotationsInSource;
     }
 
-    private void validateAndAdaptSourceDataIfNeeded() throws ExcelServiceDefault.Exception {
-
-        var sourceNotValid = sourceNotValid();
-        if (sourceNotValid!=null){
-            throw sourceNotValid;
-        }
-
-        for (Iterator<Row> iter = sourceSheet.rowIterator(); iter.hasNext();){
-            Row r = iter.next();
-            if (r.getRowNum()>=SourceLayOut.VALUES_START_AT_ROWNUMBER) {
-
-                // check and adapt empty row values
-                adaptOrCreateEmptySourceCell(r.getRowNum(), rowAnnotatedColumnNumber);
-
-                // check and adapt empty column values
-                for (AnnotationTriplet at : annotations.getByAnnotation_OrderBy_OrderAscending("column")) {
-                    adaptOrCreateEmptySourceCell(r.getRowNum(), at.getColnumber());
-                }
-
+    private void validate(final Row sourceRow) {
+        for (AnnotationTriplet at : valueAnnotations) {
+            final Cell c = sourceRow.getCell(at.getColnumber());
+            if (c != null
+                    && c.getCellType() != CellType.BLANK
+                    && c.getCellType() != CellType.NUMERIC) {
+                throw new IllegalArgumentException("Values other than CELL_TYPE_NUMERIC found.");
             }
         }
-
     }
 
-    private Cell adaptOrCreateEmptySourceCell(int cellRow, int cellColumn){
-        Cell cell = sourceSheet.getRow(cellRow).getCell(cellColumn);
+    private static Cell adaptOrCreateEmptySourceCell(final Row sourceRow, final int cellColumn){
+        Cell cell = sourceRow.getCell(cellColumn);
         if (cell == null){
-            cell = sourceSheet.getRow(cellRow).createCell(cellColumn);
+            cell = sourceRow.createCell(cellColumn);
             cell.setCellValue("(empty)");
             return cell;
         }
@@ -238,309 +416,116 @@ private Cell adaptOrCreateEmptySourceCell(int cellRow, int cellColumn){
         return cell;
     }
 
-    private IllegalArgumentException sourceNotValid(){
-        int srCnt;
-        boolean badData = false;
-        for (AnnotationTriplet at : annotations.getByAnnotation_OrderBy_OrderAscending("value")){
-            for (srCnt = SourceLayOut.VALUES_START_AT_ROWNUMBER; srCnt <= sourceSheet.getLastRowNum(); srCnt++){
-                Cell c = sourceSheet.getRow(srCnt).getCell(at.getColnumber());
-                if (c != null && c.getCellType()!=CellType.BLANK){
-                    if (c.getCellType()!=CellType.NUMERIC) {
-                        badData = true;
-                        continue;
-                    }
-                }
-            }
-        }
-        if (badData) {
-            return new IllegalArgumentException("Values other than CELL_TYPE_NUMERIC found.");
-        } else {
-            return null;
-        }
-    }
-
-    private void createEmptyHeaderRowsAndCells() {
-
-        int columnValueCounter = 1;
-        for (AnnotationTriplet at : annotations.getByAnnotation_OrderBy_OrderAscending("column")){
-            columnValueCounter = columnValueCounter * getDistinctValuesInSourceSheetColumn(sourceSheet ,at.getColnumber()).size();
-        }
-        int tableWidth = 1 + numberOfDecorationAnnotationsInSource + columnValueCounter * numberOfValueAnnotationsInSource;
-
-        int trCnt;
-        int tcCnt;
-        trCnt = 0;
-        for (@SuppressWarnings("unused") AnnotationTriplet at : annotations.getByAnnotation_OrderBy_OrderAscending("column")){
-            Row workRow = targetSheet.createRow(TargetLayOut.columnLabelOffsetY + trCnt++);
-            for (tcCnt=0; tcCnt<tableWidth; tcCnt++){
-                workRow.createCell(tcCnt);
+    private void addValueToPivot(final PivotRow pivotRow, final List<Integer> valueKey, final Cell valueCellSource, final AggregationType type) {
+        switch (type) {
+        case SUM:
+            if (valueCellSource != null) {
+                pivotRow.aggregates().computeIfAbsent(valueKey, key -> new Aggregate()).add(valueCellSource);
             }
-            columnHeaderValueRows.add(workRow);
-        }
+            break;
 
-        fieldNameRow = targetSheet.createRow(trCnt++);
-        valuesStartAtRownumber = trCnt;
-        for (tcCnt=0; tcCnt<tableWidth; tcCnt++){
-            fieldNameRow.createCell(tcCnt);
+        case COUNT:
+            pivotRow.aggregates().computeIfAbsent(valueKey, key -> new Aggregate()).count();
+            break;
         }
-
     }
 
-    private void fillInHeaderRows() {
-
-        int trCnt;
+    private void writeColumnHeaderRow(final Row workRow, final int orderHeaderRow, final int tableWidth) {
 
-        // set fieldnames for every column
-        trCnt = TargetLayOut.columnLabelOffsetY;
-        for (AnnotationTriplet at : annotations.getByAnnotation_OrderBy_OrderAscending("column")){
-            getFieldNameCell(columnLabelOffsetX-1 ,trCnt, at.getColnumber());
-            trCnt++;
+        // cells of the header rows are all created, but only filled (and styled) from the column label onwards
+        for (int tcCnt = 0; tcCnt < columnLabelOffsetX - 1; tcCnt++){
+            workRow.createCell(tcCnt);
         }
-
-        // set column labels
-        trCnt = TargetLayOut.columnLabelOffsetY;
-        int order = 0;
-        for (AnnotationTriplet at : annotations.getByAnnotation_OrderBy_OrderAscending("column")){
-            getColumnLabelCellsFor(columnLabelOffsetX, trCnt, order++, at.getColnumber());
-            trCnt++;
-        }
-
-        fillInFieldNameRow();
-    }
-
-    private void getFieldNameCell(final int column, final int row, final int sourceCol) {
-        Cell fieldNameSourceCell = sourceSheet.getRow(SourceLayOut.FIELDNAME_ROW_NUMBER).getCell(sourceCol);
-        Cell newCell = targetSheet.getRow(row).createCell(column);
-        PivotUtils.copyCell(fieldNameSourceCell, newCell);
-        newCell.setCellStyle(TargetLayOut.fieldNameStyle);
-    }
-
-    private void getColumnLabelCellsFor(final int column, final int row, final int orderHeaderRow, final int sourceCol) {
-
-        List<AnnotationTriplet> list = annotations.getByAnnotation_OrderBy_OrderAscending("column");
+        writeFieldNameCell(workRow.createCell(columnLabelOffsetX - 1), columnAnnotations.get(orderHeaderRow).getColnumber());
 
         int multiplier = 1;
         for (int i = 0; i < orderHeaderRow; i++){
-            multiplier = multiplier * getDistinctValuesInSourceSheetColumn(sourceSheet, list.get(i).getColnumber()).size();
+            multiplier = multiplier * distinctColumnValues.get(i).size();
         }
 
         int emptyCells = 1;
         for (int i = orderHeaderRow+1; i < numberOfColumnAnnotationsInSource; i++ ){
-            emptyCells = emptyCells * getDistinctValuesInSourceSheetColumn(sourceSheet, list.get(i).getColnumber()).size();
+            emptyCells = emptyCells * distinctColumnValues.get(i).size();
         }
         emptyCells = emptyCells * numberOfValueAnnotationsInSource;
         emptyCells = emptyCells-1;
 
-        int tcCnt;
-        tcCnt = column;
+        int tcCnt = columnLabelOffsetX;
         for (int i = 0; i < multiplier; i++) {
-            for (Cell c : getDistinctValuesInSourceSheetColumn(sourceSheet, sourceCol)) {
+            for (CellCopy c : distinctColumnValues.get(orderHeaderRow)) {
                 // column header
-                Cell newCell = targetSheet.getRow(row).createCell(tcCnt++);
-                PivotUtils.copyCell(c, newCell);
-                newCell.setCellStyle(TargetLayOut.columnHeaderValueStyle);
+                Cell newCell = workRow.createCell(tcCnt++);
+                c.copyTo(newCell);
+                newCell.setCellStyle(columnHeaderValueStyle);
                 // empty cells
                 for (int ii = 0; ii < emptyCells; ii++){
-                    newCell = targetSheet.getRow(row).createCell(tcCnt++);
-                    newCell.setCellStyle(TargetLayOut.columnHeaderValueStyle);
+                    newCell = workRow.createCell(tcCnt++);
+                    newCell.setCellStyle(columnHeaderValueStyle);
                 }
             }
         }
-
-    }
-
-    private void fillInFieldNameRow() {
-
-        int tcCnt;
-        getFieldNameCell(TargetLayOut.rowLabelColumnNumber, fieldNameRow.getRowNum(), rowAnnotatedColumnNumber);
-        tcCnt = decoRowOffsetX;
-        for (AnnotationTriplet at : annotations.getByAnnotation_OrderBy_OrderAscending("deco")) {
-            getFieldNameCell(tcCnt++, fieldNameRow.getRowNum(), at.getColnumber());
-        }
-        // set repeating field names (for every column value in the row above)
-        Row rowAbove = columnHeaderValueRows.get(numberOfColumnAnnotationsInSource-1);
-        while (tcCnt < rowAbove.getLastCellNum()){
-            for (AnnotationTriplet at : annotations.getByAnnotation_OrderBy_OrderAscending("value")) {
-                getFieldNameCell(tcCnt++, fieldNameRow.getRowNum(), at.getColnumber());
-            }
+        while (tcCnt < tableWidth) {
+            workRow.createCell(tcCnt++);
         }
     }
 
-    private void pivotSourceRows() {
-
-        for (Iterator<Row> iter = sourceSheet.rowIterator(); iter.hasNext();){
-
-            Row r = iter.next();
-            if (r.getRowNum()>=SourceLayOut.VALUES_START_AT_ROWNUMBER){
-
-                // create label
-                Cell sourceLabelCell = r.getCell(rowAnnotatedColumnNumber);
-                Integer rowPosTarget = getRowPosCellInTarget(sourceLabelCell, TargetLayOut.rowLabelColumnNumber);
-                if (rowPosTarget==null){
-                    rowPosTarget = targetSheet.getLastRowNum()+1;
-                    Row workRow = targetSheet.createRow(rowPosTarget);
-                    Cell newCell = workRow.createCell(TargetLayOut.rowLabelColumnNumber);
-                    PivotUtils.copyCell(sourceLabelCell, newCell);
-                    // create decoration(s)
-                    for (int i = 0; i < numberOfDecorationAnnotationsInSource; i++){
-                        Cell sourceCell = findDecorationFor(newCell, i);
-                        Cell target = workRow.createCell(decoRowOffsetX + i);
-                        PivotUtils.copyCell(sourceCell, target);
-
-                    }
-                }
-                for (AnnotationTriplet at : annotations.getByAnnotation_OrderBy_OrderAscending("value")) {
-                    addValuesToPivot(rowPosTarget, r.getRowNum(), at.getColnumber(), getAggregationTypeFromSource(at.getColnumber()));
-                }
-
-            }
+    private void writeFieldNameRow(final Row fieldNameRow, final int tableWidth) {
 
+        writeFieldNameCell(fieldNameRow.createCell(TargetLayOut.rowLabelColumnNumber), rowAnnotatedColumnNumber);
+        int tcCnt = decoRowOffsetX;
+        for (AnnotationTriplet at : decorationAnnotations) {
+            writeFieldNameCell(fieldNameRow.createCell(tcCnt++), at.getColnumber());
         }
-
-        // adapt fieldnames for column values to reflect aggregation type
-        for (AnnotationTriplet at : annotations.getByAnnotation_OrderBy_OrderAscending("value")) {
-            for (Cell cell : fieldNameRow) {
-                if (cell.getStringCellValue().equals(sourceSheet.getRow(SourceLayOut.FIELDNAME_ROW_NUMBER).getCell(at.getColnumber()).getStringCellValue())) {
-                    reWriteFieldNamesToReflectAggregationType(getAggregationTypeFromSource(at.getColnumber()), cell);
-                }
+        // set repeating field names (for every column value in the row above), reflecting the aggregation type
+        while (tcCnt < tableWidth){
+            for (AnnotationTriplet at : valueAnnotations) {
+                final Cell cell = fieldNameRow.createCell(tcCnt++);
+                writeFieldNameCell(cell, at.getColnumber());
+                reWriteFieldNamesToReflectAggregationType(aggregationTypeByColumn.get(at.getColnumber()), cell);
             }
         }
-
     }
 
-    private Cell findDecorationFor(Cell cell, Integer order){
-
-        AnnotationTriplet at = annotations.getByAnnotation_OrderBy_OrderAscending("deco").get(order);
-        int decoX = at.getColnumber();
-
-        int srCnt;
-        for (srCnt = SourceLayOut.VALUES_START_AT_ROWNUMBER; srCnt <= sourceSheet.getLastRowNum(); srCnt++) {
-            if (
-                    PivotUtils.cellValueEquals(
-                            sourceSheet.getRow(srCnt).getCell(rowAnnotatedColumnNumber),
-                            cell
-                    )
-                    ){
-                return sourceSheet.getRow(srCnt).getCell(decoX);
-            }
+    private void writeFieldNameCell(final Cell newCell, final int sourceCol) {
+        final CellCopy fieldName = fieldNameByColumn != null ? fieldNameByColumn.get(sourceCol) : null;
+        if (fieldName != null) {
+            fieldName.copyTo(newCell);
         }
-        return null;
+        newCell.setCellStyle(fieldNameStyle);
     }
 
-    private void addValuesToPivot(final int rowInTarget, final int rowInSource, final int colInSource, final AggregationType type) {
-
-        // find position in target sheet
-        int colPosTarget;
-
-        // search header rows of target sheet for matching column(s) row-by-row, left-to-right
-        int rowSearchStart = TargetLayOut.columnLabelOffsetY; // row start of search
-        int colSearchStart = columnLabelOffsetX; // col start of search
-        int colSearchEnd = targetSheet.getRow(rowSearchStart).getLastCellNum();
-        for (AnnotationTriplet at : annotations.getByAnnotation_OrderBy_OrderAscending("column")){
-            Cell sourceColumnCell = sourceSheet.getRow(rowInSource).getCell(at.getColnumber());
-            colSearchStart = getColPosCellInTarget(sourceColumnCell,rowSearchStart++, colSearchStart, colSearchEnd);
-        }
-        // search fieldname row of target sheet for matching fieldname for value
-        Cell valueFieldNameSourceCell = sourceSheet.getRow(SourceLayOut.FIELDNAME_ROW_NUMBER).getCell(colInSource);
-        colPosTarget = getColPosCellInTarget(valueFieldNameSourceCell, fieldNameRow.getRowNum(), colSearchStart, colSearchEnd);
-
-        // copy or add value to target cell
-        Cell valueCellSource = sourceSheet.getRow(rowInSource).getCell(colInSource);
-        Cell valueCellTarget = targetSheet.getRow(rowInTarget).getCell(colPosTarget);
-        if (valueCellSource!=null && (valueCellTarget== null || valueCellTarget.getCellType()==CellType.BLANK)){
-            valueCellTarget = targetSheet.getRow(rowInTarget).createCell(colPosTarget);
-            switch (type) {
-            case SUM:
-                PivotUtils.copyCell(valueCellSource, valueCellTarget);
-                break;
-
-            case COUNT:
-                valueCellTarget.setCellValue(1);
-                break;
-            }
-        } else {
-            switch (type) {
-            case SUM:
-                PivotUtils.addCellValueTo(valueCellSource, valueCellTarget);
-                break;
-
-            case COUNT:
-                if (valueCellTarget==null){
-                    valueCellTarget = targetSheet.getRow(rowInTarget).createCell(colPosTarget);
-                    valueCellTarget.setCellValue(1);
-                } else {
-                    double counter = valueCellTarget.getNumericCellValue();
-                    valueCellTarget.setCellValue(counter + 1);
-                }
-                break;
-            }
-        }
+    private void writeValueRow(final Row workRow, final PivotRow pivotRow) {
 
-    }
+        // create label
+        pivotRow.label().copyTo(workRow.createCell(TargetLayOut.rowLabelColumnNumber));
 
-    private Integer getColPosCellInTarget(Cell cell, int rowNumber, int colStart, int colEnd){
-        for (int i = colStart; i < colEnd; i++){
-            if (PivotUtils.cellValueEquals(targetSheet.getRow(rowNumber).getCell(i),cell)){
-                return i;
+        // create decoration(s)
+        for (int i = 0; i < numberOfDecorationAnnotationsInSource; i++){
+            final Cell target = workRow.createCell(decoRowOffsetX + i);
+            final CellCopy decoration = pivotRow.decorations().get(i);
+            if (decoration != null) {
+                decoration.copyTo(target);
             }
         }
-        return null;
-    }
 
-    private Integer getRowPosCellInTarget(Cell cell, int colNumber){
-        for (int i = valueRowOffsetY; i <= targetSheet.getLastRowNum(); i++){
-            if (PivotUtils.cellValueEquals(targetSheet.getRow(i).getCell(colNumber), cell)){
-                return i;
-            }
+        // values, in column order
+        final List<Map.Entry<Integer, Aggregate>> valueCells = new ArrayList<>();
+        pivotRow.aggregates().forEach((valueKey, aggregate) -> valueCells.add(Map.entry(colPosInTarget(valueKey), aggregate)));
+        valueCells.sort(Map.Entry.comparingByKey());
+        for (Map.Entry<Integer, Aggregate> valueCell : valueCells) {
+            valueCell.getValue().writeTo(workRow.createCell(valueCell.getKey()));
         }
-        return null;
     }
 
-    private void addSummations(){
-
-        int tableWidth = targetSheet.getRow(valueRowOffsetY).getLastCellNum();
-        int tableHeight = targetSheet.getLastRowNum() + 1;
-
-        if (numberOfValueAnnotationsInSource < 2) {
-
-            // summations by row (only makes sense with one value annotation)
-            for (Iterator<Row> iter = targetSheet.rowIterator(); iter.hasNext(); ) {
-                Row r = iter.next();
-                Cell c = targetSheet.getRow(r.getRowNum()).createCell(tableWidth);
-                if (r.getRowNum() > valueRowOffsetY) {
-                    String start = CellReference.convertNumToColString(columnLabelOffsetX);
-                    String end = CellReference.convertNumToColString(tableWidth - 1);
-                    c.setCellFormula("SUM(" + start + String.valueOf(r.getRowNum() + 1) + ":" + end + String.valueOf(r.getRowNum() + 1) + ")");
-                    c.setCellStyle(TargetLayOut.rowSumStyle);
-                } else {
-                    // just set cell style
-                    c.setCellStyle(TargetLayOut.rowSumStyle);
-                }
-            }
-
-        }
-
-        // summations for column
-        Row r = targetSheet.createRow(tableHeight);
-        int tcCnt;
-        for (tcCnt = 0; tcCnt < tableWidth; tcCnt++){
-            Cell c = r.createCell(tcCnt);
-            if (tcCnt >= columnLabelOffsetX) {
-                String columnStr = CellReference.convertNumToColString(tcCnt);
-                c.setCellFormula("SUM(" + columnStr + String.valueOf(valueRowOffsetY + 2) + ":" + columnStr + String.valueOf(tableHeight) + ")");
-                c.setCellStyle(TargetLayOut.columSumStyle);
-            } else {
-                // just set cell style
-                c.setCellStyle(TargetLayOut.columSumStyle);
-            }
-        }
-        if (numberOfValueAnnotationsInSource < 2) {
-            // add total for sums (only makes sense with one value annotation)
-            Cell c = r.createCell(tableWidth);
-            String columnStr = CellReference.convertNumToColString(tableWidth);
-            c.setCellFormula("SUM(" + columnStr + String.valueOf(valueRowOffsetY + 2) + ":" + columnStr + String.valueOf(tableHeight) + ")");
-            c.setCellStyle(TargetLayOut.totalSumStyle);
+    /**
+     * The target column of the given (indexes of the) column values and value annotation.
+     */
+    private int colPosInTarget(final List<Integer> valueKey) {
+        int combination = 0;
+        for (int i = 0; i < numberOfColumnAnnotationsInSource; i++) {
+            combination = combination * distinctColumnValues.get(i).size() + valueKey.get(i);
         }
+        return columnLabelOffsetX + combination * numberOfValueAnnotationsInSource + valueKey.get(numberOfColumnAnnotationsInSource);
     }
 
     private void reWriteFieldNamesToReflectAggregationType(AggregationType type, Cell cell) {
@@ -560,15 +545,6 @@ private void reWriteFieldNamesToReflectAggregationType(AggregationType type, Cel
         }
     }
 
-    private AggregationType getAggregationTypeFromSource(final int colNumber){
-        AggregationType type = AggregationType.SUM;
-        Cell typeSourceCell = sourceSheet.getRow(SourceLayOut.TYPE_ROW_NUMBER).getCell(colNumber);
-        if (typeSourceCell!=null && typeSourceCell.getStringCellValue().equals("COUNT")){
-            type = AggregationType.COUNT;
-        }
-        return type;
-    }
-
     static List<Cell> getDistinctValuesInSourceSheetColumn(Sheet sourceSheet, Integer columnNumber){
 
         List<Cell> result = new ArrayList<>();
@@ -590,35 +566,140 @@ static List<Cell> getDistinctValuesInSourceSheetColumn(Sheet sourceSheet, Intege
         return result;
     }
 
-    private void defineSomeCellStyles() {
-        TargetLayOut.boldFont= targetSheet.getWorkbook().createFont();
-        TargetLayOut.boldFont.setBold(true);
-
-        TargetLayOut.fieldNameStyle = targetSheet.getWorkbook().createCellStyle();
-        TargetLayOut.fieldNameStyle.setFillForegroundColor(TargetLayOut.fieldnameBgColorIndex);
-        TargetLayOut.fieldNameStyle.setFillPattern(FillPatternType.SOLID_FOREGROUND);
-        TargetLayOut.fieldNameStyle.setFont(TargetLayOut.boldFont);
-
-        TargetLayOut.columnHeaderValueStyle = targetSheet.getWorkbook().createCellStyle();
-        TargetLayOut.columnHeaderValueStyle.setFillForegroundColor(TargetLayOut.columnHeaderValueBgColorIndex);
-        TargetLayOut.columnHeaderValueStyle.setFillPattern(FillPatternType.SOLID_FOREGROUND);
-        TargetLayOut.columnHeaderValueStyle.setFont(TargetLayOut.boldFont);
-
-        TargetLayOut.rowSumStyle = targetSheet.getWorkbook().createCellStyle();
-        TargetLayOut.rowSumStyle.setBorderLeft(BorderStyle.THIN);
-        TargetLayOut.rowSumStyle.setFillForegroundColor(TargetLayOut.sumBgColorIndex);
-        TargetLayOut.rowSumStyle.setFillPattern(FillPatternType.SOLID_FOREGROUND);
-
-        TargetLayOut.columSumStyle = targetSheet.getWorkbook().createCellStyle();
-        TargetLayOut.columSumStyle.setBorderTop(BorderStyle.THIN);
-        TargetLayOut.columSumStyle.setFillForegroundColor(TargetLayOut.sumBgColorIndex);
-        TargetLayOut.columSumStyle.setFillPattern(FillPatternType.SOLID_FOREGROUND);
-
-        TargetLayOut.totalSumStyle = targetSheet.getWorkbook().createCellStyle();
-        TargetLayOut.totalSumStyle.setBorderTop(BorderStyle.THIN);
-        TargetLayOut.totalSumStyle.setBorderLeft(BorderStyle.THIN);
-        TargetLayOut.totalSumStyle.setFillForegroundColor(TargetLayOut.sumBgColorIndex);
-        TargetLayOut.totalSumStyle.setFillPattern(FillPatternType.SOLID_FOREGROUND);
+    private void defineSomeCellStyles(final Sheet targetSheet) {
+        final Font boldFont = targetSheet.getWorkbook().createFont();
+        boldFont.setBold(true);
+
+        fieldNameStyle = targetSheet.getWorkbook().createCellStyle();
+        fieldNameStyle.setFillForegroundColor(TargetLayOut.fieldnameBgColorIndex);
+        fieldNameStyle.setFillPattern(FillPatternType.SOLID_FOREGROUND);
+        fieldNameStyle.setFont(boldFont);
+
+        columnHeaderValueStyle = targetSheet.getWorkbook().createCellStyle();
+        columnHeaderValueStyle.setFillForegroundColor(TargetLayOut.columnHeaderValueBgColorIndex);
+        columnHeaderValueStyle.setFillPattern(FillPatternType.SOLID_FOREGROUND);
+        columnHeaderValueStyle.setFont(boldFont);
+
+        rowSumStyle = targetSheet.getWorkbook().createCellStyle();
+        rowSumStyle.setBorderLeft(BorderStyle.THIN);
+        rowSumStyle.setFillForegroundColor(TargetLayOut.sumBgColorIndex);
+        rowSumStyle.setFillPattern(FillPatternType.SOLID_FOREGROUND);
+
+        columSumStyle = targetSheet.getWorkbook().createCellStyle();
+        columSumStyle.setBorderTop(BorderStyle.THIN);
+        columSumStyle.setFillForegroundColor(TargetLayOut.sumBgColorIndex);
+        columSumStyle.setFillPattern(FillPatternType.SOLID_FOREGROUND);
+
+        totalSumStyle = targetSheet.getWorkbook().createCellStyle();
+        totalSumStyle.setBorderTop(BorderStyle.THIN);
+        totalSumStyle.setBorderLeft(BorderStyle.THIN);
+        totalSumStyle.setFillForegroundColor(TargetLayOut.sumBgColorIndex);
+        totalSumStyle.setFillPattern(FillPatternType.SOLID_FOREGROUND);
+    }
+
+    // -- HELPER
+
+    /**
+     * Identifies a cell value, such that equal values are pivoted together.
+     */
+    private record CellKey(CellType type, Object value) {
+    }
+
+    /**
+     * The value (and looks) of a source cell, held onto once the row it belongs to may have been flushed.
+     */
+    private record CellCopy(CellType type, Object value, CellStyle style, Hyperlink hyperlink) {
+
+        static CellCopy of(final Cell cell) {
+            if (cell == null) {
+                return null;
+            }
+            final Object value = switch (cell.getCellType()) {
+                case BOOLEAN -> cell.getBooleanCellValue();
+                case ERROR -> cell.getErrorCellValue();
+                case FORMULA -> cell.getCellFormula();
+                case NUMERIC -> cell.getNumericCellValue();
+                case STRING -> cell.getStringCellValue();
+                case BLANK, _NONE -> null;
+            };
+            return new CellCopy(cell.getCellType(), value, cell.getCellStyle(), cell.getHyperlink());
+        }
+
+        CellKey key() {
+            return new CellKey(type, value);
+        }
+
+        void copyTo(final Cell target) {
+            target.setCellStyle(style);
+            if (hyperlink != null) {
+                target.setHyperlink(hyperlink);
+            }
+            switch (type) {
+            case BLANK -> target.setBlank();
+            case BOOLEAN -> target.setCellValue((Boolean) value);
+            case ERROR -> target.setCellErrorValue((Byte) value);
+            case FORMULA -> target.setCellFormula((String) value);
+            case NUMERIC -> target.setCellValue((Double) value);
+            case STRING -> target.setCellValue((String) value);
+            case _NONE -> {}
+            }
+        }
+
+    }
+
+    /**
+     * A row of the pivot: its label, its decorations and the aggregated values, keyed by the indexes of their
+     * column values followed by the index of their value annotation.
+     */
+    private record PivotRow(CellCopy label, List<CellCopy> decorations, Map<List<Integer>, Aggregate> aggregates) {
+    }
+
+    /**
+     * The aggregate of the value cells of one cell of the pivot.
+     */
+    private static class Aggregate {
+
+        private boolean numeric;
+        private double sum;
+        private int count;
+        private boolean counting;
+        private CellStyle style;
+
+        /**
+         * Sums the given cell; a blank cell only contributes its style, until a numeric one is found.
+         */
+        void add(final Cell valueCellSource) {
+            if (valueCellSource.getCellType() == CellType.NUMERIC) {
+                if (!numeric) {
+                    numeric = true;
+                    style = valueCellSource.getCellStyle();
+                }
+                sum += valueCellSource.getNumericCellValue();
+            } else if (!numeric) {
+                style = valueCellSource.getCellStyle();
+            }
+        }
+
+        void count() {
+            counting = true;
+            count++;
+        }
+
+        void writeTo(final Cell target) {
+            if (counting) {
+                target.setCellValue(count);
+                return;
+            }
+            if (style != null) {
+                target.setCellStyle(style);
+            }
+            if (numeric) {
+                target.setCellValue(sum);
+            } else {
+                target.setBlank();
+            }
+        }
+
     }
 
 }
@@ -0,0 +1,117 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.excel.applib.service;
+
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.ClientAnchor;
+import org.apache.poi.ss.usermodel.Comment;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.xssf.usermodel.XSSFSheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class _StreamingSheetReaderTest {
+
+    byte[] bytes;
+
+    @BeforeEach
+    void setup() throws Exception {
+        try(XSSFWorkbook workbook = new XSSFWorkbook()) {
+            workbook.createSheet("Other").createRow(0).createCell(0).setCellValue("not of interest");
+
+            XSSFSheet sheet = workbook.createSheet("Data");
+            Row header = sheet.createRow(0);
+            header.createCell(0).setCellValue("name");
+            header.createCell(1).setCellValue("amount");
+
+            // row 1 intentionally left out
+            Row detail = sheet.createRow(2);
+            detail.createCell(0).setCellValue("a\nb");
+            detail.createCell(2).setCellValue(42.5);
+            detail.createCell(3).setCellValue(true);
+            detail.createCell(4).setCellValue(LocalDate.of(2020, 2, 29));
+            Cell commented = detail.createCell(5);
+            commented.setCellValue("title");
+            ClientAnchor anchor = workbook.getCreationHelper().createClientAnchor();
+            Comment comment = sheet.createDrawingPatriarch().createCellComment(anchor);
+            comment.setString(workbook.getCreationHelper().createRichTextString("bookmark"));
+            commented.setCellComment(comment);
+            detail.createCell(6).setBlank();
+
+            ByteArrayOutputStream baos = new ByteArrayOutputStream();
+            workbook.write(baos);
+            bytes = baos.toByteArray();
+        }
+    }
+
+    @Test
+    void sheetNames_are_in_workbook_order() throws Exception {
+        try(_StreamingSheetReader reader = new _StreamingSheetReader(bytes)) {
+            assertThat(reader.sheetNames()).containsExactly("Other", "Data");
+        }
+    }
+
+    @Test
+    void readSheet_streams_typed_cells() throws Exception {
+
+        // when
+        List<_StreamingSheetReader.StreamedRow> rows = new ArrayList<>();
+        try(_StreamingSheetReader reader = new _StreamingSheetReader(bytes)) {
+            reader.readSheet(Arrays.asList("unknown", "data"), rows::add);
+        }
+
+        // then
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0).rowNum()).isEqualTo(0);
+        assertThat(rows.get(0).cells().get(1).getStringCellValue()).isEqualTo("amount");
+
+        _StreamingSheetReader.StreamedRow detail = rows.get(1);
+        assertThat(detail.rowNum()).isEqualTo(2);
+        List<_CellData> cells = detail.cells();
+        assertThat(cells).extracting(_CellData::getColumnIndex).containsExactly(0, 2, 3, 4, 5, 6);
+        assertThat(cells.get(0).getStringCellValue()).isEqualTo("a\nb");
+        assertThat(cells.get(1).getCellType()).isEqualTo(CellType.NUMERIC);
+        assertThat(cells.get(1).getNumericCellValue()).isEqualTo(42.5);
+        assertThat(cells.get(2).getBooleanCellValue()).isTrue();
+        assertThat(cells.get(3).getDateCellValue()).isEqualTo(java.sql.Date.valueOf(LocalDate.of(2020, 2, 29)));
+        assertThat(cells.get(4).getStringCellValue()).isEqualTo("title");
+        assertThat(cells.get(4).getCommentText()).isEqualTo("bookmark");
+        assertThat(cells.get(5).getCellType()).isEqualTo(CellType.BLANK);
+        assertThrows(IllegalStateException.class, ()->cells.get(1).getStringCellValue());
+    }
+
+    @Test
+    void readSheet_fails_for_unknown_sheet() throws Exception {
+        try(_StreamingSheetReader reader = new _StreamingSheetReader(bytes)) {
+            assertThrows(IllegalArgumentException.class, ()->reader.readSheet(Arrays.asList("unknown"), row->{}));
+        }
+    }
+
+}
@@ -25,6 +25,10 @@
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.CellType;
 import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.apache.poi.xssf.usermodel.XSSFSheet;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.junit.jupiter.api.BeforeEach;
@@ -34,11 +38,13 @@
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import org.apache.causeway.extensions.excel.applib.AggregationType;
+
 class SheetPivoterTest {
 
-    XSSFWorkbook workbook;
-    XSSFSheet sourceSheet;
-    XSSFSheet targetSheet;
+    Workbook workbook;
+    Sheet sourceSheet;
+    Sheet targetSheet;
     SheetPivoter p;
 
     @BeforeEach
@@ -406,6 +412,126 @@ void emptyColumnValuesAreSupported() {
 
     }
 
+    @Test
+    void testPivoting_streamedSheets_works() throws Exception {
+
+        try(SXSSFWorkbook streamingWorkbook = new SXSSFWorkbook(2)) {
+            try {
+                // given
+                workbook = streamingWorkbook;
+                sourceSheet = streamingWorkbook.createSheet();
+                targetSheet = streamingWorkbook.createSheet();
+                ((SXSSFSheet) sourceSheet).setRandomAccessWindowSize(-1);
+                ((SXSSFSheet) targetSheet).setRandomAccessWindowSize(-1);
+
+                List<String> annotations = Arrays.asList("row", "value", "column");
+                List<Integer> orderNumbers = Arrays.asList(0, 0, 0);
+                List<String> typeList = Arrays.asList(null, "SUM", null);
+                List<String> fieldNameList = Arrays.asList("fn1", "fn2", "fn3");
+                List<?> v1 = Arrays.asList("l1", 1, "c1");
+                List<?> v2 = Arrays.asList("l2", 2, "c2");
+                List<?> v3 = Arrays.asList("l1", 3, "c1");
+                sourceSheetBuilder(annotations, orderNumbers, typeList, fieldNameList, v1, v2, v3);
+
+                // when
+                p.pivot(sourceSheet, targetSheet);
+
+                // then
+                assertThat(targetSheet.getLastRowNum()).isEqualTo(4);
+                testRow(0, "fn3", "c1", "c2");
+                testRow(1, "fn1", "fn2 (sum)", "fn2 (sum)");
+                testRow(2, "l1", 4, null);
+                testRow(3, "l2", null, 2);
+            } finally {
+                streamingWorkbook.dispose();
+            }
+        }
+    }
+
+    @Test
+    void testPivoting_flushedSourceSheet_isRejected() throws Exception {
+
+        try(SXSSFWorkbook streamingWorkbook = new SXSSFWorkbook(2)) {
+            try {
+                // given (window of 2 rows, so the annotation rows get flushed)
+                workbook = streamingWorkbook;
+                sourceSheet = streamingWorkbook.createSheet();
+                targetSheet = streamingWorkbook.createSheet();
+
+                List<String> annotations = Arrays.asList("row", "value", "column");
+                List<Integer> orderNumbers = Arrays.asList(0, 0, 0);
+                List<String> typeList = Arrays.asList(null, "SUM", null);
+                List<String> fieldNameList = Arrays.asList("fn1", "fn2", "fn3");
+                sourceSheetBuilder(annotations, orderNumbers, typeList, fieldNameList, Arrays.asList("l1", 1, "c1"));
+
+                // then
+                assertThrows(IllegalArgumentException.class, ()->{
+
+                    // when
+                    p.pivot(sourceSheet, targetSheet);
+
+                });
+            } finally {
+                streamingWorkbook.dispose();
+            }
+        }
+    }
+
+    @Test
+    void testPivoting_rowsAsTheseAreStreamed_works() throws Exception {
+
+        try(SXSSFWorkbook streamingWorkbook = new SXSSFWorkbook(2)) {
+            try {
+                // given (window of 2 rows, so the source rows get flushed once passed to the pivot)
+                workbook = streamingWorkbook;
+                sourceSheet = streamingWorkbook.createSheet();
+                targetSheet = streamingWorkbook.createSheet();
+                ((SXSSFSheet) targetSheet).setRandomAccessWindowSize(-1); // just to verify the pivot below
+
+                p.begin(
+                        Arrays.asList("row", "value", "column"),
+                        Arrays.asList(0, 0, 0),
+                        Arrays.asList(null, AggregationType.SUM, null));
+
+                // when
+                List<List<?>> rows = Arrays.asList(
+                        Arrays.asList("fn1", "fn2", "fn3"),
+                        Arrays.asList("l1", 1, "c1"),
+                        Arrays.asList("l2", 2, "c2"),
+                        Arrays.asList("l1", 3, "c1"),
+                        Arrays.asList("", 4, "c1"));
+                int rowNum = 0;
+                for (List<?> values : rows) {
+                    Row r = sourceSheet.createRow(rowNum++);
+                    int i = 0;
+                    for (Object o : values) {
+                        if (o instanceof Integer number) {
+                            r.createCell(i++).setCellValue(number);
+                        } else {
+                            r.createCell(i++).setCellValue((String) o);
+                        }
+                    }
+                    p.accept(r);
+                }
+                p.writeTo(targetSheet);
+
+                // then
+                assertThat(((SXSSFSheet) sourceSheet).getLastFlushedRowNum()).isEqualTo(2);
+                assertThat(sourceSheet.getRow(4).getCell(0).getStringCellValue()).isEqualTo("(empty)");
+
+                assertThat(targetSheet.getLastRowNum()).isEqualTo(5);
+                testRow(0, "fn3", "c1", "c2");
+                testRow(1, "fn1", "fn2 (sum)", "fn2 (sum)");
+                testRow(2, "l1", 4, null);
+                testRow(3, "l2", null, 2);
+                testRow(4, "(empty)", 4, null);
+                assertThat(targetSheet.getRow(5).getCell(1).getCellFormula()).isEqualTo("SUM(B3:B5)");
+            } finally {
+                streamingWorkbook.dispose();
+            }
+        }
+    }
+
     @Test
     void getDistinctValuesInSourceSheetColumnTest() throws IOException {
 
@@ -34,12 +34,14 @@
 import org.apache.causeway.applib.annotation.PropertyLayout;
 import org.apache.causeway.applib.services.metamodel.BeanSort;
 import org.apache.causeway.applib.services.repository.RepositoryService;
+import org.apache.causeway.applib.services.xactn.TransactionService;
 import org.apache.causeway.applib.value.Blob;
 import org.apache.causeway.commons.internal.base._Bytes;
 import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
 import org.apache.causeway.core.metamodel.specloader.SpecificationLoader;
 import org.apache.causeway.extensions.excel.applib.CausewayModuleExtExcelApplib;
 import org.apache.causeway.extensions.excel.applib.ExcelService;
+import org.apache.causeway.extensions.excel.applib.WorksheetSpec;
 import org.apache.causeway.testing.fixtures.applib.fixturescripts.FixtureResultList;
 import org.apache.causeway.testing.fixtures.applib.fixturescripts.FixtureScript;
 import org.apache.causeway.testing.fixtures.applib.fixturescripts.FixtureScriptWithExecutionStrategy;
@@ -65,6 +67,7 @@ public class ExcelFixture extends FixtureScript implements FixtureScriptWithExec
     @Inject SpecificationLoader specLoader;
     @Inject ExcelService excelService;
     @Inject RepositoryService repositoryService;
+    @Inject TransactionService transactionService;
 
     public ExcelFixture(final URL excelResource, final Class<?>... classes) {
         this(excelResource, Arrays.asList(classes));
@@ -129,6 +132,24 @@ public String getQualifiedName() {
     @Getter @Setter
     private Blob blob;
 
+    /**
+     * Input, optional: if positive, the transaction is flushed every so many rows, so that large spreadsheets
+     * are written to the object store incrementally while they are being read, rather than all at once at the end.
+     * <p>
+     * After each flush, the objects created since the previous one are detached from the persistence context, so that
+     * neither this fixture nor the persistence context grows with the spreadsheet.  Any rows remaining after the last
+     * full batch are flushed (and their objects detached) once the sheet has been read.  Hence none of the created
+     * objects are added to {@link #getObjects()}, {@link #getObjectsByClass()} nor the fixture results.
+     * <p>
+     * Flushing does not commit: like any fixture script, this one runs within a single transaction, which commits
+     * (all rows) once the fixture scripts have been run. To commit in between, split the spreadsheet and run an
+     * {@link ExcelFixture} per part, each in its own transaction (say, using {@link TransactionService}'s
+     * {@code runTransactional} with {@code Propagation.REQUIRES_NEW}).
+     */
+    @Getter @Setter
+    @PropertyLayout(sequence = "1.3")
+    private int flushEvery;
+
     /**
      * Output: all the objects created by this fixture.
      */
@@ -151,19 +172,40 @@ protected void execute(final ExecutionContext ec) {
         }
 
         for (Class<?> cls : classes) {
-            final List<?> rowObjects = excelService.fromExcel(blob, cls, cls.getSimpleName());
-            Object previousRow = null;
-            for (final Object rowObj : rowObjects) {
-                final List<Object> createdObjects = create(rowObj, ec, previousRow);
+            // rows are handled as they are read, rather than after the whole sheet has been read
+            final Object[] previousRow = {null};
+            final int[] rowCount = {0};
+            final List<Object> createdSinceFlush = new ArrayList<>();
+            excelService.fromExcel(blob, new WorksheetSpec(cls, cls.getSimpleName()), rowObj -> {
+                final List<Object> createdObjects = create(rowObj, ec, previousRow[0]);
                 if (createdObjects != null) {
-                    addToMap(cls, createdObjects);
-                    addToCombined(createdObjects);
+                    if (flushEvery > 0) {
+                        createdSinceFlush.addAll(createdObjects);
+                    } else {
+                        addToMap(cls, createdObjects);
+                        addToCombined(createdObjects);
+                    }
                 }
-                previousRow = rowObj;
+                previousRow[0] = rowObj;
+                if (flushEvery > 0
+                        && ++rowCount[0] % flushEvery == 0) {
+                    flushAndDetach(createdSinceFlush);
+                }
+            });
+            if (flushEvery > 0
+                    && rowCount[0] % flushEvery != 0) {
+                // the rows after the last full batch
+                flushAndDetach(createdSinceFlush);
             }
         }
     }
 
+    private void flushAndDetach(final List<Object> createdSinceFlush) {
+        transactionService.flushTransaction();
+        createdSinceFlush.forEach(repositoryService::detach);
+        createdSinceFlush.clear();
+    }
+
     private List<Object> create(
             final Object rowObj,
             final ExecutionContext ec,
@@ -172,7 +214,9 @@ private List<Object> create(
 			return rowHandler.handleRow(ec, this, previousRow);
 		else {
             repositoryService.persist(rowObj);
-            ec.addResult(this, rowObj);
+            if (flushEvery <= 0) {
+                ec.addResult(this, rowObj);
+            }
             return Collections.singletonList(rowObj);
         }
     }
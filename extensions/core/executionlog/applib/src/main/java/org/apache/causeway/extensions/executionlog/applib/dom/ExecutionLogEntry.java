@@ -38,6 +38,7 @@
 import org.apache.causeway.applib.annotation.Property;
 import org.apache.causeway.applib.annotation.Publishing;
 import org.apache.causeway.applib.annotation.ValueSemantics;
+import org.apache.causeway.applib.jaxb.JavaSqlXMLGregorianCalendarMarshalling;
 import org.apache.causeway.applib.mixins.system.DomainChangeRecord;
 import org.apache.causeway.applib.mixins.system.HasInteractionId;
 import org.apache.causeway.applib.mixins.system.HasInteractionIdAndSequence;
@@ -52,8 +53,10 @@
 import org.apache.causeway.applib.util.ToString;
 import org.apache.causeway.commons.internal.base._Temporals;
 import org.apache.causeway.extensions.executionlog.applib.CausewayModuleExtExecutionLogApplib;
+import org.apache.causeway.schema.ixn.v2.ActionInvocationDto;
 import org.apache.causeway.schema.ixn.v2.InteractionDto;
 import org.apache.causeway.schema.ixn.v2.MemberExecutionDto;
+import org.apache.causeway.schema.ixn.v2.PropertyEditDto;
 import org.springframework.stereotype.Service;
 
 import jakarta.annotation.Priority;
@@ -150,6 +153,38 @@ default void init(final Execution<? extends MemberExecutionDto, ?> execution) {
             throw new IllegalArgumentException(String.format("Execution subtype unknown: %s", execution.getClass().getName()));
     }
 
+    /**
+     * As {@link #init(Execution)}, but from a snapshot of the execution, as passed to subscribers notified
+     * asynchronously.
+     */
+    @Programmatic
+    default void init(final InteractionDto interactionDto) {
+        setInteractionId(UUID.fromString(interactionDto.getInteractionId()));
+
+        var memberExecutionDto = interactionDto.getExecution();
+        setSequence(memberExecutionDto.getSequence());
+        setInteractionDto(interactionDto);
+
+        var timings = memberExecutionDto.getMetrics().getTimings();
+        var startedAt = JavaSqlXMLGregorianCalendarMarshalling.toTimestamp(timings.getStartedAt());
+        setTimestamp(startedAt);
+        setStartedAt(startedAt);
+        setCompletedAt(JavaSqlXMLGregorianCalendarMarshalling.toTimestamp(timings.getCompletedAt()));
+
+        setLogicalMemberIdentifier(memberExecutionDto.getLogicalMemberIdentifier());
+
+        setTarget(Bookmark.forOidDto(memberExecutionDto.getTarget()));
+        setUsername(memberExecutionDto.getUsername());
+
+        if(memberExecutionDto instanceof PropertyEditDto) {
+            setExecutionType(ExecutionLogEntryType.PROPERTY_EDIT);
+        } else if(memberExecutionDto instanceof ActionInvocationDto) {
+            setExecutionType(ExecutionLogEntryType.ACTION_INVOCATION);
+        } else
+            // shouldn't happen, there are no other subtypes
+            throw new IllegalArgumentException(String.format("Execution subtype unknown: %s", memberExecutionDto.getClass().getName()));
+    }
+
     static final DateTimeFormatter DATETIME_FORMATTER =
             DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
 
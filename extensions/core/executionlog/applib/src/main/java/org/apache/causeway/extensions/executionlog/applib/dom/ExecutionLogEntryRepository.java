@@ -27,6 +27,8 @@
 import org.apache.causeway.applib.exceptions.RecoverableException;
 import org.apache.causeway.applib.services.bookmark.Bookmark;
 import org.apache.causeway.applib.services.iactn.Execution;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.schema.ixn.v2.InteractionDto;
 import org.jspecify.annotations.Nullable;
 
 import lombok.Getter;
@@ -52,6 +54,14 @@ public NotFoundException(final UUID interactionId) {
     @SuppressWarnings("rawtypes")
 	ExecutionLogEntry createEntryAndPersist(final Execution execution);
 
+    /**
+     * Creates and persists an entry for each of the given execution snapshots (as passed to subscribers notified
+     * asynchronously), in the order given.
+     *
+     * @since 4.0
+     */
+    Can<ExecutionLogEntry> createEntriesAndPersist(final Can<InteractionDto> interactionDtos);
+
     List<ExecutionLogEntry> findByInteractionId(final UUID interactionId);
 
     Optional<ExecutionLogEntry> findByInteractionIdAndSequence(final UUID interactionId, final int sequence);
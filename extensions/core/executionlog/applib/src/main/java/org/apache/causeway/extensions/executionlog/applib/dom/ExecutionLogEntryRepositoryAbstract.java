@@ -31,8 +31,10 @@
 import org.apache.causeway.applib.services.factory.FactoryService;
 import org.apache.causeway.applib.services.iactn.Execution;
 import org.apache.causeway.applib.services.repository.RepositoryService;
+import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.internal.base._Casts;
 import org.apache.causeway.core.config.environment.CausewaySystemEnvironment;
+import org.apache.causeway.schema.ixn.v2.InteractionDto;
 import org.jspecify.annotations.Nullable;
 
 import jakarta.inject.Inject;
@@ -78,6 +80,20 @@ public E createEntryAndPersist(final Execution execution) {
         return e;
     }
 
+    /**
+     * @see RepositoryService#persistInBatches(List)
+     */
+    @Override
+    public Can<ExecutionLogEntry> createEntriesAndPersist(final Can<InteractionDto> interactionDtos) {
+        var entries = interactionDtos.map(interactionDto->{
+            E e = factoryService.detachedEntity(executionLogEntryClass);
+            e.init(interactionDto);
+            return e;
+        });
+        repositoryService().persistInBatches(entries.toList());
+        return _Casts.uncheckedCast(entries);
+    }
+
     @Override
     public List<ExecutionLogEntry> findByInteractionId(final UUID interactionId) {
         return _Casts.uncheckedCast(
@@ -27,15 +27,26 @@
 
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
 import org.apache.causeway.applib.services.iactn.Execution;
+import org.apache.causeway.applib.services.publishing.spi.AsyncTolerantSubscriber;
 import org.apache.causeway.applib.services.publishing.spi.ExecutionSubscriber;
+import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.core.config.CausewayConfiguration;
 import org.apache.causeway.extensions.executionlog.applib.CausewayModuleExtExecutionLogApplib;
 import org.apache.causeway.extensions.executionlog.applib.dom.ExecutionLogEntryRepository;
+import org.apache.causeway.schema.ixn.v2.InteractionDto;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
+ * Persists each published {@link Execution} as an
+ * {@link org.apache.causeway.extensions.executionlog.applib.dom.ExecutionLogEntry}.
+ *
+ * <p>
+ *     Is {@link AsyncTolerantSubscriber async tolerant}, so if async publishing is enabled, entries are instead
+ *     created in bulk from the execution snapshots, once the originating transaction has committed.
+ * </p>
+ *
  * @since 2.0 {@index}
  */
 @Service
@@ -44,7 +55,7 @@
 @Qualifier("Default")
 @RequiredArgsConstructor(onConstructor_ = {@Inject})
 @Slf4j
-public class ExecutionSubscriberForExecutionLog implements ExecutionSubscriber {
+public class ExecutionSubscriberForExecutionLog implements ExecutionSubscriber, AsyncTolerantSubscriber {
 
     static final String LOGICAL_TYPE_NAME = CausewayModuleExtExecutionLogApplib.NAMESPACE + ".ExecutionSubscriberForExecutionLog";
 
@@ -65,4 +76,13 @@ public void onExecution(final Execution<?, ?> execution) {
         executionLogEntryRepository.createEntryAndPersist(execution);
     }
 
+    @Override
+    public void onExecutions(final Can<InteractionDto> interactionDtos) {
+        if (!isEnabled()) {
+            return;
+        }
+
+        executionLogEntryRepository.createEntriesAndPersist(interactionDtos);
+    }
+
 }
@@ -48,7 +48,6 @@
 import org.apache.causeway.extensions.executionlog.applib.dom.ExecutionLogEntryType;
 import org.apache.causeway.persistence.jpa.applib.integration.CausewayEntityListener;
 import org.apache.causeway.persistence.jpa.integration.typeconverters.applib.CausewayBookmarkConverter;
-import org.apache.causeway.persistence.jpa.integration.typeconverters.schema.v2.CausewayInteractionDtoConverter;
 import org.apache.causeway.schema.ixn.v2.InteractionDto;
 import org.apache.causeway.schema.ixn.v2.MemberExecutionDto;
 
@@ -221,7 +220,7 @@ public void setLogicalMemberIdentifier(final String logicalMemberIdentifier) {
         this.logicalMemberIdentifier = Util.abbreviated(logicalMemberIdentifier, LogicalMemberIdentifier.MAX_LENGTH);
     }
 
-    @Convert(converter = CausewayInteractionDtoConverter.class)
+    @Convert(converter = ExecutionLogEntryInteractionDtoConverter.class)
     @Lob @Basic(fetch = FetchType.LAZY)
     @Column(nullable = InteractionDtoAnnot.NULLABLE, columnDefinition = "CLOB")
     @InteractionDtoAnnot
@@ -18,6 +18,7 @@
  */
 package org.apache.causeway.extensions.executionlog.jpa.dom;
 
+import jakarta.inject.Inject;
 import jakarta.inject.Named;
 import jakarta.inject.Provider;
 
@@ -27,8 +28,13 @@
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
 import org.apache.causeway.applib.services.factory.FactoryService;
 import org.apache.causeway.applib.services.repository.RepositoryService;
+import org.apache.causeway.applib.services.xactn.TransactionService;
+import org.apache.causeway.applib.util.schema.DtoEncoding;
+import org.apache.causeway.applib.util.schema.InteractionDtoUtils;
 import org.apache.causeway.extensions.executionlog.applib.dom.ExecutionLogEntryRepositoryAbstract;
 import org.apache.causeway.extensions.executionlog.jpa.CausewayModuleExtExecutionLogPersistenceJpa;
+import org.apache.causeway.persistence.jpa.applib.services.JpaSupportService;
+import org.apache.causeway.persistence.jpa.integration.services.JpaKeysetBatchRewrite;
 
 import lombok.Builder;
 
@@ -45,6 +51,9 @@ public ExecutionLogEntryRepository() {
         super(ExecutionLogEntry.class);
     }
 
+    @Inject JpaSupportService jpaSupportService;
+    @Inject TransactionService transactionService;
+
     /**
      * for testing only
      */
@@ -56,4 +65,33 @@ public ExecutionLogEntryRepository() {
         super(executionLogEntryClass, repositoryServiceProvider, factoryService);
     }
 
+    /**
+     * Rewrites the {@link ExecutionLogEntry#getInteractionDto() InteractionDto} of all persisted entries, so that they are stored using
+     * the currently configured {@link DtoEncoding}, in batches of given {@code batchSize}, as per
+     * {@link JpaKeysetBatchRewrite}.
+     * Intended as a one-off migration after changing the encoding; entries are readable irrespective of
+     * their encoding, so this is optional.
+     *
+     * @return the number of entries rewritten
+     */
+    public int reencodeDtos(final int batchSize) {
+        var dtoMapper = InteractionDtoUtils.dtoMapper();
+        return JpaKeysetBatchRewrite.<ExecutionLogEntry, ExecutionLogEntryPK>rewriteAll(
+                transactionService, jpaSupportService, ExecutionLogEntry.class, batchSize,
+                (em, after)->after == null
+                    ? em.createQuery(
+                        "SELECT ele FROM ExecutionLogEntry ele"
+                        + " ORDER BY ele.pk.interactionId, ele.pk.sequence", ExecutionLogEntry.class)
+                    : em.createQuery(
+                        "SELECT ele FROM ExecutionLogEntry ele"
+                        + " WHERE ele.pk.interactionId > :interactionId"
+                        + "    OR (ele.pk.interactionId = :interactionId AND ele.pk.sequence > :sequence)"
+                        + " ORDER BY ele.pk.interactionId, ele.pk.sequence", ExecutionLogEntry.class)
+                        .setParameter("interactionId", after.getInteractionId())
+                        .setParameter("sequence", after.getSequence()),
+                entry->new ExecutionLogEntryPK(entry.getInteractionId(), entry.getSequence()),
+                // a cloned DTO is never equal to the loaded one, so forces the column to be written again
+                entry->entry.setInteractionDto(dtoMapper.clone(entry.getInteractionDto())));
+    }
+
 }
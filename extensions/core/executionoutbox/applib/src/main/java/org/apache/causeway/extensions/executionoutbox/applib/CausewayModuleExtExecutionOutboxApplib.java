@@ -23,6 +23,7 @@
 
 import org.apache.causeway.extensions.executionoutbox.applib.app.ExecutionOutboxMenu;
 import org.apache.causeway.extensions.executionoutbox.applib.dom.ExecutionOutboxEntry;
+import org.apache.causeway.extensions.executionoutbox.applib.restapi.OutboxArrivals;
 import org.apache.causeway.extensions.executionoutbox.applib.restapi.OutboxRestApi;
 import org.apache.causeway.extensions.executionoutbox.applib.spiimpl.ContentMappingServiceForOutboxEvents;
 import org.apache.causeway.extensions.executionoutbox.applib.spiimpl.ExecutionSubscriberForExecutionOutbox;
@@ -37,6 +38,7 @@
 
         // @Service's
         ExecutionOutboxMenu.class,
+        OutboxArrivals.class,
 
         ExecutionSubscriberForExecutionOutbox.class,
         ExecutionOutboxEntry.TableColumnOrderDefault.class,
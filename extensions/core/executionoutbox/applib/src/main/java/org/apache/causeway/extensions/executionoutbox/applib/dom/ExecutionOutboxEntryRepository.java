@@ -23,11 +23,15 @@
 import java.util.Optional;
 import java.util.UUID;
 
+import org.jspecify.annotations.Nullable;
+
 import org.apache.causeway.applib.exceptions.RecoverableException;
 import org.apache.causeway.applib.services.bookmark.Bookmark;
 import org.apache.causeway.applib.services.iactn.Execution;
+import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.extensions.executionoutbox.applib.CausewayModuleExtExecutionOutboxApplib;
 import org.apache.causeway.schema.ixn.v2.InteractionDto;
+import org.apache.causeway.schema.ixn.v2.MemberExecutionDto;
 
 import lombok.Getter;
 
@@ -54,10 +58,44 @@ public NotFoundException(final UUID interactionId) {
     @SuppressWarnings("rawtypes")
 	ExecutionOutboxEntry createEntryAndPersist(final Execution execution);
 
+    /**
+     * Creates and persists an entry for each of the given execution snapshots (as passed to subscribers notified
+     * asynchronously), in the order given.
+     *
+     * @since 4.0
+     */
+    Can<ExecutionOutboxEntry> createEntriesAndPersist(final Can<InteractionDto> interactionDtos);
+
     Optional<ExecutionOutboxEntry> findByInteractionIdAndSequence(final UUID interactionId, final int sequence);
 
     List<ExecutionOutboxEntry> findOldest();
 
+    /**
+     * Returns up to {@code limit} entries that arrived after the entry identified by the given cursor, in the order
+     * in which they arrived.
+     *
+     * <p>
+     *     Entries are numbered in the order in which they become visible once their transaction has committed; this
+     *     order is unrelated to their {@link ExecutionOutboxEntry#getTimestamp() timestamp}.  An entry committed late
+     *     by a long-running transaction is therefore never skipped, and no entry is returned twice, irrespective of
+     *     the precision with which the timestamps are stored.
+     * </p>
+     *
+     * <p>
+     *     The cursor is the {@link ExecutionOutboxEntry#getInteractionId() interactionId} and
+     *     {@link ExecutionOutboxEntry#getSequence() sequence} of the last entry already seen, allowing a client to
+     *     read ahead of the entries it has yet to acknowledge.  If the {@code interactionId} is <code>null</code>,
+     *     or if that entry has since been deleted, then the entries that arrived first are returned; for a client
+     *     that acknowledges the entries in the order it has read them, these are exactly the ones it has yet to see.
+     * </p>
+     *
+     * @since 4.0
+     */
+    List<ExecutionOutboxEntry> findPendingAfter(
+            final @Nullable UUID interactionId,
+            final int sequence,
+            final int limit);
+
     ExecutionOutboxEntry upsert(
             final UUID interactionId,
             final int sequence,
@@ -80,6 +118,15 @@ ExecutionOutboxEntry upsert(
 
     boolean deleteByInteractionIdAndSequence(final UUID interactionId, final int sequence);
 
+    /**
+     * Deletes the entries identified by the {@link InteractionDto#getInteractionId() interactionId} and
+     * {@link MemberExecutionDto#getSequence() sequence} of each of the given {@link InteractionDto}s, ignoring
+     * any that no longer exist.
+     *
+     * @return the number of entries deleted
+     */
+    int deleteMany(final List<InteractionDto> interactionDtos);
+
     /**
      * for testing purposes only
      */
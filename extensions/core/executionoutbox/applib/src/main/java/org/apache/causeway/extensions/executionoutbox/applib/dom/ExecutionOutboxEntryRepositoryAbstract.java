@@ -31,6 +31,7 @@
 import org.apache.causeway.applib.services.iactn.Execution;
 import org.apache.causeway.applib.services.repository.RepositoryService;
 import org.apache.causeway.applib.util.schema.InteractionDtoUtils;
+import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.internal.base._Casts;
 import org.apache.causeway.core.config.CausewayConfiguration;
 import org.apache.causeway.core.config.environment.CausewaySystemEnvironment;
@@ -95,6 +96,20 @@ public E createEntryAndPersist(final Execution execution) {
         return e;
     }
 
+    /**
+     * @see RepositoryService#persistInBatches(List)
+     */
+    @Override
+    public Can<ExecutionOutboxEntry> createEntriesAndPersist(final Can<InteractionDto> interactionDtos) {
+        var entries = interactionDtos.map(interactionDto->{
+            E e = factoryService.detachedEntity(executionOutboxEntryClass);
+            e.init(interactionDto);
+            return e;
+        });
+        repositoryService().persistInBatches(entries.toList());
+        return _Casts.uncheckedCast(entries);
+    }
+
     @Override
     public Optional<ExecutionOutboxEntry> findByInteractionIdAndSequence(final UUID interactionId, final int sequence) {
         return _Casts.uncheckedCast(
@@ -176,6 +191,23 @@ public boolean deleteByInteractionIdAndSequence(final UUID interactionId, final
 			return false;
     }
 
+    /**
+     * Deletes each entry in turn; persistence mechanisms able to do so should override to use a bulk delete.
+     */
+    @Override
+    @Programmatic
+    public int deleteMany(final List<InteractionDto> interactionDtos) {
+        int deleted = 0;
+        for (var interactionDto : interactionDtos) {
+            if(deleteByInteractionIdAndSequence(
+                    UUID.fromString(interactionDto.getInteractionId()),
+                    interactionDto.getExecution().getSequence())) {
+                deleted++;
+            }
+        }
+        return deleted;
+    }
+
     private void persist(final E commandLogEntry) {
         repositoryService().persist(commandLogEntry);
     }
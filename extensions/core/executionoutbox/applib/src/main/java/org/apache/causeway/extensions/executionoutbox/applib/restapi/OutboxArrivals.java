@@ -0,0 +1,111 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.executionoutbox.applib.restapi;
+
+import java.time.Duration;
+
+import jakarta.annotation.Priority;
+import jakarta.inject.Named;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.extensions.executionoutbox.applib.CausewayModuleExtExecutionOutboxApplib;
+
+/**
+ * Lets {@link OutboxRestApi#pendingAfter(String, int, int) long polling} clients wait for new
+ * {@link org.apache.causeway.extensions.executionoutbox.applib.dom.ExecutionOutboxEntry outbox entries} to arrive,
+ * rather than repeatedly querying the database.
+ *
+ * <p>
+ *     Arrivals are {@link #signalAfterCommit() signalled} once the transaction that persisted them has committed,
+ *     so that a woken client is guaranteed to find them.  Only arrivals within this JVM are signalled; long polling
+ *     clients of a clustered deployment still see entries persisted by other nodes, once their wait has elapsed.
+ * </p>
+ *
+ * @since 4.0 {@index}
+ */
+@Service
+@Named(OutboxArrivals.LOGICAL_TYPE_NAME)
+@Priority(PriorityPrecedence.MIDPOINT)
+public class OutboxArrivals {
+
+    static final String LOGICAL_TYPE_NAME = CausewayModuleExtExecutionOutboxApplib.NAMESPACE + ".OutboxArrivals";
+
+    private final Object lock = new Object();
+    private long generation;
+
+    /**
+     * Signals waiting clients once the current transaction (if any) commits, or immediately otherwise.
+     */
+    public void signalAfterCommit() {
+        if(!TransactionSynchronizationManager.isSynchronizationActive()) {
+            signal();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override public void afterCommit() {
+                signal();
+            }
+        });
+    }
+
+    /**
+     * The current generation, to be passed to {@link #awaitArrivalSince(long, Duration)}.
+     *
+     * <p>
+     *     Must be obtained <i>before</i> querying for pending entries, so that arrivals in between are not missed.
+     * </p>
+     */
+    public long generation() {
+        synchronized (lock) {
+            return generation;
+        }
+    }
+
+    /**
+     * Blocks until there have been arrivals since the given {@link #generation() generation}, or the timeout has
+     * elapsed.
+     *
+     * @return whether there have been arrivals
+     */
+    public boolean awaitArrivalSince(final long generation, final Duration timeout) throws InterruptedException {
+        final long deadline = System.nanoTime() + timeout.toNanos();
+        synchronized (lock) {
+            while(this.generation == generation) {
+                final long remainingMillis = (deadline - System.nanoTime()) / 1_000_000;
+                if(remainingMillis <= 0) {
+                    return false;
+                }
+                lock.wait(remainingMillis);
+            }
+            return true;
+        }
+    }
+
+    void signal() {
+        synchronized (lock) {
+            generation++;
+            lock.notifyAll();
+        }
+    }
+
+}
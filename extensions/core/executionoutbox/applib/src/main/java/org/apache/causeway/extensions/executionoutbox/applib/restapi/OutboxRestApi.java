@@ -18,17 +18,24 @@
  */
 package org.apache.causeway.extensions.executionoutbox.applib.restapi;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.UUID;
 
 import jakarta.inject.Named;
 
+import org.springframework.transaction.annotation.Propagation;
+
 import org.apache.causeway.applib.annotation.Action;
 import org.apache.causeway.applib.annotation.DomainService;
+import org.apache.causeway.applib.annotation.Optionality;
+import org.apache.causeway.applib.annotation.Parameter;
 import org.apache.causeway.applib.annotation.Publishing;
 import org.apache.causeway.applib.annotation.SemanticsOf;
 import org.apache.causeway.applib.services.factory.FactoryService;
+import org.apache.causeway.applib.services.xactn.TransactionService;
 import org.apache.causeway.applib.util.schema.InteractionsDtoUtils;
+import org.apache.causeway.core.config.CausewayConfiguration;
 import org.apache.causeway.extensions.executionoutbox.applib.CausewayModuleExtExecutionOutboxApplib;
 import org.apache.causeway.extensions.executionoutbox.applib.dom.ExecutionOutboxEntry;
 import org.apache.causeway.extensions.executionoutbox.applib.dom.ExecutionOutboxEntryRepository;
@@ -39,16 +46,49 @@
  * {@link ExecutionOutboxEntry outbox entries} to be processed, and then later to request them to be
  * {@link #deleteMany(String) deleted}.
  *
+ * <p>
+ *     Rather than {@link #pending()}, which always returns the oldest entries, clients can instead use
+ *     {@link #pendingAfter(String, int, int)} to page through the entries using a cursor, optionally waiting for new
+ *     entries to arrive (long polling) if there are none.
+ * </p>
+ *
  * @since 2.0 {@index}
  */
 @Named(OutboxRestApi.LOGICAL_TYPE_NAME)
 @DomainService
 public record OutboxRestApi(
         FactoryService factoryService,
-        ExecutionOutboxEntryRepository executionOutboxEntryRepository)  {
+        ExecutionOutboxEntryRepository executionOutboxEntryRepository,
+        OutboxArrivals outboxArrivals,
+        TransactionService transactionService,
+        CausewayConfiguration causewayConfiguration)  {
 
     static final String LOGICAL_TYPE_NAME = CausewayModuleExtExecutionOutboxApplib.NAMESPACE + ".OutboxRestApi";
 
+    /**
+     * Separates the interactionId and sequence making up a {@link #pendingAfter(String, int, int) cursor}.
+     */
+    public static final String CURSOR_SEPARATOR = "_";
+
+    /**
+     * Thrown if the {@link #pendingAfter(String, int, int) cursor} is malformed, rendered by the
+     * <i>Restful Objects</i> viewer as a <code>400 Bad Request</code> (per {@link #getErrorCode()}).
+     */
+    public static class InvalidCursorException extends IllegalArgumentException {
+
+        private static final long serialVersionUID = 1L;
+
+        public InvalidCursorException(final String cursor, final Throwable cause) {
+            super(String.format(
+                    "Cursor '%s' is not of the form <interactionId>%s<sequence>", cursor, CURSOR_SEPARATOR),
+                    cause);
+        }
+
+        public int getErrorCode() {
+            return 400;
+        }
+    }
+
     /**
      * This action is intended to be invoked with <code>Accept</code> header set to
      * <code>application/xml;profile=urn:org.restfulobjects:repr-types/action-result;x-ro-domain-type=org.apache.causeway.schema.ixn.v2.InteractionsDto</code>
@@ -69,6 +109,75 @@ public OutboxEvents pending() {
         return outboxEvents;
     }
 
+    /**
+     * As per {@link #pending()}, but returning only (up to {@code batchSize}) entries that arrived after the given
+     * {@code cursor}, in the order in which they arrived.
+     *
+     * <p>
+     *     The cursor identifies the last entry already seen by the client, being the entry's interactionId and
+     *     sequence, joined using {@link #CURSOR_SEPARATOR}.  If omitted, the entries that arrived first are returned.
+     *     This allows a client to read ahead while it processes and acknowledges earlier entries, without having
+     *     them returned again.  Entries are ordered by when they were committed (rather than by their timestamp),
+     *     so that an entry committed late by a long-running transaction is never skipped.
+     *     See {@link ExecutionOutboxEntryRepository#findPendingAfter(UUID, int, int)} for the details.
+     * </p>
+     *
+     * <p>
+     *     If there are no such entries, then waits for up to {@code waitSeconds} (capped by the configured
+     *     <code>causeway.extensions.execution-outbox.rest-api.max-long-poll-wait</code>), returning as soon as
+     *     new entries have been committed.  No transaction is held open while waiting; each query is made in a
+     *     transaction of its own, so as to see the entries committed in the meantime.
+     * </p>
+     *
+     * <p>
+     *     Declared as idempotent (rather than safe), because any newly committed entries are assigned their
+     *     arrival numbers while being queried.  It is therefore invoked using <code>PUT</code>; invoking it again
+     *     with the same cursor returns the same entries (along with any that have since arrived).
+     * </p>
+     *
+     * @throws InvalidCursorException if the cursor is malformed
+     */
+    @Action(
+            semantics = SemanticsOf.IDEMPOTENT,
+            executionPublishing = Publishing.DISABLED,
+            commandPublishing = Publishing.DISABLED
+    )
+    public OutboxEvents pendingAfter(
+            @Parameter(optionality = Optionality.OPTIONAL) final String cursor,
+            final int batchSize,
+            final int waitSeconds) {
+        var after = parseCursor(cursor);
+        var restApiConfig = causewayConfiguration.extensions().executionOutbox().restApi();
+        var limit = Math.max(1, Math.min(batchSize, restApiConfig.maxPending()));
+        var wait = Duration.ofSeconds(Math.max(0, waitSeconds));
+        if(wait.compareTo(restApiConfig.maxLongPollWait()) > 0) {
+            wait = restApiConfig.maxLongPollWait();
+        }
+        final long deadline = System.nanoTime() + wait.toNanos();
+
+        List<? extends ExecutionOutboxEntry> entries;
+        while(true) {
+            // obtained before querying, so that entries arriving in between wake us up immediately
+            var generation = outboxArrivals.generation();
+            entries = findPendingAfter(after, limit);
+            final long remainingNanos = deadline - System.nanoTime();
+            if(!entries.isEmpty()
+                    || remainingNanos <= 0) {
+                break;
+            }
+            try {
+                outboxArrivals.awaitArrivalSince(generation, Duration.ofNanos(remainingNanos));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        var outboxEvents = factoryService.viewModel(new OutboxEvents());
+        outboxEvents.getExecutions().addAll(entries);
+        return outboxEvents;
+    }
+
     @Action(
             semantics = SemanticsOf.IDEMPOTENT,
             executionPublishing = Publishing.DISABLED,
@@ -85,12 +194,40 @@ public void delete(final String interactionId, final int sequence) {
     )
     public void deleteMany(final String interactionsDtoXml) {
         var interactionsDto = InteractionsDtoUtils.dtoMapper().read(interactionsDtoXml);
-        interactionsDto.getInteractionDto().
-                forEach(interactionType -> {
-                    var interactionId = interactionType.getInteractionId();
-                    var sequence = interactionType.getExecution().getSequence();
-                    executionOutboxEntryRepository.deleteByInteractionIdAndSequence(UUID.fromString(interactionId), sequence);
-                });
+        executionOutboxEntryRepository.deleteMany(interactionsDto.getInteractionDto());
+    }
+
+    // -- HELPER
+
+    private record Cursor(UUID interactionId, int sequence) {
+        static final Cursor NONE = new Cursor(null, 0);
+    }
+
+    private static Cursor parseCursor(final String cursor) {
+        if(cursor == null || cursor.isBlank()) {
+            return Cursor.NONE;
+        }
+        var parts = cursor.split(CURSOR_SEPARATOR, 2);
+        try {
+            if(parts.length != 2) {
+                throw new IllegalArgumentException("expected 2 parts");
+            }
+            return new Cursor(UUID.fromString(parts[0]), Integer.parseInt(parts[1]));
+        } catch (IllegalArgumentException e) { // includes NumberFormatException
+            throw new InvalidCursorException(cursor, e);
+        }
+    }
+
+    private List<? extends ExecutionOutboxEntry> findPendingAfter(final Cursor after, final int limit) {
+        return transactionService.callTransactional(Propagation.REQUIRES_NEW, ()->{
+                    var entries = executionOutboxEntryRepository.findPendingAfter(
+                            after.interactionId(), after.sequence(), limit);
+                    // fetched (lazily) while still within the transaction, for serializing the response
+                    entries.forEach(ExecutionOutboxEntry::getInteractionDto);
+                    return entries;
+                })
+                .ifFailureFail()
+                .valueAsNonNullElseFail();
     }
 
 }
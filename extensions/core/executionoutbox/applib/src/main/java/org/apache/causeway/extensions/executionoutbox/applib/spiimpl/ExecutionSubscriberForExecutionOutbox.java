@@ -27,15 +27,29 @@
 
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
 import org.apache.causeway.applib.services.iactn.Execution;
+import org.apache.causeway.applib.services.publishing.spi.AsyncTolerantSubscriber;
 import org.apache.causeway.applib.services.publishing.spi.ExecutionSubscriber;
+import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.core.config.CausewayConfiguration;
 import org.apache.causeway.extensions.executionoutbox.applib.CausewayModuleExtExecutionOutboxApplib;
 import org.apache.causeway.extensions.executionoutbox.applib.dom.ExecutionOutboxEntryRepository;
+import org.apache.causeway.extensions.executionoutbox.applib.restapi.OutboxArrivals;
+import org.apache.causeway.schema.ixn.v2.InteractionDto;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
+ * Persists each published {@link Execution} as an
+ * {@link org.apache.causeway.extensions.executionoutbox.applib.dom.ExecutionOutboxEntry}, for clients to poll.
+ *
+ * <p>
+ *     Is only {@link AsyncTolerantSubscriber async tolerant} if configured to be (see
+ *     {@code causeway.extensions.execution-outbox.async-publishing}), in which case (if async publishing is enabled)
+ *     entries are instead created in bulk from the execution snapshots, once the originating transaction has
+ *     committed.  As async delivery is best-effort, an entry may then be lost should the JVM terminate abnormally.
+ * </p>
+ *
  * @since 2.0 {@index}
  */
 @Service
@@ -44,18 +58,24 @@
 @Qualifier("Outbox")
 @RequiredArgsConstructor(onConstructor_ = {@Inject})
 @Slf4j
-public class ExecutionSubscriberForExecutionOutbox implements ExecutionSubscriber {
+public class ExecutionSubscriberForExecutionOutbox implements ExecutionSubscriber, AsyncTolerantSubscriber {
 
     static final String LOGICAL_TYPE_NAME = CausewayModuleExtExecutionOutboxApplib.NAMESPACE + ".ExecutionSubscriberForExecutionOutbox";
 
     final ExecutionOutboxEntryRepository executionOutboxEntryRepository;
     final CausewayConfiguration causewayConfiguration;
+    final OutboxArrivals outboxArrivals;
 
     @Override
     public boolean isEnabled() {
         return causewayConfiguration.extensions().executionOutbox().persist().isEnabled();
     }
 
+    @Override
+    public boolean isAsyncTolerant() {
+        return causewayConfiguration.extensions().executionOutbox().asyncPublishing();
+    }
+
     @Override
     public void onExecution(final Execution<?, ?> execution) {
         if (!isEnabled()) {
@@ -63,6 +83,17 @@ public void onExecution(final Execution<?, ?> execution) {
         }
 
         executionOutboxEntryRepository.createEntryAndPersist(execution);
+        outboxArrivals.signalAfterCommit();
+    }
+
+    @Override
+    public void onExecutions(final Can<InteractionDto> interactionDtos) {
+        if (!isEnabled()) {
+            return;
+        }
+
+        executionOutboxEntryRepository.createEntriesAndPersist(interactionDtos);
+        outboxArrivals.signalAfterCommit();
     }
 
 }
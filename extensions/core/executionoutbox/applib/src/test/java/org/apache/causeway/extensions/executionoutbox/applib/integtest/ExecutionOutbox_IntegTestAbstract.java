@@ -19,6 +19,7 @@
 package org.apache.causeway.extensions.executionoutbox.applib.integtest;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.util.List;
 import java.util.Optional;
@@ -40,6 +41,7 @@
 import org.apache.causeway.extensions.executionoutbox.applib.integtest.model.CounterRepository;
 import org.apache.causeway.extensions.executionoutbox.applib.integtest.model.Counter_bumpUsingMixin;
 import org.apache.causeway.extensions.executionoutbox.applib.integtest.model.Counter_bumpUsingMixinWithExecutionPublishingDisabled;
+import org.apache.causeway.extensions.executionoutbox.applib.restapi.OutboxRestApi;
 import org.apache.causeway.schema.ixn.v2.ActionInvocationDto;
 import org.apache.causeway.schema.ixn.v2.InteractionDto;
 import org.apache.causeway.schema.ixn.v2.PropertyEditDto;
@@ -276,6 +278,90 @@ void test_all_the_repository_methods() {
 
     }
 
+    @Test
+    void find_pending_after_cursor_then_delete_many() {
+
+        // given
+        wrapperFactory.wrapMixin(Counter_bumpUsingMixin.class, counter1).act();
+        wrapperFactory.wrapMixin(Counter_bumpUsingMixin.class, counter2).act();
+        interactionService.closeInteractionLayers();    // to flush
+        interactionService.openInteraction();
+
+        // when
+        List<? extends ExecutionOutboxEntry> fromStart = executionOutboxEntryRepository.findPendingAfter(null, 0, 10);
+
+        // then
+        assertThat(fromStart).hasSize(2);
+        var first = fromStart.get(0);
+        var second = fromStart.get(1);
+
+        // when
+        List<? extends ExecutionOutboxEntry> afterFirst = executionOutboxEntryRepository.findPendingAfter(
+                first.getInteractionId(), first.getSequence(), 10);
+        List<? extends ExecutionOutboxEntry> afterSecond = executionOutboxEntryRepository.findPendingAfter(
+                second.getInteractionId(), second.getSequence(), 10);
+
+        // then
+        assertThat(afterFirst).hasSize(1);
+        assertThat(afterFirst.get(0).getInteractionId()).isEqualTo(second.getInteractionId());
+        assertThat(afterSecond).isEmpty();
+
+        // when
+        int deleted = executionOutboxEntryRepository.deleteMany(
+                List.of(first.getInteractionDto(), second.getInteractionDto()));
+
+        // then
+        assertThat(deleted).isEqualTo(2);
+        assertThat(executionOutboxEntryRepository.findOldest()).isEmpty();
+    }
+
+    @Test
+    void find_pending_after_returns_later_arrivals_only_once() {
+
+        // given
+        wrapperFactory.wrapMixin(Counter_bumpUsingMixin.class, counter1).act();
+        interactionService.closeInteractionLayers();    // to flush
+        interactionService.openInteraction();
+
+        List<? extends ExecutionOutboxEntry> firstBatch = executionOutboxEntryRepository.findPendingAfter(null, 0, 10);
+        assertThat(firstBatch).hasSize(1);
+        var first = firstBatch.get(0);
+
+        // when
+        wrapperFactory.wrapMixin(Counter_bumpUsingMixin.class, counter2).act();
+        interactionService.closeInteractionLayers();    // to flush
+        interactionService.openInteraction();
+
+        List<? extends ExecutionOutboxEntry> secondBatch = executionOutboxEntryRepository.findPendingAfter(
+                first.getInteractionId(), first.getSequence(), 10);
+
+        // then
+        assertThat(secondBatch).hasSize(1);
+        var second = secondBatch.get(0);
+        assertThat(second.getInteractionId()).isNotEqualTo(first.getInteractionId());
+
+        // and when the cursor's entry has been acknowledged (deleted) in the meantime
+        executionOutboxEntryRepository.deleteMany(List.of(first.getInteractionDto()));
+        List<? extends ExecutionOutboxEntry> afterDeleted = executionOutboxEntryRepository.findPendingAfter(
+                first.getInteractionId(), first.getSequence(), 10);
+
+        // then starts over from the first to have arrived, that is, those not yet acknowledged
+        assertThat(afterDeleted).hasSize(1);
+        assertThat(afterDeleted.get(0).getInteractionId()).isEqualTo(second.getInteractionId());
+    }
+
+    @Test
+    void pending_after_rejects_malformed_cursor_as_bad_request() {
+
+        for (var cursor : List.of("not-a-cursor", UUID.randomUUID() + "_x", "x_0", "1_2_3")) {
+            // when
+            var ex = assertThrows(OutboxRestApi.InvalidCursorException.class,
+                    ()->outboxRestApi.pendingAfter(cursor, 10, 0));
+            // then
+            assertThat(ex.getErrorCode()).isEqualTo(400);
+        }
+    }
+
     @Inject ExecutionOutboxEntryRepository executionOutboxEntryRepository;
     @Inject SudoService sudoService;
     @Inject ClockService clockService;
@@ -284,5 +370,6 @@ void test_all_the_repository_methods() {
 	@Inject CounterRepository counterRepository;
     @Inject WrapperFactory wrapperFactory;
     @Inject BookmarkService bookmarkService;
+    @Inject OutboxRestApi outboxRestApi;
 
 }
@@ -23,6 +23,7 @@
 import org.springframework.context.annotation.Import;
 
 import org.apache.causeway.extensions.executionoutbox.applib.CausewayModuleExtExecutionOutboxApplib;
+import org.apache.causeway.extensions.executionoutbox.jpa.dom.ExecutionOutboxArrivalCounter;
 import org.apache.causeway.extensions.executionoutbox.jpa.dom.ExecutionOutboxEntry;
 import org.apache.causeway.extensions.executionoutbox.jpa.dom.ExecutionOutboxEntryPK;
 import org.apache.causeway.extensions.executionoutbox.jpa.dom.ExecutionOutboxEntryRepository;
@@ -47,7 +48,8 @@
         ExecutionOutboxEntryPK.Semantics.class,
 
         // entities
-        ExecutionOutboxEntry.class
+        ExecutionOutboxEntry.class,
+        ExecutionOutboxArrivalCounter.class
 })
 @EntityScan(basePackageClasses = {
         ExecutionOutboxEntry.class
@@ -66,6 +68,7 @@ public FixtureScript teardownFixture() {
             @Override
             protected void execute(final ExecutionContext executionContext) {
                 deleteFrom(ExecutionOutboxEntry.class);
+                deleteFrom(ExecutionOutboxArrivalCounter.class);
             }
         };
     }
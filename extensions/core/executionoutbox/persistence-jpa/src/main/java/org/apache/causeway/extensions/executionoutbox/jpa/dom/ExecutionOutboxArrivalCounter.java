@@ -0,0 +1,86 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.executionoutbox.jpa.dom;
+
+import jakarta.inject.Named;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import org.apache.causeway.applib.annotation.DomainObject;
+import org.apache.causeway.applib.annotation.Editing;
+import org.apache.causeway.applib.annotation.Publishing;
+import org.apache.causeway.extensions.executionoutbox.jpa.CausewayModuleExtExecutionOutboxPersistenceJpa;
+import org.apache.causeway.persistence.jpa.applib.integration.CausewayEntityListener;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Single row holding the most recent {@link ExecutionOutboxEntry#getArrival() arrival} number assigned to an
+ * {@link ExecutionOutboxEntry}.
+ *
+ * <p>
+ *     The row is locked while arrival numbers are assigned, so that (across all nodes of a cluster) they are handed
+ *     out in the order in which the entries became visible.
+ * </p>
+ *
+ * @since 4.0 {@index}
+ */
+@Entity
+@Table(
+        schema = ExecutionOutboxArrivalCounter.SCHEMA,
+        name = ExecutionOutboxArrivalCounter.TABLE
+)
+@Named(ExecutionOutboxArrivalCounter.LOGICAL_TYPE_NAME)
+@DomainObject(
+        editing = Editing.DISABLED,
+        entityChangePublishing = Publishing.DISABLED
+)
+@EntityListeners(CausewayEntityListener.class)
+@NoArgsConstructor
+public class ExecutionOutboxArrivalCounter {
+
+    public static final String LOGICAL_TYPE_NAME = CausewayModuleExtExecutionOutboxPersistenceJpa.NAMESPACE + ".ExecutionOutboxArrivalCounter";
+    public static final String SCHEMA = CausewayModuleExtExecutionOutboxPersistenceJpa.SCHEMA;
+    public static final String TABLE = "ExecutionOutboxArrivalCounter";
+
+    /**
+     * The id of the one and only row.
+     */
+    static final long ID = 1L;
+
+    ExecutionOutboxArrivalCounter(final long id) {
+        this.id = id;
+    }
+
+    @Id
+    @Column(name = "id", nullable = false)
+    @Getter(AccessLevel.PACKAGE)
+    private long id;
+
+    @Column(name = "lastArrival", nullable = false)
+    @Getter(AccessLevel.PACKAGE) @Setter(AccessLevel.PACKAGE)
+    private long lastArrival;
+
+}
@@ -50,10 +50,10 @@
 import org.apache.causeway.extensions.executionoutbox.applib.dom.ExecutionOutboxEntryType;
 import org.apache.causeway.persistence.jpa.applib.integration.CausewayEntityListener;
 import org.apache.causeway.persistence.jpa.integration.typeconverters.applib.CausewayBookmarkConverter;
-import org.apache.causeway.persistence.jpa.integration.typeconverters.schema.v2.CausewayInteractionDtoConverter;
 import org.apache.causeway.schema.ixn.v2.InteractionDto;
 import org.apache.causeway.schema.ixn.v2.MemberExecutionDto;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -65,6 +65,7 @@
                 @Index(name = "ExecutionOutboxEntry__timestamp__IDX", columnList = "timestamp"),
                 @Index(name = "ExecutionOutboxEntry__target__timestamp__IDX", columnList = "target, timestamp"),
                 @Index(name = "ExecutionOutboxEntry__username__timestamp__IDX", columnList = "username, timestamp"),
+                @Index(name = "ExecutionOutboxEntry__arrival__IDX", columnList = "arrival"),
         }
 )
 @NamedQueries( {
@@ -79,6 +80,12 @@
             query = "SELECT ele "
                   + "  FROM ExecutionOutboxEntry ele "
                   + " ORDER BY ele.timestamp ASC, ele.pk.interactionId ASC, ele.pk.sequence DESC"),  // programmatic range 0,100
+    @NamedQuery(
+            name = Nq.FIND_PENDING_AFTER,
+            query = "SELECT ele "
+                  + "  FROM ExecutionOutboxEntry ele "
+                  + " WHERE ele.arrival > :arrival "
+                  + " ORDER BY ele.arrival ASC"),  // programmatic range 0,limit
 })
 @Named(ExecutionOutboxEntry.LOGICAL_TYPE_NAME)
 @DomainObject(
@@ -153,7 +160,7 @@ public void setLogicalMemberIdentifier(final String logicalMemberIdentifier) {
         this.logicalMemberIdentifier = Util.abbreviated(logicalMemberIdentifier, LogicalMemberIdentifier.MAX_LENGTH);
     }
 
-    @Convert(converter = CausewayInteractionDtoConverter.class)
+    @Convert(converter = ExecutionOutboxEntryInteractionDtoConverter.class)
     @Lob @Basic(fetch = FetchType.LAZY)
     @Column(nullable = InteractionDtoAnnot.NULLABLE, columnDefinition = "CLOB")
     @InteractionDtoAnnot
@@ -170,6 +177,14 @@ public void setLogicalMemberIdentifier(final String logicalMemberIdentifier) {
     @Getter @Setter
     private java.sql.Timestamp completedAt;
 
+    /**
+     * The position of this entry in the order in which entries became visible once committed, as assigned by
+     * {@link ExecutionOutboxEntryRepository#findPendingAfter(UUID, int, int)}; <code>null</code> until then.
+     */
+    @Column(name = "arrival", nullable = true)
+    @Getter(AccessLevel.PACKAGE) @Setter(AccessLevel.PACKAGE)
+    private Long arrival;
+
     @Override
     public String toString() {
         return TOSTRING.toString(this);
@@ -0,0 +1,41 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.executionoutbox.jpa.dom;
+
+import jakarta.persistence.Converter;
+
+import org.apache.causeway.applib.util.schema.DtoEncoding;
+import org.apache.causeway.persistence.jpa.integration.typeconverters.schema.v2.CausewayInteractionDtoConverter;
+
+/**
+ * Writes the {@link ExecutionOutboxEntry#getInteractionDto() InteractionDto} of each {@link ExecutionOutboxEntry}
+ * using the configured {@link DtoEncoding}, see
+ * {@code causeway.extensions.execution-outbox.dto-encoding}.
+ *
+ * @since 4.0
+ */
+@Converter
+public class ExecutionOutboxEntryInteractionDtoConverter
+extends CausewayInteractionDtoConverter {
+
+    public ExecutionOutboxEntryInteractionDtoConverter() {
+        super(config->config.extensions().executionOutbox().dtoEncoding());
+    }
+
+}
@@ -18,8 +18,17 @@
  */
 package org.apache.causeway.extensions.executionoutbox.jpa.dom;
 
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+import jakarta.inject.Inject;
 import jakarta.inject.Named;
 import jakarta.inject.Provider;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+
+import org.jspecify.annotations.Nullable;
 
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
@@ -27,7 +36,15 @@
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
 import org.apache.causeway.applib.services.factory.FactoryService;
 import org.apache.causeway.applib.services.repository.RepositoryService;
+import org.apache.causeway.applib.services.xactn.TransactionService;
+import org.apache.causeway.applib.util.schema.DtoEncoding;
+import org.apache.causeway.applib.util.schema.InteractionDtoUtils;
+import org.apache.causeway.commons.internal.base._Casts;
+import org.apache.causeway.extensions.executionoutbox.applib.dom.ExecutionOutboxEntry.Nq;
 import org.apache.causeway.extensions.executionoutbox.applib.dom.ExecutionOutboxEntryRepositoryAbstract;
+import org.apache.causeway.persistence.jpa.applib.services.JpaSupportService;
+import org.apache.causeway.persistence.jpa.integration.services.JpaKeysetBatchRewrite;
+import org.apache.causeway.schema.ixn.v2.InteractionDto;
 
 import lombok.Builder;
 
@@ -42,6 +59,15 @@ public ExecutionOutboxEntryRepository() {
         super(ExecutionOutboxEntry.class);
     }
 
+    /**
+     * Upper bound on the number of entries deleted by a single statement, keeping the number of bind parameters
+     * well within the limits of the JDBC drivers.
+     */
+    private static final int DELETE_MANY_CHUNK_SIZE = 500;
+
+    @Inject JpaSupportService jpaSupportService;
+    @Inject TransactionService transactionService;
+
     /**
      * for testing only
      */
@@ -58,4 +84,136 @@ protected ExecutionOutboxEntry newExecutionOutboxEntry() {
         return null;
     }
 
+    /**
+     * First numbers (up to {@code limit} of) the committed entries that have yet to be assigned an
+     * {@link ExecutionOutboxEntry#getArrival() arrival}, then returns those that arrived after the cursor's entry.
+     *
+     * <p>
+     *     Arrival numbers are handed out from the {@link ExecutionOutboxArrivalCounter}, locked until the current
+     *     transaction commits.  Because only committed entries are numbered, an entry whose transaction commits after
+     *     others have already been numbered (and returned) is given a higher number, and so is not skipped.  Writers
+     *     of entries are never blocked by this lock.
+     * </p>
+     *
+     * <p>
+     *     This should be called within a transaction of its own, that is committed straight afterwards.
+     * </p>
+     */
+    @Override
+    public List<org.apache.causeway.extensions.executionoutbox.applib.dom.ExecutionOutboxEntry> findPendingAfter(
+            final @Nullable UUID interactionId,
+            final int sequence,
+            final int limit) {
+        var em = jpaSupportService.getEntityManagerElseFail(ExecutionOutboxEntry.class);
+        assignArrivals(em, limit);
+
+        long after = 0L;
+        if(interactionId != null) {
+            after = em.createQuery(
+                        "SELECT eoe.arrival FROM ExecutionOutboxEntry eoe"
+                        + " WHERE eoe.pk.interactionId = :interactionId"
+                        + "   AND eoe.pk.sequence = :sequence", Long.class)
+                    .setParameter("interactionId", interactionId)
+                    .setParameter("sequence", sequence)
+                    .getResultList().stream()
+                    .filter(Objects::nonNull)
+                    .findFirst()
+                    .orElse(0L); // deleted since (or never numbered), so start over from the first to have arrived
+        }
+        return _Casts.uncheckedCast(
+                em.createNamedQuery(Nq.FIND_PENDING_AFTER, ExecutionOutboxEntry.class)
+                    .setParameter("arrival", after)
+                    .setMaxResults(limit)
+                    .getResultList());
+    }
+
+    private static void assignArrivals(final EntityManager em, final int limit) {
+        if(findUnnumbered(em, 1).isEmpty())
+            return; // the common case, not requiring the counter to be locked
+
+        var counter = em.find(ExecutionOutboxArrivalCounter.class, ExecutionOutboxArrivalCounter.ID,
+                LockModeType.PESSIMISTIC_WRITE);
+        if(counter == null) {
+            // the very first arrival; should another node insert concurrently, then one of the transactions fails
+            counter = new ExecutionOutboxArrivalCounter(ExecutionOutboxArrivalCounter.ID);
+            em.persist(counter);
+            em.flush();
+        }
+        // queried again now the counter is locked, as others may have numbered some of them meanwhile
+        long lastArrival = counter.getLastArrival();
+        for (var entry : findUnnumbered(em, limit)) {
+            entry.setArrival(++lastArrival);
+        }
+        counter.setLastArrival(lastArrival);
+        em.flush();
+    }
+
+    private static List<ExecutionOutboxEntry> findUnnumbered(final EntityManager em, final int limit) {
+        return em.createQuery(
+                    "SELECT eoe FROM ExecutionOutboxEntry eoe"
+                    + " WHERE eoe.arrival IS NULL"
+                    + " ORDER BY eoe.timestamp ASC, eoe.pk.interactionId ASC, eoe.pk.sequence ASC",
+                    ExecutionOutboxEntry.class)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    /**
+     * Deletes the entries using a single bulk {@code DELETE} statement (per chunk of
+     * {@value #DELETE_MANY_CHUNK_SIZE} entries), rather than first loading and then removing each of them in turn.
+     */
+    @Override
+    public int deleteMany(final List<InteractionDto> interactionDtos) {
+        var em = jpaSupportService.getEntityManagerElseFail(ExecutionOutboxEntry.class);
+        int deleted = 0;
+        for(int from = 0; from < interactionDtos.size(); from += DELETE_MANY_CHUNK_SIZE) {
+            var chunk = interactionDtos.subList(from, Math.min(from + DELETE_MANY_CHUNK_SIZE, interactionDtos.size()));
+            var jpql = new StringBuilder("DELETE FROM ExecutionOutboxEntry ele WHERE ");
+            for(int i = 0; i < chunk.size(); i++) {
+                if(i > 0) {
+                    jpql.append(" OR ");
+                }
+                jpql.append("(ele.pk.interactionId = :interactionId").append(i)
+                    .append(" AND ele.pk.sequence = :sequence").append(i).append(")");
+            }
+            var query = em.createQuery(jpql.toString());
+            for(int i = 0; i < chunk.size(); i++) {
+                var interactionDto = chunk.get(i);
+                query.setParameter("interactionId" + i, UUID.fromString(interactionDto.getInteractionId()));
+                query.setParameter("sequence" + i, interactionDto.getExecution().getSequence());
+            }
+            deleted += query.executeUpdate();
+        }
+        return deleted;
+    }
+
+    /**
+     * Rewrites the {@link ExecutionOutboxEntry#getInteractionDto() InteractionDto} of all persisted entries, so that they are stored using
+     * the currently configured {@link DtoEncoding}, in batches of given {@code batchSize}, as per
+     * {@link JpaKeysetBatchRewrite}.
+     * Intended as a one-off migration after changing the encoding; entries are readable irrespective of
+     * their encoding, so this is optional.
+     *
+     * @return the number of entries rewritten
+     */
+    public int reencodeDtos(final int batchSize) {
+        var dtoMapper = InteractionDtoUtils.dtoMapper();
+        return JpaKeysetBatchRewrite.<ExecutionOutboxEntry, ExecutionOutboxEntryPK>rewriteAll(
+                transactionService, jpaSupportService, ExecutionOutboxEntry.class, batchSize,
+                (em, after)->after == null
+                    ? em.createQuery(
+                        "SELECT eoe FROM ExecutionOutboxEntry eoe"
+                        + " ORDER BY eoe.pk.interactionId, eoe.pk.sequence", ExecutionOutboxEntry.class)
+                    : em.createQuery(
+                        "SELECT eoe FROM ExecutionOutboxEntry eoe"
+                        + " WHERE eoe.pk.interactionId > :interactionId"
+                        + "    OR (eoe.pk.interactionId = :interactionId AND eoe.pk.sequence > :sequence)"
+                        + " ORDER BY eoe.pk.interactionId, eoe.pk.sequence", ExecutionOutboxEntry.class)
+                        .setParameter("interactionId", after.getInteractionId())
+                        .setParameter("sequence", after.getSequence()),
+                entry->new ExecutionOutboxEntryPK(entry.getInteractionId(), entry.getSequence()),
+                // a cloned DTO is never equal to the loaded one, so forces the column to be written again
+                entry->entry.setInteractionDto(dtoMapper.clone(entry.getInteractionDto())));
+    }
+
 }
@@ -25,6 +25,7 @@
 
 import jakarta.ws.rs.client.Entity;
 import jakarta.ws.rs.client.Invocation;
+import jakarta.ws.rs.core.Response;
 import org.springframework.http.MediaType;
 
 import org.apache.causeway.applib.util.schema.InteractionsDtoUtils;
@@ -32,6 +33,7 @@
 import org.apache.causeway.commons.io.JsonUtils;
 import org.apache.causeway.extensions.executionoutbox.restclient.api.delete.DeleteMessage;
 import org.apache.causeway.extensions.executionoutbox.restclient.api.deleteMany.DeleteManyMessage;
+import org.apache.causeway.extensions.executionoutbox.restclient.api.pendingAfter.PendingAfterMessage;
 import org.apache.causeway.schema.common.v2.InteractionType;
 import org.apache.causeway.schema.ixn.v2.ActionInvocationDto;
 import org.apache.causeway.schema.ixn.v2.InteractionDto;
@@ -117,17 +119,33 @@ public OutboxClient withReadTimeoutInSecs(final int readTimeoutInSecs) {
     }
 
     public List<InteractionDto> pending() {
+        return fetch(outboxClientConfig.getPendingUri());
+    }
 
-        Invocation.Builder invocationBuilder = client.request(outboxClientConfig.getPendingUri())
-                .accept(RestfulClientMediaType.RO_XML.mediaTypeFor(InteractionsDto.class).getType());
-        var response = invocationBuilder.get();
-
-        final Try<InteractionsDto> digest = client.digest(response, InteractionsDto.class);
+    /**
+     * Returns up to {@code batchSize} pending interactions that arrived after the given {@code cursor}, in the order
+     * in which they arrived, waiting for up to {@code waitSeconds} for new interactions to arrive if there are none
+     * (long polling).
+     *
+     * <p>
+     *     Pass <code>null</code> as the cursor to start with the pending interactions that arrived first, and
+     *     thereafter the {@link #cursorOf(InteractionDto) cursor of} the last interaction returned.  Any read timeout
+     *     configured for this client should exceed {@code waitSeconds}.
+     * </p>
+     */
+    public List<InteractionDto> pendingAfter(final String cursor, final int batchSize, final int waitSeconds) {
+        // invoked using PUT, as the action is idempotent (rather than safe)
+        return fetch(outboxClientConfig.getPendingAfterUri(),
+                new PendingAfterMessage(cursor, batchSize, waitSeconds));
+    }
 
-        digest.ifFailureFail();
-        return digest.getValue()
-                .map(InteractionsDto::getInteractionDto)
-                .orElseGet(Collections::emptyList);
+    /**
+     * The cursor to pass to {@link #pendingAfter(String, int, int)} to obtain the interactions that arrived after
+     * the given one.
+     */
+    public static String cursorOf(final InteractionDto interactionDto) {
+        return interactionDto.getInteractionId()
+                + CURSOR_SEPARATOR + interactionDto.getExecution().getSequence();
     }
 
     public void delete(final String interactionId, final int sequence) {
@@ -146,6 +164,32 @@ public void deleteMany(final List<InteractionDto> interactionDtos) {
 
     // -- HELPER
 
+    private static final String CURSOR_SEPARATOR = "_";
+
+    private List<InteractionDto> fetch(final String path) {
+        return digest(requestInteractions(path).get());
+    }
+
+    private List<InteractionDto> fetch(final String path, final Object dto) {
+        return digest(requestInteractions(path).put(
+                Entity.entity(JsonUtils.toStringUtf8(dto), MediaType.APPLICATION_JSON_VALUE)));
+    }
+
+    private Invocation.Builder requestInteractions(final String path) {
+        return client.request(path)
+                .accept(RestfulClientMediaType.RO_XML.mediaTypeFor(InteractionsDto.class).getType());
+    }
+
+    private List<InteractionDto> digest(final Response response) {
+
+        final Try<InteractionsDto> digest = client.digest(response, InteractionsDto.class);
+
+        digest.ifFailureFail();
+        return digest.getValue()
+                .map(InteractionsDto::getInteractionDto)
+                .orElseGet(Collections::emptyList);
+    }
+
     private void addTo(final InteractionsDto interactionsDto, final InteractionDto orig) {
         var copy = new InteractionDto();
         copy.setInteractionId(orig.getInteractionId());
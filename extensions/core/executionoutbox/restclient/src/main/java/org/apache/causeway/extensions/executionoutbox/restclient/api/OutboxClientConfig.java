@@ -41,6 +41,10 @@ public class OutboxClientConfig {
     @Builder.Default
     private String pendingUri = "services/causeway.ext.executionOutbox.OutboxRestApi/actions/pending/invoke";
 
+    @XmlElement(name="pendingAfterUri")
+    @Builder.Default
+    private String pendingAfterUri = "services/causeway.ext.executionOutbox.OutboxRestApi/actions/pendingAfter/invoke";
+
     @XmlElement(name="deleteUri")
     @Builder.Default
     private String deleteUri = "services/causeway.ext.executionOutbox.OutboxRestApi/actions/delete/invoke";
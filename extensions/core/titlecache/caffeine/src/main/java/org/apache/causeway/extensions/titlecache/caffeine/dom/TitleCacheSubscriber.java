@@ -18,11 +18,15 @@
  */
 package org.apache.causeway.extensions.titlecache.caffeine.dom;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
@@ -36,12 +40,16 @@
 import org.springframework.stereotype.Service;
 
 import org.apache.causeway.applib.CausewayModuleApplib;
+import org.apache.causeway.applib.annotation.EntityChangeKind;
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
 import org.apache.causeway.applib.services.bookmark.Bookmark;
 import org.apache.causeway.applib.services.bookmark.BookmarkService;
 import org.apache.causeway.applib.services.metamodel.BeanSort;
+import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
 import org.apache.causeway.core.metamodel.specloader.SpecificationLoader;
+import org.apache.causeway.core.metamodel.spi.EntityChangeSubscriber;
 import org.apache.causeway.core.metamodel.spi.EntityTitleSubscriber;
 import org.apache.causeway.extensions.titlecache.applib.event.Cached;
 import org.apache.causeway.extensions.titlecache.applib.event.CachedWithCacheSettings;
@@ -57,6 +65,17 @@
  *     {@link org.apache.causeway.applib.CausewayModuleApplib.TitleUiEvent} events to provide the cache values.
  * </p>
  *
+ * <p>
+ *     Uses the {@link EntityChangeSubscriber} to evict the title of any entity that is updated or deleted, so that
+ *     cached titles don't go stale until they expire.
+ * </p>
+ *
+ * <p>
+ *     A title is only put into the cache, if it was computed after a cache miss (on the same thread) and no title of
+ *     its logical type was evicted in the meantime (tracked by a generation counter); otherwise a title computed
+ *     concurrently to an update could be put into the cache just after the eviction, and stay stale until it expires.
+ * </p>
+ *
  * @since 2.1 {@index}
  */
 @Service
@@ -64,10 +83,16 @@
 @jakarta.annotation.Priority(PriorityPrecedence.MIDPOINT)
 @Qualifier("Default")
 @Slf4j
-public class TitleCacheSubscriber implements EntityTitleSubscriber {
+public class TitleCacheSubscriber implements EntityTitleSubscriber, EntityChangeSubscriber {
 
     static final String LOGICAL_TYPE_NAME = CausewayModuleExtTitlecacheCaffeine.NAMESPACE + ".TitleCacheSubscriber";
 
+    /**
+     * Bounds the misses recorded per thread, as titles that are never computed after a miss (eg. because empty)
+     * would otherwise accumulate.
+     */
+    private static final int MAX_MISSES_PER_THREAD = 256;
+
     private final SpecificationLoader specificationLoader;
     private final BookmarkService bookmarkService;
     private final CaffeineCacheManager cacheManager;
@@ -76,6 +101,24 @@ public class TitleCacheSubscriber implements EntityTitleSubscriber {
     private final Map<String, Boolean> isCachedByLogicalTypeName = new ConcurrentHashMap<>();
     private final Map<String, Cache> cacheByLogicalTypeName = new ConcurrentHashMap<>();
 
+    /**
+     * Bumped on every eviction.
+     */
+    private final AtomicLong generation = new AtomicLong();
+    /**
+     * Generation of the most recent eviction per logical type name.
+     */
+    private final Map<String, Long> evictedAtGenerationByLogicalTypeName = new ConcurrentHashMap<>();
+    /**
+     * Guards evictions against concurrent puts (of titles computed before the eviction).
+     */
+    private final Object evictionLock = new Object();
+
+    /**
+     * Generation at the time of the cache miss, per bookmark whose title is yet to be computed on the current thread.
+     */
+    private final ThreadLocal<Map<Bookmark, Long>> missedAtGenerationHolder = ThreadLocal.withInitial(HashMap::new);
+
     @Inject
     public TitleCacheSubscriber(
             final CaffeineCacheManager cacheManager,
@@ -100,6 +143,11 @@ public TitleCacheSubscriber(
      *     {@link CachedWithCacheSettings} during bootstrap).
      * </p>
      *
+     * <p>
+     *     Titles served from the cache in the first place, or computed before an eviction of their logical type name,
+     *     are not put (again).
+     * </p>
+     *
      * @param bookmark
      * @param title (untranslated)
      */
@@ -109,7 +157,116 @@ public void entityTitleIs(final Bookmark bookmark, final String title) {
         if(cache == null) {
             return;
         }
-        cache.put(bookmark, title);
+        var missedAtGeneration = missedAtGenerationHolder.get().remove(bookmark);
+        if(missedAtGeneration == null) {
+            return;
+        }
+        synchronized (evictionLock) {
+            if(isEvictedSince(bookmark, missedAtGeneration)) {
+                return;
+            }
+            cache.put(bookmark, title);
+        }
+    }
+
+    /**
+     * Implementation of {@link EntityTitleSubscriber}, called when a page of a table of entities is about to be
+     * rendered: looks up the titles of all of its entities (of any cached type) in one go, returning those that
+     * are missing, to be computed by the framework in a single pass and handed over in bulk via
+     * {@link #entityTitlesAre(Map)}.  Rendering the rows thereafter then only hits the cache.
+     *
+     * <p>
+     *     As for {@link #entityTitleIs(Bookmark, String)}, only caches that have already been created (on the first
+     *     title lookup of their logical type name) are prefilled.
+     * </p>
+     *
+     * @param elementType
+     * @param bookmarks
+     */
+    @Override
+    public Can<Bookmark> entityTitlesRequired(final ObjectSpecification elementType, final Can<Bookmark> bookmarks) {
+        var bookmarksByCache = new HashMap<com.github.benmanes.caffeine.cache.Cache<Object, Object>, List<Bookmark>>();
+        bookmarks.forEach(bookmark -> {
+            var cache = cacheByLogicalTypeName.get(bookmark.logicalTypeName());
+            if(cache == null) {
+                return;
+            }
+            bookmarksByCache.computeIfAbsent(nativeCache(cache), __ -> new ArrayList<>()).add(bookmark);
+        });
+        if(bookmarksByCache.isEmpty()) {
+            return Can.empty();
+        }
+
+        // one lookup per cache, to find out which titles are not cached yet
+        var currentGeneration = generation.get();
+        var missing = new ArrayList<Bookmark>();
+        bookmarksByCache.forEach((nativeCache, bookmarksOfCache) -> {
+            var present = nativeCache.getAllPresent(bookmarksOfCache).keySet();
+            bookmarksOfCache.stream()
+                .filter(bookmark -> !present.contains(bookmark))
+                .forEach(bookmark -> {
+                    recordMiss(bookmark, currentGeneration);
+                    missing.add(bookmark);
+                });
+        });
+        return Can.ofCollection(missing);
+    }
+
+    /**
+     * Implementation of {@link EntityTitleSubscriber}, puts the titles computed in bulk (for those bookmarks returned by
+     * {@link #entityTitlesRequired(ObjectSpecification, Can)}) into their caches in bulk, subject to the same
+     * generation check as {@link #entityTitleIs(Bookmark, String)}.
+     *
+     * @param titlesByBookmark (untranslated)
+     */
+    @Override
+    public void entityTitlesAre(final Map<Bookmark, String> titlesByBookmark) {
+        var missedAtGenerationByBookmark = missedAtGenerationHolder.get();
+        synchronized (evictionLock) {
+            var titlesByCache = new HashMap<com.github.benmanes.caffeine.cache.Cache<Object, Object>, Map<Object, Object>>();
+            titlesByBookmark.forEach((bookmark, title) -> {
+                var missedAtGeneration = missedAtGenerationByBookmark.remove(bookmark);
+                var cache = cacheByLogicalTypeName.get(bookmark.logicalTypeName());
+                if(missedAtGeneration == null
+                        || cache == null
+                        || isEvictedSince(bookmark, missedAtGeneration)) {
+                    return;
+                }
+                titlesByCache.computeIfAbsent(nativeCache(cache), __ -> new HashMap<>()).put(bookmark, title);
+            });
+            titlesByCache.forEach(com.github.benmanes.caffeine.cache.Cache::putAll);
+        }
+        if(log.isDebugEnabled()) {
+            log.debug("Prefilled up to {} titles", titlesByBookmark.size());
+        }
+    }
+
+    /**
+     * Implementation of {@link EntityChangeSubscriber}, evicts the title of any entity that is updated or deleted.
+     *
+     * <p>
+     *     The title is not recomputed eagerly; it will be cached again the next time it is rendered.
+     * </p>
+     *
+     * @param bookmark
+     * @param changeKind
+     */
+    @Override
+    public void entityChanged(final Bookmark bookmark, final EntityChangeKind changeKind) {
+        if(changeKind == EntityChangeKind.CREATE) {
+            return;
+        }
+        var cache = cacheByLogicalTypeName.get(bookmark.logicalTypeName());
+        if(cache == null) {
+            return;
+        }
+        if(log.isDebugEnabled()) {
+            log.debug("Evicting title of {} ({})", bookmark.stringify(), changeKind);
+        }
+        synchronized (evictionLock) {
+            evictedAtGenerationByLogicalTypeName.put(bookmark.logicalTypeName(), generation.incrementAndGet());
+            cache.evict(bookmark);
+        }
     }
 
     /**
@@ -138,7 +295,13 @@ public void on(final CausewayModuleApplib.TitleUiEvent<?> ev) {
                     var cache = cacheByLogicalTypeName.computeIfAbsent(
                         bookmark.logicalTypeName(), ltn -> addCache(ev, ltn)
                     );
+                    var currentGeneration = generation.get();
                     var valueWrapper = cache.get(bookmark);
+                    if(valueWrapper == null) {
+                        recordMiss(bookmark, currentGeneration);
+                        return;
+                    }
+                    missedAtGenerationHolder.get().remove(bookmark);
                     setTitleOnEventFromCacheValue(valueWrapper, ev, bookmark);
                 });
     }
@@ -184,6 +347,27 @@ Cache addCache(
         return cacheManager.getCache(cacheName);
     }
 
+    private void recordMiss(final Bookmark bookmark, final long currentGeneration) {
+        var missedAtGenerationByBookmark = missedAtGenerationHolder.get();
+        if(missedAtGenerationByBookmark.size() >= MAX_MISSES_PER_THREAD
+                && !missedAtGenerationByBookmark.containsKey(bookmark)) {
+            missedAtGenerationByBookmark.clear();
+        }
+        // keep the earliest generation, if missed repeatedly before the title is computed
+        missedAtGenerationByBookmark.putIfAbsent(bookmark, currentGeneration);
+    }
+
+    private boolean isEvictedSince(final Bookmark bookmark, final long missedAtGeneration) {
+        var evictedAtGeneration = evictedAtGenerationByLogicalTypeName.get(bookmark.logicalTypeName());
+        return evictedAtGeneration != null
+                && evictedAtGeneration > missedAtGeneration;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache(final Cache cache) {
+        return (com.github.benmanes.caffeine.cache.Cache<Object, Object>) cache.getNativeCache();
+    }
+
     private Boolean isCached(final Bookmark bookmark, final CausewayModuleApplib.TitleUiEvent<?> ev) {
         return isCached(bookmark.logicalTypeName(), ev);
     }
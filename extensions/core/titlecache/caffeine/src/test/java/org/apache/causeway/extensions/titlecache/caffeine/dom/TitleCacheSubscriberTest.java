@@ -0,0 +1,178 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.titlecache.caffeine.dom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+import org.apache.causeway.applib.CausewayModuleApplib;
+import org.apache.causeway.applib.annotation.EntityChangeKind;
+import org.apache.causeway.applib.events.EventObjectBase;
+import org.apache.causeway.applib.id.LogicalType;
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.applib.services.bookmark.BookmarkService;
+import org.apache.causeway.applib.services.metamodel.BeanSort;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
+import org.apache.causeway.core.metamodel.specloader.SpecificationLoader;
+import org.apache.causeway.extensions.titlecache.applib.event.CachedWithCacheSettings;
+
+class TitleCacheSubscriberTest {
+
+    static final String LOGICAL_TYPE_NAME = "test.Customer";
+
+    public record Customer(String id) {}
+
+    public static class CustomerTitleUiEvent
+    extends CausewayModuleApplib.TitleUiEvent<Customer>
+    implements CachedWithCacheSettings {
+        @Override public int expiryDurationInMinutes() { return 10; }
+        @Override public int maxSizeInEntries() { return 100; }
+    }
+
+    TitleCacheSubscriber subscriber;
+    ObjectSpecification elementType;
+
+    @BeforeEach
+    void setUp() {
+        var bookmarkService = Mockito.mock(BookmarkService.class);
+        when(bookmarkService.bookmarkFor(any())).thenAnswer(invocation->
+            Optional.of(bookmark((Customer) invocation.getArgument(0))));
+
+        var logicalType = LogicalType.eager(Customer.class, LOGICAL_TYPE_NAME);
+        var specificationLoader = Mockito.mock(SpecificationLoader.class);
+        when(specificationLoader.lookupLogicalType(LOGICAL_TYPE_NAME)).thenReturn(Optional.of(logicalType));
+        when(specificationLoader.lookupBeanSort(logicalType)).thenReturn(Optional.of(BeanSort.ENTITY));
+
+        subscriber = new TitleCacheSubscriber(
+                new CaffeineCacheManager(),
+                bookmarkService,
+                specificationLoader,
+                Mockito.mock(CausewayConfiguration.class));
+        elementType = Mockito.mock(ObjectSpecification.class);
+    }
+
+    @Test
+    void title_computed_after_miss_is_cached() {
+        var joe = new Customer("1");
+
+        assertNull(lookupTitle(joe));
+        subscriber.entityTitleIs(bookmark(joe), "Joe");
+
+        assertEquals("Joe", lookupTitle(joe));
+    }
+
+    @Test
+    void title_served_from_cache_is_not_put_again() {
+        var joe = new Customer("1");
+        lookupTitle(joe);
+        subscriber.entityTitleIs(bookmark(joe), "Joe");
+
+        assertEquals("Joe", lookupTitle(joe));
+        subscriber.entityTitleIs(bookmark(joe), "Not Joe");
+
+        assertEquals("Joe", lookupTitle(joe));
+    }
+
+    @Test
+    void title_computed_before_eviction_is_not_cached() {
+        var joe = new Customer("1");
+
+        assertNull(lookupTitle(joe));
+        // concurrently updated, while the (now stale) title is being computed
+        subscriber.entityChanged(bookmark(joe), EntityChangeKind.UPDATE);
+        subscriber.entityTitleIs(bookmark(joe), "Stale Joe");
+
+        assertNull(lookupTitle(joe));
+        subscriber.entityTitleIs(bookmark(joe), "Joe");
+
+        assertEquals("Joe", lookupTitle(joe));
+    }
+
+    @Test
+    void bulk_prefill_requires_and_puts_missing_titles_only() {
+        var joe = new Customer("1");
+        var jane = new Customer("2");
+        var jim = new Customer("3");
+        lookupTitle(joe); // creates the cache
+        subscriber.entityTitleIs(bookmark(joe), "Joe");
+
+        var missing = subscriber.entityTitlesRequired(elementType,
+                Can.of(bookmark(joe), bookmark(jane), bookmark(jim)));
+
+        assertEquals(Can.of(bookmark(jane), bookmark(jim)), missing);
+
+        subscriber.entityTitlesAre(Map.of(
+                bookmark(joe), "Not Joe",
+                bookmark(jane), "Jane",
+                bookmark(jim), "Jim"));
+
+        assertEquals("Joe", lookupTitle(joe));
+        assertEquals("Jane", lookupTitle(jane));
+        assertEquals("Jim", lookupTitle(jim));
+    }
+
+    @Test
+    void bulk_prefill_computed_before_eviction_is_not_cached() {
+        var joe = new Customer("1");
+        var jane = new Customer("2");
+        lookupTitle(joe); // creates the cache
+
+        var missing = subscriber.entityTitlesRequired(elementType, Can.of(bookmark(joe), bookmark(jane)));
+        assertEquals(2, missing.size());
+
+        subscriber.entityChanged(bookmark(jane), EntityChangeKind.UPDATE);
+        subscriber.entityTitlesAre(Map.of(
+                bookmark(joe), "Joe",
+                bookmark(jane), "Stale Jane"));
+
+        assertNull(lookupTitle(jane));
+    }
+
+    @Test
+    void nothing_required_before_cache_is_created() {
+        var joe = new Customer("1");
+
+        assertEquals(Can.empty(), subscriber.entityTitlesRequired(elementType, Can.of(bookmark(joe))));
+    }
+
+    // -- HELPER
+
+    private String lookupTitle(final Customer customer) {
+        var ev = EventObjectBase.getInstanceWithSource(CustomerTitleUiEvent.class, customer).orElseThrow();
+        subscriber.on(ev);
+        return ev.getTitle();
+    }
+
+    private static Bookmark bookmark(final Customer customer) {
+        return Bookmark.forLogicalTypeNameAndIdentifier(LOGICAL_TYPE_NAME, customer.id());
+    }
+
+}
@@ -61,14 +61,22 @@ public Class<E> getEntityClass() {
 
     @Override
     public AuditTrailEntry createFor(final EntityPropertyChange change) {
-        E entry = factoryService.detachedEntity(auditTrailEntryClass);
-        entry.init(change);
-        return repositoryService.persistAndFlush(entry);
+        return repositoryService.persistAndFlush(newEntry(change));
     }
 
+    /**
+     * @see RepositoryService#persistInBatches(List)
+     */
     @Override
     public Can<AuditTrailEntry> createFor(final Can<EntityPropertyChange> entityPropertyChanges) {
-        return Can.ofCollection(repositoryService.execInBulk(() -> entityPropertyChanges.map(this::createFor).toList()));
+        var entries = repositoryService.persistInBatches(entityPropertyChanges.map(this::newEntry).toList());
+        return _Casts.uncheckedCast(Can.ofCollection(entries));
+    }
+
+    private E newEntry(final EntityPropertyChange change) {
+        E entry = factoryService.detachedEntity(auditTrailEntryClass);
+        entry.init(change);
+        return entry;
     }
 
     @Override
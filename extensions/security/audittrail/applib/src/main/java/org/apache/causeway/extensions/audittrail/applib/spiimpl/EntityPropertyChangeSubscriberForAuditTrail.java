@@ -30,6 +30,7 @@
 import org.springframework.stereotype.Service;
 
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.applib.services.publishing.spi.AsyncTolerantSubscriber;
 import org.apache.causeway.applib.services.publishing.spi.EntityPropertyChange;
 import org.apache.causeway.applib.services.publishing.spi.EntityPropertyChangeSubscriber;
 import org.apache.causeway.applib.services.xactn.TransactionService;
@@ -45,6 +46,13 @@
  * entry to the database (the {@link AuditTrailEntry} entity) each time a
  * user either logs on or logs out, or if their session expires.
  *
+ * <p>
+ *     Is only {@link AsyncTolerantSubscriber async tolerant} if configured to be (see
+ *     {@code causeway.extensions.audit-trail.async-publishing}), in which case (if async publishing is enabled)
+ *     entries are instead created in bulk, once the originating transaction has committed.  As async delivery is
+ *     best-effort, an entry may then be lost should the JVM terminate abnormally.
+ * </p>
+ *
  * @since 2.0 {@index}
  */
 @Service
@@ -53,7 +61,7 @@
 @Qualifier("Default")
 @RequiredArgsConstructor(onConstructor_ = {@Inject})
 //@Slf4j
-public class EntityPropertyChangeSubscriberForAuditTrail implements EntityPropertyChangeSubscriber {
+public class EntityPropertyChangeSubscriberForAuditTrail implements EntityPropertyChangeSubscriber, AsyncTolerantSubscriber {
 
     static final String LOGICAL_TYPE_NAME = CausewayModuleExtAuditTrailApplib.NAMESPACE + ".EntityPropertyChangeSubscriberForAuditTrail";
 
@@ -66,6 +74,11 @@ public boolean isEnabled() {
         return causewayConfiguration.extensions().auditTrail().persist().isEnabled();
     }
 
+    @Override
+    public boolean isAsyncTolerant() {
+        return causewayConfiguration.extensions().auditTrail().asyncPublishing();
+    }
+
     @Override
     public void onChanging(final EntityPropertyChange entityPropertyChange) {
         if (!isEnabled()) {
@@ -20,7 +20,10 @@
 
 import java.io.Serializable;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.causeway.applib.annotation.Programmatic;
 import org.apache.causeway.applib.services.appfeat.ApplicationFeatureId;
@@ -94,6 +97,23 @@ public static abstract class ActionDomainEvent extends CausewayModuleExtSecmanAp
      */
     private PermissionsEvaluationService permissionsEvaluationService;
 
+    /**
+     * Memoizes the outcome of {@link #evaluate(ApplicationFeatureId, ApplicationPermissionMode)}, per mode and
+     * feature.
+     *
+     * <p>
+     *     Because this set is immutable, any given feature always evaluates to the same outcome, so once a feature
+     *     (typically a member) has been evaluated, subsequent checks (eg. for each row of a table) are a single
+     *     hash lookup, rather than a walk up the feature's path with a scan of the permissions at each level.
+     * </p>
+     *
+     * <p>
+     *     Not serialized; rebuilt lazily after deserialization.  The number of entries is bounded by the number of
+     *     distinct features of the metamodel that are actually checked.
+     * </p>
+     */
+    private transient volatile Map<ApplicationPermissionMode, Map<ApplicationFeatureId, Evaluation>> evaluationsByMode;
+
     // -- constructor
 
     public ApplicationPermissionValueSet(
@@ -137,6 +157,15 @@ public boolean grants(final ApplicationFeatureId featureId, final ApplicationPer
     public Evaluation evaluate(
             final ApplicationFeatureId featureId,
             final ApplicationPermissionMode mode) {
+        return evaluations(mode)
+                .computeIfAbsent(featureId, __->evaluateUncached(featureId, mode));
+    }
+
+    // -- HELPER
+
+    private Evaluation evaluateUncached(
+            final ApplicationFeatureId featureId,
+            final ApplicationPermissionMode mode) {
 
         for (var pathId : featureId.getPathIds()) {
             var permissionValues = permissionsByFeature.get(pathId);
@@ -148,6 +177,19 @@ public Evaluation evaluate(
         return new Evaluation(null, false);
     }
 
+    private Map<ApplicationFeatureId, Evaluation> evaluations(final ApplicationPermissionMode mode) {
+        var evaluationsByMode = this.evaluationsByMode;
+        if(evaluationsByMode == null) {
+            // benign race: at worst some memoized evaluations are discarded
+            evaluationsByMode = new EnumMap<>(ApplicationPermissionMode.class);
+            for (var eachMode : ApplicationPermissionMode.values()) {
+                evaluationsByMode.put(eachMode, new ConcurrentHashMap<>());
+            }
+            this.evaluationsByMode = evaluationsByMode;
+        }
+        return evaluationsByMode.get(mode);
+    }
+
     // -- equals, hashCode, toString
     @Override
     public boolean equals(final Object o) {
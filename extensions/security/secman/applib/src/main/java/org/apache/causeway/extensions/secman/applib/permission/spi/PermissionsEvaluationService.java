@@ -35,6 +35,12 @@
  *     an instance is serialized into {@link org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermissionValueSet}.
  * </p>
  *
+ * <p>
+ *     Implementations must also be deterministic, in other words always return the same outcome for the same
+ *     arguments, because {@link org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermissionValueSet}
+ *     memoizes the evaluation for each feature.
+ * </p>
+ *
  * @since 2.0 {@index}
  */
 public interface PermissionsEvaluationService extends Serializable {
@@ -25,6 +25,8 @@
 
 import org.apache.causeway.extensions.secman.applib.CausewayModuleExtSecmanApplib;
 import org.apache.causeway.extensions.secman.integration.authorizor.AuthorizorSecman;
+import org.apache.causeway.extensions.secman.integration.authorizor.PermissionCacheShared;
+import org.apache.causeway.extensions.secman.integration.authorizor.PermissionCacheSharedMetrics;
 import org.apache.causeway.extensions.secman.integration.facets.TenantedAuthorizationPostProcessor;
 import org.apache.causeway.extensions.secman.integration.permissions.ApplicationFeatureIdTransformerIdentity;
 import org.apache.causeway.extensions.secman.integration.permissions.PermissionsEvaluationServiceForSecman;
@@ -43,6 +45,8 @@
 
         // @Component or @Service
         AuthorizorSecman.class,
+        PermissionCacheShared.class,
+        PermissionCacheSharedMetrics.class,
         TenantedAuthorizationPostProcessor.Register.class,
         TableColumnVisibilityServiceForSecman.class,
         ImpersonateMenuAdvisorForSecman.class, //not activated by default yet
@@ -58,6 +58,7 @@ public class AuthorizorSecman implements Authorizor {
 
     @Inject ApplicationUserRepository applicationUserRepository;
     @Inject Provider<PermissionCache> cache;
+    @Inject PermissionCacheShared sharedCache;
     @Inject MetaModelService metaModelService;
 
     private final _Lazy<Identifier> logoutIdentifier = _Lazy.threadSafe(this::logoutIdentifier);
@@ -88,11 +89,13 @@ private boolean grants(
             final ApplicationPermissionMode permissionMode) {
 
         var userName = authentication.getUser().name();
-        var permissionSetIfAny = cache.get()
-                .computeIfAbsent(userName, ()->
-                    applicationUserRepository
-                    .findByUsername(userName)
-                    .map(ApplicationUser::getPermissionSet));
+        Supplier<Optional<ApplicationPermissionValueSet>> lookup = ()->
+                applicationUserRepository
+                .findByUsername(userName)
+                .map(ApplicationUser::getPermissionSet);
+        var permissionSetIfAny = sharedCache.isEnabled()
+                ? sharedCache.computeIfAbsent(userName, lookup)
+                : cache.get().computeIfAbsent(userName, lookup);
 
         return permissionSetIfAny
         .map(permissionSet->permissionSet.grants(
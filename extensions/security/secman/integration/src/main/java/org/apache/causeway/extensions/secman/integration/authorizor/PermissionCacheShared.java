@@ -0,0 +1,168 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.secman.integration.authorizor;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import org.springframework.stereotype.Service;
+
+import org.apache.causeway.applib.annotation.EntityChangeKind;
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.metamodel.spi.EntityChangeSubscriber;
+import org.apache.causeway.extensions.secman.applib.CausewayModuleExtSecmanApplib;
+import org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermission;
+import org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermissionValueSet;
+import org.apache.causeway.extensions.secman.applib.role.dom.ApplicationRole;
+import org.apache.causeway.extensions.secman.applib.user.dom.ApplicationUser;
+
+import org.jspecify.annotations.NonNull;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Application-wide cache of the {@link ApplicationPermissionValueSet} of each user (keyed by username), as used by
+ * {@link AuthorizorSecman} if enabled using
+ * {@link org.apache.causeway.core.config.CausewayConfiguration.Extensions.Secman.PermissionCache#enabled()}.
+ *
+ * <p>
+ *     The cache is bounded both in size and in time.  Any change to an {@link ApplicationUser},
+ *     {@link ApplicationRole} or {@link ApplicationPermission} discards all entries, because a single role or
+ *     permission may affect the permissions of arbitrarily many users.  Changes are notified (as an
+ *     {@link EntityChangeSubscriber}) both when enlisted and once more after the transaction has completed, so
+ *     irrespective of whether lifecycle events or entity change publishing are enabled for these entities.
+ * </p>
+ *
+ * <p>
+ *     To prevent a lookup that was started before such an invalidation (and so may have read stale, or not yet
+ *     committed state) from re-populating the cache afterwards, each invalidation increments a generation counter;
+ *     a lookup's result is only cached if no invalidation happened while it was being computed.
+ * </p>
+ *
+ * @since 4.0 {@index}
+ */
+@Service
+@Named(CausewayModuleExtSecmanApplib.NAMESPACE + ".PermissionCacheShared")
+@Slf4j
+public class PermissionCacheShared implements EntityChangeSubscriber {
+
+    private static final Set<String> SECURITY_RELEVANT_LOGICAL_TYPE_NAMES = Set.of(
+            ApplicationUser.LOGICAL_TYPE_NAME,
+            ApplicationRole.LOGICAL_TYPE_NAME,
+            ApplicationPermission.LOGICAL_TYPE_NAME);
+
+    private final boolean enabled;
+    private final Cache<String, Optional<ApplicationPermissionValueSet>> permissionsByUsername;
+
+    private final AtomicLong generation = new AtomicLong();
+    private final Object lock = new Object();
+
+    @Inject
+    public PermissionCacheShared(final CausewayConfiguration causewayConfiguration) {
+        var config = causewayConfiguration.extensions().secman().permissionCache();
+        this.enabled = config.enabled();
+        this.permissionsByUsername = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMinutes(config.expiryDurationInMinutes()))
+                .maximumSize(config.maxSizeInEntries())
+                .recordStats()
+                .build();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    Optional<ApplicationPermissionValueSet> computeIfAbsent(
+            final @NonNull String userName,
+            final Supplier<Optional<ApplicationPermissionValueSet>> lookup) {
+        var cached = permissionsByUsername.getIfPresent(userName);
+        if(cached != null)
+            return cached;
+
+        final long computedAtGeneration = generation.get();
+        var permissionSetIfAny = lookup.get();
+        synchronized(lock) {
+            if(generation.get() == computedAtGeneration) {
+                permissionsByUsername.put(userName, permissionSetIfAny);
+            }
+        }
+        return permissionSetIfAny;
+    }
+
+    /**
+     * Discards the cached permissions of all users, and prevents any lookup currently in progress from caching its
+     * result.
+     */
+    public void invalidateAll() {
+        synchronized(lock) {
+            generation.incrementAndGet();
+            permissionsByUsername.invalidateAll();
+        }
+    }
+
+    /**
+     * Snapshot of the hit, miss and eviction counts (amongst others) since the cache was created.
+     */
+    public CacheStats stats() {
+        return permissionsByUsername.stats();
+    }
+
+    /**
+     * Number of users whose permissions are currently cached (an approximation).
+     */
+    public long size() {
+        return permissionsByUsername.estimatedSize();
+    }
+
+    @Override
+    public void entityChanged(final Bookmark bookmark, final EntityChangeKind changeKind) {
+        if(!enabled
+                || !SECURITY_RELEVANT_LOGICAL_TYPE_NAMES.contains(bookmark.logicalTypeName())) {
+            return;
+        }
+        if(log.isDebugEnabled()) {
+            log.debug("invalidating permission cache, due to {} of {}; stats prior: {}",
+                    changeKind, bookmark, stats());
+        }
+        invalidateAll();
+    }
+
+    // -- METRICS
+
+    /**
+     * The underlying cache, for the sole purpose of binding its statistics to a meter registry.
+     *
+     * @see PermissionCacheSharedMetrics
+     */
+    Cache<String, ?> cache() {
+        return permissionsByUsername;
+    }
+
+}
@@ -0,0 +1,50 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.secman.integration.authorizor;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Exposes the statistics of the {@link PermissionCacheShared} (hits, misses, evictions and size) as meters named
+ * <code>cache.*</code>, tagged with <code>cache=causeway.secman.permissions</code>.
+ *
+ * <p>
+ *     Only active if Micrometer is on the classpath; the {@link MeterBinder} is bound to the meter registry by
+ *     Spring Boot's actuator.
+ * </p>
+ *
+ * @since 4.0 {@index}
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+public class PermissionCacheSharedMetrics {
+
+    public static final String CACHE_NAME = "causeway.secman.permissions";
+
+    @Bean
+    public MeterBinder permissionCacheSharedMeterBinder(final PermissionCacheShared permissionCacheShared) {
+        return registry->CaffeineCacheMetrics.monitor(registry, permissionCacheShared.cache(), CACHE_NAME);
+    }
+
+}
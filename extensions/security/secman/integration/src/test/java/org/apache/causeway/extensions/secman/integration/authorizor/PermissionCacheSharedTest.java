@@ -0,0 +1,134 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.secman.integration.authorizor;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.util.TestPropertyValues;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.apache.causeway.applib.annotation.EntityChangeKind;
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.core.mmtestsupport.ConfigurationTester;
+import org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermission;
+import org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermissionValueSet;
+import org.apache.causeway.extensions.secman.applib.role.dom.ApplicationRole;
+import org.apache.causeway.extensions.secman.applib.user.dom.ApplicationUser;
+
+class PermissionCacheSharedTest {
+
+    private PermissionCacheShared cache;
+    private AtomicInteger lookupCount;
+
+    @BeforeEach
+    void setUp() {
+        var config = new ConfigurationTester(TestPropertyValues.of(
+                "causeway.extensions.secman.permission-cache.enabled=true"))
+            .causewayConfiguration();
+        cache = new PermissionCacheShared(config);
+        lookupCount = new AtomicInteger();
+    }
+
+    @Test
+    void caches_across_lookups() {
+        lookup("sven");
+        lookup("sven");
+        lookup("dick");
+
+        assertEquals(2, lookupCount.get());
+        assertEquals(1, cache.stats().hitCount());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void change_of_security_entity_invalidates_all() {
+        lookup("sven");
+        lookup("dick");
+
+        cache.entityChanged(Bookmark.forLogicalTypeNameAndIdentifier(ApplicationRole.LOGICAL_TYPE_NAME, "1"),
+                EntityChangeKind.UPDATE);
+
+        assertEquals(0, cache.size());
+        lookup("sven");
+        assertEquals(3, lookupCount.get());
+
+        cache.entityChanged(Bookmark.forLogicalTypeNameAndIdentifier(ApplicationPermission.LOGICAL_TYPE_NAME, "2"),
+                EntityChangeKind.DELETE);
+        assertEquals(0, cache.size());
+
+        lookup("sven");
+        cache.entityChanged(Bookmark.forLogicalTypeNameAndIdentifier(ApplicationUser.LOGICAL_TYPE_NAME, "3"),
+                EntityChangeKind.CREATE);
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void change_of_other_entity_is_ignored() {
+        lookup("sven");
+
+        cache.entityChanged(Bookmark.forLogicalTypeNameAndIdentifier("customers.Customer", "1"),
+                EntityChangeKind.UPDATE);
+
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void lookup_overtaken_by_invalidation_is_not_cached() {
+        var result = cache.computeIfAbsent("sven", ()->{
+            lookupCount.incrementAndGet();
+            // simulates a concurrent transaction committing a change to a role, while this lookup is in progress
+            cache.entityChanged(Bookmark.forLogicalTypeNameAndIdentifier(ApplicationRole.LOGICAL_TYPE_NAME, "1"),
+                    EntityChangeKind.UPDATE);
+            return Optional.empty();
+        });
+
+        assertEquals(Optional.empty(), result);
+        assertEquals(0, cache.size());
+
+        lookup("sven");
+        assertEquals(2, lookupCount.get());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void when_disabled_changes_are_ignored() {
+        var disabled = new PermissionCacheShared(new ConfigurationTester(TestPropertyValues.empty())
+                .causewayConfiguration());
+        disabled.computeIfAbsent("sven", Optional::empty);
+
+        disabled.entityChanged(Bookmark.forLogicalTypeNameAndIdentifier(ApplicationRole.LOGICAL_TYPE_NAME, "1"),
+                EntityChangeKind.UPDATE);
+
+        assertEquals(1, disabled.size());
+    }
+
+    // -- HELPER
+
+    private Optional<ApplicationPermissionValueSet> lookup(final String userName) {
+        return cache.computeIfAbsent(userName, ()->{
+            lookupCount.incrementAndGet();
+            return Optional.empty();
+        });
+    }
+
+}
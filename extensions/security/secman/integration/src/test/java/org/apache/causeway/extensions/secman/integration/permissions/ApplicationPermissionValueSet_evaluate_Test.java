@@ -0,0 +1,120 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.secman.integration.permissions;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.apache.causeway.applib.services.appfeat.ApplicationFeatureId;
+import org.apache.causeway.core.config.CausewayConfiguration.Extensions.Secman.PermissionsEvaluationPolicy;
+import org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermissionMode;
+import org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermissionValue;
+import org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermissionValueSet;
+import org.apache.causeway.extensions.secman.applib.permission.spi.PermissionsEvaluationService;
+
+import static org.apache.causeway.applib.services.appfeat.ApplicationFeatureId.newMember;
+import static org.apache.causeway.applib.services.appfeat.ApplicationFeatureId.newNamespace;
+import static org.apache.causeway.applib.services.appfeat.ApplicationFeatureId.newType;
+import static org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermissionMode.CHANGING;
+import static org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermissionMode.VIEWING;
+import static org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermissionRule.ALLOW;
+import static org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermissionRule.VETO;
+
+/**
+ * Covers the memoization of evaluations by {@link ApplicationPermissionValueSet}.
+ */
+class ApplicationPermissionValueSet_evaluate_Test {
+
+    CountingEvaluationService evaluationService;
+    ApplicationPermissionValueSet valueSet;
+
+    @BeforeEach
+    void setup() {
+        evaluationService = new CountingEvaluationService(PermissionsEvaluationPolicy.ALLOW_BEATS_VETO);
+        valueSet = new ApplicationPermissionValueSet(
+                List.of(
+                    new ApplicationPermissionValue(newNamespace("customer"), ALLOW, VIEWING),
+                    new ApplicationPermissionValue(newType("customer.Customer"), VETO, CHANGING)),
+                evaluationService);
+    }
+
+    @Test
+    void repeat_evaluation_is_memoized() {
+        var first = valueSet.evaluate(newMember("customer.Customer#lastName"), VIEWING);
+        var invocationsAfterFirst = evaluationService.invocations;
+
+        var second = valueSet.evaluate(newMember("customer.Customer#lastName"), VIEWING);
+
+        assertThat(first.isGranted()).isTrue();
+        assertThat(second).isSameAs(first);
+        assertThat(invocationsAfterFirst).isGreaterThan(0);
+        assertThat(evaluationService.invocations).isEqualTo(invocationsAfterFirst);
+    }
+
+    @Test
+    void memoized_per_mode() {
+        assertThat(valueSet.grants(newMember("customer.Customer#lastName"), VIEWING)).isTrue();
+        assertThat(valueSet.grants(newMember("customer.Customer#lastName"), CHANGING)).isFalse();
+
+        // and again, now from the memo
+        assertThat(valueSet.grants(newMember("customer.Customer#lastName"), VIEWING)).isTrue();
+        assertThat(valueSet.grants(newMember("customer.Customer#lastName"), CHANGING)).isFalse();
+    }
+
+    @Test
+    void memoized_per_feature() {
+        assertThat(valueSet.grants(newMember("customer.Customer#lastName"), VIEWING)).isTrue();
+        var invocationsAfterFirst = evaluationService.invocations;
+
+        assertThat(valueSet.grants(newMember("order.Order#placedOn"), VIEWING)).isFalse();
+
+        assertThat(evaluationService.invocations).isGreaterThan(invocationsAfterFirst);
+    }
+
+    // -- HELPER
+
+    static class CountingEvaluationService implements PermissionsEvaluationService {
+        private static final long serialVersionUID = 1L;
+
+        private final PermissionsEvaluationService delegate;
+        int invocations;
+
+        CountingEvaluationService(final PermissionsEvaluationPolicy policy) {
+            this.delegate = PermissionsEvaluationServiceForSecman.builder()
+                    .applicationFeatureIdTransformer(new ApplicationFeatureIdTransformerIdentity())
+                    .policy(policy)
+                    .build();
+        }
+
+        @Override
+        public ApplicationPermissionValueSet.Evaluation evaluate(
+                final ApplicationFeatureId targetMemberId,
+                final ApplicationPermissionMode mode,
+                final Collection<ApplicationPermissionValue> permissionValues) {
+            invocations++;
+            return delegate.evaluate(targetMemberId, mode, permissionValues);
+        }
+    }
+
+}
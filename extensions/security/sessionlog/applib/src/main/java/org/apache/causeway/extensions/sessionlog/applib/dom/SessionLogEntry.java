@@ -95,6 +95,7 @@ public static class Nq {
         public static final String FIND_BY_USERNAME_AND_TIMESTAMP_STRICTLY_AFTER = LOGICAL_TYPE_NAME + ".findByUsernameAndTimestampStrictlyAfter";
         public static final String FIND_ACTIVE_SESSIONS = LOGICAL_TYPE_NAME + ".findActiveSessions";
         public static final String FIND_RECENT_BY_USERNAME = LOGICAL_TYPE_NAME + ".findRecentByUsername";
+        public static final String LOGOUT_ACTIVE_SESSIONS = LOGICAL_TYPE_NAME + ".logoutActiveSessions";
     }
 
     // -- UI & DOMAIN EVENTS
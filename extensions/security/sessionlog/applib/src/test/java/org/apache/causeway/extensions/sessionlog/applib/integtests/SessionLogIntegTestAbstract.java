@@ -21,6 +21,7 @@
 import java.sql.Timestamp;
 import java.time.Duration;
 import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.Date;
 import java.util.List;
 import java.util.Optional;
@@ -34,9 +35,11 @@
 import org.junit.jupiter.api.Test;
 
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.transaction.annotation.Propagation;
 
 import org.apache.causeway.applib.annotation.Value;
 import org.apache.causeway.applib.services.session.SessionSubscriber;
+import org.apache.causeway.applib.services.xactn.TransactionService;
 import org.apache.causeway.extensions.sessionlog.applib.dom.SessionLogEntry;
 import org.apache.causeway.extensions.sessionlog.applib.dom.SessionLogEntryRepository;
 import org.apache.causeway.testing.integtestsupport.applib.CausewayIntegrationTestAbstract;
@@ -135,7 +138,44 @@ void login_and_logout() {
 
     }
 
+    @Test
+    void logoutAllSessions_logsOutActiveSessionsOnly() {
+
+        // given
+        Session session1 = new Session("tom", Instant.now().minus(Duration.ofHours(3)));
+        Session session2 = new Session("jim", Instant.now().minus(Duration.ofHours(2)));
+        Session session3 = new Session("tom", Instant.now().minus(Duration.ofHours(1)));
+        for (Session session : List.of(session1, session2, session3)) {
+            sessionSubscriber.log(SessionSubscriber.Type.LOGIN, session.username, session.getDate(), SessionSubscriber.CausedBy.USER, session.sessionGuid, session.httpSessionId);
+        }
+        sessionSubscriber.log(SessionSubscriber.Type.LOGOUT, null, session1.getDate(), SessionSubscriber.CausedBy.USER, session1.sessionGuid, null);
+        Assertions.assertThat(sessionLogEntryRepository.findActiveSessions()).hasSize(2);
+
+        // when
+        var restartedAt = Timestamp.from(Instant.now().truncatedTo(ChronoUnit.MILLIS));
+        transactionService.runTransactional(Propagation.REQUIRES_NEW, () ->
+            sessionLogEntryRepository.logoutAllSessions(restartedAt))
+        .ifFailureFail();
+
+        // then - read back in a transaction of its own, as a bulk update bypasses the persistence context
+        transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+            Assertions.assertThat(sessionLogEntryRepository.findActiveSessions()).isEmpty();
+
+            for (Session session : List.of(session2, session3)) {
+                var entry = sessionLogEntryRepository.findBySessionGuid(session.sessionGuid).orElseThrow();
+                Assertions.assertThat(entry.getCausedBy()).isEqualTo(SessionSubscriber.CausedBy.RESTART);
+                Assertions.assertThat(entry.getLogoutTimestamp()).isEqualTo(restartedAt);
+            }
+
+            // already logged out, so left as was
+            var entry = sessionLogEntryRepository.findBySessionGuid(session1.sessionGuid).orElseThrow();
+            Assertions.assertThat(entry.getCausedBy()).isEqualTo(SessionSubscriber.CausedBy.USER);
+        })
+        .ifFailureFail();
+    }
+
     @Inject @Qualifier("sessionlog") SessionSubscriber sessionSubscriber;
     @Inject SessionLogEntryRepository sessionLogEntryRepository;
+    @Inject TransactionService transactionService;
 
 }
@@ -134,7 +134,13 @@
                 query = "SELECT e"
                       + "  FROM SessionLogEntry e "
                       + " WHERE e.username = :username "
-                      + " ORDER BY e.loginTimestamp DESC ")  // range 0,10 programmatically
+                      + " ORDER BY e.loginTimestamp DESC "),  // range 0,10 programmatically
+        @NamedQuery(
+                name  = Nq.LOGOUT_ACTIVE_SESSIONS,
+                query = "UPDATE SessionLogEntry e "
+                      + "   SET e.causedBy = :causedBy, "
+                      + "       e.logoutTimestamp = :logoutTimestamp "
+                      + " WHERE e.logoutTimestamp IS null")
 })
 @EntityListeners(CausewayEntityListener.class)
 @Named(SessionLogEntry.LOGICAL_TYPE_NAME)
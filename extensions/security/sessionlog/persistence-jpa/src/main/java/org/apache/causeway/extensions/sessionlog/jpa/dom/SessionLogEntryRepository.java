@@ -20,9 +20,16 @@
 
 package org.apache.causeway.extensions.sessionlog.jpa.dom;
 
+import java.sql.Timestamp;
+
+import jakarta.inject.Inject;
+
 import org.springframework.stereotype.Service;
 
+import org.apache.causeway.applib.services.session.SessionSubscriber;
+import org.apache.causeway.extensions.sessionlog.applib.dom.SessionLogEntry.Nq;
 import org.apache.causeway.extensions.sessionlog.applib.dom.SessionLogEntryRepositoryAbstract;
+import org.apache.causeway.persistence.jpa.applib.services.JpaSupportService;
 
 @Service
 public class SessionLogEntryRepository extends SessionLogEntryRepositoryAbstract<SessionLogEntry> {
@@ -30,4 +37,19 @@ public class SessionLogEntryRepository extends SessionLogEntryRepositoryAbstract
     public SessionLogEntryRepository() {
         super(SessionLogEntry.class);
     }
+
+    @Inject JpaSupportService jpaSupportService;
+
+    /**
+     * Logs out all active sessions using a single bulk {@code UPDATE}, rather than loading and updating
+     * each entry in turn.
+     */
+    @Override
+    public void logoutAllSessions(final Timestamp logoutTimestamp) {
+        jpaSupportService.getEntityManagerElseFail(SessionLogEntry.class)
+                .createNamedQuery(Nq.LOGOUT_ACTIVE_SESSIONS)
+                .setParameter("causedBy", SessionSubscriber.CausedBy.RESTART)
+                .setParameter("logoutTimestamp", logoutTimestamp)
+                .executeUpdate();
+    }
 }
@@ -24,7 +24,9 @@
 import java.util.Collections;
 import java.util.ConcurrentModificationException;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -46,6 +48,7 @@
 import org.apache.causeway.applib.services.metrics.MetricsService;
 import org.apache.causeway.applib.services.publishing.spi.EntityChanges;
 import org.apache.causeway.applib.services.publishing.spi.EntityPropertyChange;
+import org.apache.causeway.applib.services.queryresultscache.SharedQueryResultsCache;
 import org.apache.causeway.applib.services.xactn.TransactionId;
 import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.internal.base._Lazy;
@@ -63,6 +66,7 @@
 import org.apache.causeway.core.metamodel.services.objectlifecycle.PreAndPostValue;
 import org.apache.causeway.core.metamodel.services.objectlifecycle.PropertyChangeRecord;
 import org.apache.causeway.core.metamodel.services.objectlifecycle.PropertyChangeRecordId;
+import org.apache.causeway.core.metamodel.spi.EntityChangeSubscriber;
 import org.apache.causeway.core.runtime.flushmgmt.FlushMgmt;
 import org.apache.causeway.core.transaction.changetracking.EntityChangeTracker;
 import org.apache.causeway.core.transaction.changetracking.EntityChangesPublisher;
@@ -74,6 +78,7 @@
 import org.apache.causeway.schema.common.v2.OidsDto;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.core.Ordered;
@@ -252,6 +257,18 @@ private Changes memoizeChangesIfRequired() {
      */
     private final Map<Bookmark, EntityChangeKind> changeKindByEnlistedAdapter = new HashMap<>();
 
+    /**
+     * The types of all entities created, updated or deleted within this transaction (irrespective of whether
+     * enabled for entity change publishing), as reported to the {@link SharedQueryResultsCache} on completion.
+     */
+    private final Set<Class<?>> changedEntityTypes = new HashSet<>();
+
+    /**
+     * The bookmarks of all entities created, updated or deleted within this transaction (irrespective of whether
+     * enabled for entity change publishing), as reported to any {@link EntityChangeSubscriber}s on completion.
+     */
+    private final Map<Bookmark, EntityChangeKind> changeKindByChangedEntity = new LinkedHashMap<>();
+
     private final LongAdder numberEntitiesLoaded = new LongAdder();
     private final LongAdder entityChangeEventCount = new LongAdder();
     private final AtomicBoolean persistentChangesEncountered = new AtomicBoolean();
@@ -272,6 +289,8 @@ private void clearAndReset() {
         changes.clear();
 
         changeKindByEnlistedAdapter.clear();
+        changedEntityTypes.clear();
+        changeKindByChangedEntity.clear();
         numberEntitiesLoaded.reset();
         entityChangeEventCount.reset();
 
@@ -342,6 +361,10 @@ public void afterCompletion(final int status) {
             log.debug("EntityChangeTrackerDefault.afterCompletion(status={}) xactn={} interactionId={} thread={}", decodeStatus(status), transactionCounter.get(), interactionId, Thread.currentThread().getName());
         }
 
+        // also on rollback, as results might have been computed from (and cached with) uncommitted changes
+        invalidateSharedQueryResults();
+        notifyEntityChangeSubscribers();
+
         clearAndReset();
     }
 
@@ -355,6 +378,29 @@ private static String decodeStatus(final int status) {
         return status + " [not recognised]";
     }
 
+    private void recordChangedEntity(final ManagedObject entity, final EntityChangeKind changeKind) {
+        if(sharedQueryResultsCache.map(SharedQueryResultsCache::isEnabled).orElse(false)) {
+            changedEntityTypes.add(entity.objSpec().getCorrespondingClass());
+        }
+        if(entityChangeSubscribers.isEmpty())
+			return;
+        ManagedObjects.bookmark(entity).ifPresent(bookmark->{
+            changeKindByChangedEntity.put(bookmark, changeKind);
+            entityChangeSubscribers.forEach(subscriber->subscriber.entityChanged(bookmark, changeKind));
+        });
+    }
+
+    private void notifyEntityChangeSubscribers() {
+        changeKindByChangedEntity.forEach((bookmark, changeKind)->
+            entityChangeSubscribers.forEach(subscriber->subscriber.entityChanged(bookmark, changeKind)));
+    }
+
+    private void invalidateSharedQueryResults() {
+        if(changedEntityTypes.isEmpty())
+			return;
+        sharedQueryResultsCache.ifPresent(cache->cache.invalidate(Set.copyOf(changedEntityTypes)));
+    }
+
     private void enableCommandPublishing() {
         persistentChangesEncountered.getAndSet(true);
     }
@@ -516,6 +562,7 @@ long countPotentialPropertyChangeRecords() {
     public void enlistCreated(final ManagedObject entity) {
 
         _Xray.enlistCreated(entity, interactionTrackerProvider);
+        recordChangedEntity(entity, EntityChangeKind.CREATE);
 
         if (isEntityExcludedForChangePublishing(entity)
                 || !EntityChangePublishingFacet.isPublishingEnabledForCreate(entity.objSpec()))
@@ -537,6 +584,7 @@ public void enlistUpdating(
             final @Nullable Function<ManagedObject, Can<PropertyChangeRecord>> propertyChangeRecordSupplier) {
 
         _Xray.enlistUpdating(entity, interactionTrackerProvider);
+        recordChangedEntity(entity, EntityChangeKind.UPDATE);
 
         if (isEntityExcludedForChangePublishing(entity)
                 || !EntityChangePublishingFacet.isPublishingEnabledForUpdate(entity.objSpec()))
@@ -574,6 +622,7 @@ public void enlistUpdating(
     public void enlistDeleting(final ManagedObject entity) {
 
         _Xray.enlistDeleting(entity, interactionTrackerProvider);
+        recordChangedEntity(entity, EntityChangeKind.DELETE);
 
         if (isEntityExcludedForChangePublishing(entity)
                 || !EntityChangePublishingFacet.isPublishingEnabledForDelete(entity.objSpec()))
@@ -659,5 +708,7 @@ public boolean isEnabled() {
     @Inject private Configuration configuration;
     @Inject private CausewayConfiguration causewayConfiguration;
     @Inject private DeadlockRecognizer deadlockRecognizer;
+    @Inject private Optional<SharedQueryResultsCache> sharedQueryResultsCache = Optional.empty();
+    @Autowired(required = false) private List<EntityChangeSubscriber> entityChangeSubscribers = List.of();
 
 }
@@ -22,9 +22,12 @@
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.Priority;
@@ -38,6 +41,7 @@
 import org.apache.causeway.applib.exceptions.unrecoverable.PersistFailedException;
 import org.apache.causeway.applib.exceptions.unrecoverable.RepositoryException;
 import org.apache.causeway.applib.query.Query;
+import org.apache.causeway.applib.query.QueryPredicate;
 import org.apache.causeway.applib.query.QueryRange;
 import org.apache.causeway.applib.services.factory.FactoryService;
 import org.apache.causeway.applib.services.repository.EntityState;
@@ -61,6 +65,7 @@
 import org.jspecify.annotations.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
 
 /**
  * Default implementation of {@link RepositoryService}.
@@ -72,7 +77,7 @@
 @Priority(PriorityPrecedence.EARLY)
 @Qualifier("Default")
 @RequiredArgsConstructor
-//@Slf4j
+@Slf4j
 public class RepositoryServiceDefault
 implements RepositoryService, HasMetaModelContext {
 
@@ -87,14 +92,22 @@
     @Getter(onMethod_ = {@Override})
     final MetaModelContext metaModelContext;
 
+    private final Set<Class<?>> typesFilteredClientSide = ConcurrentHashMap.newKeySet();
+
     private ThreadLocal<Boolean> suppressFlush = ThreadLocal.withInitial(() -> Boolean.FALSE);
     private boolean autoFlush;
+    private int streamBatchSize;
+    private int persistBatchSize;
 
     @PostConstruct
     public void init() {
         var disableAutoFlush =
                 causewayConfiguration.persistence().commons().repositoryService().disableAutoFlush();
         this.autoFlush = !disableAutoFlush;
+        this.streamBatchSize =
+                causewayConfiguration.persistence().commons().repositoryService().streamBatchSize();
+        this.persistBatchSize =
+                causewayConfiguration.persistence().commons().repositoryService().persistBatchSize();
     }
 
     @Override
@@ -128,6 +141,12 @@ private void resumeFlushing() {
         transactionService.flushTransaction();
     }
 
+    private void flushUnlessSuppressed() {
+        if (!suppressFlush.get()) {
+            transactionService.flushTransaction();
+        }
+    }
+
     @Override
     public <T> T persist(final T domainObject) {
 
@@ -154,6 +173,24 @@ public <T> T persistAndFlush(final T object) {
         return object;
     }
 
+    @Override
+    public <T> List<T> persistInBatches(final @NonNull List<T> domainObjects) {
+        int persistedSinceFlush = 0;
+        for (var domainObject : domainObjects) {
+            persist(domainObject);
+            if(persistBatchSize > 0
+                    && ++persistedSinceFlush == persistBatchSize) {
+                flushUnlessSuppressed();
+                persistedSinceFlush = 0;
+            }
+        }
+        if(persistBatchSize <= 0
+                || persistedSinceFlush > 0) {
+            flushUnlessSuppressed();
+        }
+        return domainObjects;
+    }
+
     @Override
     public void remove(final Object domainObject) {
         if (domainObject == null) {
@@ -193,8 +230,16 @@ public <T> List<T> allMatches(final Class<T> ofType, final Predicate<? super T>
 
     @Override
     public <T> List<T> allMatches(final Class<T> ofType, final Predicate<? super T> predicate, final long start, final long count) {
-        return _NullSafe.stream(allInstances(ofType, start, count))
+        var pushedDown = pushDown(ofType, predicate).orElse(null);
+        if(pushedDown!=null) {
+            return allMatches(start==0L && count==Long.MAX_VALUE
+                    ? pushedDown
+                    : pushedDown.withRange(QueryRange.of(start, count)));
+        }
+        return _NullSafe.stream(allInstances(ofType))
                 .filter(predicate)
+                .skip(start)
+                .limit(count)
                 .collect(Collectors.toCollection(ArrayList::new));
     }
 
@@ -206,6 +251,34 @@ public <T> List<T> allMatches(final Query<T> query) {
         return submitQuery(query);
     }
 
+    @Override
+    public <T> Stream<T> streamMatches(final Query<T> query) {
+        return streamMatches(query, streamBatchSize, false);
+    }
+
+    @Override
+    public <T> Stream<T> streamMatches(final Query<T> query, final int clearEvery) {
+        return streamMatches(query, clearEvery, true);
+    }
+
+    private <T> Stream<T> streamMatches(final Query<T> query, final int batchSize, final boolean clearAfterEachBatch) {
+        if(autoFlush && !FlushMgmt.isAutoFlushSuppressed() && !suppressFlush.get()) {
+            transactionService.flushTransaction();
+        }
+        var resultTypeSpec = getSpecificationLoader()
+                .specForType(query.getResultType())
+                .orElse(null);
+
+        if(resultTypeSpec==null) {
+            return Stream.empty();
+        }
+
+        var queryRequest = new BulkLoadRequest(resultTypeSpec, query);
+        return getObjectManager().streamObjects(queryRequest, batchSize, clearAfterEachBatch)
+                .map(MmUnwrapUtils::single)
+                .map(_Casts::<T>uncheckedCast);
+    }
+
     <T> List<T> submitQuery(final Query<T> query) {
         var resultTypeSpec = getSpecificationLoader()
                 .specForType(query.getResultType())
@@ -223,6 +296,10 @@ <T> List<T> submitQuery(final Query<T> query) {
 
     @Override
     public <T> Optional<T> uniqueMatch(final Class<T> type, final Predicate<T> predicate) {
+        var pushedDown = pushDown(type, predicate).orElse(null);
+        if(pushedDown!=null) {
+            return uniqueMatch(pushedDown);
+        }
         final List<T> instances = allMatches(type, predicate);
         if (instances.size() > 1) {
             throw new RepositoryException("Found more than one instance of " + type + " matching filter " + predicate);
@@ -232,7 +309,9 @@ public <T> Optional<T> uniqueMatch(final Class<T> type, final Predicate<T> predi
 
     @Override
     public <T> Optional<T> uniqueMatch(final Query<T> query) {
-        final List<T> instances = allMatches(query); // No need to fetch more than 2.
+        final List<T> instances = allMatches(query.getRange().isUnconstrained()
+                ? query.withLimit(2L) // No need to fetch more than 2.
+                : query);
         if (instances.size() > 1) {
             throw new RepositoryException("Found more that one instance for query:" + query.getDescription());
         }
@@ -241,6 +320,10 @@ public <T> Optional<T> uniqueMatch(final Query<T> query) {
 
     @Override
     public <T> Optional<T> firstMatch(final Class<T> type, final Predicate<T> predicate) {
+        var pushedDown = pushDown(type, predicate).orElse(null);
+        if(pushedDown!=null) {
+            return firstMatch(pushedDown.withLimit(1L));
+        }
         final List<T> instances = allMatches(type, predicate);
         return firstInstanceElseEmpty(instances);
     }
@@ -285,6 +368,29 @@ public <T> void removeAll(final Class<T> cls) {
 
     // -- HELPER
 
+    /**
+     * Translates given {@code predicate} into a server-side {@link Query}, if possible;
+     * otherwise logs (at WARN level, once per type) that the predicate is going to be evaluated client-side
+     * (against all instances).
+     */
+    private <T> Optional<Query<T>> pushDown(final Class<T> ofType, final Predicate<? super T> predicate) {
+        if(predicate instanceof QueryPredicate<? super T> queryPredicate) {
+            var canTranslate = getSpecificationLoader().specForType(ofType)
+                    .flatMap(ObjectSpecification::entityFacet)
+                    .map(entityFacet->entityFacet.canTranslate(queryPredicate))
+                    .orElse(false);
+            if(canTranslate) {
+                return Optional.of(Query.matching(ofType, queryPredicate));
+            }
+        }
+        if(typesFilteredClientSide.add(ofType)) {
+            log.warn("predicate {} cannot be translated into a query, "
+                    + "hence filtering all instances of {} client-side "
+                    + "(logged once per type)", predicate, ofType.getName());
+        }
+        return Optional.empty();
+    }
+
     private static <T> Optional<T> firstInstanceElseEmpty(final List<T> instances) {
         return instances.size() == 0
                 ? Optional.empty()
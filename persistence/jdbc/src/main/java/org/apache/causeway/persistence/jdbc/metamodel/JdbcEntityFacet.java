@@ -19,7 +19,12 @@
 package org.apache.causeway.persistence.jdbc.metamodel;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import org.apache.causeway.applib.query.AllInstancesQuery;
 import org.apache.causeway.applib.query.Query;
@@ -28,6 +33,7 @@
 import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.internal.assertions._Assert;
 import org.apache.causeway.commons.internal.base._NullSafe;
+import org.apache.causeway.commons.internal.collections._Streams;
 import org.apache.causeway.commons.internal.exceptions._Exceptions;
 import org.apache.causeway.core.config.beans.CausewayBeanMetaData.PersistenceStack;
 import org.apache.causeway.core.metamodel.facetapi.FacetAbstract;
@@ -38,6 +44,7 @@
 import org.apache.causeway.core.metamodel.services.idstringifier.IdStringifierLookupService;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jdbc.core.JdbcAggregateTemplate;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
@@ -111,6 +118,42 @@ public Optional<Object> fetchByBookmark(final @NonNull Bookmark bookmark) {
         return Optional.ofNullable(entityPojo);
     }
 
+    /**
+     * Fetches in batches of up to {@value #FETCH_BY_BOOKMARKS_BATCH_SIZE} entities,
+     * using {@link JdbcAggregateTemplate#findAllById(Iterable, Class)} (a {@code WHERE id IN (...)} query) per batch.
+     */
+    @Override
+    public Map<Bookmark, Object> fetchByBookmarks(final @NonNull Can<Bookmark> bookmarks) {
+        if(bookmarks.size() < 2) {
+            return EntityFacet.super.fetchByBookmarks(bookmarks);
+        }
+        log.debug("fetchEntities; bookmarks={}", bookmarks);
+
+        var bookmarkByPrimaryKey = new LinkedHashMap<Object, Bookmark>();
+        bookmarks.forEach(bookmark->
+            bookmarkByPrimaryKey.put(primaryKeyType.destring(bookmark.identifier()), bookmark));
+
+        var entityByPrimaryKey = new HashMap<Object, Object>();
+        var primaryKeys = new ArrayList<Object>(bookmarkByPrimaryKey.keySet());
+        for (int from = 0; from < primaryKeys.size(); from += FETCH_BY_BOOKMARKS_BATCH_SIZE) {
+            var batch = primaryKeys.subList(from,
+                    Math.min(from + FETCH_BY_BOOKMARKS_BATCH_SIZE, primaryKeys.size()));
+            _NullSafe.stream(jdbcAggregateTemplate.findAllById(batch, entityClass))
+                .forEach(entity->
+                    primaryKey(entity)
+                        .ifPresent(primaryKey->entityByPrimaryKey.put(primaryKey, entity)));
+        }
+
+        var entities = new LinkedHashMap<Bookmark, Object>();
+        bookmarkByPrimaryKey.forEach((primaryKey, bookmark)->{
+            var entity = entityByPrimaryKey.get(primaryKey);
+            if(entity != null) {
+                entities.put(bookmark, entity);
+            }
+        });
+        return entities;
+    }
+
     private Class<?> getPrimaryKeyType() {
         return getOrmMetadata().primaryKeyClass();
     }
@@ -148,6 +191,56 @@ public Can<ManagedObject> fetchByQuery(final Query<?> query) {
                 "Support for Query of type %s not implemented.", query.getClass());
     }
 
+    /**
+     * Fetches page by page, selecting each page by keyset ({@code WHERE id > :lastId ORDER BY id}),
+     * such that pages stay stable, even when rows are inserted or deleted while the stream is consumed.
+     * As Spring Data JDBC has no session management, there is nothing to clear after each batch.
+     */
+    @Override
+    public Stream<ManagedObject> streamByQuery(
+            final Query<?> query,
+            final int batchSize,
+            final boolean clearAfterEachBatch) {
+
+        if (query instanceof AllInstancesQuery queryFindAllInstances) {
+
+            var queryEntityType = queryFindAllInstances.getResultType();
+
+            // guard against misuse
+            _Assert.assertTypeIsInstanceOf(queryEntityType, entityClass);
+
+            var range = query.getRange();
+            var entitySpec = getEntitySpecification();
+            var idPropertyName = persistentEntity.getRequiredIdProperty().getName();
+            var sortById = Sort.by(idPropertyName);
+
+            return _Streams.<Object, Object>keysetPaged(
+                    range.hasLimit() ? range.getLimit() : Long.MAX_VALUE,
+                    batchSize,
+                    entity->primaryKey(entity).orElseThrow(),
+                    (lastKey, maxResults)->{
+                        var criteria = lastKey!=null
+                                ? Criteria.where(idPropertyName).greaterThan(lastKey)
+                                : Criteria.empty();
+                        var springQuery = org.springframework.data.relational.core.query.Query.query(criteria)
+                                .sort(sortById)
+                                .limit(maxResults);
+                        if(lastKey==null
+                                && range.getStart()>0) {
+                            springQuery = springQuery.offset(range.getStart());
+                        }
+                        return _NullSafe.stream(jdbcAggregateTemplate.findAll(springQuery, entityClass))
+                                .<Object>map(Object.class::cast)
+                                .toList();
+                    },
+                    ()->{})
+                .map(entity -> ManagedObject.adaptSingular(entitySpec, entity));
+        }
+
+        throw _Exceptions.unsupportedOperation(
+                "Support for Query of type %s not implemented.", query.getClass());
+    }
+
     @Override
     public void persist(final Object pojo) {
         if (pojo == null)
@@ -212,6 +305,8 @@ public <T> T detach(final T pojo) {
 
     // -- HELPER
 
+    private static final int FETCH_BY_BOOKMARKS_BATCH_SIZE = 500;
+
     // simple guard
     private boolean isEntityPojo(final Object pojo) {
         return pojo != null
@@ -27,6 +27,7 @@
 import jakarta.inject.Named;
 import jakarta.inject.Provider;
 
+import org.eclipse.persistence.config.BatchWriting;
 import org.eclipse.persistence.config.PersistenceUnitProperties;
 
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -36,6 +37,7 @@
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
 import org.apache.causeway.applib.services.inject.ServiceInjector;
 import org.apache.causeway.commons.internal.base._Lazy;
+import org.apache.causeway.core.config.CausewayConfiguration;
 import org.apache.causeway.persistence.jpa.eclipselink.inject.BeanManagerForEntityListeners;
 
 import lombok.Getter;
@@ -54,6 +56,7 @@
 public class ElSettings {
 
     @Inject private Provider<ServiceInjector> serviceInjectorProvider;
+    @Inject private Provider<CausewayConfiguration> causewayConfigurationProvider;
 
     /** mapped by {@code eclipselink.*} */
     @Getter @Setter
@@ -75,6 +78,14 @@ protected Map<String, Object> createMap() {
         jpaProps.put(PersistenceUnitProperties.DDL_GENERATION, PersistenceUnitProperties.CREATE_OR_EXTEND);
         jpaProps.put(PersistenceUnitProperties.CDI_BEANMANAGER, new BeanManagerForEntityListeners(serviceInjectorProvider));
 
+        // batch the statements of each flush, in line with RepositoryService#persistInBatches
+        var persistBatchSize = causewayConfigurationProvider.get()
+                .persistence().commons().repositoryService().persistBatchSize();
+        if(persistBatchSize > 0) {
+            jpaProps.put(PersistenceUnitProperties.BATCH_WRITING, BatchWriting.JDBC);
+            jpaProps.put(PersistenceUnitProperties.BATCH_WRITING_SIZE, String.valueOf(persistBatchSize));
+        }
+
         // potentially overrides defaults from above
         getEclipselink().forEach((k, v)->jpaProps.put("eclipselink." + k, v));
         return jpaProps;
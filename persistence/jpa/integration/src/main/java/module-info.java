@@ -46,4 +46,5 @@
     requires spring.context;
     requires spring.core;
     requires spring.data.jpa;
+    requires spring.tx;
 }
\ No newline at end of file
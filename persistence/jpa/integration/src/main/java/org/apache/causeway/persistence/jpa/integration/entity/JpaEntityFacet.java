@@ -18,18 +18,33 @@
  */
 package org.apache.causeway.persistence.jpa.integration.entity;
 
+import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Method;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.SortedSet;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 import org.apache.causeway.applib.query.AllInstancesQuery;
 import org.apache.causeway.applib.query.NamedQuery;
+import org.apache.causeway.applib.query.PredicateQuery;
+import org.apache.causeway.applib.query.PredicateQuery.SortKey;
 import org.apache.causeway.applib.query.Query;
+import org.apache.causeway.applib.query.QueryPredicate;
 import org.apache.causeway.applib.services.bookmark.Bookmark;
 import org.apache.causeway.applib.services.repository.EntityState;
 import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.internal.assertions._Assert;
+import org.apache.causeway.commons.internal.base._Casts;
+import org.apache.causeway.commons.internal.base._Strings;
+import org.apache.causeway.commons.internal.collections._Streams;
 import org.apache.causeway.commons.internal.exceptions._Exceptions;
 import org.apache.causeway.core.config.beans.CausewayBeanMetaData.PersistenceStack;
 import org.apache.causeway.core.config.observation.CausewayObservationIntegration;
@@ -49,8 +64,14 @@
 
 import jakarta.inject.Inject;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.OrderBy;
+import jakarta.persistence.OrderColumn;
 import jakarta.persistence.PersistenceUnitUtil;
 import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Predicate;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
@@ -127,6 +148,53 @@ public Optional<Object> fetchByBookmark(final @NonNull Bookmark bookmark) {
             });
     }
 
+    /**
+     * Fetches in batches of up to {@value #FETCH_BY_BOOKMARKS_BATCH_SIZE} entities, using a
+     * {@code WHERE id IN (...)} query per batch, provided the entity is identified by a single basic value
+     * (a basic id attribute, or an embedded id with a single attribute); see {@link _JpaIdPath}.
+     */
+    @Override
+    public Map<Bookmark, Object> fetchByBookmarks(final @NonNull Can<Bookmark> bookmarks) {
+        var idPath = getIdPath().orElse(null);
+        if(idPath == null
+                || bookmarks.size() < 2) {
+            return EntityFacet.super.fetchByBookmarks(bookmarks);
+        }
+        log.debug("fetchEntities; bookmarks={}", bookmarks);
+        return observationProvider.get("Fetch by Bookmarks (type=%s, count=%d)"
+                .formatted(entityClass.getName(), bookmarks.size()))
+            .observe(()->{
+                var bookmarkByPrimaryKey = new LinkedHashMap<Object, Bookmark>();
+                bookmarks.forEach(bookmark->
+                    bookmarkByPrimaryKey.put(primaryKeyType.destring(bookmark.identifier()), bookmark));
+
+                var entityManager = getEntityManager();
+                var persistenceUnitUtil = getPersistenceUnitUtil(entityManager);
+                var entityByPrimaryKey = new HashMap<Object, Object>();
+
+                var idValues = bookmarkByPrimaryKey.keySet().stream()
+                        .map(idPath::valueOf)
+                        .toList();
+                for (int from = 0; from < idValues.size(); from += FETCH_BY_BOOKMARKS_BATCH_SIZE) {
+                    var batch = idValues.subList(from,
+                            Math.min(from + FETCH_BY_BOOKMARKS_BATCH_SIZE, idValues.size()));
+                    selectWhereIdIn(entityClass, idPath, batch)
+                        .getResultStream()
+                        .forEach(entity->
+                            entityByPrimaryKey.put(persistenceUnitUtil.getIdentifier(entity), entity));
+                }
+
+                var entities = new LinkedHashMap<Bookmark, Object>();
+                bookmarkByPrimaryKey.forEach((primaryKey, bookmark)->{
+                    var entity = entityByPrimaryKey.get(primaryKey);
+                    if(entity != null) {
+                        entities.put(bookmark, entity);
+                    }
+                });
+                return entities;
+            });
+    }
+
     private Class<?> getPrimaryKeyType() {
         return getOrmMetadata().primaryKeyClass();
     }
@@ -139,56 +207,173 @@ public Can<ManagedObject> fetchByQuery(final Query<?> query) {
         var entitySpec = getEntitySpecification();
         final Function<Object, ManagedObject> adapter = entity -> ManagedObject.adaptSingular(entitySpec, entity);
 
-        if (query instanceof AllInstancesQuery) {
-            var queryFindAllInstances = (AllInstancesQuery<?>) query;
-            var queryEntityType = queryFindAllInstances.getResultType();
-
-            // guard against misuse
-            _Assert.assertTypeIsInstanceOf(queryEntityType, entityClass);
+        // pages are only stable, if the order is total
+        var typedQuery = createTypedQuery(query, range.hasOffset() || range.hasLimit());
+        if (range.hasOffset()) {
+            typedQuery.setFirstResult(range.getStartAsInt());
+        }
+        if (range.hasLimit()) {
+            typedQuery.setMaxResults(range.getLimitAsInt());
+        }
 
-            var typedQuery = selectFrom(entityClass);
-            if (range.hasOffset()) {
-                typedQuery.setFirstResult(range.getStartAsInt());
-            }
-            if (range.hasLimit()) {
-                typedQuery.setMaxResults(range.getLimitAsInt());
-            }
+        var obs = observationProvider.get("Fetch all Instances (%s)"
+                .formatted(query.getDescription()));
+        return obs.observe(()->
+                Can.ofStream(typedQuery.getResultStream().map(adapter)));
+    }
 
-            var obs = observationProvider.get("Fetch all Instances (%s)"
-                    .formatted(queryFindAllInstances.getDescription()));
+    /**
+     * Issues a {@code COUNT} query for {@link AllInstancesQuery} and {@link PredicateQuery};
+     * falls back to fetching the entire result for {@link NamedQuery}.
+     */
+    @Override
+    public long countByQuery(final Query<?> query) {
+        if(query instanceof NamedQuery) {
+            return EntityFacet.super.countByQuery(query);
+        }
+        var countQuery = query instanceof PredicateQuery<?> predicateQuery
+                ? selectCountWhere(entityClass, predicateQuery.getPredicate())
+                : selectCountWhere(entityClass, null);
+        var obs = observationProvider.get("Count Instances (%s)"
+                .formatted(query.getDescription()));
+        return obs.observe(()->countQuery.getSingleResult());
+    }
 
-            return obs.observe(()->
-                    Can.ofStream(typedQuery.getResultStream().map(adapter)));
+    @Override
+    public boolean canTranslate(final QueryPredicate<?> predicate) {
+        return _JpaQueryPredicateUtil.canTranslate(getEntityManager().getMetamodel(), entityClass, predicate);
+    }
 
-        } else if (query instanceof NamedQuery) {
-            var applibNamedQuery = (NamedQuery<?>) query;
-            var queryResultType = applibNamedQuery.getResultType();
+    /**
+     * Supports collections mapped by {@code @OneToMany(mappedBy = ...)}, that are neither ordered
+     * via {@code @OrderBy} or {@code @OrderColumn} nor of a sorted type,
+     * in which case the elements are matched by their back reference to the (attached) owner.
+     */
+    @Override
+    public Optional<PredicateQuery<?>> queryForCollection(final Object ownerPojo, final String collectionId) {
+        if(!getEntityState(ownerPojo).isAttached()) {
+            return Optional.empty();
+        }
+        return getEntityManager().getMetamodel().entity(entityClass).getPluralAttributes().stream()
+            .filter(attribute->attribute.getName().equals(collectionId))
+            .filter(attribute->!SortedSet.class.isAssignableFrom(attribute.getJavaType()))
+            .findFirst()
+            .flatMap(attribute->{
+                if(!(attribute.getJavaMember() instanceof AnnotatedElement annotatedMember)
+                        || annotatedMember.isAnnotationPresent(OrderBy.class)
+                        || annotatedMember.isAnnotationPresent(OrderColumn.class)) {
+                    return Optional.empty();
+                }
+                return Optional.ofNullable(annotatedMember.getAnnotation(OneToMany.class))
+                    .map(OneToMany::mappedBy)
+                    .filter(_Strings::isNotEmpty)
+                    .<PredicateQuery<?>>map(mappedBy->Query.matching(
+                            attribute.getElementType().getJavaType(),
+                            QueryPredicate.eq(mappedBy, ownerPojo)));
+            });
+    }
 
-            var entityManager = getEntityManager();
+    /**
+     * Supports up to {@value #FETCH_BY_BOOKMARKS_BATCH_SIZE} entities with a single valued id,
+     * such that the {@code IN} list stays within database limits.
+     */
+    @Override
+    public Optional<PredicateQuery<?>> queryForEntities(final Can<Object> entityPojos) {
+        var idPath = getIdPath().orElse(null);
+        if(idPath == null
+                || entityPojos.size() > FETCH_BY_BOOKMARKS_BATCH_SIZE
+                || !entityPojos.stream().allMatch(pojo->
+                    entityClass.isInstance(pojo)
+                        && getEntityState(pojo).isAttached())) {
+            return Optional.empty();
+        }
+        var persistenceUnitUtil = getPersistenceUnitUtil(getEntityManager());
+        var idValues = entityPojos.stream()
+                .map(persistenceUnitUtil::getIdentifier)
+                .map(idPath::valueOf)
+                .toList();
+        var idPropertyPath = idPath.isEmbedded()
+                ? idPath.idAttributeName() + "." + idPath.embeddedAttributeName()
+                : idPath.idAttributeName();
+        return Optional.of(Query.matching(entityClass, QueryPredicate.in(idPropertyPath, idValues)));
+    }
 
-            var namedQuery = entityManager
-                    .createNamedQuery(applibNamedQuery.getName(), queryResultType);
+    /**
+     * Fetches page by page, which works regardless of whether the
+     * JPA provider's {@link TypedQuery#getResultStream()} is backed by a database cursor.
+     * <p>
+     * For {@link AllInstancesQuery} and unsorted {@link PredicateQuery}, pages are selected by keyset,
+     * that is {@code WHERE id > :lastId ORDER BY id}, such that each page query is index-driven
+     * and pages stay stable, even when rows are inserted or deleted while the stream is consumed.
+     * <p>
+     * Falls back to offset and max-results for {@link NamedQuery}, for sorted {@link PredicateQuery}
+     * and for entities without a single (comparable) id attribute.
+     */
+    @Override
+    public Stream<ManagedObject> streamByQuery(
+            final Query<?> query,
+            final int batchSize,
+            final boolean clearAfterEachBatch) {
 
-            if (range.hasOffset()) {
-                namedQuery.setFirstResult(range.getStartAsInt());
-            }
-            if (range.hasLimit()) {
-                namedQuery.setMaxResults(range.getLimitAsInt());
+        var range = query.getRange();
+        var limit = range.hasLimit() ? range.getLimit() : Long.MAX_VALUE;
+        var entitySpec = getEntitySpecification();
+        var entityManager = getEntityManager();
+        Runnable beforeNextPage = ()->{
+            if(clearAfterEachBatch) {
+                entityManager.flush();
+                entityManager.clear();
             }
-
-            applibNamedQuery
-                    .getParametersByName()
-                    .forEach((paramName, paramValue) ->
-                            namedQuery.setParameter(paramName, paramValue));
-
-            var obs = observationProvider.get("Fetch all Instances (%s)"
-                    .formatted(applibNamedQuery.getDescription()));
-            return obs.observe(()->
-                    Can.ofStream(namedQuery.getResultStream().map(adapter)));
+        };
+
+        var idPath = getIdPath().orElse(null);
+        var keysetPageable = idPath!=null
+                && (query instanceof AllInstancesQuery
+                    || (query instanceof PredicateQuery<?> predicateQuery
+                            && predicateQuery.getSortKeys().isEmpty()));
+
+        if(keysetPageable) {
+            var predicate = query instanceof PredicateQuery<?> predicateQuery
+                    ? predicateQuery.getPredicate()
+                    : null;
+            var persistenceUnitUtil = getPersistenceUnitUtil(entityManager);
+            return _Streams.<Object, Object>keysetPaged(
+                    limit,
+                    batchSize,
+                    entity->idPath.valueOf(persistenceUnitUtil.getIdentifier(entity)),
+                    (lastIdValue, maxResults)->{
+                        var typedQuery = selectWhereIdGreaterThan(entityClass, idPath, predicate, lastIdValue);
+                        if(lastIdValue==null
+                                && range.getStart()>0) {
+                            typedQuery.setFirstResult(Math.toIntExact(range.getStart()));
+                        }
+                        typedQuery.setMaxResults(maxResults);
+
+                        var obs = observationProvider.get("Fetch Batch (%s, after id=%s)"
+                                .formatted(query.getDescription(), lastIdValue));
+                        return obs.observe(()->
+                                _Casts.<List<Object>>uncheckedCast(typedQuery.getResultList()));
+                    },
+                    beforeNextPage)
+                .map(entity->ManagedObject.adaptSingular(entitySpec, entity));
         }
 
-        throw _Exceptions.unsupportedOperation(
-                "Support for Query of type %s not implemented.", query.getClass());
+        return _Streams.<Object>paged(
+                range.getStart(),
+                limit,
+                batchSize,
+                (offset, maxResults)->{
+                    var typedQuery = createTypedQuery(query, true);
+                    typedQuery.setFirstResult(Math.toIntExact(offset));
+                    typedQuery.setMaxResults(maxResults);
+
+                    var obs = observationProvider.get("Fetch Batch (%s, offset=%d)"
+                            .formatted(query.getDescription(), offset));
+                    return obs.observe(()->
+                            _Casts.<List<Object>>uncheckedCast(typedQuery.getResultList()));
+                },
+                beforeNextPage)
+            .map(entity->ManagedObject.adaptSingular(entitySpec, entity));
     }
 
     @Override
@@ -286,6 +471,12 @@ public <T> T detach(final T pojo) {
     private final EntityOrmMetadata ormMetadata =
             ormMetadataProvider.ormMetadataFor(getEntityManager(), entityClass);
 
+    /**
+     * Path to the single basic value identifying the entity; empty if the entity uses a composite primary key.
+     */
+    @Getter(lazy=true)
+    private final Optional<_JpaIdPath> idPath = _JpaIdPath.of(getEntityManager().getMetamodel(), entityClass);
+
     // -- DEPENDENCIES
 
     protected EntityManager getEntityManager() {
@@ -298,6 +489,145 @@ protected PersistenceUnitUtil getPersistenceUnitUtil(final EntityManager entityM
 
     // -- HELPER
 
+    private static final int FETCH_BY_BOOKMARKS_BATCH_SIZE = 500;
+
+    private TypedQuery<?> createTypedQuery(final Query<?> query, final boolean orderedById) {
+        if (query instanceof AllInstancesQuery) {
+            var queryFindAllInstances = (AllInstancesQuery<?>) query;
+            var queryEntityType = queryFindAllInstances.getResultType();
+
+            // guard against misuse
+            _Assert.assertTypeIsInstanceOf(queryEntityType, entityClass);
+
+            return orderedById
+                    ? selectFromOrderedById(entityClass)
+                    : selectFrom(entityClass);
+
+        } else if (query instanceof NamedQuery) {
+            var applibNamedQuery = (NamedQuery<?>) query;
+            var queryResultType = applibNamedQuery.getResultType();
+
+            var entityManager = getEntityManager();
+
+            var namedQuery = entityManager
+                    .createNamedQuery(applibNamedQuery.getName(), queryResultType);
+
+            applibNamedQuery
+                    .getParametersByName()
+                    .forEach((paramName, paramValue) ->
+                            namedQuery.setParameter(paramName, paramValue));
+
+            return namedQuery;
+
+        } else if (query instanceof PredicateQuery) {
+            var predicateQuery = (PredicateQuery<?>) query;
+
+            // guard against misuse
+            _Assert.assertTypeIsInstanceOf(predicateQuery.getResultType(), entityClass);
+
+            return selectWhere(entityClass, predicateQuery.getPredicate(), predicateQuery.getSortKeys(), orderedById);
+        }
+
+        throw _Exceptions.unsupportedOperation(
+                "Support for Query of type %s not implemented.", query.getClass());
+    }
+
+    private <T> TypedQuery<T> selectFromOrderedById(final Class<T> entityClass) {
+        var idPath = getIdPath().orElse(null);
+        if(idPath == null) {
+            return selectFrom(entityClass);
+        }
+        var entityManager = getEntityManager();
+        var cb = entityManager.getCriteriaBuilder();
+        var q = cb.createQuery(entityClass);
+        var root = q.from(entityClass);
+        q.select(root).orderBy(cb.asc(idPath.path(root)));
+        return entityManager
+                .createQuery(q);
+    }
+
+    /**
+     * @param orderedById - whether to order by id, after any given {@code sortKeys},
+     *      such that the order is total
+     */
+    private <T> TypedQuery<T> selectWhere(
+            final Class<T> entityClass,
+            final QueryPredicate<?> predicate,
+            final List<SortKey> sortKeys,
+            final boolean orderedById) {
+        var entityManager = getEntityManager();
+        var cb = entityManager.getCriteriaBuilder();
+        var q = cb.createQuery(entityClass);
+        var root = q.from(entityClass);
+        q.select(root).where(_JpaQueryPredicateUtil.toCriteria(cb, root, predicate));
+        var orders = new ArrayList<Order>(_JpaQueryPredicateUtil.toOrders(cb, root, sortKeys));
+        if(orderedById || !orders.isEmpty()) {
+            getIdPath()
+                .ifPresent(idPath->orders.add(cb.asc(idPath.path(root))));
+        }
+        if(!orders.isEmpty()) {
+            q.orderBy(orders);
+        }
+        return entityManager
+                .createQuery(q);
+    }
+
+    /**
+     * @param predicate - optional, restricts the result further
+     * @param lastIdValue - optional, the id of the last entity of the previous page
+     */
+    private <T> TypedQuery<T> selectWhereIdGreaterThan(
+            final Class<T> entityClass,
+            final _JpaIdPath idPath,
+            final @Nullable QueryPredicate<?> predicate,
+            final @Nullable Object lastIdValue) {
+        var entityManager = getEntityManager();
+        var cb = entityManager.getCriteriaBuilder();
+        var q = cb.createQuery(entityClass);
+        var root = q.from(entityClass);
+        var restrictions = new ArrayList<Predicate>(2);
+        if(predicate!=null) {
+            restrictions.add(_JpaQueryPredicateUtil.toCriteria(cb, root, predicate));
+        }
+        if(lastIdValue!=null) {
+            restrictions.add(cb.greaterThan(
+                    _Casts.<Expression<Comparable<Object>>>uncheckedCast(idPath.path(root)),
+                    _Casts.<Comparable<Object>>uncheckedCast(lastIdValue)));
+        }
+        q.select(root)
+            .where(restrictions.toArray(Predicate[]::new))
+            .orderBy(cb.asc(idPath.path(root)));
+        return entityManager
+                .createQuery(q);
+    }
+
+    private TypedQuery<Long> selectCountWhere(
+            final Class<?> entityClass,
+            final @Nullable QueryPredicate<?> predicate) {
+        var entityManager = getEntityManager();
+        var cb = entityManager.getCriteriaBuilder();
+        var q = cb.createQuery(Long.class);
+        var root = q.from(entityClass);
+        q.select(cb.count(root));
+        if(predicate!=null) {
+            q.where(_JpaQueryPredicateUtil.toCriteria(cb, root, predicate));
+        }
+        return entityManager
+                .createQuery(q);
+    }
+
+    private <T> TypedQuery<T> selectWhereIdIn(
+            final Class<T> entityClass,
+            final _JpaIdPath idPath,
+            final Collection<Object> idValues) {
+        var entityManager = getEntityManager();
+        var q = entityManager.getCriteriaBuilder().createQuery(entityClass);
+        var root = q.from(entityClass);
+        q.select(root).where(idPath.path(root).in(idValues));
+        return entityManager
+                .createQuery(q);
+    }
+
     private <T> TypedQuery<T> selectFrom(final Class<T> entityClass) {
         var entityManager = getEntityManager();
         var q = entityManager.getCriteriaBuilder().createQuery(entityClass);
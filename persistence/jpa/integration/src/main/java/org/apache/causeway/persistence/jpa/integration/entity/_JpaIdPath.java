@@ -0,0 +1,114 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.persistence.jpa.integration.entity;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.util.Optional;
+
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.metamodel.Metamodel;
+import jakarta.persistence.metamodel.Type.PersistenceType;
+
+import org.jspecify.annotations.Nullable;
+
+import org.apache.causeway.commons.internal.exceptions._Exceptions;
+
+/**
+ * Navigates from an entity's root to the single basic value that identifies it, for use in
+ * {@code WHERE id IN (...)} and keyset ({@code WHERE id > ? ORDER BY id}) queries.
+ *
+ * <p>
+ *     This is either the entity's (basic) {@code @Id} attribute, or the single attribute of its
+ *     {@code @EmbeddedId} (as used for instance by the command log's {@code CommandLogEntryPK}).
+ *     Entities with a composite primary key (an {@code @IdClass}, or an embedded id with more than
+ *     one attribute) have no such path.
+ * </p>
+ *
+ * @param idAttributeName - name of the entity's id attribute
+ * @param embeddedAttributeName - if the id is an embeddable, name of its single attribute
+ * @param embeddedAttributeMember - if the id is an embeddable, the field or getter of its single attribute
+ */
+record _JpaIdPath(
+        String idAttributeName,
+        @Nullable String embeddedAttributeName,
+        @Nullable Member embeddedAttributeMember) {
+
+    static Optional<_JpaIdPath> of(
+            final Metamodel metamodel,
+            final Class<?> entityClass) {
+        try {
+            var entityType = metamodel.entity(entityClass);
+            if(!entityType.hasSingleIdAttribute())
+                return Optional.empty();
+            var idType = entityType.getIdType();
+            var idAttributeName = entityType.getId(idType.getJavaType()).getName();
+            if(idType.getPersistenceType() == PersistenceType.BASIC)
+                return Optional.of(new _JpaIdPath(idAttributeName, null, null));
+            if(idType.getPersistenceType() != PersistenceType.EMBEDDABLE)
+                return Optional.empty();
+            var embeddedAttributes = metamodel.embeddable(idType.getJavaType()).getSingularAttributes();
+            if(embeddedAttributes.size() != 1)
+                return Optional.empty();
+            var embeddedAttribute = embeddedAttributes.iterator().next();
+            return Optional.of(new _JpaIdPath(idAttributeName,
+                    embeddedAttribute.getName(), embeddedAttribute.getJavaMember()));
+        } catch (IllegalArgumentException e) {
+            // not a managed entity type of this persistence unit
+            return Optional.empty();
+        }
+    }
+
+    boolean isEmbedded() {
+        return embeddedAttributeName != null;
+    }
+
+    <X> Path<Object> path(final Root<X> root) {
+        return isEmbedded()
+                ? root.get(idAttributeName).get(embeddedAttributeName)
+                : root.get(idAttributeName);
+    }
+
+    /**
+     * The value to compare the {@link #path(Root)} against, for given primary key
+     * (an instance of the embeddable, if the id is embedded).
+     */
+    Object valueOf(final Object primaryKey) {
+        if(!isEmbedded())
+            return primaryKey;
+        try {
+            if(embeddedAttributeMember instanceof Field field) {
+                field.trySetAccessible();
+                return field.get(primaryKey);
+            }
+            if(embeddedAttributeMember instanceof Method getter) {
+                getter.trySetAccessible();
+                return getter.invoke(primaryKey);
+            }
+        } catch (ReflectiveOperationException e) {
+            throw _Exceptions.unrecoverable(e, "failed to read '%s' of embedded id %s",
+                    embeddedAttributeName, primaryKey);
+        }
+        throw _Exceptions.unrecoverable("cannot read '%s' of embedded id %s (member %s)",
+                embeddedAttributeName, primaryKey, embeddedAttributeMember);
+    }
+
+}
@@ -0,0 +1,189 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.persistence.jpa.integration.entity;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.metamodel.ManagedType;
+import jakarta.persistence.metamodel.Metamodel;
+import jakarta.persistence.metamodel.SingularAttribute;
+
+import org.apache.causeway.applib.query.PredicateQuery.SortKey;
+import org.apache.causeway.applib.query.QueryPredicate;
+import org.apache.causeway.applib.query.QueryPredicate.Comparison;
+import org.apache.causeway.applib.query.QueryPredicate.Junction;
+import org.apache.causeway.applib.query.QueryPredicate.Negation;
+import org.apache.causeway.commons.internal.exceptions._Exceptions;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Translates {@link QueryPredicate}s into JPA Criteria {@link Predicate}s
+ * and {@link SortKey}s into JPA Criteria {@link Order}s.
+ * <p>
+ * The resulting query follows SQL's three-valued logic, which client-side evaluation
+ * ({@link QueryPredicate#test(Object)}) mirrors.
+ */
+@UtilityClass
+class _JpaQueryPredicateUtil {
+
+    /**
+     * Whether every property path referenced by given {@code predicate} resolves to a persistent,
+     * single valued attribute.
+     * (Derived properties for instance cannot be queried server-side, neither can collections.)
+     */
+    boolean canTranslate(
+            final Metamodel metamodel,
+            final Class<?> entityClass,
+            final QueryPredicate<?> predicate) {
+        if(predicate instanceof Comparison<?> comparison) {
+            return isPersistentPath(metamodel, entityClass, comparison.propertyPath());
+        }
+        if(predicate instanceof Junction<?> junction) {
+            return junction.predicates().stream()
+                    .allMatch(p->canTranslate(metamodel, entityClass, p));
+        }
+        if(predicate instanceof Negation<?> negation) {
+            return canTranslate(metamodel, entityClass, negation.predicate());
+        }
+        return false;
+    }
+
+    Predicate toCriteria(
+            final CriteriaBuilder cb,
+            final Root<?> root,
+            final QueryPredicate<?> predicate) {
+        if(predicate instanceof Comparison<?> comparison) {
+            return comparison(cb, path(root, comparison.propertyPath()), comparison);
+        }
+        if(predicate instanceof Junction<?> junction) {
+            var criteria = junction.predicates().stream()
+                    .map(p->toCriteria(cb, root, p))
+                    .toArray(Predicate[]::new);
+            return switch (junction.kind()) {
+                case AND -> cb.and(criteria);
+                case OR -> cb.or(criteria);
+            };
+        }
+        if(predicate instanceof Negation<?> negation) {
+            return cb.not(toCriteria(cb, root, negation.predicate()));
+        }
+        throw _Exceptions.unsupportedOperation("unsupported QueryPredicate %s", predicate.getClass());
+    }
+
+    List<Order> toOrders(
+            final CriteriaBuilder cb,
+            final Root<?> root,
+            final List<SortKey> sortKeys) {
+        return sortKeys.stream()
+                .map(sortKey->sortKey.ascending()
+                        ? cb.asc(path(root, sortKey.propertyPath()))
+                        : cb.desc(path(root, sortKey.propertyPath())))
+                .toList();
+    }
+
+    // -- HELPER
+
+    private boolean isPersistentPath(
+            final Metamodel metamodel,
+            final Class<?> entityClass,
+            final String propertyPath) {
+        try {
+            ManagedType<?> type = metamodel.managedType(entityClass);
+            var propertyNames = propertyPath.split("\\.");
+            for (int i = 0; i < propertyNames.length; i++) {
+                var attribute = type.getAttribute(propertyNames[i]);
+                var isLast = i == propertyNames.length - 1;
+                if(isLast) {
+                    return !attribute.isCollection();
+                }
+                if(!(attribute instanceof SingularAttribute<?, ?> singular)
+                        || !(singular.getType() instanceof ManagedType<?> nestedType)) {
+                    return false;
+                }
+                type = nestedType;
+            }
+            return false;
+        } catch (IllegalArgumentException e) {
+            // not a managed type or no such attribute
+            return false;
+        }
+    }
+
+    /**
+     * Navigates to-one associations with LEFT joins, such that a {@code null} association
+     * yields a {@code null} nested property value (as with client-side evaluation),
+     * rather than dropping the row.
+     */
+    private Path<?> path(final Root<?> root, final String propertyPath) {
+        ManagedType<?> type = root.getModel();
+        Path<?> path = root;
+        var propertyNames = propertyPath.split("\\.");
+        for (int i = 0; i < propertyNames.length; i++) {
+            var propertyName = propertyNames[i];
+            var attribute = type.getAttribute(propertyName);
+            var isLast = i == propertyNames.length - 1;
+            if(isLast) {
+                return path.get(propertyName);
+            }
+            path = attribute.isAssociation()
+                    && path instanceof From<?, ?> from
+                    ? from.join(propertyName, JoinType.LEFT)
+                    : path.get(propertyName);
+            type = (ManagedType<?>) ((SingularAttribute<?, ?>) attribute).getType();
+        }
+        return path;
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private Predicate comparison(
+            final CriteriaBuilder cb,
+            final Path<?> path,
+            final Comparison<?> comparison) {
+        var value = comparison.value();
+        var comparable = (Expression<Comparable>) path;
+        return switch (comparison.operator()) {
+            case EQ -> cb.equal(path, value);
+            case NE -> cb.notEqual(path, value);
+            case LT -> cb.lessThan(comparable, (Comparable) value);
+            case LE -> cb.lessThanOrEqualTo(comparable, (Comparable) value);
+            case GT -> cb.greaterThan(comparable, (Comparable) value);
+            case GE -> cb.greaterThanOrEqualTo(comparable, (Comparable) value);
+            case LIKE -> cb.like(path.as(String.class), (String) value, QueryPredicate.LIKE_ESCAPE);
+            case LIKE_IGNORE_CASE -> cb.like(cb.lower(path.as(String.class)),
+                    ((String) value).toLowerCase(Locale.ROOT), QueryPredicate.LIKE_ESCAPE);
+            case IN -> ((Collection<?>) value).isEmpty()
+                    ? cb.disjunction() // matches nothing, as an empty IN list is not valid SQL
+                    : path.in((Collection<?>) value);
+            case IS_NULL -> cb.isNull(path);
+            case IS_NOT_NULL -> cb.isNotNull(path);
+        };
+    }
+
+}
@@ -0,0 +1,88 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.persistence.jpa.integration.services;
+
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.transaction.annotation.Propagation;
+
+import org.apache.causeway.applib.services.xactn.TransactionService;
+import org.apache.causeway.commons.internal.collections._Streams;
+import org.apache.causeway.persistence.jpa.applib.services.JpaSupportService;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Rewrites all entities of a type, eg. to migrate a column's encoding.
+ * <p>
+ * Entities are processed in batches, each in its own transaction, that is committed before the next batch is read
+ * (keyed on the key of the last entity rewritten, rather than by offset, see {@link _Streams#keysetPaged}).
+ * This keeps both memory consumption and transaction size bounded, and allows for a rewrite interrupted
+ * half-way to simply be run again.
+ *
+ * @since 4.0 {@index}
+ */
+@UtilityClass
+public class JpaKeysetBatchRewrite {
+
+    /**
+     * @param <E> entity type
+     * @param <K> key type, the entities are ordered by
+     * @param selectAfter - creates the query, that selects the entities following given key (or from the first one,
+     *      if {@code null}), ordered by key
+     * @param keyOf - the key of an entity
+     * @param rewrite - rewrites an entity, within its batch's transaction
+     * @return the number of entities rewritten
+     * @throws IllegalArgumentException if {@code batchSize} is not positive
+     */
+    public <E, K> int rewriteAll(
+            final @NonNull TransactionService transactionService,
+            final @NonNull JpaSupportService jpaSupportService,
+            final @NonNull Class<E> entityClass,
+            final int batchSize,
+            final @NonNull BiFunction<EntityManager, @Nullable K, TypedQuery<E>> selectAfter,
+            final @NonNull Function<E, K> keyOf,
+            final @NonNull Consumer<E> rewrite) {
+        return (int) _Streams.<K, K>keysetPaged(
+                    Long.MAX_VALUE,
+                    batchSize,
+                    key->key,
+                    (after, maxResults)->transactionService.callTransactional(Propagation.REQUIRES_NEW, ()->{
+                            var em = jpaSupportService.getEntityManagerElseFail(entityClass);
+                            var batch = selectAfter.apply(em, after)
+                                    .setMaxResults(maxResults)
+                                    .getResultList();
+                            batch.forEach(rewrite);
+                            return batch.stream().map(keyOf).toList();
+                        })
+                        .ifFailureFail()
+                        .valueAsNonNullElseFail(),
+                    ()->{}) // each batch is committed already
+                .count();
+    }
+
+}
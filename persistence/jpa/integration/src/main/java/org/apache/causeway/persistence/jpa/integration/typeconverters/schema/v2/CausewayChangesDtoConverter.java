@@ -22,9 +22,13 @@
 import jakarta.persistence.Converter;
 
 import org.apache.causeway.applib.util.schema.ChangesDtoUtils;
+import org.apache.causeway.applib.util.schema.DtoEncoding;
 import org.apache.causeway.schema.chg.v2.ChangesDto;
 
 /**
+ * Reads {@link ChangesDto} values irrespective of their {@link DtoEncoding}, and writes them using
+ * {@link #dtoEncoding()}.
+ *
  * @since 2.0 {@index}
  */
 @Converter(autoApply = true)
@@ -33,12 +37,19 @@
 
     @Override
     public String convertToDatabaseColumn(final ChangesDto memberValue) {
-        return ChangesDtoUtils.dtoMapper().toString(memberValue);
+        return dtoEncoding().encode(ChangesDtoUtils.dtoMapper(), memberValue);
     }
 
     @Override
     public ChangesDto convertToEntityAttribute(final String datastoreValue) {
-        return ChangesDtoUtils.dtoMapper().read(datastoreValue);
+        return DtoEncoding.decode(ChangesDtoUtils.dtoMapper(), datastoreValue);
+    }
+
+    /**
+     * The encoding used when writing; subclasses may override, eg. to honor an extension's configuration.
+     */
+    protected DtoEncoding dtoEncoding() {
+        return DtoEncoding.XML;
     }
 
 }
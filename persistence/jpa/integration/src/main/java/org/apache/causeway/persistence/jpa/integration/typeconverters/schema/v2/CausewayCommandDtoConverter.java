@@ -18,27 +18,63 @@
  */
 package org.apache.causeway.persistence.jpa.integration.typeconverters.schema.v2;
 
+import java.util.function.Function;
+
 import jakarta.persistence.AttributeConverter;
 import jakarta.persistence.Converter;
 
+import org.jspecify.annotations.Nullable;
+
 import org.apache.causeway.applib.util.schema.CommandDtoUtils;
+import org.apache.causeway.applib.util.schema.DtoEncoding;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.metamodel.context.MetaModelContext;
 import org.apache.causeway.schema.cmd.v2.CommandDto;
 
 /**
+ * Reads {@link CommandDto} values irrespective of their {@link DtoEncoding}, and writes them using
+ * {@link #dtoEncoding()}.
+ *
  * @since 2.0 {@index}
  */
 @Converter(autoApply = true)
 public class CausewayCommandDtoConverter
 implements AttributeConverter<CommandDto, String> {
 
+    private final @Nullable Function<CausewayConfiguration, DtoEncoding> dtoEncodingLookup;
+
+    public CausewayCommandDtoConverter() {
+        this(null);
+    }
+
+    /**
+     * @param dtoEncodingLookup - looks up the encoding used when writing from the configuration,
+     *      eg. to honor an extension's configuration
+     */
+    protected CausewayCommandDtoConverter(final @Nullable Function<CausewayConfiguration, DtoEncoding> dtoEncodingLookup) {
+        this.dtoEncodingLookup = dtoEncodingLookup;
+    }
+
     @Override
     public String convertToDatabaseColumn(final CommandDto memberValue) {
-        return CommandDtoUtils.dtoMapper().toString(memberValue);
+        return dtoEncoding().encode(CommandDtoUtils.dtoMapper(), memberValue);
     }
 
     @Override
     public CommandDto convertToEntityAttribute(final String datastoreValue) {
-        return CommandDtoUtils.dtoMapper().read(datastoreValue);
+        return DtoEncoding.decode(CommandDtoUtils.dtoMapper(), datastoreValue);
+    }
+
+    /**
+     * The encoding used when writing: as looked up from the configuration (if any lookup was given),
+     * otherwise (or outside of a running application) {@link DtoEncoding#XML}.
+     */
+    protected DtoEncoding dtoEncoding() {
+        return dtoEncodingLookup == null
+                ? DtoEncoding.XML
+                : MetaModelContext.instance()
+                    .map(mmc->dtoEncodingLookup.apply(mmc.getConfiguration()))
+                    .orElse(DtoEncoding.XML);
     }
 
 }
@@ -18,27 +18,63 @@
  */
 package org.apache.causeway.persistence.jpa.integration.typeconverters.schema.v2;
 
+import java.util.function.Function;
+
 import jakarta.persistence.AttributeConverter;
 import jakarta.persistence.Converter;
 
+import org.jspecify.annotations.Nullable;
+
+import org.apache.causeway.applib.util.schema.DtoEncoding;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.metamodel.context.MetaModelContext;
 import org.apache.causeway.applib.util.schema.InteractionDtoUtils;
 import org.apache.causeway.schema.ixn.v2.InteractionDto;
 
 /**
+ * Reads {@link InteractionDto} values irrespective of their {@link DtoEncoding}, and writes them using
+ * {@link #dtoEncoding()}.
+ *
  * @since 2.0 {@index}
  */
 @Converter(autoApply = true)
 public class CausewayInteractionDtoConverter
 implements AttributeConverter<InteractionDto, String> {
 
+    private final @Nullable Function<CausewayConfiguration, DtoEncoding> dtoEncodingLookup;
+
+    public CausewayInteractionDtoConverter() {
+        this(null);
+    }
+
+    /**
+     * @param dtoEncodingLookup - looks up the encoding used when writing from the configuration,
+     *      eg. to honor an extension's configuration
+     */
+    protected CausewayInteractionDtoConverter(final @Nullable Function<CausewayConfiguration, DtoEncoding> dtoEncodingLookup) {
+        this.dtoEncodingLookup = dtoEncodingLookup;
+    }
+
     @Override
     public String convertToDatabaseColumn(final InteractionDto memberValue) {
-        return InteractionDtoUtils.dtoMapper().toString(memberValue);
+        return dtoEncoding().encode(InteractionDtoUtils.dtoMapper(), memberValue);
     }
 
     @Override
     public InteractionDto convertToEntityAttribute(final String datastoreValue) {
-        return InteractionDtoUtils.dtoMapper().read(datastoreValue);
+        return DtoEncoding.decode(InteractionDtoUtils.dtoMapper(), datastoreValue);
+    }
+
+    /**
+     * The encoding used when writing: as looked up from the configuration (if any lookup was given),
+     * otherwise (or outside of a running application) {@link DtoEncoding#XML}.
+     */
+    protected DtoEncoding dtoEncoding() {
+        return dtoEncodingLookup == null
+                ? DtoEncoding.XML
+                : MetaModelContext.instance()
+                    .map(mmc->dtoEncodingLookup.apply(mmc.getConfiguration()))
+                    .orElse(DtoEncoding.XML);
     }
 
 }
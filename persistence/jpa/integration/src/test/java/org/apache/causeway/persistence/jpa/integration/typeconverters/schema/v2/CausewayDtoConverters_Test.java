@@ -0,0 +1,107 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.persistence.jpa.integration.typeconverters.schema.v2;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.applib.util.schema.ChangesDtoUtils;
+import org.apache.causeway.applib.util.schema.CommandDtoUtils;
+import org.apache.causeway.applib.util.schema.DtoEncoding;
+import org.apache.causeway.applib.util.schema.InteractionDtoUtils;
+import org.apache.causeway.schema.chg.v2.ChangesDto;
+import org.apache.causeway.schema.cmd.v2.CommandDto;
+import org.apache.causeway.schema.ixn.v2.InteractionDto;
+
+class CausewayDtoConverters_Test {
+
+    @Test
+    void commandDto_writesXmlByDefault_andHonorsEncodingHook() {
+        var dto = new CommandDto();
+        dto.setUsername("sven");
+
+        var plain = new CausewayCommandDtoConverter();
+        var compressing = new CausewayCommandDtoConverter() {
+            @Override protected DtoEncoding dtoEncoding() { return DtoEncoding.COMPRESSED_XML; }
+        };
+
+        var xml = plain.convertToDatabaseColumn(dto);
+        var compressed = compressing.convertToDatabaseColumn(dto);
+
+        assertEquals(DtoEncoding.XML, DtoEncoding.detect(xml));
+        assertEquals(DtoEncoding.COMPRESSED_XML, DtoEncoding.detect(compressed));
+        assertTrue(compressed.length() < xml.length());
+
+        // either converter reads either encoding
+        assertEquals(xml, CommandDtoUtils.dtoMapper().toString(plain.convertToEntityAttribute(compressed)));
+        assertEquals(xml, CommandDtoUtils.dtoMapper().toString(compressing.convertToEntityAttribute(xml)));
+    }
+
+    @Test
+    void interactionDto_writesXmlByDefault_andHonorsEncodingHook() {
+        var dto = new InteractionDto();
+        dto.setInteractionId("7b1e5b4e-3c1a-4f6a-9a1e-2b2f0c9d8e7f");
+
+        var plain = new CausewayInteractionDtoConverter();
+        var compressing = new CausewayInteractionDtoConverter() {
+            @Override protected DtoEncoding dtoEncoding() { return DtoEncoding.COMPRESSED_XML; }
+        };
+
+        var xml = plain.convertToDatabaseColumn(dto);
+        var compressed = compressing.convertToDatabaseColumn(dto);
+
+        assertEquals(DtoEncoding.XML, DtoEncoding.detect(xml));
+        assertEquals(DtoEncoding.COMPRESSED_XML, DtoEncoding.detect(compressed));
+        assertEquals(xml, InteractionDtoUtils.dtoMapper().toString(plain.convertToEntityAttribute(compressed)));
+        assertEquals(xml, InteractionDtoUtils.dtoMapper().toString(compressing.convertToEntityAttribute(xml)));
+    }
+
+    @Test
+    void changesDto_writesXmlByDefault_andHonorsEncodingHook() {
+        var dto = new ChangesDto();
+        dto.setInteractionId("7b1e5b4e-3c1a-4f6a-9a1e-2b2f0c9d8e7f");
+        dto.setUsername("sven");
+
+        var plain = new CausewayChangesDtoConverter();
+        var compressing = new CausewayChangesDtoConverter() {
+            @Override protected DtoEncoding dtoEncoding() { return DtoEncoding.COMPRESSED_XML; }
+        };
+
+        var xml = plain.convertToDatabaseColumn(dto);
+        var compressed = compressing.convertToDatabaseColumn(dto);
+
+        assertEquals(DtoEncoding.XML, DtoEncoding.detect(xml));
+        assertEquals(DtoEncoding.COMPRESSED_XML, DtoEncoding.detect(compressed));
+        assertEquals(xml, ChangesDtoUtils.dtoMapper().toString(plain.convertToEntityAttribute(compressed)));
+        assertEquals(xml, ChangesDtoUtils.dtoMapper().toString(compressing.convertToEntityAttribute(xml)));
+    }
+
+    @Test
+    void nulls_passThrough() {
+        var compressing = new CausewayCommandDtoConverter() {
+            @Override protected DtoEncoding dtoEncoding() { return DtoEncoding.COMPRESSED_XML; }
+        };
+        assertNull(compressing.convertToDatabaseColumn(null));
+        assertNull(compressing.convertToEntityAttribute(null));
+    }
+
+}
@@ -0,0 +1,109 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.testdomain.jpa.entities;
+
+import java.io.Serializable;
+
+import jakarta.annotation.Priority;
+import jakarta.inject.Named;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+
+import org.springframework.stereotype.Component;
+
+import org.apache.causeway.applib.annotation.DomainObject;
+import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.applib.annotation.Property;
+import org.apache.causeway.applib.annotation.Publishing;
+import org.apache.causeway.applib.annotation.Title;
+import org.apache.causeway.applib.value.semantics.ValueSemanticsBasedOnIdStringifierEntityAgnostic;
+
+import org.jspecify.annotations.NonNull;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Entity identified by an {@link EmbeddedId} with a single attribute, similar to the command log's entries.
+ */
+@Entity
+@Named("testdomain.jpa.EmbeddedId")
+@DomainObject(
+        entityChangePublishing = Publishing.DISABLED)
+@NoArgsConstructor
+@ToString
+public class JpaEntityEmbeddedId {
+
+    public JpaEntityEmbeddedId(final String code, final String name) {
+        this.pk = new PK(code);
+        this.name = name;
+    }
+
+    @EmbeddedId
+    private @Getter PK pk;
+
+    @Property @Title
+    @Column(nullable = true)
+    private @Getter @Setter String name;
+
+    @EqualsAndHashCode
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Embeddable
+    public static class PK implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        @Column(name = "code", nullable = false, length = 32)
+        private @Getter String code;
+
+        @Override
+        public String toString() {
+            return code;
+        }
+
+        @Component
+        @Priority(PriorityPrecedence.MIDPOINT)
+        public static class Semantics
+        extends ValueSemanticsBasedOnIdStringifierEntityAgnostic<PK> {
+
+            public Semantics() {
+                super(PK.class);
+            }
+
+            @Override
+            public String enstring(final PK value) {
+                return value.getCode();
+            }
+
+            @Override
+            public PK destring(final @NonNull String stringified) {
+                return new PK(stringified);
+            }
+
+        }
+    }
+
+}
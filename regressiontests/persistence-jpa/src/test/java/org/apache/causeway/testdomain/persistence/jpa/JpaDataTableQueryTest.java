@@ -0,0 +1,173 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.testdomain.persistence.jpa;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.Commit;
+import org.springframework.transaction.annotation.Transactional;
+
+import org.apache.causeway.applib.annotation.Where;
+import org.apache.causeway.applib.query.Query;
+import org.apache.causeway.applib.query.QueryPredicate;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.core.metamodel.interactions.managed.ManagedCollection;
+import org.apache.causeway.core.metamodel.object.ManagedObject;
+import org.apache.causeway.core.metamodel.specloader.SpecificationLoader;
+import org.apache.causeway.core.metamodel.tabular.DataTableInteractive;
+import org.apache.causeway.testdomain.jpa.conf.Configuration_usingJpa;
+import org.apache.causeway.testdomain.jpa.entities.JpaBook;
+import org.apache.causeway.testdomain.jpa.entities.JpaProductComment;
+import org.apache.causeway.testing.integtestsupport.applib.CausewayIntegrationTestAbstract;
+
+/**
+ * Covers tables of (parented) collections and of standalone entity sets,
+ * that are backed by a query, such that paging, search and row count are pushed down to the database.
+ */
+@SpringBootTest(
+        classes = {
+                Configuration_usingJpa.class,
+        },
+        properties = {
+                "spring.datasource.url=jdbc:h2:mem:JpaDataTableQueryTest",
+                "causeway.core.meta-model.query-backed-tables=true",
+        })
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@Transactional
+class JpaDataTableQueryTest extends CausewayIntegrationTestAbstract {
+
+    @Inject private SpecificationLoader specificationLoader;
+
+    @Test @Order(0) @Commit
+    void setUp() {
+        repositoryService.removeAll(JpaProductComment.class);
+        repositoryService.removeAll(JpaBook.class);
+
+        var dune = repositoryService.persist(
+                JpaBook.of("Dune", "Sci-fi classic", 12., "Herbert", "ISBN-1", "Chilton"));
+        repositoryService.persist(
+                JpaBook.of("Emma", null, 8., "Austen", "ISBN-2", null));
+
+        List.of("Spice must flow", "50% off", "500 off").forEach(text->{
+            var comment = new JpaProductComment();
+            comment.setProduct(dune);
+            comment.setComment(text);
+            repositoryService.persist(comment);
+        });
+    }
+
+    @Test @Order(1)
+    void collectionTable_isQueryBacked() {
+        var table = DataTableInteractive.forCollection(commentsOf("Dune"));
+
+        assertTrue(table.isQueryBacked());
+        assertEquals(3, table.getFilteredElementCount());
+        assertEquals(2, table.dataRowsFilteredAndSorted(1, 2).size());
+
+        // the search argument is matched literally and ignoring case
+        table.searchArgumentBindable().setValue("0% OFF");
+        assertEquals(List.of("50% off"), comments(table));
+        assertEquals(1, table.getFilteredElementCount());
+
+        table.searchArgumentBindable().setValue("spice");
+        assertEquals(List.of("Spice must flow"), comments(table));
+    }
+
+    @Test @Order(2)
+    void collectionTable_isQueryBacked_whenEmpty() {
+        var table = DataTableInteractive.forCollection(commentsOf("Emma"));
+
+        assertTrue(table.isQueryBacked());
+        assertEquals(0, table.getFilteredElementCount());
+    }
+
+    @Test @Order(3)
+    void collectionTable_selectsAll_withoutFetchingRows() {
+        var table = DataTableInteractive.forCollection(commentsOf("Dune"));
+
+        assertEquals(3, table.getVisibleElementCount());
+        table.selectAll(true);
+        table.selectRangeOfRowsByIndex(IntStream.of(1), false);
+
+        assertTrue(table.getFetchedElements().isEmpty());
+        assertEquals(Set.of(0, 2), table.getSelectedRowIndexes());
+
+        // fetched only once needed
+        assertEquals(2, table.getSelected().size());
+    }
+
+    @Test @Order(4)
+    void entitySet_canBeQueriedById() {
+        var commentFacet = specificationLoader.specForTypeElseFail(JpaProductComment.class).entityFacetElseFail();
+        var someComments = repositoryService.allInstances(JpaProductComment.class).stream()
+                .filter(comment->comment.getComment().endsWith("off"))
+                .<Object>map(comment->comment)
+                .collect(Can.toCan());
+
+        var query = commentFacet.queryForEntities(someComments).orElseThrow();
+        assertEquals(
+                List.of("50% off", "500 off"),
+                repositoryService.allMatches(query).stream()
+                    .map(comment->((JpaProductComment) comment).getComment())
+                    .sorted()
+                    .toList());
+
+        // not attached
+        assertFalse(commentFacet.queryForEntities(someComments.add(new JpaProductComment())).isPresent());
+    }
+
+    @Test @Order(5) @Commit
+    void cleanUp() {
+        repositoryService.removeAll(JpaProductComment.class);
+        repositoryService.removeAll(JpaBook.class);
+    }
+
+    // -- HELPER
+
+    private ManagedCollection commentsOf(final String bookName) {
+        var book = repositoryService.firstMatch(
+                Query.matching(JpaBook.class, QueryPredicate.<JpaBook>eq("name", bookName)))
+                .orElseThrow();
+        var owner = ManagedObject.adaptSingular(specificationLoader.specForTypeElseFail(JpaBook.class), book);
+        return ManagedCollection.lookupCollection(owner, "comments", Where.NOT_SPECIFIED)
+                .orElseThrow();
+    }
+
+    private static List<String> comments(final DataTableInteractive table) {
+        return table.dataRowsFilteredAndSorted(0, 10).stream()
+                .map(dataRow->((JpaProductComment) dataRow.rowElement().getPojo()).getComment())
+                .sorted()
+                .toList();
+    }
+
+}
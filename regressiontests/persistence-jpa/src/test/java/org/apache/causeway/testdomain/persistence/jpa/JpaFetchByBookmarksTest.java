@@ -0,0 +1,191 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.testdomain.persistence.jpa;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+
+import org.eclipse.persistence.jpa.JpaEntityManager;
+import org.eclipse.persistence.sessions.SessionEvent;
+import org.eclipse.persistence.sessions.SessionEventAdapter;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.Commit;
+import org.springframework.transaction.annotation.Transactional;
+
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.applib.services.bookmark.BookmarkService;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.core.metamodel.object.ManagedObject;
+import org.apache.causeway.core.metamodel.objectmanager.ObjectManager;
+import org.apache.causeway.core.metamodel.specloader.SpecificationLoader;
+import org.apache.causeway.testdomain.jpa.conf.Configuration_usingJpa;
+import org.apache.causeway.testdomain.jpa.entities.JpaEntityEmbeddedId;
+import org.apache.causeway.testdomain.jpa.entities.JpaEntityGeneratedLongId;
+import org.apache.causeway.testing.integtestsupport.applib.CausewayIntegrationTestAbstract;
+
+/**
+ * Covers {@link ObjectManager#loadObjects(Can)}, which fetches entities of the same type with an IN query
+ * (as implemented by the JPA entity facet's {@code fetchByBookmarks}).
+ */
+@SpringBootTest(
+        classes = {
+                Configuration_usingJpa.class,
+        },
+        properties = {
+                "spring.datasource.url=jdbc:h2:mem:JpaFetchByBookmarksTest",
+        })
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@Transactional
+class JpaFetchByBookmarksTest extends CausewayIntegrationTestAbstract {
+
+    @Inject private ObjectManager objectManager;
+    @Inject private BookmarkService bookmarkService;
+    @Inject private SpecificationLoader specificationLoader;
+    @Inject private EntityManager entityManager;
+
+    @Test @Order(0) @Commit
+    void setUp() {
+        repositoryService.removeAll(JpaEntityEmbeddedId.class);
+        repositoryService.removeAll(JpaEntityGeneratedLongId.class);
+
+        List.of("A", "B", "C").forEach(code->
+            repositoryService.persist(new JpaEntityEmbeddedId(code, "embedded-" + code)));
+        List.of("x", "y", "z").forEach(name->
+            repositoryService.persist(new JpaEntityGeneratedLongId(name)));
+    }
+
+    @Test @Order(1)
+    void loadObjects_fetchesEachTypeWithInQuery_inOrderOfBookmarks() {
+
+        var embedded = repositoryService.allInstances(JpaEntityEmbeddedId.class);
+        var generated = repositoryService.allInstances(JpaEntityGeneratedLongId.class);
+        assertEquals(3, embedded.size());
+        assertEquals(3, generated.size());
+
+        var missing = Bookmark.forLogicalTypeNameAndIdentifier("testdomain.jpa.EmbeddedId", "Z");
+
+        // interleave the types, and include a bookmark that does not resolve
+        var bookmarks = new ArrayList<Bookmark>();
+        for (int i = 0; i < 3; i++) {
+            bookmarks.add(bookmarkService.bookmarkForElseFail(embedded.get(2 - i)));
+            bookmarks.add(bookmarkService.bookmarkForElseFail(generated.get(i)));
+        }
+        bookmarks.add(missing);
+
+        entityManager.clear();
+
+        var readAllQueriesByType = new QueryCounter();
+        var loaded = readAllQueriesByType.countWhile(()->objectManager.loadObjects(Can.ofCollection(bookmarks)));
+
+        // then - all found, in order of the bookmarks, except for the missing one
+        assertEquals(bookmarks.subList(0, 6), List.copyOf(loaded.keySet()));
+        assertFalse(loaded.containsKey(missing));
+        loaded.forEach((bookmark, managedObject)->
+            assertEquals(bookmark, managedObject.getBookmark().orElseThrow()));
+
+        var embeddedNames = loaded.values().stream()
+                .map(ManagedObject::getPojo)
+                .filter(JpaEntityEmbeddedId.class::isInstance)
+                .map(JpaEntityEmbeddedId.class::cast)
+                .map(JpaEntityEmbeddedId::getName)
+                .toList();
+        assertEquals(List.of("embedded-C", "embedded-B", "embedded-A"), embeddedNames);
+
+        // and then - the embedded id (with its single attribute) went down the IN path, same as the basic id
+        assertTrue(readAllQueriesByType.count(JpaEntityEmbeddedId.class) > 0);
+        assertTrue(readAllQueriesByType.count(JpaEntityGeneratedLongId.class) > 0);
+    }
+
+    @Test @Order(2)
+    void fetchByBookmarks_whenEmbeddedId() {
+
+        var bookmarks = repositoryService.allInstances(JpaEntityEmbeddedId.class).stream()
+                .map(bookmarkService::bookmarkForElseFail)
+                .collect(Can.toCan());
+
+        var entityFacet = specificationLoader
+                .specForTypeElseFail(JpaEntityEmbeddedId.class)
+                .entityFacetElseFail();
+
+        var fetched = entityFacet.fetchByBookmarks(bookmarks);
+
+        assertEquals(bookmarks.toList(), List.copyOf(fetched.keySet()));
+        fetched.forEach((bookmark, pojo)->
+            assertEquals(bookmark.identifier(), ((JpaEntityEmbeddedId)pojo).getPk().getCode()));
+    }
+
+    @Test @Order(3) @Commit
+    void cleanUp() {
+        repositoryService.removeAll(JpaEntityEmbeddedId.class);
+        repositoryService.removeAll(JpaEntityGeneratedLongId.class);
+    }
+
+    // -- HELPER
+
+    /**
+     * Counts the read-all queries (as used for IN queries, but not by {@link EntityManager#find}),
+     * per entity type.
+     */
+    private class QueryCounter extends SessionEventAdapter {
+
+        private final Map<Class<?>, AtomicInteger> countByType = new HashMap<>();
+
+        @Override
+        public void preExecuteQuery(final SessionEvent event) {
+            var query = event.getQuery();
+            if(query != null
+                    && query.isReadAllQuery()) {
+                countByType.computeIfAbsent(query.getReferenceClass(), __->new AtomicInteger())
+                    .incrementAndGet();
+            }
+        }
+
+        <T> T countWhile(final Supplier<T> supplier) {
+            var eventManager = entityManager.unwrap(JpaEntityManager.class).getActiveSession().getEventManager();
+            eventManager.addListener(this);
+            try {
+                return supplier.get();
+            } finally {
+                eventManager.removeListener(this);
+            }
+        }
+
+        int count(final Class<?> entityType) {
+            var count = countByType.get(entityType);
+            return count != null ? count.get() : 0;
+        }
+    }
+
+}
@@ -0,0 +1,136 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.testdomain.persistence.jpa;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+
+import org.eclipse.persistence.config.BatchWriting;
+import org.eclipse.persistence.config.PersistenceUnitProperties;
+import org.eclipse.persistence.internal.databaseaccess.DatabasePlatform;
+import org.eclipse.persistence.jpa.JpaEntityManager;
+import org.eclipse.persistence.sessions.SessionEvent;
+import org.eclipse.persistence.sessions.SessionEventAdapter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import org.apache.causeway.persistence.jpa.eclipselink.config.ElSettings;
+import org.apache.causeway.testdomain.jpa.conf.Configuration_usingJpa;
+import org.apache.causeway.testdomain.jpa.entities.JpaEntityGeneratedLongId;
+import org.apache.causeway.testing.integtestsupport.applib.CausewayIntegrationTestAbstract;
+
+/**
+ * Covers {@link org.apache.causeway.applib.services.repository.RepositoryService#persistInBatches(List)}, and the
+ * JDBC batch writing configured alongside it.
+ */
+@SpringBootTest(
+        classes = {
+                Configuration_usingJpa.class,
+        },
+        properties = {
+                "spring.datasource.url=jdbc:h2:mem:JpaPersistInBatchesTest",
+                "causeway.persistence.commons.repository-service.persist-batch-size=2",
+        })
+@Transactional
+class JpaPersistInBatchesTest extends CausewayIntegrationTestAbstract {
+
+    @Inject private ElSettings elSettings;
+    @Inject private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        repositoryService.removeAll(JpaEntityGeneratedLongId.class);
+        entityManager.flush();
+    }
+
+    @Test
+    void persistBatchSize_configuresJdbcBatchWriting() {
+        var jpaProps = elSettings.asMap();
+        assertEquals(BatchWriting.JDBC, jpaProps.get(PersistenceUnitProperties.BATCH_WRITING));
+        assertEquals("2", jpaProps.get(PersistenceUnitProperties.BATCH_WRITING_SIZE));
+
+        var platform = (DatabasePlatform) entityManager.unwrap(JpaEntityManager.class)
+                .getActiveSession().getDatasourcePlatform();
+        assertTrue(platform.usesJDBCBatchWriting());
+        assertEquals(2, platform.getMaxBatchWritingSize());
+    }
+
+    @Test
+    void persistInBatches_flushesEveryBatchSize_andTheRemainder() {
+        var entities = List.of("a", "b", "c", "d", "e").stream()
+                .map(JpaEntityGeneratedLongId::new)
+                .toList();
+
+        var flushes = new FlushCounter();
+        var persisted = flushes.countWhile(()->repositoryService.persistInBatches(entities));
+
+        // 2 full batches, then the remaining one
+        assertEquals(3, flushes.count());
+        assertEquals(entities, persisted);
+        assertEquals(5, repositoryService.allInstances(JpaEntityGeneratedLongId.class).size());
+    }
+
+    @Test
+    void persistInBatches_whenEmpty_doesNotFlush() {
+        var flushes = new FlushCounter();
+        flushes.countWhile(()->repositoryService.persistInBatches(List.of()));
+
+        assertEquals(0, flushes.count());
+    }
+
+    // -- HELPER
+
+    /**
+     * Counts the change sets calculated by the unit of work, that is, one per flush.
+     */
+    private class FlushCounter extends SessionEventAdapter {
+
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public void preCalculateUnitOfWorkChangeSet(final SessionEvent event) {
+            count.incrementAndGet();
+        }
+
+        <T> T countWhile(final Supplier<T> supplier) {
+            var eventManager = entityManager.unwrap(JpaEntityManager.class).getActiveSession().getEventManager();
+            eventManager.addListener(this);
+            try {
+                return supplier.get();
+            } finally {
+                eventManager.removeListener(this);
+            }
+        }
+
+        int count() {
+            return count.get();
+        }
+    }
+
+}
@@ -0,0 +1,175 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.testdomain.persistence.jpa;
+
+import java.util.List;
+import java.util.function.Function;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.Commit;
+import org.springframework.transaction.annotation.Transactional;
+
+import org.apache.causeway.applib.query.Query;
+import org.apache.causeway.applib.query.QueryPredicate;
+import org.apache.causeway.core.metamodel.specloader.SpecificationLoader;
+import org.apache.causeway.testdomain.jpa.conf.Configuration_usingJpa;
+import org.apache.causeway.testdomain.jpa.entities.JpaBook;
+import org.apache.causeway.testdomain.jpa.entities.JpaProduct;
+import org.apache.causeway.testdomain.jpa.entities.JpaProductComment;
+import org.apache.causeway.testing.integtestsupport.applib.CausewayIntegrationTestAbstract;
+
+/**
+ * Covers the translation of {@link QueryPredicate}s into JPA Criteria queries,
+ * which must agree with client-side evaluation (including {@code null} handling).
+ */
+@SpringBootTest(
+        classes = {
+                Configuration_usingJpa.class,
+        },
+        properties = {
+                "spring.datasource.url=jdbc:h2:mem:JpaQueryPredicateTest",
+        })
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@Transactional
+class JpaQueryPredicateTest extends CausewayIntegrationTestAbstract {
+
+    @Inject private SpecificationLoader specificationLoader;
+
+    @Test @Order(0) @Commit
+    void setUp() {
+        repositoryService.removeAll(JpaProductComment.class);
+        repositoryService.removeAll(JpaBook.class);
+
+        var dune = repositoryService.persist(
+                JpaBook.of("Dune", "Sci-fi classic", 12., "Herbert", "ISBN-1", "Chilton"));
+        var emma = repositoryService.persist(
+                JpaBook.of("Emma", null, 8., "Austen", "ISBN-2", null));
+        repositoryService.persist(
+                JpaBook.of("Ulysses", "Modernist novel", 20., "Joyce", "ISBN-3", "Shakespeare and Company"));
+
+        List.of(dune, emma).forEach(book->{
+            var comment = new JpaProductComment();
+            comment.setProduct(book);
+            comment.setComment("about " + book.getName());
+            repositoryService.persist(comment);
+        });
+    }
+
+    @Test @Order(1)
+    void canTranslate_onlySingleValuedPersistentPaths() {
+        var productFacet = specificationLoader.specForTypeElseFail(JpaProduct.class).entityFacetElseFail();
+        var commentFacet = specificationLoader.specForTypeElseFail(JpaProductComment.class).entityFacetElseFail();
+
+        assertTrue(productFacet.canTranslate(QueryPredicate.eq("name", "Dune")));
+        assertTrue(commentFacet.canTranslate(QueryPredicate.eq("product.name", "Dune")));
+
+        // collection valued
+        assertFalse(productFacet.canTranslate(QueryPredicate.isNotNull("comments")));
+        // not persistent
+        assertFalse(productFacet.canTranslate(QueryPredicate.eq("title", "Dune")));
+        // not navigable
+        assertFalse(productFacet.canTranslate(QueryPredicate.eq("name.length", 4)));
+    }
+
+    @Test @Order(2)
+    void serverSide_agreesWithClientSide() {
+        var predicates = List.<QueryPredicate<JpaBook>>of(
+                QueryPredicate.ne("description", "Sci-fi classic"),
+                QueryPredicate.<JpaBook>eq("description", "Sci-fi classic").negate(),
+                QueryPredicate.<JpaBook>like("publisher", "S%").negate(),
+                QueryPredicate.anyOf(
+                        QueryPredicate.ne("publisher", "Chilton"),
+                        QueryPredicate.isNull("publisher")),
+                QueryPredicate.in("name", List.of()),
+                QueryPredicate.<JpaBook>in("name", List.of()).negate(),
+                QueryPredicate.in("name", List.of("Dune", "Emma")),
+                QueryPredicate.lt("price", 15.),
+                QueryPredicate.likeIgnoreCase("description", "%SCI-FI%"),
+                QueryPredicate.likeIgnoreCase("publisher", "%" + QueryPredicate.escapeLike("AND ") + "%"),
+                // matches nothing, unless the underscore is escaped
+                QueryPredicate.like("description", "%" + QueryPredicate.escapeLike("_") + "%"));
+
+        var allBooks = repositoryService.allInstances(JpaBook.class);
+        assertEquals(3, allBooks.size());
+
+        predicates.forEach(predicate->
+            assertEquals(
+                    clientSide(allBooks, predicate, JpaBook::getName),
+                    serverSide(JpaBook.class, predicate, JpaBook::getName),
+                    predicate::toString));
+
+        // and in particular - a null description is neither 'not equal' nor 'not (equal)'
+        assertEquals(List.of("Ulysses"), serverSide(JpaBook.class, predicates.get(0), JpaBook::getName));
+        assertEquals(List.of("Ulysses"), serverSide(JpaBook.class, predicates.get(1), JpaBook::getName));
+        // an empty IN list matches nothing
+        assertEquals(List.of(), serverSide(JpaBook.class, predicates.get(4), JpaBook::getName));
+        // LIKE, ignoring case and with escaped wildcards
+        assertEquals(List.of("Dune"), serverSide(JpaBook.class, predicates.get(8), JpaBook::getName));
+        assertEquals(List.of("Ulysses"), serverSide(JpaBook.class, predicates.get(9), JpaBook::getName));
+        assertEquals(List.of(), serverSide(JpaBook.class, predicates.get(10), JpaBook::getName));
+    }
+
+    @Test @Order(3)
+    void serverSide_agreesWithClientSide_whenNested() {
+        var predicate = QueryPredicate.<JpaProductComment>ne("product.description", "Sci-fi classic");
+        var allComments = repositoryService.allInstances(JpaProductComment.class);
+
+        assertEquals(
+                clientSide(allComments, predicate, JpaProductComment::getComment),
+                serverSide(JpaProductComment.class, predicate, JpaProductComment::getComment));
+        assertEquals(List.of(), serverSide(JpaProductComment.class, predicate, JpaProductComment::getComment));
+    }
+
+    @Test @Order(4) @Commit
+    void cleanUp() {
+        repositoryService.removeAll(JpaProductComment.class);
+        repositoryService.removeAll(JpaBook.class);
+    }
+
+    // -- HELPER
+
+    private static <T> List<String> clientSide(
+            final List<T> instances, final QueryPredicate<T> predicate, final Function<T, String> toName) {
+        return instances.stream()
+                .filter(predicate)
+                .map(toName)
+                .sorted()
+                .toList();
+    }
+
+    private <T> List<String> serverSide(
+            final Class<T> entityType, final QueryPredicate<T> predicate, final Function<T, String> toName) {
+        return repositoryService.allMatches(Query.matching(entityType, predicate)).stream()
+                .map(toName)
+                .sorted()
+                .toList();
+    }
+
+}
@@ -18,6 +18,7 @@
  */
 package org.apache.causeway.valuetypes.asciidoc.applib;
 
+import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URL;
@@ -48,10 +49,11 @@
 import org.jspecify.annotations.Nullable;
 
 import org.apache.causeway.commons.internal.base._Strings;
+import org.apache.causeway.commons.io.RenderedHtmlCache;
+import org.apache.causeway.commons.io.RenderedHtmlCache.Rendered;
 import org.apache.causeway.core.config.CausewayConfiguration;
 
 import org.jspecify.annotations.NonNull;
-import lombok.SneakyThrows;
 
 /**
  * @since 2.0 {@index}
@@ -74,31 +76,60 @@ public AdocToHtmlConverter createAdocToHtmlConverter(final CausewayConfiguration
             asciidoctor.javaExtensionRegistry().block("plantuml", new PlantumlBlockProcessor(krokiBaseUri, requestTimeout));
         }
 
+        var sourceHighlighter = "prism";
+
+        // anything that changes the HTML rendered from a given document, so that HTML cached before is not reused
+        var rendererFingerprint = "asciidoctor " + asciidoctor.asciidoctorVersion()
+                + ", source-highlighter " + sourceHighlighter
+                + (krokiBaseUri!=null
+                        ? ", plantuml via " + krokiBaseUri
+                        : "");
+
+        var htmlCacheConfig = config.valueTypes().htmlCache();
+
         return new AdocToHtmlConverter(asciidoctor, org.asciidoctor.Options.builder()
                 .safe(SafeMode.UNSAFE)
                 .toFile(false)
                 .attributes(Attributes.builder()
                         .showTitle(true)
-                        .sourceHighlighter("prism")
+                        .sourceHighlighter(sourceHighlighter)
                         .build())
-                .build());
+                .build(),
+                new RenderedHtmlCache("asciidoc", rendererFingerprint,
+                        htmlCacheConfig.maxEntries(), htmlCacheConfig.directory(), htmlCacheConfig.directoryMaxEntries()),
+                htmlCacheConfig.prerenderOnPersist());
     }
 
-    public static final class AdocToHtmlConverter {
+    public static final class AdocToHtmlConverter implements AutoCloseable {
 
         public static AdocToHtmlConverter instance() {
             return instance;
         }
 
-        private static AdocToHtmlConverter instance;
+        private static volatile AdocToHtmlConverter instance;
 
         private final @NonNull Asciidoctor asciidoctor;
         private final @NonNull Options options;
+        private final @NonNull RenderedHtmlCache htmlCache;
+        private final boolean prerenderOnPersist;
 
+        /**
+         * Without caching, so every call converts afresh.
+         */
         public AdocToHtmlConverter(final @NonNull Asciidoctor asciidoctor, final @NonNull Options options) {
+            this(asciidoctor, options, RenderedHtmlCache.inMemory("asciidoc", "", 0), false);
+        }
+
+        public AdocToHtmlConverter(
+                final @NonNull Asciidoctor asciidoctor,
+                final @NonNull Options options,
+                final @NonNull RenderedHtmlCache htmlCache,
+                final boolean prerenderOnPersist) {
             super();
             this.asciidoctor = asciidoctor;
             this.options = options;
+            this.htmlCache = htmlCache;
+            this.prerenderOnPersist = prerenderOnPersist;
             instance = this;
         }
 
@@ -115,7 +146,33 @@ public AdocToHtmlConverter(final @NonNull Asciidoctor asciidoctor, final @NonNul
         public String adocToHtml(final @Nullable String adoc) {
             return _Strings.isEmpty(adoc)
                     ? ""
-                    : asciidoctor.convert(adoc, options);
+                    : htmlCache.computeIfAbsent(adoc, this::convert);
+        }
+
+        /**
+         * Called as the given document is persisted, to (if so configured) convert it in the background, so that
+         * a subsequent {@link #adocToHtml(String)} need only look up the cached HTML.
+         */
+        public void onPersist(final @Nullable String adoc) {
+            if (prerenderOnPersist) {
+                htmlCache.prerenderAsync(adoc, this::convert);
+            }
+        }
+
+        /**
+         * Stops any pre-rendering, as the application shuts down.
+         */
+        @Override
+        public void close() {
+            htmlCache.close();
+        }
+
+        private Rendered convert(final String adoc) {
+            var document = asciidoctor.load(adoc, options);
+            var html = document.convert();
+            return document.hasAttribute(PlantumlBlockProcessor.FAILED_ATTRIBUTE)
+                    ? Rendered.failure(html)
+                    : Rendered.success(html);
         }
 
     }
@@ -182,6 +239,11 @@ public Reader process(final Document document, final PreprocessorReader reader)
     @org.asciidoctor.ast.ContentModel(org.asciidoctor.ast.ContentModel.SIMPLE)
     public static class PlantumlBlockProcessor extends BlockProcessor {
 
+        /**
+         * Set on the document if any of its diagrams could not be rendered, such that its HTML is not cached.
+         */
+        public static final String FAILED_ATTRIBUTE = "causeway-plantuml-failed";
+
         private final @NonNull URL krokiBaseUri;
         private final @NonNull Duration requestTimeout;
 
@@ -193,13 +255,23 @@ public PlantumlBlockProcessor(final URL krokiBaseUri, final Duration requestTime
         @Override
         public Object process(final StructuralNode parent, final Reader reader, final Map<String, Object> attributes) {
             final String diagramSource = reader.read();
-            return createBlock(parent, "pass", getPlantumlSvg(krokiBaseUri.toString(), requestTimeout, diagramSource));
+            try {
+                return createBlock(parent, "pass", getPlantumlSvg(krokiBaseUri.toString(), requestTimeout, diagramSource));
+            } catch (IOException | InterruptedException e) {
+                if (e instanceof InterruptedException) {
+                    Thread.currentThread().interrupt();
+                }
+                parent.getDocument().setAttribute(FAILED_ATTRIBUTE, "true", true);
+                return createBlock(parent, "pass",
+                        "<div class=\"plantuml-failed\">PlantUML diagram could not be rendered: "
+                        + e.getClass().getSimpleName() + "</div>");
+            }
         }
 
         // -- HELPER
 
-        @SneakyThrows
-        private static String getPlantumlSvg(final String krokiBaseUri, final Duration requestTimeout, final String diagramSource) {
+        private static String getPlantumlSvg(final String krokiBaseUri, final Duration requestTimeout, final String diagramSource)
+                throws IOException, InterruptedException {
             var request = HttpRequest.newBuilder()
                     .uri(URI.create(krokiBaseUri + "/plantuml/svg/" + _Strings.base64UrlEncodeZlibCompressed(diagramSource)))
                     .timeout(requestTimeout)
@@ -208,8 +280,12 @@ private static String getPlantumlSvg(final String krokiBaseUri, final Duration r
                     .build();
 
             var client = HttpClient.newHttpClient();
-            return client.send(request, BodyHandlers.ofString())
-                .body();
+            var response = client.send(request, BodyHandlers.ofString());
+            if (response.statusCode() / 100 != 2) {
+                // otherwise the error page (or message) would be rendered in place of the diagram
+                throw new IOException("Kroki responded with HTTP status " + response.statusCode());
+            }
+            return response.body();
         }
 
     }
@@ -21,6 +21,7 @@
 import jakarta.persistence.AttributeConverter;
 import jakarta.persistence.Converter;
 
+import org.apache.causeway.valuetypes.asciidoc.applib.CausewayModuleValAsciidocApplib.AdocToHtmlConverter;
 import org.apache.causeway.valuetypes.asciidoc.applib.value.AsciiDoc;
 
 /**
@@ -31,9 +32,15 @@ public class CausewayAsciiDocConverter implements AttributeConverter<AsciiDoc, S
 
     @Override
     public String convertToDatabaseColumn(final AsciiDoc memberValue) {
-        return memberValue != null
-                ? memberValue.getAdoc()
-                : null;
+        if (memberValue == null) {
+            return null;
+        }
+        var adoc = memberValue.getAdoc();
+        var adocToHtmlConverter = AdocToHtmlConverter.instance();
+        if (adocToHtmlConverter != null) {
+            adocToHtmlConverter.onPersist(adoc);
+        }
+        return adoc;
     }
 
     @Override
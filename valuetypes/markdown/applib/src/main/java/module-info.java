@@ -36,5 +36,6 @@
 
     requires org.apache.causeway.applib;
     requires org.apache.causeway.commons;
+    requires org.apache.causeway.core.config;
     requires spring.context;
 }
\ No newline at end of file
@@ -18,12 +18,31 @@
  */
 package org.apache.causeway.valuetypes.markdown.applib;
 
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import org.apache.causeway.commons.io.RenderedHtmlCache;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.valuetypes.markdown.applib.value.Converter;
+
 /**
  * @since 2.0 {@index}
  */
 @Configuration
 public class CausewayModuleValMarkdownApplib {
     public static final String NAMESPACE = "causeway.value.markdown";
+
+    /**
+     * Installed into the {@link Converter}; as a bean, so that its pre-rendering is stopped (on close)
+     * as the application shuts down.
+     */
+    @Bean(NAMESPACE + ".HtmlCache")
+    public RenderedHtmlCache markdownHtmlCache(final CausewayConfiguration config) {
+        var htmlCacheConfig = config.valueTypes().htmlCache();
+        var htmlCache = new RenderedHtmlCache("markdown", Converter.rendererFingerprint(),
+                htmlCacheConfig.maxEntries(), htmlCacheConfig.directory(), htmlCacheConfig.directoryMaxEntries());
+        Converter.useHtmlCache(htmlCache, htmlCacheConfig.prerenderOnPersist());
+        return htmlCache;
+    }
+
 }
@@ -20,12 +20,18 @@
 
 import java.util.Arrays;
 
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
 import com.vladsch.flexmark.ext.gfm.strikethrough.StrikethroughExtension;
 import com.vladsch.flexmark.ext.tables.TablesExtension;
 import com.vladsch.flexmark.html.HtmlRenderer;
 import com.vladsch.flexmark.parser.Parser;
 import com.vladsch.flexmark.util.data.MutableDataSet;
 
+import org.apache.causeway.commons.io.RenderedHtmlCache;
+import org.apache.causeway.commons.io.RenderedHtmlCache.Rendered;
+
 /**
  * @since 2.0 {@index}
  */
@@ -42,17 +48,59 @@ public final class Converter {
      * @see <a href="https://prismjs.com/">prismjs.com</a>
      */
     public static String mdToHtml(final String markdown) {
-        if(markdownSupport==null) {
-            markdownSupport = new MarkdownSupport();
+        return htmlCaching.htmlCache().computeIfAbsent(markdown, Converter::convert);
+    }
+
+    /**
+     * Called as the given markdown is persisted, to (if so configured) convert it in the background, so that
+     * a subsequent {@link #mdToHtml(String)} need only look up the cached HTML.
+     */
+    public static void onPersist(final @Nullable String markdown) {
+        var htmlCaching = Converter.htmlCaching;
+        if (htmlCaching.prerenderOnPersist()) {
+            htmlCaching.htmlCache().prerenderAsync(markdown, Converter::convert);
         }
-        return markdownSupport.toHtml(markdown);
+    }
+
+    /**
+     * Replaces the cache of rendered HTML, by default none.
+     */
+    public static void useHtmlCache(final @NonNull RenderedHtmlCache htmlCache, final boolean prerenderOnPersist) {
+        Converter.htmlCaching = new HtmlCaching(htmlCache, prerenderOnPersist);
+    }
+
+    /**
+     * Identifies the renderer and its configuration, as needed to create a {@link RenderedHtmlCache}.
+     */
+    public static String rendererFingerprint() {
+        return "flexmark, " + MarkdownSupport.EXTENSION_NAMES;
     }
 
     // -- HELPER
 
+    /**
+     * Both settings, replaced together, so that readers (on any thread) see one or the other, but never a mix.
+     */
+    private record HtmlCaching(
+            RenderedHtmlCache htmlCache,
+            boolean prerenderOnPersist) {
+    }
+
+    private static volatile HtmlCaching htmlCaching =
+            new HtmlCaching(RenderedHtmlCache.inMemory("markdown", rendererFingerprint(), 0), false);
+
+    private static Rendered convert(final String markdown) {
+        if(markdownSupport==null) {
+            markdownSupport = new MarkdownSupport();
+        }
+        return Rendered.success(markdownSupport.toHtml(markdown));
+    }
+
     private static MarkdownSupport markdownSupport;
 
     private static class MarkdownSupport {
+        static final String EXTENSION_NAMES = "tables, strikethrough";
+
         private Parser parser;
         private HtmlRenderer renderer;
 
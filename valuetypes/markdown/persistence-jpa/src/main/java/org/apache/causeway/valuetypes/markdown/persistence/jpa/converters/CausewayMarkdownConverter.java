@@ -31,9 +31,12 @@ public class CausewayMarkdownConverter implements AttributeConverter<Markdown, S
 
     @Override
     public String convertToDatabaseColumn(final Markdown memberValue) {
-        return memberValue != null
-                ? memberValue.getMarkdown()
-                : null;
+        if (memberValue == null) {
+            return null;
+        }
+        var markdown = memberValue.getMarkdown();
+        org.apache.causeway.valuetypes.markdown.applib.value.Converter.onPersist(markdown);
+        return markdown;
     }
 
     @Override
@@ -22,6 +22,7 @@
 import static graphql.schema.GraphQLEnumValueDefinition.newEnumValueDefinition;
 
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -42,10 +43,12 @@
 import org.apache.causeway.viewer.graphql.model.domain.TypeNames;
 import org.apache.causeway.viewer.graphql.model.domain.common.query.CommonDomainObject;
 import org.apache.causeway.viewer.graphql.model.domain.common.query.CommonDomainService;
+import org.apache.causeway.viewer.graphql.model.fetcher.AssociationBatchLoader;
 import org.apache.causeway.viewer.graphql.model.registry.GraphQLTypeRegistry;
 import org.apache.causeway.viewer.graphql.model.types.TypeMapper;
 import org.springframework.stereotype.Component;
 
+import graphql.schema.FieldCoordinates;
 import graphql.schema.GraphQLCodeRegistry;
 import graphql.schema.GraphQLEnumType;
 import lombok.RequiredArgsConstructor;
@@ -67,6 +70,11 @@ public class Context {
     public final Map<String, CommonDomainService> domainServiceByTypeName = new LinkedHashMap<>();
     public final Map<String, CommonDomainObject> domainObjectByTypeName = new LinkedHashMap<>();
 
+    private final Map<FieldCoordinates, Integer> fieldCostsBeingBuilt = new HashMap<>();
+    private volatile Map<FieldCoordinates, Integer> fieldCostByCoordinates = Map.of();
+
+    public final AssociationBatchLoader associationBatchLoader = new AssociationBatchLoader(this);
+
     private GraphQLEnumType logicalTypeNames;
 
     public GraphQLEnumType getLogicalTypeNames() {
@@ -76,6 +84,29 @@ public GraphQLEnumType getLogicalTypeNames() {
         return logicalTypeNames;
     }
 
+    /**
+     * Records the cost of the field at the given coordinates, while the schema is being built.
+     *
+     * @see #freezeFieldCosts()
+     */
+    public void putFieldCost(final FieldCoordinates coordinates, final int cost) {
+        fieldCostsBeingBuilt.put(coordinates, cost);
+    }
+
+    /**
+     * Publishes the field costs recorded so far as an immutable map, to be called once the schema has been built.
+     */
+    public void freezeFieldCosts() {
+        fieldCostByCoordinates = Map.copyOf(fieldCostsBeingBuilt);
+    }
+
+    /**
+     * The (immutable) field costs, as of the last call to {@link #freezeFieldCosts()}.
+     */
+    public Map<FieldCoordinates, Integer> fieldCostByCoordinates() {
+        return fieldCostByCoordinates;
+    }
+
     public ImmutableEnumSet<ActionScope> getActionScope() {
         return causewaySystemEnvironment.deploymentType().isProduction()
                 ? ActionScope.PRODUCTION_ONLY
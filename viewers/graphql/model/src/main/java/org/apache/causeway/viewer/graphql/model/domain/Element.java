@@ -56,9 +56,11 @@ protected final GraphQLFieldDefinition setField(final GraphQLFieldDefinition fie
     public final void addDataFetcher(Parent parent) {
         if (getField() != null) {
             // in some cases there might not be a field, eg RichCollectionGet for DomainObjectList#objects
+            var coordinates = parent.coordinatesFor(getField());
             context.codeRegistryBuilder.dataFetcher(
-                    parent.coordinatesFor(getField()),
+                    coordinates,
                     this::fetchData);
+            context.putFieldCost(coordinates, fieldCost());
         }
 
         addDataFetchersForChildren();
@@ -82,5 +84,14 @@ public final void addDataFetcher(Parent parent, String fieldName) {
     protected void addDataFetchersForChildren() {
     }
 
+    /**
+     * The cost of this element's field, contributing to the complexity of any query that selects it.
+     *
+     * @see CausewayConfiguration.Viewer.Graphql.Limits#maxComplexity()
+     */
+    protected int fieldCost() {
+        return graphqlConfiguration.limits().propertyCost();
+    }
+
     protected abstract Object fetchData(DataFetchingEnvironment environment);
 }
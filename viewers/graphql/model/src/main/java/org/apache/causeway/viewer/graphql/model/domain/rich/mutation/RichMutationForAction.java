@@ -124,6 +124,11 @@ private GraphQLOutputType typeFor(final ObjectAction objectAction){
         }
     }
 
+    @Override
+    protected int fieldCost() {
+        return graphqlConfiguration.limits().actionCost();
+    }
+
     @Override
     protected Object fetchData(final DataFetchingEnvironment dataFetchingEnvironment) {
 
@@ -32,6 +32,7 @@
 import org.apache.causeway.viewer.graphql.model.exceptions.DisabledException;
 import org.apache.causeway.viewer.graphql.model.exceptions.HiddenException;
 import org.apache.causeway.viewer.graphql.model.fetcher.BookmarkedPojo;
+import org.apache.causeway.viewer.graphql.model.fetcher.CollectionWindow;
 import org.jspecify.annotations.Nullable;
 
 import graphql.schema.DataFetchingEnvironment;
@@ -44,6 +45,7 @@
 public class RichActionInvokeResult extends Element {
 
     private final ActionInteractor actionInteractor;
+    private final boolean windowed;
 
     public RichActionInvokeResult(
             final ActionInteractor actionInteractor,
@@ -55,10 +57,14 @@ public RichActionInvokeResult(
         var objectAction = actionInteractor.getObjectMember();
 
         var graphQLOutputType = typeFor(objectAction);
+        this.windowed = graphQLOutputType instanceof GraphQLList;
         if (graphQLOutputType != null) {
             var fieldBuilder = newFieldDefinition()
                     .name("results")
                     .type(graphQLOutputType);
+            if (windowed) {
+                CollectionWindow.addGqlArguments(fieldBuilder);
+            }
             setField(fieldBuilder.build());
         } else {
             setField(null);
@@ -96,6 +102,11 @@ private GraphQLOutputType typeFor(final ObjectAction objectAction){
         }
     }
 
+    @Override
+    protected int fieldCost() {
+        return graphqlConfiguration.limits().actionCost();
+    }
+
     @Override
     protected Object fetchData(final DataFetchingEnvironment dataFetchingEnvironment) {
 
@@ -126,7 +137,9 @@ protected Object fetchData(final DataFetchingEnvironment dataFetchingEnvironment
 			throw new IllegalArgumentException(validityConsent.getReasonAsString().orElse("Invalid"));
 
         var resultManagedObject = objectAction.execute(head, argumentManagedObjects, InteractionInitiatedBy.USER);
-        return resultManagedObject.getPojo();
+        return windowed
+                ? CollectionWindow.apply(resultManagedObject.getPojo(), dataFetchingEnvironment, graphqlConfiguration.pagination())
+                : resultManagedObject.getPojo();
     }
 
 }
@@ -19,16 +19,15 @@
 package org.apache.causeway.viewer.graphql.model.domain.rich.query;
 
 import graphql.schema.DataFetchingEnvironment;
+import graphql.schema.GraphQLFieldDefinition;
 import graphql.schema.GraphQLOutputType;
 
 import static graphql.schema.GraphQLFieldDefinition.newFieldDefinition;
 
-import org.apache.causeway.core.metamodel.object.ManagedObject;
 import org.apache.causeway.core.metamodel.spec.feature.ObjectAssociation;
 import org.apache.causeway.viewer.graphql.model.context.Context;
 import org.apache.causeway.viewer.graphql.model.domain.Element;
 import org.apache.causeway.viewer.graphql.model.domain.common.interactors.MemberInteractor;
-import org.apache.causeway.viewer.graphql.model.fetcher.BookmarkedPojo;
 
 public abstract class RichAssociationGet<T extends ObjectAssociation> extends Element {
 
@@ -45,6 +44,7 @@ public RichAssociationGet(
             var fieldBuilder = newFieldDefinition()
                     .name("get")
                     .type(type);
+            addGqlArguments(fieldBuilder);
             setField(fieldBuilder.build());
         } else {
             setField(null);
@@ -53,26 +53,13 @@ public RichAssociationGet(
 
     abstract GraphQLOutputType outputTypeFor(MemberInteractor<T> holder);
 
+    void addGqlArguments(final GraphQLFieldDefinition.Builder fieldBuilder) {
+    }
+
     @Override
     protected Object fetchData(final DataFetchingEnvironment environment) {
-
         // TODO: introduce evaluator
-        var sourcePojo = BookmarkedPojo.sourceFrom(environment);
-
-        var sourcePojoClass = sourcePojo.getClass();
-        var objectSpecification = context.specificationLoader.loadSpecification(sourcePojoClass);
-        if (objectSpecification == null) {
-            // not expected
-            return null;
-        }
-
-        var association = memberInteractor.getObjectMember();
-        var managedObject = ManagedObject.adaptSingular(objectSpecification, sourcePojo);
-        var resultManagedObject = association.get(managedObject);
-
-        return resultManagedObject != null
-                ? resultManagedObject.getPojo()
-                : null;
+        return context.associationBatchLoader.fetch(memberInteractor.getObjectMember(), environment);
     }
 
 }
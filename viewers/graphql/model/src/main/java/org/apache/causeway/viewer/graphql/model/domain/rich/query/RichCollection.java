@@ -33,6 +33,7 @@
     private final RichMemberHidden<OneToManyAssociation> hidden;
     private final RichMemberDisabled<OneToManyAssociation> disabled;
     private final RichCollectionGet get;
+    private final RichCollectionCount count;
     private final RichCollectionDatatype datatype;
 
     public RichCollection(
@@ -46,12 +47,14 @@ public RichCollection(
             this.hidden = null;
             this.disabled = null;
             this.get = null;
+            this.count = null;
             this.datatype = null;
             return;
         }
         addChildFieldFor(this.hidden = new RichMemberHidden<>(this, context));
         addChildFieldFor(this.disabled = new RichMemberDisabled<>(this, context));
         addChildFieldFor(this.get = new RichCollectionGet(this, context));
+        addChildFieldFor(this.count = new RichCollectionCount(this, context));
         addChildFieldFor(this.datatype = new RichCollectionDatatype(this, context));
 
         buildObjectTypeAndField(otma.asciiId(), otma.getCanonicalDescription().orElse(otma.getCanonicalFriendlyName()));
@@ -70,6 +73,7 @@ protected void addDataFetchersForChildren() {
         hidden.addDataFetcher(this);
         disabled.addDataFetcher(this);
         get.addDataFetcher(this);
+        count.addDataFetcher(this);
         datatype.addDataFetcher(this);
     }
 
@@ -0,0 +1,62 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.graphql.model.domain.rich.query;
+
+import java.util.concurrent.CompletionStage;
+
+import graphql.Scalars;
+import graphql.schema.DataFetchingEnvironment;
+
+import static graphql.schema.GraphQLFieldDefinition.newFieldDefinition;
+
+import org.apache.causeway.core.metamodel.spec.feature.OneToManyAssociation;
+import org.apache.causeway.viewer.graphql.model.context.Context;
+import org.apache.causeway.viewer.graphql.model.domain.Element;
+import org.apache.causeway.viewer.graphql.model.domain.common.interactors.MemberInteractor;
+import org.apache.causeway.viewer.graphql.model.fetcher.CollectionWindow;
+
+/**
+ * The total number of elements of the collection, irrespective of any window requested of {@link RichCollectionGet}.
+ */
+public class RichCollectionCount extends Element {
+
+    private final MemberInteractor<OneToManyAssociation> memberInteractor;
+
+    public RichCollectionCount(
+            final MemberInteractor<OneToManyAssociation> memberInteractor,
+            final Context context) {
+        super(context);
+        this.memberInteractor = memberInteractor;
+
+        setField(newFieldDefinition()
+                    .name("count")
+                    .type(Scalars.GraphQLInt)
+                    .build());
+    }
+
+    @Override
+    protected Object fetchData(final DataFetchingEnvironment environment) {
+        // shares the batch (and cached value) of any sibling 'get' field
+        var pojoOrFuture = context.associationBatchLoader.fetch(memberInteractor.getObjectMember(), environment);
+        return pojoOrFuture instanceof CompletionStage<?> future
+                ? future.thenApply(CollectionWindow::sizeOf)
+                : CollectionWindow.sizeOf(pojoOrFuture);
+    }
+
+}
@@ -18,11 +18,14 @@
  */
 package org.apache.causeway.viewer.graphql.model.domain.rich.query;
 
+import graphql.schema.DataFetchingEnvironment;
+import graphql.schema.GraphQLFieldDefinition;
 import graphql.schema.GraphQLOutputType;
 
 import org.apache.causeway.core.metamodel.spec.feature.OneToManyAssociation;
 import org.apache.causeway.viewer.graphql.model.context.Context;
 import org.apache.causeway.viewer.graphql.model.domain.common.interactors.MemberInteractor;
+import org.apache.causeway.viewer.graphql.model.fetcher.CollectionWindow;
 
 public class RichCollectionGet extends RichAssociationGet<OneToManyAssociation> {
 
@@ -38,4 +41,19 @@ GraphQLOutputType outputTypeFor(MemberInteractor<OneToManyAssociation> holder) {
         return context.typeMapper.listTypeForElementTypeOf(oneToManyAssociation, holder.getSchemaType());
     }
 
+    @Override
+    void addGqlArguments(final GraphQLFieldDefinition.Builder fieldBuilder) {
+        CollectionWindow.addGqlArguments(fieldBuilder);
+    }
+
+    @Override
+    protected Object fetchData(final DataFetchingEnvironment environment) {
+        return CollectionWindow.apply(super.fetchData(environment), environment, graphqlConfiguration.pagination());
+    }
+
+    @Override
+    protected int fieldCost() {
+        return graphqlConfiguration.limits().collectionCost();
+    }
+
 }
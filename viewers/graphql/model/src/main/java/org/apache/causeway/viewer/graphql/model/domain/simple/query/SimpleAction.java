@@ -45,6 +45,7 @@
 import org.apache.causeway.viewer.graphql.model.exceptions.DisabledException;
 import org.apache.causeway.viewer.graphql.model.exceptions.HiddenException;
 import org.apache.causeway.viewer.graphql.model.fetcher.BookmarkedPojo;
+import org.apache.causeway.viewer.graphql.model.fetcher.CollectionWindow;
 import org.apache.causeway.viewer.graphql.model.types.TypeMapper;
 
 import graphql.schema.DataFetchingEnvironment;
@@ -62,6 +63,7 @@
 
     @Getter final ObjectInteractor objectInteractor;
     @Getter private final ObjectAction objectMember;
+    private final boolean windowed;
 
     public SimpleAction(
             final ObjectInteractor objectInteractor,
@@ -80,6 +82,12 @@ public SimpleAction(
                 .type(graphQLOutputType);
         addGqlArguments(objectAction, fieldBuilder, TypeMapper.InputContext.INVOKE, objectAction.getParameterCount());
 
+        this.windowed = graphQLOutputType instanceof GraphQLList
+                && !CollectionWindow.clashesWithParameterOf(objectAction);
+        if (windowed) {
+            CollectionWindow.addGqlArguments(fieldBuilder);
+        }
+
         setField(fieldBuilder.build());
     }
 
@@ -287,6 +295,11 @@ GraphQLArgument gqlArgumentFor(final OneToManyActionParameter otmap) {
                 .build();
     }
 
+    @Override
+    protected int fieldCost() {
+        return graphqlConfiguration.limits().actionCost();
+    }
+
     @Override
     protected Object fetchData(final DataFetchingEnvironment dataFetchingEnvironment) {
 
@@ -317,7 +330,9 @@ protected Object fetchData(final DataFetchingEnvironment dataFetchingEnvironment
 			throw new IllegalArgumentException(validityConsent.getReasonAsString().orElse("Invalid"));
 
         var resultManagedObject = objectAction.execute(head, argumentManagedObjects, InteractionInitiatedBy.USER);
-        return resultManagedObject.getPojo();
+        return windowed
+                ? CollectionWindow.apply(resultManagedObject.getPojo(), dataFetchingEnvironment, graphqlConfiguration.pagination())
+                : resultManagedObject.getPojo();
     }
 
 }
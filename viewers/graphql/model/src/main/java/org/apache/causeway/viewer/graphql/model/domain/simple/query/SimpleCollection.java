@@ -22,12 +22,11 @@
 
 import static graphql.schema.GraphQLFieldDefinition.newFieldDefinition;
 
-import org.apache.causeway.core.metamodel.object.ManagedObject;
 import org.apache.causeway.core.metamodel.spec.feature.OneToManyAssociation;
 import org.apache.causeway.viewer.graphql.model.context.Context;
 import org.apache.causeway.viewer.graphql.model.domain.Element;
 import org.apache.causeway.viewer.graphql.model.domain.common.interactors.ObjectInteractor;
-import org.apache.causeway.viewer.graphql.model.fetcher.BookmarkedPojo;
+import org.apache.causeway.viewer.graphql.model.fetcher.CollectionWindow;
 
 public class SimpleCollection
         extends Element {
@@ -46,12 +45,12 @@ public SimpleCollection(
 
         var objectType = this.context.typeMapper.listTypeForElementTypeOf(otma, objectInteractor.getSchemaType());
         if(objectType != null) {
-            setField(newFieldDefinition()
+            var fieldBuilder = newFieldDefinition()
                         .name(getId())
                         .description(otma.getCanonicalDescription().orElse(otma.getCanonicalFriendlyName()))
-                        .type(objectType)
-                        .build()
-            );
+                        .type(objectType);
+            CollectionWindow.addGqlArguments(fieldBuilder);
+            setField(fieldBuilder.build());
         } else {
             setField(null);
         }
@@ -63,22 +62,12 @@ public String getId() {
 
     @Override
     protected Object fetchData(final DataFetchingEnvironment environment) {
+        var pojoOrFuture = context.associationBatchLoader.fetch(objectMember, environment);
+        return CollectionWindow.apply(pojoOrFuture, environment, graphqlConfiguration.pagination());
+    }
 
-        var sourcePojo = BookmarkedPojo.sourceFrom(environment);
-
-        var sourcePojoClass = sourcePojo.getClass();
-        var objectSpecification = context.specificationLoader.loadSpecification(sourcePojoClass);
-        if (objectSpecification == null) {
-            // not expected
-            return null;
-        }
-
-        var otma = objectMember;
-        var managedObject = ManagedObject.adaptSingular(objectSpecification, sourcePojo);
-        var resultManagedObject = otma.get(managedObject);
-
-        return resultManagedObject != null
-                ? resultManagedObject.getPojo()
-                : null;
+    @Override
+    protected int fieldCost() {
+        return graphqlConfiguration.limits().collectionCost();
     }
 }
@@ -23,7 +23,6 @@
 
 import org.apache.causeway.applib.value.Blob;
 import org.apache.causeway.applib.value.Clob;
-import org.apache.causeway.core.metamodel.object.ManagedObject;
 import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
 import org.apache.causeway.core.metamodel.spec.feature.OneToOneAssociation;
 import org.apache.causeway.viewer.graphql.model.context.Context;
@@ -155,22 +154,7 @@ protected Object fetchData(final DataFetchingEnvironment dataFetchingEnvironment
         if(isBlobOrClob(getObjectMember())) {
             return BookmarkedPojo.sourceFrom(dataFetchingEnvironment, context);
         } else {
-            var sourcePojo = BookmarkedPojo.sourceFrom(dataFetchingEnvironment);
-
-            var sourcePojoClass = sourcePojo.getClass();
-            var objectSpecification = context.specificationLoader.loadSpecification(sourcePojoClass);
-            if (objectSpecification == null) {
-                // not expected
-                return null;
-            }
-
-            var association = getObjectMember();
-            var managedObject = ManagedObject.adaptSingular(objectSpecification, sourcePojo);
-            var resultManagedObject = association.get(managedObject);
-
-            return resultManagedObject != null
-                    ? resultManagedObject.getPojo()
-                    : null;
+            return context.associationBatchLoader.fetch(getObjectMember(), dataFetchingEnvironment);
         }
     }
 
@@ -0,0 +1,142 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.graphql.model.fetcher;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.dataloader.DataLoader;
+
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.applib.services.iactn.InteractionService;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.core.metamodel.object.ManagedObject;
+import org.apache.causeway.core.metamodel.objectmanager.ObjectManager;
+import org.apache.causeway.core.metamodel.spec.feature.ObjectAssociation;
+import org.apache.causeway.viewer.graphql.model.context.Context;
+
+import graphql.schema.DataFetchingEnvironment;
+
+/**
+ * Resolves reference properties and collections through a {@link DataLoader}, so that the same field of sibling
+ * objects (for example the customer of each of a list of orders) is resolved as part of a single batch.
+ *
+ * <p>
+ *     The viewer registers a batch loader under {@link #DATA_LOADER_NAME}, which
+ *     {@link #resolveAll(Collection) resolves} all of the {@link Key}s queued at the same depth of the query within
+ *     a single interaction (and so a single persistence context), rather than each field within its own, having
+ *     loaded their source objects in bulk.
+ *     If there is no such {@link DataLoader}, or if batching is disabled, fields are resolved directly.
+ * </p>
+ *
+ * @see org.apache.causeway.core.config.CausewayConfiguration.Viewer.Graphql.Batching
+ */
+public class AssociationBatchLoader {
+
+    public static final String DATA_LOADER_NAME = "causeway.associations";
+
+    /**
+     * Identifies the value of an association of a particular (source) domain object, by its {@link Bookmark}.
+     */
+    public record Key(ObjectAssociation association, Bookmark sourceBookmark) {
+    }
+
+    private final Context context;
+
+    public AssociationBatchLoader(final Context context) {
+        this.context = context;
+    }
+
+    /**
+     * Returns the value of the association for the environment's source object; either a
+     * {@link java.util.concurrent.CompletableFuture} that completes once the batch has been dispatched,
+     * or the value itself if not batched.
+     */
+    public Object fetch(final ObjectAssociation association, final DataFetchingEnvironment environment) {
+        DataLoader<Key, Object> dataLoader = isBatched(association)
+                ? environment.getDataLoader(DATA_LOADER_NAME)
+                : null;
+        // batched by bookmark, so that the source objects are loaded in bulk rather than looked up one by one
+        var sourceBookmark = dataLoader != null
+                ? BookmarkedPojo.bookmarkFrom(environment, context).orElse(null)
+                : null;
+        if (sourceBookmark == null) {
+            return resolve(association, BookmarkedPojo.sourceFrom(environment));
+        }
+
+        // the batch is dispatched once this field's interaction has closed, so is resolved within a new one for the same user
+        var interactionContext = context.serviceRegistry.lookupServiceElseFail(InteractionService.class)
+                .currentInteractionContext()
+                .orElse(null);
+        return dataLoader.load(new Key(association, sourceBookmark), interactionContext);
+    }
+
+    /**
+     * Resolves the value of each of the given keys.
+     *
+     * <p>
+     *     The source objects are first {@link ObjectManager#loadObjects(Can) loaded in bulk}, fetching all entities
+     *     of the same type with a single query, and only then are their associations resolved.
+     * </p>
+     */
+    public Map<Key, Object> resolveAll(final Collection<Key> keys) {
+        var sourceByBookmark = context.objectManager.loadObjects(keys.stream()
+                .map(Key::sourceBookmark)
+                .distinct()
+                .collect(Can.toCan()));
+        var valueByKey = new HashMap<Key, Object>(keys.size() * 2);
+        keys.forEach(key -> {
+            var source = sourceByBookmark.get(key.sourceBookmark());
+            valueByKey.put(key, source != null
+                    ? resolve(key.association(), source)
+                    : null); // deleted meanwhile
+        });
+        return valueByKey;
+    }
+
+    /**
+     * Collections, and properties referencing (non-value) domain objects, are batched.
+     * Value properties are cheap to resolve, so would gain nothing.
+     */
+    private boolean isBatched(final ObjectAssociation association) {
+        return context.causewayConfiguration.viewer().graphql().batching().enabled()
+                && !(association.isOneToOneAssociation() && association.getElementType().isValue());
+    }
+
+    private Object resolve(final ObjectAssociation association, final Object sourcePojo) {
+        var sourcePojoClass = sourcePojo.getClass();
+        var objectSpecification = context.specificationLoader.loadSpecification(sourcePojoClass);
+        if (objectSpecification == null) {
+            // not expected
+            return null;
+        }
+
+        return resolve(association, ManagedObject.adaptSingular(objectSpecification, sourcePojo));
+    }
+
+    private static Object resolve(final ObjectAssociation association, final ManagedObject managedObject) {
+        var resultManagedObject = association.get(managedObject);
+
+        return resultManagedObject != null
+                ? resultManagedObject.getPojo()
+                : null;
+    }
+
+}
@@ -18,6 +18,8 @@
  */
 package org.apache.causeway.viewer.graphql.model.fetcher;
 
+import java.util.Optional;
+
 import org.apache.causeway.applib.services.bookmark.Bookmark;
 import org.apache.causeway.applib.services.bookmark.BookmarkService;
 import org.apache.causeway.viewer.graphql.model.context.Context;
@@ -44,6 +46,17 @@ public static Object sourceFrom(DataFetchingEnvironment dataFetchingEnvironment)
                 : source;
     }
 
+    /**
+     * The bookmark of the source object, obtained without looking up the object (as
+     * {@link #sourceFrom(DataFetchingEnvironment)} does).
+     */
+    public static Optional<Bookmark> bookmarkFrom(DataFetchingEnvironment dataFetchingEnvironment, Context context) {
+        var source = dataFetchingEnvironment.getSource();
+        return source instanceof BookmarkedPojo
+                ? Optional.of(((BookmarkedPojo) source).bookmark)
+                : context.bookmarkService.bookmarkFor(source);
+    }
+
     public static BookmarkedPojo sourceFrom(DataFetchingEnvironment dataFetchingEnvironment, Context context) {
         var sourcePojo = sourceFrom(dataFetchingEnvironment);
         return context.bookmarkService.bookmarkFor(sourcePojo)
@@ -0,0 +1,149 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.graphql.model.fetcher;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.metamodel.spec.feature.ObjectAction;
+import org.apache.causeway.core.metamodel.spec.feature.ObjectActionParameter;
+
+import graphql.Scalars;
+import graphql.schema.DataFetchingEnvironment;
+import graphql.schema.GraphQLArgument;
+import graphql.schema.GraphQLFieldDefinition;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Restricts the elements of a collection (or of an action's collection result) to a window, as requested by the
+ * client through the <code>offset</code> and <code>limit</code> arguments, and bounded by
+ * {@link CausewayConfiguration.Viewer.Graphql.Pagination#maxLimit()}.
+ *
+ * <p>
+ *     Collections are obtained from the domain object (or returned by the action) in their entirety, so the window
+ *     bounds the size of the response rather than the work done to obtain them.
+ * </p>
+ */
+@UtilityClass
+public class CollectionWindow {
+
+    public static final String OFFSET_ARG_NAME = "offset";
+    public static final String LIMIT_ARG_NAME = "limit";
+
+    /**
+     * Whether the action has a parameter whose name would clash with either of the window's arguments, in which case
+     * no window is offered for its result.
+     */
+    public boolean clashesWithParameterOf(final ObjectAction objectAction) {
+        return objectAction.getParameters().stream()
+                .map(ObjectActionParameter::asciiId)
+                .anyMatch(paramId -> paramId.equals(OFFSET_ARG_NAME) || paramId.equals(LIMIT_ARG_NAME));
+    }
+
+    public GraphQLFieldDefinition.Builder addGqlArguments(final GraphQLFieldDefinition.Builder fieldBuilder) {
+        return fieldBuilder
+                .argument(GraphQLArgument.newArgument()
+                        .name(OFFSET_ARG_NAME)
+                        .description("Number of elements to skip, by default none")
+                        .type(Scalars.GraphQLInt)
+                        .build())
+                .argument(GraphQLArgument.newArgument()
+                        .name(LIMIT_ARG_NAME)
+                        .description("Maximum number of elements to return, by default all (subject to any configured maximum)")
+                        .type(Scalars.GraphQLInt)
+                        .build());
+    }
+
+    /**
+     * Applies the window requested by the environment's arguments to the collection pojo, or to the collection pojo
+     * that the provided {@link CompletionStage} completes with.
+     */
+    public Object apply(
+            final Object pojoOrFuture,
+            final DataFetchingEnvironment environment,
+            final CausewayConfiguration.Viewer.Graphql.Pagination pagination) {
+
+        Integer offsetArg = environment.getArgument(OFFSET_ARG_NAME);
+        Integer limitArg = environment.getArgument(LIMIT_ARG_NAME);
+
+        var offset = offsetArg != null ? offsetArg : 0;
+        if (offset < 0) {
+            throw new IllegalArgumentException(String.format("'%s' cannot be negative", OFFSET_ARG_NAME));
+        }
+        if (limitArg != null && limitArg < 0) {
+            throw new IllegalArgumentException(String.format("'%s' cannot be negative", LIMIT_ARG_NAME));
+        }
+        var maxLimit = pagination.maxLimit();
+        var limit = maxLimit > 0
+                ? (limitArg != null ? Math.min(limitArg, maxLimit) : maxLimit)
+                : (limitArg != null ? limitArg : -1);
+
+        if (pojoOrFuture instanceof CompletionStage<?> future) {
+            return future.thenApply(pojo -> window(pojo, offset, limit));
+        }
+        return window(pojoOrFuture, offset, limit);
+    }
+
+    /**
+     * The number of elements of the collection pojo.
+     */
+    public int sizeOf(final Object pojo) {
+        if (pojo == null) {
+            return 0;
+        }
+        if (pojo instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        return (int) streamOf(pojo).count();
+    }
+
+    /**
+     * @param limit - negative for unbounded
+     */
+    private Object window(final Object pojo, final int offset, final int limit) {
+        if (pojo == null
+                || (offset == 0 && limit < 0)) {
+            return pojo;
+        }
+        if (pojo instanceof List<?> list) {
+            var fromIndex = Math.min(offset, list.size());
+            var toIndex = limit < 0
+                    ? list.size()
+                    : (int) Math.min((long) fromIndex + limit, list.size());
+            return list.subList(fromIndex, toIndex);
+        }
+        var stream = streamOf(pojo).skip(offset);
+        return (limit < 0 ? stream : stream.limit(limit)).toList();
+    }
+
+    private Stream<?> streamOf(final Object pojo) {
+        if (pojo instanceof Iterable<?> iterable) {
+            return StreamSupport.stream(iterable.spliterator(), false);
+        }
+        if (pojo instanceof Object[] array) {
+            return Stream.of(array);
+        }
+        return Stream.of(pojo);
+    }
+
+}
@@ -51,6 +51,16 @@ public List<StaffMember> findAllStaffMembers(){
         return staffMemberRepository.findAll();
     }
 
+    /**
+     * Has a parameter named 'limit', so its result is not offered a window (in the simple schema).
+     */
+    @Action(semantics = SemanticsOf.SAFE)
+    public List<StaffMember> findFirstStaffMembers(final int limit){
+        return staffMemberRepository.findAll().stream()
+                .limit(limit)
+                .toList();
+    }
+
     @Action(semantics = SemanticsOf.SAFE)
     public StaffMember findStaffMemberByName(final String name){
         return staffMemberRepository.findByName(name);
@@ -0,0 +1,158 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.graphql.viewer.test.e2e.special;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import jakarta.inject.Inject;
+
+import tools.jackson.databind.ObjectMapper;
+
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.springframework.graphql.ExecutionGraphQlResponse;
+import org.springframework.graphql.execution.BatchLoaderRegistry;
+import org.springframework.graphql.execution.DefaultBatchLoaderRegistry;
+import org.springframework.graphql.execution.GraphQlSource;
+import org.springframework.graphql.support.DefaultExecutionGraphQlRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.apache.causeway.applib.services.iactn.InteractionService;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.viewer.graphql.model.context.Context;
+import org.apache.causeway.viewer.graphql.model.fetcher.AssociationBatchLoader;
+import org.apache.causeway.viewer.graphql.viewer.integration.ExecutionGraphQlServiceForCauseway;
+import org.apache.causeway.viewer.graphql.viewer.test.e2e.Abstract_IntegTest;
+
+/**
+ * Covers the resolution of references and collections of sibling objects through the
+ * {@link AssociationBatchLoader}.
+ */
+//NOT USING @Transactional since we are running server within same transaction otherwise
+@Order(130)
+@ActiveProfiles("test")
+public class AssociationBatching_IntegTest extends Abstract_IntegTest {
+
+    @Inject GraphQlSource graphQlSource;
+    @Inject Context context;
+    @Inject InteractionService interactionService;
+    @Inject CausewayConfiguration causewayConfiguration;
+
+    @Test
+    void departments_with_their_heads_and_staff() throws Exception {
+
+        // when
+        var response = new ObjectMapper().readTree(submit());
+
+        // then each department is resolved with its own head and staff, rather than those of a sibling
+        var results = response.path("data").path("rich").path("university_dept_Departments")
+                .path("findAllDepartments").path("invoke").path("results");
+        var headByDepartment = new HashMap<String, String>();
+        var staffByDepartment = new HashMap<String, List<String>>();
+        for (var result : results) {
+            var department = result.path("name").path("get").asString();
+            var deptHead = result.path("deptHead").path("get");
+            headByDepartment.put(department, deptHead.isNull()
+                    ? null
+                    : deptHead.path("name").path("get").asString());
+            var staff = new ArrayList<String>();
+            result.path("staffMembers").path("get").forEach(staffMember ->
+                    staff.add(staffMember.path("name").path("get").asString()));
+            staffByDepartment.put(department, staff);
+        }
+
+        assertThat(headByDepartment).containsExactlyInAnyOrderEntriesOf(mapOf(
+                "Classics", "Dr. Barney Jones",
+                "Physics", null,
+                "Textiles", "Prof. Dicky Horwich",
+                "Pathology", "Dr. Susan Hopwood",
+                "Mathematics", "Dr. Helen Johansen",
+                "Civil Engineering", "Dr. George Harwood"));
+        assertThat(staffByDepartment.get("Classics"))
+                .containsExactlyInAnyOrder("Letitia Leadbetter", "Gerry Jones");
+        assertThat(staffByDepartment.get("Physics"))
+                .containsExactlyInAnyOrder("Mervin Hughes", "John Gartner", "Margaret Randall");
+        assertThat(staffByDepartment.get("Textiles")).isEmpty();
+    }
+
+    @Test
+    void concurrent_first_requests_register_the_batch_loader_once() throws Exception {
+
+        // given
+        var registrations = new AtomicInteger();
+        var batchLoaderRegistry = new DefaultBatchLoaderRegistry() {
+            @Override
+            public <K, V> BatchLoaderRegistry.RegistrationSpec<K, V> forName(final String name) {
+                registrations.incrementAndGet();
+                return super.forName(name);
+            }
+        };
+        var service = new ExecutionGraphQlServiceForCauseway(
+                batchLoaderRegistry, graphQlSource, context, interactionService, causewayConfiguration);
+
+        // when
+        final int concurrency = 8;
+        var start = new CountDownLatch(1);
+        var executor = Executors.newFixedThreadPool(concurrency);
+        List<CompletableFuture<ExecutionGraphQlResponse>> futures;
+        try {
+            futures = IntStream.range(0, concurrency)
+                    .mapToObj(i -> CompletableFuture.supplyAsync(() -> {
+                        try {
+                            start.await();
+                        } catch (InterruptedException e) {
+                            throw new IllegalStateException(e);
+                        }
+                        var request = new DefaultExecutionGraphQlRequest(
+                                "{ __typename }", null, null, null, "request-" + i, null);
+                        return service.execute(request).block();
+                    }, executor))
+                    .toList();
+            start.countDown();
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        } finally {
+            executor.shutdown();
+        }
+
+        // then
+        assertThat(registrations.get()).isEqualTo(1);
+        assertThat(futures).allSatisfy(future -> assertThat(future.join().isValid()).isTrue());
+    }
+
+    // -- HELPER
+
+    private static Map<String, String> mapOf(final String... keysAndValues) {
+        var map = new HashMap<String, String>();
+        for (int i = 0; i < keysAndValues.length; i += 2) {
+            map.put(keysAndValues[i], keysAndValues[i + 1]);
+        }
+        return map;
+    }
+
+}
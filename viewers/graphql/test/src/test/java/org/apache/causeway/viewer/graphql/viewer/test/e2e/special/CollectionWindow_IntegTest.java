@@ -0,0 +1,181 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.graphql.viewer.test.e2e.special;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.apache.causeway.viewer.graphql.model.fetcher.CollectionWindow;
+import org.apache.causeway.viewer.graphql.viewer.test.e2e.Abstract_IntegTest;
+
+/**
+ * Covers the <code>offset</code> and <code>limit</code> arguments and the <code>count</code> field of collections,
+ * as provided by {@link CollectionWindow}, with the maximum limit configured as {@value #MAX_LIMIT}.
+ */
+//NOT USING @Transactional since we are running server within same transaction otherwise
+@Order(140)
+@ActiveProfiles("test")
+public class CollectionWindow_IntegTest extends Abstract_IntegTest {
+
+    static final int MAX_LIMIT = 2;
+
+    @DynamicPropertySource
+    static void maxLimit(final DynamicPropertyRegistry registry) {
+        registry.add("causeway.viewer.graphql.pagination.max-limit", () -> MAX_LIMIT);
+    }
+
+    @Test
+    void staff_within_offset_and_limit() throws Exception {
+
+        // when
+        var response = new ObjectMapper().readTree(submit());
+
+        // then (Physics' staff being John Gartner, Margaret Randall and Mervin Hughes, in that order)
+        assertThat(response.has("errors")).isFalse();
+        var staffMembers = physicsStaffMembersOf(response);
+        assertThat(richNamesOf(staffMembers.path("first"))).containsExactly("John Gartner");
+        assertThat(richNamesOf(staffMembers.path("second"))).containsExactly("Margaret Randall");
+        assertThat(richNamesOf(staffMembers.path("beyond"))).isEmpty();
+    }
+
+    @Test
+    void staff_capped_by_max_limit() throws Exception {
+
+        // when
+        var response = new ObjectMapper().readTree(submit());
+
+        // then
+        assertThat(response.has("errors")).isFalse();
+        var staffMembers = physicsStaffMembersOf(response);
+        assertThat(richNamesOf(staffMembers.path("unbounded"))).containsExactly("John Gartner", "Margaret Randall");
+        assertThat(richNamesOf(staffMembers.path("aboveMax"))).containsExactly("John Gartner", "Margaret Randall");
+
+        // and also the results of actions, and the simple schema
+        var departments = response.path("data").path("rich").path("university_dept_Departments")
+                .path("findAllDepartments").path("invoke").path("results");
+        assertThat(departments.size()).isEqualTo(MAX_LIMIT);
+        var simpleStaffMembers = response.path("data").path("simple").path("university_dept_Departments")
+                .path("findDepartmentByName").path("staffMembers");
+        assertThat(simpleNamesOf(simpleStaffMembers)).containsExactly("John Gartner", "Margaret Randall");
+    }
+
+    @Test
+    void staff_count_irrespective_of_window() throws Exception {
+
+        // when
+        var response = new ObjectMapper().readTree(submit());
+
+        // then neither the requested limit nor the maximum limit restrict the count
+        assertThat(response.has("errors")).isFalse();
+        var staffMembers = physicsStaffMembersOf(response);
+        assertThat(staffMembers.path("count").asInt()).isEqualTo(3);
+        assertThat(richNamesOf(staffMembers.path("get"))).containsExactly("John Gartner");
+    }
+
+    @Test
+    void negative_offset_is_rejected() throws Exception {
+
+        // when
+        var response = new ObjectMapper().readTree(submit());
+
+        // then
+        assertThat(errorMessagesOf(response)).singleElement().asString()
+                .endsWith("'offset' cannot be negative");
+    }
+
+    @Test
+    void negative_limit_is_rejected() throws Exception {
+
+        // when
+        var response = new ObjectMapper().readTree(submit());
+
+        // then
+        assertThat(errorMessagesOf(response)).singleElement().asString()
+                .endsWith("'limit' cannot be negative");
+    }
+
+    @Test
+    void action_with_limit_parameter_is_not_windowed() throws Exception {
+
+        // when
+        var response = new ObjectMapper().readTree(submit());
+
+        // then the simple schema passes 'limit' to the action, whose result is not subject to the maximum limit
+        assertThat(response.has("errors")).isFalse();
+        var simpleStaffMembers = response.path("data").path("simple").path("university_dept_Staff")
+                .path("findFirstStaffMembers");
+        assertThat(simpleNamesOf(simpleStaffMembers))
+                .containsExactly("Gerry Jones", "John Gartner", "Letitia Leadbetter", "Margaret Randall");
+
+        // whereas the rich schema has the action's parameters and the window on distinct fields
+        var richStaffMembers = response.path("data").path("rich").path("university_dept_Staff")
+                .path("findFirstStaffMembers").path("invoke").path("results");
+        assertThat(richNamesOf(richStaffMembers)).containsExactly("John Gartner");
+    }
+
+    @Test
+    void action_with_limit_parameter_has_no_offset_argument() throws Exception {
+
+        // when
+        var response = new ObjectMapper().readTree(submit());
+
+        // then the query is rejected as invalid, without being executed
+        assertThat(errorMessagesOf(response)).singleElement().asString()
+                .contains("'offset'");
+        assertThat(response.path("errors").path(0).path("extensions").path("classification").asString())
+                .isEqualTo("ValidationError");
+    }
+
+    // -- HELPER
+
+    private static JsonNode physicsStaffMembersOf(final JsonNode response) {
+        return response.path("data").path("rich").path("university_dept_Departments")
+                .path("findDepartmentByName").path("invoke").path("results").path("staffMembers");
+    }
+
+    private static List<String> richNamesOf(final JsonNode objects) {
+        var names = new ArrayList<String>();
+        objects.forEach(object -> names.add(object.path("name").path("get").asString()));
+        return names;
+    }
+
+    private static List<String> simpleNamesOf(final JsonNode objects) {
+        var names = new ArrayList<String>();
+        objects.forEach(object -> names.add(object.path("name").asString()));
+        return names;
+    }
+
+    private static List<String> errorMessagesOf(final JsonNode response) {
+        var messages = new ArrayList<String>();
+        response.path("errors").forEach(error -> messages.add(error.path("message").asString()));
+        return messages;
+    }
+
+}
@@ -22,8 +22,10 @@
     exports org.apache.causeway.viewer.graphql.viewer.controller;
 
     requires com.fasterxml.jackson.core;
+    requires com.github.benmanes.caffeine;
     requires com.fasterxml.jackson.databind;
     requires com.graphqljava;
+    requires org.dataloader;
     requires jakarta.annotation;
     requires jakarta.inject;
     requires java.net.http;
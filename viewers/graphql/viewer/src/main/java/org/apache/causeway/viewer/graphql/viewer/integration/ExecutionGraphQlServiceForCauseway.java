@@ -18,8 +18,13 @@
  */
 package org.apache.causeway.viewer.graphql.viewer.integration;
 
+import java.util.Map;
+import java.util.Set;
+
 import jakarta.inject.Inject;
 
+import org.dataloader.BatchLoaderEnvironment;
+
 import org.springframework.graphql.ExecutionGraphQlRequest;
 import org.springframework.graphql.ExecutionGraphQlResponse;
 import org.springframework.graphql.ExecutionGraphQlService;
@@ -28,11 +33,21 @@
 import org.springframework.graphql.execution.GraphQlSource;
 import org.springframework.stereotype.Service;
 
+import org.apache.causeway.applib.services.iactn.InteractionContext;
+import org.apache.causeway.applib.services.iactn.InteractionService;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.viewer.graphql.model.context.Context;
+import org.apache.causeway.viewer.graphql.model.fetcher.AssociationBatchLoader;
+
 import lombok.RequiredArgsConstructor;
 import reactor.core.publisher.Mono;
 
 /**
  * Defers calling of {@link GraphQlSourceForCauseway#schema()} until after the metamodel is fully introspected.
+ *
+ * <p>
+ *     Also registers the {@link AssociationBatchLoader}'s batch loader, unless batching is disabled.
+ * </p>
  */
 @Service()
 @RequiredArgsConstructor(onConstructor_ = {@Inject})
@@ -40,20 +55,61 @@ public class ExecutionGraphQlServiceForCauseway implements ExecutionGraphQlServi
 
     private final BatchLoaderRegistry batchLoaderRegistry;
     private final GraphQlSource graphQlSource;
+    private final Context context;
+    private final InteractionService interactionService;
+    private final CausewayConfiguration causewayConfiguration;
 
-    DefaultExecutionGraphQlService delegate;
+    private volatile DefaultExecutionGraphQlService delegate;
 
     @Override
     public Mono<ExecutionGraphQlResponse> execute(final ExecutionGraphQlRequest request) {
-        if(delegate == null) {
-            try {
-                delegate = new DefaultExecutionGraphQlService(graphQlSource);
-                delegate.addDataLoaderRegistrar(batchLoaderRegistry);
-            } catch (Exception e) {
-                e.printStackTrace();
-                throw e;
+        return delegate().execute(request);
+    }
+
+    /**
+     * Created (and the batch loader registered) by whichever of any concurrent first requests gets there first.
+     */
+    DefaultExecutionGraphQlService delegate() {
+        var delegate = this.delegate;
+        if(delegate != null) {
+            return delegate;
+        }
+        synchronized (this) {
+            if(this.delegate == null) {
+                this.delegate = createDelegate();
             }
+            return this.delegate;
         }
-        return delegate.execute(request);
+    }
+
+    private DefaultExecutionGraphQlService createDelegate() {
+        try {
+            if (causewayConfiguration.viewer().graphql().batching().enabled()) {
+                // must be registered before being added as a registrar, which checks for any registrations
+                batchLoaderRegistry.<AssociationBatchLoader.Key, Object>forName(AssociationBatchLoader.DATA_LOADER_NAME)
+                        .registerMappedBatchLoader((keys, environment) ->
+                                Mono.fromCallable(() -> resolveAllWithinInteraction(keys, environment)));
+            }
+            var delegate = new DefaultExecutionGraphQlService(graphQlSource);
+            delegate.addDataLoaderRegistrar(batchLoaderRegistry);
+            return delegate;
+        } catch (Exception e) {
+            e.printStackTrace();
+            throw e;
+        }
+    }
+
+    private Map<AssociationBatchLoader.Key, Object> resolveAllWithinInteraction(
+            final Set<AssociationBatchLoader.Key> keys,
+            final BatchLoaderEnvironment environment) {
+        // all keys of a batch stem from the same request, hence the same user
+        var interactionContext = environment.getKeyContextsList().stream()
+                .filter(InteractionContext.class::isInstance)
+                .map(InteractionContext.class::cast)
+                .findFirst()
+                .orElse(null);
+        return interactionContext != null
+                ? interactionService.call(interactionContext, () -> context.associationBatchLoader.resolveAll(keys))
+                : interactionService.callAnonymous(() -> context.associationBatchLoader.resolveAll(keys));
     }
 }
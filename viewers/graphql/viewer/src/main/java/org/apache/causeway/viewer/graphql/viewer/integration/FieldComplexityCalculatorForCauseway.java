@@ -0,0 +1,54 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.graphql.viewer.integration;
+
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.viewer.graphql.model.context.Context;
+
+import graphql.analysis.FieldComplexityCalculator;
+import graphql.analysis.FieldComplexityEnvironment;
+import graphql.schema.FieldCoordinates;
+
+/**
+ * Costs each field according to the member of the metamodel that it represents (a property, collection or action),
+ * as recorded in {@link Context#fieldCostByCoordinates()} once the schema was built.
+ *
+ * @see CausewayConfiguration.Viewer.Graphql.Limits
+ */
+class FieldComplexityCalculatorForCauseway implements FieldComplexityCalculator {
+
+    private final Context context;
+    private final int defaultCost;
+
+    FieldComplexityCalculatorForCauseway(
+            final Context context,
+            final CausewayConfiguration.Viewer.Graphql.Limits limits) {
+        this.context = context;
+        this.defaultCost = limits.propertyCost();
+    }
+
+    @Override
+    public int calculate(final FieldComplexityEnvironment environment, final int childComplexity) {
+        var coordinates = FieldCoordinates.coordinates(
+                environment.getParentType().getName(),
+                environment.getFieldDefinition().getName());
+        return context.fieldCostByCoordinates().getOrDefault(coordinates, defaultCost) + childComplexity;
+    }
+
+}
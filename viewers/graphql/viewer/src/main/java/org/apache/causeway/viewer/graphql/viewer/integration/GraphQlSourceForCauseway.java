@@ -18,6 +18,9 @@
  */
 package org.apache.causeway.viewer.graphql.viewer.integration;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import jakarta.annotation.PostConstruct;
 
 import org.springframework.graphql.execution.GraphQlSource;
@@ -37,7 +40,11 @@
 import org.apache.causeway.viewer.graphql.model.toplevel.BothTopLevelQuery;
 
 import graphql.GraphQL;
+import graphql.analysis.MaxQueryComplexityInstrumentation;
+import graphql.analysis.MaxQueryDepthInstrumentation;
 import graphql.execution.SimpleDataFetcherExceptionHandler;
+import graphql.execution.instrumentation.ChainedInstrumentation;
+import graphql.execution.instrumentation.Instrumentation;
 import graphql.schema.GraphQLSchema;
 
 @Service()
@@ -49,6 +56,7 @@ public class GraphQlSourceForCauseway implements GraphQlSource {
     private final GraphQLTypeRegistry graphQLTypeRegistry;
     private final Context context;
     private final AsyncExecutionStrategyResolvingWithinInteraction executionStrategy;
+    private final PreparsedDocumentProviderForCauseway preparsedDocumentProvider;
 
     private CausewayConfiguration.Viewer.Graphql graphqlConfiguration;
 
@@ -58,13 +66,15 @@ public GraphQlSourceForCauseway(
             final SpecificationLoader specificationLoader,
             final GraphQLTypeRegistry graphQLTypeRegistry,
             final Context context,
-            final AsyncExecutionStrategyResolvingWithinInteraction executionStrategy) {
+            final AsyncExecutionStrategyResolvingWithinInteraction executionStrategy,
+            final PreparsedDocumentProviderForCauseway preparsedDocumentProvider) {
         this.causewayConfiguration = causewayConfiguration;
         this.causewaySystemEnvironment = causewaySystemEnvironment;
         this.specificationLoader = specificationLoader;
         this.graphQLTypeRegistry = graphQLTypeRegistry;
         this.context = context;
         this.executionStrategy = executionStrategy;
+        this.preparsedDocumentProvider = preparsedDocumentProvider;
 
         this.graphqlConfiguration = causewayConfiguration.viewer().graphql();
     }
@@ -86,11 +96,29 @@ public GraphQL graphQl() {
                     .defaultDataFetcherExceptionHandler(new SimpleDataFetcherExceptionHandler())
                     .queryExecutionStrategy(executionStrategy)
                     .mutationExecutionStrategy(executionStrategy)
+                    .preparsedDocumentProvider(preparsedDocumentProvider)
+                    .instrumentation(new ChainedInstrumentation(limitingInstrumentations()))
                     .build();
         }
         return graphQL;
     }
 
+    /**
+     * Rejects queries that are too deep or too complex before they are executed, if so configured.
+     */
+    private List<Instrumentation> limitingInstrumentations() {
+        var limits = graphqlConfiguration.limits();
+        var instrumentations = new ArrayList<Instrumentation>();
+        if (limits.maxDepth() > 0) {
+            instrumentations.add(new MaxQueryDepthInstrumentation(limits.maxDepth()));
+        }
+        if (limits.maxComplexity() > 0) {
+            instrumentations.add(new MaxQueryComplexityInstrumentation(
+                    limits.maxComplexity(), new FieldComplexityCalculatorForCauseway(context, limits)));
+        }
+        return instrumentations;
+    }
+
     @Override
     public GraphQLSchema schema() {
 
@@ -107,6 +135,7 @@ public GraphQLSchema schema() {
 
         // finalize the fetcher/mutator code that's been added
         var codeRegistry = context.codeRegistryBuilder.build();
+        context.freezeFieldCosts();
 
         // build the schema
         return GraphQLSchema.newSchema()
@@ -0,0 +1,146 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.graphql.viewer.integration;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import org.springframework.stereotype.Service;
+
+import org.apache.causeway.commons.internal.base._Strings;
+import org.apache.causeway.commons.io.HashUtils;
+import org.apache.causeway.commons.io.HashUtils.HashAlgorithm;
+import org.apache.causeway.core.config.CausewayConfiguration;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import graphql.ExecutionInput;
+import graphql.GraphQLError;
+import graphql.GraphqlErrorBuilder;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.PreparsedDocumentProvider;
+import graphql.execution.preparsed.persisted.PersistedQuerySupport;
+
+/**
+ * Caches parsed and validated query documents, keyed by the SHA-256 hash of the query text, and resolves
+ * <a href="https://www.apollographql.com/docs/apollo-server/performance/apq">automatic persisted queries</a>
+ * against that same cache.
+ *
+ * <p>
+ *     A persisted query is one whose <code>persistedQuery.sha256Hash</code> extension is provided with either no
+ *     query text or with the {@link PersistedQuerySupport#PERSISTED_QUERY_MARKER} placeholder.  Only documents that
+ *     validated without errors are cached.
+ * </p>
+ *
+ * @see CausewayConfiguration.Viewer.Graphql.DocumentCache
+ */
+@Service
+public class PreparsedDocumentProviderForCauseway implements PreparsedDocumentProvider {
+
+    private final CausewayConfiguration.Viewer.Graphql.DocumentCache documentCacheConfiguration;
+    private final Cache<String, PreparsedDocumentEntry> documentByHash;
+
+    public PreparsedDocumentProviderForCauseway(final CausewayConfiguration causewayConfiguration) {
+        this(causewayConfiguration.viewer().graphql().documentCache());
+    }
+
+    PreparsedDocumentProviderForCauseway(final CausewayConfiguration.Viewer.Graphql.DocumentCache documentCacheConfiguration) {
+        this.documentCacheConfiguration = documentCacheConfiguration;
+        this.documentByHash = Caffeine.newBuilder()
+                .maximumSize(Math.max(documentCacheConfiguration.maxEntries(), 0))
+                .build();
+    }
+
+    @Override
+    public CompletableFuture<PreparsedDocumentEntry> getDocumentAsync(
+            final ExecutionInput executionInput,
+            final Function<ExecutionInput, PreparsedDocumentEntry> parseAndValidateFunction) {
+        return CompletableFuture.completedFuture(documentFor(executionInput, parseAndValidateFunction));
+    }
+
+    private PreparsedDocumentEntry documentFor(
+            final ExecutionInput executionInput,
+            final Function<ExecutionInput, PreparsedDocumentEntry> parseAndValidateFunction) {
+
+        if (documentCacheConfiguration.maxEntries() <= 0) {
+            return parseAndValidateFunction.apply(executionInput);
+        }
+
+        var query = executionInput.getQuery();
+        var persistedQueryHash = documentCacheConfiguration.persistedQueries()
+                ? persistedQueryHashFrom(executionInput)
+                : null;
+
+        if (_Strings.isNullOrEmpty(query) || PersistedQuerySupport.PERSISTED_QUERY_MARKER.equals(query)) {
+            if (persistedQueryHash == null) {
+                // nothing to look up; let graphql-java report on the (missing) query
+                return parseAndValidateFunction.apply(executionInput);
+            }
+            var document = documentByHash.getIfPresent(persistedQueryHash);
+            return document != null
+                    ? document
+                    : new PreparsedDocumentEntry(persistedQueryError("PersistedQueryNotFound", "PERSISTED_QUERY_NOT_FOUND", persistedQueryHash));
+        }
+
+        var hash = sha256Of(query);
+        if (persistedQueryHash != null && !persistedQueryHash.equals(hash)) {
+            return new PreparsedDocumentEntry(persistedQueryError("PersistedQueryIdInvalid", "PERSISTED_QUERY_ID_INVALID", persistedQueryHash));
+        }
+
+        var document = documentByHash.getIfPresent(hash);
+        if (document == null) {
+            // concurrent misses for the same query may each parse it, which is harmless
+            document = parseAndValidateFunction.apply(executionInput);
+            if (!document.hasErrors()) {
+                documentByHash.put(hash, document);
+            }
+        }
+        return document;
+    }
+
+    private static String persistedQueryHashFrom(final ExecutionInput executionInput) {
+        var extensions = executionInput.getExtensions();
+        if (extensions != null
+                && extensions.get("persistedQuery") instanceof Map<?, ?> persistedQuery
+                && persistedQuery.get("sha256Hash") instanceof String sha256Hash
+                && !sha256Hash.isEmpty()) {
+            return sha256Hash.toLowerCase();
+        }
+        return null;
+    }
+
+    private static String sha256Of(final String query) {
+        return HashUtils.tryDigest(HashAlgorithm.SHA256, query.getBytes(StandardCharsets.UTF_8), 4096)
+                .valueAsNonNullElseFail()
+                .asHexString();
+    }
+
+    private static GraphQLError persistedQueryError(final String message, final String code, final String persistedQueryHash) {
+        return GraphqlErrorBuilder.newError()
+                .message(message)
+                .extensions(Map.of(
+                        "code", code,
+                        "persistedQueryId", persistedQueryHash))
+                .build();
+    }
+
+}
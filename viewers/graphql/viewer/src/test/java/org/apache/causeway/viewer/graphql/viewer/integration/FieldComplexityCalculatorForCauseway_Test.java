@@ -0,0 +1,115 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.graphql.viewer.integration;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.viewer.graphql.model.context.Context;
+
+import graphql.GraphQL;
+import graphql.Scalars;
+import graphql.analysis.MaxQueryComplexityInstrumentation;
+import graphql.schema.FieldCoordinates;
+import graphql.schema.GraphQLObjectType;
+import graphql.schema.GraphQLSchema;
+
+class FieldComplexityCalculatorForCauseway_Test {
+
+    Context context;
+    GraphQLSchema schema;
+
+    @BeforeEach
+    void setUp() {
+        // none of the collaborators are needed just to record and look up field costs
+        context = new Context(null, null, null, null, null, null, null, null);
+
+        var child = GraphQLObjectType.newObject()
+                .name("Child")
+                .field(field -> field.name("name").type(Scalars.GraphQLString))
+                .build();
+        schema = GraphQLSchema.newSchema()
+                .query(GraphQLObjectType.newObject()
+                        .name("Query")
+                        .field(field -> field.name("cheap").type(Scalars.GraphQLString))
+                        .field(field -> field.name("expensive").type(Scalars.GraphQLString))
+                        .field(field -> field.name("child").type(child)))
+                .build();
+
+        context.putFieldCost(FieldCoordinates.coordinates("Query", "expensive"), 25);
+        context.putFieldCost(FieldCoordinates.coordinates("Query", "child"), 10);
+        context.freezeFieldCosts();
+    }
+
+    @Test
+    void fields_are_costed_as_recorded_else_as_properties() {
+        assertThat(complexityOf("{ cheap }")).isEqualTo(1);
+        assertThat(complexityOf("{ expensive }")).isEqualTo(25);
+        assertThat(complexityOf("{ cheap expensive }")).isEqualTo(26);
+    }
+
+    @Test
+    void cost_of_children_is_added_to_their_parent() {
+        assertThat(complexityOf("{ child { name } }")).isEqualTo(11);
+    }
+
+    @Test
+    void costs_recorded_after_freezing_are_ignored_until_frozen_again() {
+        context.putFieldCost(FieldCoordinates.coordinates("Query", "cheap"), 5);
+
+        assertThat(complexityOf("{ cheap }")).isEqualTo(1);
+
+        context.freezeFieldCosts();
+
+        assertThat(complexityOf("{ cheap }")).isEqualTo(5);
+    }
+
+    @Test
+    void frozen_costs_are_immutable() {
+        assertThatThrownBy(() -> context.fieldCostByCoordinates().put(FieldCoordinates.coordinates("Query", "cheap"), 5))
+            .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    // -- HELPER
+
+    private int complexityOf(final String query) {
+        var calculator = new FieldComplexityCalculatorForCauseway(
+                context, new CausewayConfiguration.Viewer.Graphql.Limits(0, 0, 1, 10, 25));
+        var complexity = new AtomicInteger();
+        // a limit of zero means every (non-empty) query exceeds it, which is how the complexity gets reported
+        var graphQL = GraphQL.newGraphQL(schema)
+                .instrumentation(new MaxQueryComplexityInstrumentation(0, calculator, complexityInfo -> {
+                    complexity.set(complexityInfo.getComplexity());
+                    return false;
+                }))
+                .build();
+
+        var result = graphQL.execute(query);
+
+        assertThat(result.getErrors()).isEmpty();
+        return complexity.get();
+    }
+
+}
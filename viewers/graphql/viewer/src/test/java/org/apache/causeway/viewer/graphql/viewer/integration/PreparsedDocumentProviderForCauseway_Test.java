@@ -0,0 +1,175 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.graphql.viewer.integration;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.apache.causeway.core.config.CausewayConfiguration;
+
+import graphql.ExecutionInput;
+import graphql.GraphqlErrorBuilder;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.persisted.PersistedQuerySupport;
+import graphql.parser.Parser;
+
+class PreparsedDocumentProviderForCauseway_Test {
+
+    static final String QUERY = "{ university { name } }";
+
+    final AtomicInteger parseCount = new AtomicInteger();
+
+    final Function<ExecutionInput, PreparsedDocumentEntry> parseAndValidate = executionInput -> {
+        parseCount.incrementAndGet();
+        return new PreparsedDocumentEntry(Parser.parse(executionInput.getQuery()));
+    };
+
+    @Test
+    void repeated_query_is_parsed_once() {
+        var provider = provider(10, true);
+
+        var first = documentFor(provider, ExecutionInput.newExecutionInput(QUERY).build());
+        var second = documentFor(provider, ExecutionInput.newExecutionInput(QUERY).build());
+
+        assertThat(first.hasErrors()).isFalse();
+        assertThat(second).isSameAs(first);
+        assertThat(parseCount).hasValue(1);
+    }
+
+    @Test
+    void documents_with_errors_are_not_cached() {
+        var provider = provider(10, true);
+        Function<ExecutionInput, PreparsedDocumentEntry> invalid = executionInput -> {
+            parseCount.incrementAndGet();
+            return new PreparsedDocumentEntry(GraphqlErrorBuilder.newError().message("invalid").build());
+        };
+
+        provider.getDocumentAsync(ExecutionInput.newExecutionInput(QUERY).build(), invalid).join();
+        provider.getDocumentAsync(ExecutionInput.newExecutionInput(QUERY).build(), invalid).join();
+
+        assertThat(parseCount).hasValue(2);
+    }
+
+    @Test
+    void zero_max_entries_disables_the_cache() {
+        var provider = provider(0, true);
+
+        documentFor(provider, ExecutionInput.newExecutionInput(QUERY).build());
+        documentFor(provider, ExecutionInput.newExecutionInput(QUERY).build());
+
+        assertThat(parseCount).hasValue(2);
+    }
+
+    @Test
+    void persisted_query_is_resolved_by_its_hash_once_sent() {
+        var provider = provider(10, true);
+        var hash = sha256Of(QUERY);
+
+        var sent = documentFor(provider, withPersistedQuery(QUERY, hash));
+        var resolved = documentFor(provider, withPersistedQuery(PersistedQuerySupport.PERSISTED_QUERY_MARKER, hash));
+
+        assertThat(resolved).isSameAs(sent);
+        assertThat(parseCount).hasValue(1);
+    }
+
+    @Test
+    void persisted_query_not_yet_sent_is_not_found() {
+        var provider = provider(10, true);
+        var hash = sha256Of(QUERY);
+
+        var document = documentFor(provider, withPersistedQuery("", hash));
+
+        assertThat(document.hasErrors()).isTrue();
+        assertThat(document.getErrors()).singleElement().satisfies(error -> {
+            assertThat(error.getMessage()).isEqualTo("PersistedQueryNotFound");
+            assertThat(error.getExtensions())
+                .containsEntry("code", "PERSISTED_QUERY_NOT_FOUND")
+                .containsEntry("persistedQueryId", hash);
+        });
+        assertThat(parseCount).hasValue(0);
+    }
+
+    @Test
+    void persisted_query_with_mismatched_hash_is_invalid_and_not_cached() {
+        var provider = provider(10, true);
+        var otherHash = sha256Of("{ somethingElse }");
+
+        var document = documentFor(provider, withPersistedQuery(QUERY, otherHash));
+
+        assertThat(document.getErrors()).singleElement().satisfies(error -> {
+            assertThat(error.getMessage()).isEqualTo("PersistedQueryIdInvalid");
+            assertThat(error.getExtensions())
+                .containsEntry("code", "PERSISTED_QUERY_ID_INVALID")
+                .containsEntry("persistedQueryId", otherHash);
+        });
+
+        // the query was not registered under the mismatched hash
+        var lookup = documentFor(provider, withPersistedQuery("", otherHash));
+        assertThat(lookup.getErrors()).singleElement()
+            .satisfies(error -> assertThat(error.getMessage()).isEqualTo("PersistedQueryNotFound"));
+        assertThat(parseCount).hasValue(0);
+    }
+
+    @Test
+    void persisted_queries_disabled_ignores_the_hash() {
+        var provider = provider(10, false);
+
+        var document = documentFor(provider, withPersistedQuery(QUERY, sha256Of("{ somethingElse }")));
+
+        assertThat(document.hasErrors()).isFalse();
+        assertThat(parseCount).hasValue(1);
+    }
+
+    // -- HELPER
+
+    private static PreparsedDocumentProviderForCauseway provider(final int maxEntries, final boolean persistedQueries) {
+        return new PreparsedDocumentProviderForCauseway(
+                new CausewayConfiguration.Viewer.Graphql.DocumentCache(maxEntries, persistedQueries));
+    }
+
+    private PreparsedDocumentEntry documentFor(
+            final PreparsedDocumentProviderForCauseway provider,
+            final ExecutionInput executionInput) {
+        return provider.getDocumentAsync(executionInput, parseAndValidate).join();
+    }
+
+    private static ExecutionInput withPersistedQuery(final String query, final String hash) {
+        return ExecutionInput.newExecutionInput(query)
+                .extensions(Map.of("persistedQuery", Map.of("version", 1, "sha256Hash", hash)))
+                .build();
+    }
+
+    private static String sha256Of(final String query) {
+        try {
+            return HexFormat.of().formatHex(
+                    MessageDigest.getInstance("SHA-256").digest(query.getBytes(StandardCharsets.UTF_8)));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
@@ -19,6 +19,7 @@
 package org.apache.causeway.viewer.restfulobjects.applib.util;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -71,6 +72,13 @@ public String write(final Object object) throws IOException {
         return jsonMapper.writeValueAsString(object);
     }
 
+    /**
+     * Serializes directly to the given {@link OutputStream}, without buffering the JSON as a whole.
+     */
+    public void write(final Object object, final OutputStream out) throws IOException {
+        jsonMapper.writeValue(out, object);
+    }
+
     // -- HELPER
 
     // non canonical constructor
@@ -36,6 +36,7 @@
 import org.apache.causeway.viewer.restfulobjects.rendering.service.swagger.internal.TaggerDefault;
 import org.apache.causeway.viewer.restfulobjects.rendering.service.swagger.internal.ValueSchemaFactoryDefault;
 import org.apache.causeway.viewer.restfulobjects.rendering.service.valuerender.JsonValueEncoderServiceDefault;
+import org.apache.causeway.viewer.restfulobjects.rendering.util.JsonRepresentationHttpMessageConverter;
 
 /**
  * @since 1.x {@index}
@@ -70,4 +71,9 @@ public class CausewayModuleRestfulObjectsRendering {
     ResponseFactory responseFactory(MetaModelContext mmc) {
         return new ResponseFactory(mmc);
     }
+
+    @Bean
+    JsonRepresentationHttpMessageConverter jsonRepresentationHttpMessageConverter(ResponseFactory responseFactory) {
+        return responseFactory.messageConverter();
+    }
 }
@@ -93,6 +93,14 @@ default Restfulobjects config() {
      */
     RepresentationService.Intent intent();
 
+    /**
+     * The page of a list or collection requested by the client (using the <code>x-ro-page</code> and
+     * <code>x-ro-page-size</code> query parameters), if any.
+     */
+    default Optional<Paging> paging() {
+        return Optional.empty();
+    }
+
     // -- UTILITY
 
     default Optional<ManagedObject> objectAdapterForOidFromHref(final String oidFromHref) {
@@ -0,0 +1,164 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.restfulobjects.rendering;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.http.HttpStatus;
+
+import org.apache.causeway.viewer.restfulobjects.applib.JsonRepresentation;
+import org.apache.causeway.viewer.restfulobjects.applib.Rel;
+import org.apache.causeway.viewer.restfulobjects.applib.RepresentationType;
+import org.apache.causeway.viewer.restfulobjects.applib.RestfulRequest.RequestParameter;
+
+/**
+ * Server-side paging of list and (standalone) collection representations, as requested by the client using the
+ * {@link RequestParameter#PAGE x-ro-page} and {@link RequestParameter#PAGE_SIZE x-ro-page-size} query parameters.
+ *
+ * <p>
+ *     Paging only applies if at least one of these parameters was provided, so that clients unaware of paging
+ *     continue to receive the entire list.  If only one of them was provided, the other takes its default.
+ * </p>
+ *
+ * @param page - 1-based
+ * @param pageSize - max number of elements per page
+ * @param href - (/restful/) relative URL of the current request, excluding the paging parameters;
+ *      if <code>null</code>, then no <code>previous</code> or <code>next</code> links are rendered
+ *
+ * @since 4.0 {@index}
+ */
+public record Paging(
+        int page,
+        int pageSize,
+        @Nullable String href) {
+
+    public static Optional<Paging> of(
+            final @Nullable JsonRepresentation queryStringAsJsonRepr,
+            final @Nullable String href) {
+
+        if(queryStringAsJsonRepr == null
+                || !queryStringAsJsonRepr.isMap()
+                || !(queryStringAsJsonRepr.mapHas(RequestParameter.PAGE.getName())
+                        || queryStringAsJsonRepr.mapHas(RequestParameter.PAGE_SIZE.getName()))) {
+            return Optional.empty();
+        }
+        final int page = intValueOf(RequestParameter.PAGE, queryStringAsJsonRepr);
+        final int pageSize = intValueOf(RequestParameter.PAGE_SIZE, queryStringAsJsonRepr);
+        if(page < 1
+                || pageSize < 1) {
+            throw RestfulObjectsApplicationException.createWithMessage(HttpStatus.BAD_REQUEST,
+                    "%s and %s must both be positive, got %d and %d".formatted(
+                            RequestParameter.PAGE, RequestParameter.PAGE_SIZE, page, pageSize));
+        }
+        return Optional.of(new Paging(page, pageSize, href));
+    }
+
+    /**
+     * Zero-based index of the first element of this page.
+     */
+    public long offset() {
+        return (long)(page - 1) * pageSize;
+    }
+
+    public int numPages(final int totalCount) {
+        return (int) Math.max(1, (totalCount + (long)pageSize - 1) / pageSize);
+    }
+
+    /**
+     * The elements of this page, without consuming (or adapting) any of the elements beyond it.
+     */
+    public <T> Stream<T> window(final Stream<T> elements) {
+        return elements.skip(offset()).limit(pageSize);
+    }
+
+    /**
+     * The elements of this page, as a view onto the given list.
+     */
+    public <T> List<T> window(final List<T> elements) {
+        final int size = elements.size();
+        final int fromIndex = (int) Math.min(offset(), size);
+        final int toIndex = (int) Math.min(offset() + pageSize, size);
+        return elements.subList(fromIndex, toIndex);
+    }
+
+    /**
+     * Adds a <code>pagination</code> map to the representation, along with links to the
+     * {@link Rel#PREVIOUS previous} and {@link Rel#NEXT next} page (where these exist).
+     */
+    public void render(
+            final IResourceContext resourceContext,
+            final RepresentationType representationType,
+            final JsonRepresentation representation,
+            final JsonRepresentation links,
+            final int totalCount) {
+
+        final int numPages = numPages(totalCount);
+
+        final JsonRepresentation pagination = JsonRepresentation.newMap();
+        pagination.mapPutInt("page", page);
+        pagination.mapPutInt("pageSize", pageSize);
+        pagination.mapPutInt("numPages", numPages);
+        pagination.mapPutInt("totalCount", totalCount);
+        representation.mapPutJsonRepresentation("pagination", pagination);
+
+        if(href == null) {
+            return;
+        }
+        if(page > 1) {
+            links.arrayAdd(linkTo(resourceContext, representationType, Rel.PREVIOUS, Math.min(page - 1, numPages)));
+        }
+        if(page < numPages) {
+            links.arrayAdd(linkTo(resourceContext, representationType, Rel.NEXT, page + 1));
+        }
+    }
+
+    // -- HELPER
+
+    /**
+     * @throws RestfulObjectsApplicationException - {@link HttpStatus#BAD_REQUEST} if the parameter is not an integer
+     */
+    private static int intValueOf(
+            final RequestParameter<Integer> requestParameter,
+            final JsonRepresentation queryStringAsJsonRepr) {
+        try {
+            return requestParameter.valueOf(queryStringAsJsonRepr);
+        } catch (IllegalArgumentException ex) { // includes NumberFormatException
+            throw RestfulObjectsApplicationException.createWithCauseAndMessage(HttpStatus.BAD_REQUEST, ex,
+                    "%s must be an integer".formatted(requestParameter.getName()));
+        }
+    }
+
+    private JsonRepresentation linkTo(
+            final IResourceContext resourceContext,
+            final RepresentationType representationType,
+            final Rel rel,
+            final int targetPage) {
+        final String separator = href.contains("?") ? "&" : "?";
+        return LinkBuilder.newBuilder(resourceContext, rel.getName(), representationType, "%s%s%s=%d&%s=%d",
+                href, separator,
+                RequestParameter.PAGE.getName(), targetPage,
+                RequestParameter.PAGE_SIZE.getName(), pageSize)
+            .build();
+    }
+
+}
@@ -30,4 +30,19 @@
 
     JsonRepresentation render();
 
+    /**
+     * As {@link #render()}, however the elements of lists and collections are only rendered once the representation
+     * is written, one after the other (see {@link org.apache.causeway.viewer.restfulobjects.rendering.util.DeferredJsonArray}),
+     * such that the representation can be written to the response without its elements ever being held as a tree.
+     *
+     * <p>
+     *     Hence the representation returned should not be navigated (post-processed) into such elements.
+     * </p>
+     *
+     * @implSpec the default just calls {@link #render()}
+     */
+    default JsonRepresentation renderForStreaming() {
+        return render();
+    }
+
 }
@@ -52,6 +52,8 @@
 
     protected boolean includesSelf;
 
+    private boolean streaming;
+
     public ReprRendererAbstract(
             final IResourceContext resourceContext,
             final LinkFollowSpecs linkFollower,
@@ -168,6 +170,19 @@ public ReprRendererAbstract<T> withExtensions(final JsonRepresentation extension
     @Override
     public abstract JsonRepresentation render();
 
+    @Override
+    public JsonRepresentation renderForStreaming() {
+        this.streaming = true;
+        return render();
+    }
+
+    /**
+     * Whether rendering for {@link #renderForStreaming()}.
+     */
+    protected boolean isStreaming() {
+        return streaming;
+    }
+
     /**
      * Convenience for representations that are returned from objects that
      * mutate state.
@@ -35,17 +35,30 @@
 import org.apache.causeway.core.metamodel.context.MetaModelContext;
 import org.apache.causeway.viewer.restfulobjects.applib.JsonRepresentation;
 import org.apache.causeway.viewer.restfulobjects.applib.util.JsonMapperUtil;
+import org.apache.causeway.viewer.restfulobjects.rendering.util.JsonRepresentationHttpMessageConverter;
 import org.apache.causeway.viewer.restfulobjects.rendering.util.JsonWriterUtil;
 
+/**
+ * @param streamResponses - whether to hand out the {@link JsonRepresentation} as the response body, to be
+ *      serialized straight to the response by the {@link JsonRepresentationHttpMessageConverter}, rather than
+ *      first serializing it to a {@link String}; unless a root representation is provided (for post-processing),
+ *      renderers then {@link ReprRenderer#renderForStreaming() render for streaming}.
+ */
 public record ResponseFactory(
     @Nullable ClockService clockService,
-    JsonMapperUtil.PrettyPrinting prettyPrinting) {
+    JsonMapperUtil.PrettyPrinting prettyPrinting,
+    boolean streamResponses) {
 
     // non-canonical constructor
     public ResponseFactory(MetaModelContext mmc) {
         this(
             mmc.getServiceRegistry().lookupService(ClockService.class).orElse(null),
-            prettyPrinting(mmc.getSystemEnvironment()));
+            prettyPrinting(mmc.getSystemEnvironment()),
+            mmc.getConfiguration().viewer().restfulobjects().streamResponses());
+    }
+
+    public JsonRepresentationHttpMessageConverter messageConverter() {
+        return new JsonRepresentationHttpMessageConverter(prettyPrinting);
     }
 
     public static ResponseEntity<Object> noContent() {
@@ -85,14 +98,18 @@ public ResponseEntity<Object> of(
         // will be rendering to some submap of the rootRepresentation
         final JsonRepresentation entityRepresentation = rootRepresentation != null
             ? rootRepresentation
-            : renderer.render();
+            : streamResponses
+                ? renderer.renderForStreaming()
+                : renderer.render();
 
         return ResponseEntity
             .status(httpStatus)
             .header("Date", now())
             .contentType(mediaTypeOverride!=null ? mediaTypeOverride : renderer.getMediaType())
             .cacheControl(caching.getCacheControl())
-            .body((Object)JsonWriterUtil.jsonFor(entityRepresentation, prettyPrinting()));
+            .body(streamResponses
+                    ? (Object)entityRepresentation
+                    : (Object)JsonWriterUtil.jsonFor(entityRepresentation, prettyPrinting()));
     }
 
     /**
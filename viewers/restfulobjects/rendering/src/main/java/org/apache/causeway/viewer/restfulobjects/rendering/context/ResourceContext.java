@@ -49,6 +49,7 @@
 import org.apache.causeway.viewer.restfulobjects.applib.RestfulRequest.DomainModel;
 import org.apache.causeway.viewer.restfulobjects.applib.RestfulRequest.RequestParameter;
 import org.apache.causeway.viewer.restfulobjects.rendering.IResourceContext;
+import org.apache.causeway.viewer.restfulobjects.rendering.Paging;
 import org.apache.causeway.viewer.restfulobjects.rendering.RestfulObjectsApplicationException;
 import org.apache.causeway.viewer.restfulobjects.rendering.domainobjects.DomainObjectLinkTo;
 import org.apache.causeway.viewer.restfulobjects.rendering.domainobjects.DomainServiceLinkTo;
@@ -208,6 +209,11 @@ public boolean canEagerlyRender(final ManagedObject objectAdapter) {
                 .orElse(true);
     }
 
+    @Override
+    public Optional<Paging> paging() {
+        return Paging.of(queryStringAsJsonRepr, pagingHref());
+    }
+
     @Override
     public String restfulUrlFor(final @NonNull String url) {
         return restfulAbsoluteBase + url;
@@ -226,6 +232,45 @@ public List<MediaType> acceptableMediaTypes() {
         return httpHeaders.getAccept();
     }
 
+    /**
+     * The (/restful/) relative URL of this request, with any paging parameters removed, so that links to other
+     * pages can be derived from it; or <code>null</code> if links to other pages cannot be (safely) built.
+     */
+    private @Nullable String pagingHref() {
+        if(httpServletRequest == null
+                || !"GET".equals(httpServletRequest.getMethod())) {
+            // links to other pages are always GETs; must not re-invoke non-safe actions
+            return null;
+        }
+        final String requestUrl = httpServletRequest.getRequestURL().toString();
+        if(restfulAbsoluteBase == null
+                || !requestUrl.startsWith(restfulAbsoluteBase)) {
+            return null;
+        }
+        final String path = requestUrl.substring(restfulAbsoluteBase.length());
+        final String queryString = httpServletRequest.getQueryString();
+        if(_Strings.isNullOrEmpty(queryString)) {
+            return path;
+        }
+        final StringBuilder href = new StringBuilder(path);
+        char separator = '?';
+        for (String param : queryString.split("&")) {
+            if(param.startsWith("{")
+                    || param.startsWith("%7B")
+                    || param.startsWith("x-causeway-querystring")) {
+                // args passed as JSON; would not be parsed together with simple paging params
+                return null;
+            }
+            if(param.startsWith(RequestParameter.PAGE.getName() + "=")
+                    || param.startsWith(RequestParameter.PAGE_SIZE.getName() + "=")) {
+                continue;
+            }
+            href.append(separator).append(param);
+            separator = '&';
+        }
+        return href.toString();
+    }
+
     // -- UTIL
 
     public ManagedObject lookupServiceAdapterElseFail(
@@ -127,7 +127,11 @@ private void addResultTo(
 
         final ReprRendererAbstract<?> renderer = buildResultRenderer(resultType, representation);
         if(renderer != null) {
-            renderer.render();
+            if(isStreaming()) {
+                renderer.renderForStreaming();
+            } else {
+                renderer.render();
+            }
         }
     }
 
@@ -148,7 +152,8 @@ private ReprRendererAbstract<?> buildResultRenderer(
                     new ListReprRenderer(resourceContext, null, representation).withElementRel(Rel.ELEMENT);
             listReprRenderer.with(collectionAdapters)
             .withReturnType(action.getReturnType())
-            .withElementType(returnedAdapter.explicitElementSpec().orElse(null));
+            .withElementType(returnedAdapter.explicitElementSpec().orElse(null))
+            .withPaging(resourceContext.paging());
 
             return listReprRenderer;
 
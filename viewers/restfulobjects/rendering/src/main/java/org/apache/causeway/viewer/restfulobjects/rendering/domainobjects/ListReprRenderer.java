@@ -19,6 +19,7 @@
 package org.apache.causeway.viewer.restfulobjects.rendering.domainobjects;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -29,7 +30,9 @@
 import org.apache.causeway.viewer.restfulobjects.applib.RepresentationType;
 import org.apache.causeway.viewer.restfulobjects.rendering.IResourceContext;
 import org.apache.causeway.viewer.restfulobjects.rendering.LinkFollowSpecs;
+import org.apache.causeway.viewer.restfulobjects.rendering.Paging;
 import org.apache.causeway.viewer.restfulobjects.rendering.ReprRendererAbstract;
+import org.apache.causeway.viewer.restfulobjects.rendering.util.DeferredJsonArray;
 
 public class ListReprRenderer
 extends ReprRendererAbstract<Stream<ManagedObject>> {
@@ -39,6 +42,7 @@
     private ObjectSpecification elementType;
     private ObjectSpecification returnType;
     private Rel elementRel;
+    private Paging paging;
 
     public ListReprRenderer(
             final IResourceContext resourceContext,
@@ -78,6 +82,14 @@ public ListReprRenderer withElementType(final ObjectSpecification elementType) {
         return this;
     }
 
+    /**
+     * Renders only the requested page of the list (if any), along with its pagination details.
+     */
+    public ListReprRenderer withPaging(final Optional<Paging> paging) {
+        this.paging = paging.orElse(null);
+        return this;
+    }
+
     @Override
     public JsonRepresentation render() {
 
@@ -100,26 +112,37 @@ private void addValue() {
             return;
         }
 
-        final JsonRepresentation values = JsonRepresentation.newArray();
-
-        objectAdapters
-        .forEach(adapter->{
-            final JsonRepresentation linkToObject = linkTo.with(adapter).builder(elementRel).build();
-            values.arrayAdd(linkToObject);
-
-            final LinkFollowSpecs linkFollower = getLinkFollowSpecs().follow("value");
-            if (linkFollower.matches(linkToObject)) {
-                final DomainObjectReprRenderer renderer =
-                        new DomainObjectReprRenderer(
-                                getResourceContext(),
-                                linkFollower,
-                                JsonRepresentation.newMap());
-                final JsonRepresentation domainObject = renderer.with(adapter).render();
-                linkToObject.mapPutJsonRepresentation("value", domainObject);
-            }
-        });
-
-        representation.mapPutJsonRepresentation("value", values);
+        final List<ManagedObject> window = paging != null
+                ? paging.window(objectAdapters)
+                : objectAdapters;
+
+        if(isStreaming()) {
+            representation.mapPut("value", new DeferredJsonArray(()->window.stream().map(this::linkToElement)));
+        } else {
+            final JsonRepresentation values = JsonRepresentation.newArray();
+            window.forEach(adapter->values.arrayAdd(linkToElement(adapter)));
+            representation.mapPutJsonRepresentation("value", values);
+        }
+
+        if(paging != null) {
+            paging.render(resourceContext, RepresentationType.LIST, representation, getLinks(), objectAdapters.size());
+        }
+    }
+
+    private JsonRepresentation linkToElement(final ManagedObject adapter) {
+        final JsonRepresentation linkToObject = linkTo.with(adapter).builder(elementRel).build();
+
+        final LinkFollowSpecs linkFollower = getLinkFollowSpecs().follow("value");
+        if (linkFollower.matches(linkToObject)) {
+            final DomainObjectReprRenderer renderer =
+                    new DomainObjectReprRenderer(
+                            getResourceContext(),
+                            linkFollower,
+                            JsonRepresentation.newMap());
+            final JsonRepresentation domainObject = renderer.with(adapter).render();
+            linkToObject.mapPutJsonRepresentation("value", domainObject);
+        }
+        return linkToObject;
     }
 
     protected void addLinkToReturnType() {
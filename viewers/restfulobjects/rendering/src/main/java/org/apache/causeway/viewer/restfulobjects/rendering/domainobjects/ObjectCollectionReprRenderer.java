@@ -20,10 +20,15 @@
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import org.apache.causeway.applib.annotation.Where;
 import org.apache.causeway.core.metamodel.facets.collections.CollectionFacet;
 import org.apache.causeway.core.metamodel.interactions.managed.ManagedCollection;
+import org.apache.causeway.core.metamodel.object.ManagedObject;
 import org.apache.causeway.core.metamodel.object.ManagedObjects;
 import org.apache.causeway.core.metamodel.spec.feature.OneToManyAssociation;
 import org.apache.causeway.core.metamodel.util.Facets;
@@ -33,7 +38,9 @@
 import org.apache.causeway.viewer.restfulobjects.rendering.IResourceContext;
 import org.apache.causeway.viewer.restfulobjects.rendering.LinkBuilder;
 import org.apache.causeway.viewer.restfulobjects.rendering.LinkFollowSpecs;
+import org.apache.causeway.viewer.restfulobjects.rendering.Paging;
 import org.apache.causeway.viewer.restfulobjects.rendering.domaintypes.CollectionDescriptionReprRenderer;
+import org.apache.causeway.viewer.restfulobjects.rendering.util.DeferredJsonArray;
 
 public class ObjectCollectionReprRenderer
 extends AbstractObjectMemberReprRenderer<OneToManyAssociation> {
@@ -96,27 +103,46 @@ private void addValue(final LinkFollowSpecs linkFollower) {
                         && Facets.defaultViewIsTable(objectMember)
                         && resourceContext.canEagerlyRender(valueAdapter));
 
-        final List<JsonRepresentation> list = new ArrayList<>();
-
-        CollectionFacet.streamAdapters(valueAdapter)
-        .forEach(elementAdapter->{
-            final LinkBuilder valueLinkBuilder = DomainObjectReprRenderer
-                    .newLinkToBuilder(resourceContext, Rel.VALUE, elementAdapter);
-            if(eagerlyRender) {
-                var domainObjectReprRenderer =
-                        new DomainObjectReprRenderer(getResourceContext(), followHref, JsonRepresentation.newMap())
-                        .with(elementAdapter);
-                if(mode.isEventSerialization()) {
-                    domainObjectReprRenderer.asEventSerialization();
-                }
-
-                valueLinkBuilder.withValue(domainObjectReprRenderer.render());
-            }
+        // paging only applies to the collection when requested as a resource in its own right
+        final Optional<Paging> paging = mode.isStandalone()
+                ? resourceContext.paging()
+                : Optional.empty();
+
+        final Supplier<Stream<ManagedObject>> window = ()->paging
+                .map(page->page.window(CollectionFacet.streamAdapters(valueAdapter)))
+                .orElseGet(()->CollectionFacet.streamAdapters(valueAdapter));
+        final Function<ManagedObject, JsonRepresentation> linkToElement =
+                elementAdapter->linkToElement(elementAdapter, followHref, eagerlyRender);
+
+        if(isStreaming()) {
+            representation.mapPut("value", new DeferredJsonArray(()->window.get().map(linkToElement)));
+        } else {
+            final List<JsonRepresentation> list = new ArrayList<>();
+            window.get().map(linkToElement).forEach(list::add);
+            representation.mapPut("value", list);
+        }
+
+        paging.ifPresent(page->page.render(resourceContext, RepresentationType.OBJECT_COLLECTION,
+                representation, getLinks(), CollectionFacet.elementCount(valueAdapter)));
+    }
 
-            list.add(valueLinkBuilder.build());
-        });
+    private JsonRepresentation linkToElement(
+            final ManagedObject elementAdapter,
+            final LinkFollowSpecs followHref,
+            final boolean eagerlyRender) {
+        final LinkBuilder valueLinkBuilder = DomainObjectReprRenderer
+                .newLinkToBuilder(resourceContext, Rel.VALUE, elementAdapter);
+        if(eagerlyRender) {
+            var domainObjectReprRenderer =
+                    new DomainObjectReprRenderer(getResourceContext(), followHref, JsonRepresentation.newMap())
+                    .with(elementAdapter);
+            if(mode.isEventSerialization()) {
+                domainObjectReprRenderer.asEventSerialization();
+            }
 
-        representation.mapPut("value", list);
+            valueLinkBuilder.withValue(domainObjectReprRenderer.render());
+        }
+        return valueLinkBuilder.build();
     }
 
     // DETAILS LINK
@@ -0,0 +1,63 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.restfulobjects.rendering.util;
+
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.apache.causeway.viewer.restfulobjects.applib.JsonRepresentation;
+
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.JacksonSerializable;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.jsontype.TypeSerializer;
+
+/**
+ * A JSON array, whose elements are only rendered while being written, one after the other, such that the elements
+ * never exist as a tree all at once.
+ *
+ * <p>
+ *     Put into a representation (using {@link JsonRepresentation#mapPut(String, Object)}) by the renderers of lists
+ *     and collections, when rendering for
+ *     {@link org.apache.causeway.viewer.restfulobjects.rendering.ReprRenderer#renderForStreaming() streaming}.
+ *     The elements are rendered (again) each time the representation is written, so should be a cheap to
+ *     recreate view onto elements already at hand.
+ * </p>
+ *
+ * @since 4.0 {@index}
+ */
+public record DeferredJsonArray(
+        Supplier<Stream<JsonRepresentation>> elements)
+implements JacksonSerializable {
+
+    @Override
+    public void serialize(final JsonGenerator gen, final SerializationContext ctxt) {
+        gen.writeStartArray();
+        try(var stream = elements.get()) {
+            stream.forEach(element->gen.writeTree(element.asJsonNode()));
+        }
+        gen.writeEndArray();
+    }
+
+    @Override
+    public void serializeWithType(final JsonGenerator gen, final SerializationContext ctxt, final TypeSerializer typeSer) {
+        serialize(gen, ctxt);
+    }
+
+}
@@ -0,0 +1,87 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.restfulobjects.rendering.util;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.util.StreamUtils;
+
+import org.apache.causeway.viewer.restfulobjects.applib.JsonRepresentation;
+import org.apache.causeway.viewer.restfulobjects.applib.util.JsonMapperUtil;
+
+/**
+ * Writes a {@link JsonRepresentation} response body straight to the response's {@link java.io.OutputStream},
+ * rather than first serializing it to a {@link String}.
+ *
+ * <p>
+ *     Used when <code>causeway.viewer.restfulobjects.stream-responses</code> is enabled, in which case the
+ *     {@link org.apache.causeway.viewer.restfulobjects.rendering.ResponseFactory} hands out the (fully rendered)
+ *     representation as the response body.
+ * </p>
+ *
+ * @since 4.0 {@index}
+ */
+public record JsonRepresentationHttpMessageConverter(
+        JsonMapperUtil.PrettyPrinting prettyPrinting)
+implements HttpMessageConverter<JsonRepresentation> {
+
+    @Override
+    public boolean canRead(final Class<?> clazz, final @Nullable MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canWrite(final Class<?> clazz, final @Nullable MediaType mediaType) {
+        return JsonRepresentation.class.isAssignableFrom(clazz)
+                && (mediaType == null
+                    || getSupportedMediaTypes().stream().anyMatch(supported->supported.isCompatibleWith(mediaType)));
+    }
+
+    @Override
+    public List<MediaType> getSupportedMediaTypes() {
+        return List.of(MediaType.APPLICATION_JSON, new MediaType("application", "*+json"));
+    }
+
+    @Override
+    public JsonRepresentation read(final Class<? extends JsonRepresentation> clazz, final HttpInputMessage inputMessage)
+            throws IOException, HttpMessageNotReadableException {
+        throw new HttpMessageNotReadableException("reading is not supported", inputMessage);
+    }
+
+    @Override
+    public void write(
+            final JsonRepresentation representation,
+            final @Nullable MediaType contentType,
+            final HttpOutputMessage outputMessage) throws IOException {
+        if(contentType != null) {
+            outputMessage.getHeaders().setContentType(contentType);
+        }
+        // the servlet container owns the response stream
+        JsonWriterUtil.writeJson(representation, StreamUtils.nonClosing(outputMessage.getBody()), prettyPrinting);
+    }
+
+}
@@ -18,6 +18,8 @@
  */
 package org.apache.causeway.viewer.restfulobjects.rendering.util;
 
+import java.io.OutputStream;
+
 import org.jspecify.annotations.Nullable;
 
 import org.apache.causeway.core.config.environment.CausewaySystemEnvironment;
@@ -35,6 +37,11 @@ public String jsonFor(final Object object, final JsonMapperUtil.PrettyPrinting p
         return JsonMapperUtil.instance(prettyPrinting).write(object);
     }
 
+    @SneakyThrows
+    public void writeJson(final Object object, final OutputStream out, final JsonMapperUtil.PrettyPrinting prettyPrinting) {
+        JsonMapperUtil.instance(prettyPrinting).write(object, out);
+    }
+
     public String jsonFor(final Object object, final @Nullable CausewaySystemEnvironment systemEnvironment) {
         var prettyPrinting = (systemEnvironment!=null && systemEnvironment.isPrototyping())
                 ? JsonMapperUtil.PrettyPrinting.ENABLE
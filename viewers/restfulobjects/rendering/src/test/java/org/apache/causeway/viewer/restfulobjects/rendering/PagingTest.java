@@ -0,0 +1,99 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.restfulobjects.rendering;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.http.HttpStatus;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.viewer.restfulobjects.applib.JsonRepresentation;
+
+class PagingTest {
+
+    private final List<Integer> elements = IntStream.rangeClosed(1, 7).boxed().collect(Collectors.toList());
+
+    @Test
+    void notRequested() {
+        assertTrue(Paging.of(JsonRepresentation.newMap("xxx", "1"), null).isEmpty());
+        assertTrue(Paging.of(null, null).isEmpty());
+    }
+
+    @Test
+    void pageSizeDefaultsIfOnlyPageRequested() {
+        var paging = Paging.of(JsonRepresentation.newMap("x-ro-page", "2"), null).orElseThrow();
+        assertEquals(2, paging.page());
+        assertEquals(25, paging.pageSize());
+    }
+
+    @Test
+    void windowOfList() {
+        var paging = Paging.of(JsonRepresentation.newMap("x-ro-page", "2", "x-ro-page-size", "3"), null).orElseThrow();
+        assertEquals(List.of(4, 5, 6), paging.window(elements));
+        assertEquals(3, paging.numPages(elements.size()));
+    }
+
+    @Test
+    void windowOfStream() {
+        var paging = Paging.of(JsonRepresentation.newMap("x-ro-page", "3", "x-ro-page-size", "3"), null).orElseThrow();
+        assertEquals(List.of(7), paging.window(elements.stream()).collect(Collectors.toList()));
+    }
+
+    @Test
+    void windowBeyondLastPage() {
+        var paging = Paging.of(JsonRepresentation.newMap("x-ro-page", "5", "x-ro-page-size", "3"), null).orElseThrow();
+        assertEquals(List.of(), paging.window(elements));
+    }
+
+    @Test
+    void rejectsNonPositive() {
+        var ex = assertThrows(RestfulObjectsApplicationException.class,
+                ()->Paging.of(JsonRepresentation.newMap("x-ro-page", "0"), null));
+        assertEquals(HttpStatus.BAD_REQUEST, ex.httpStatus());
+    }
+
+    @Test
+    void rejectsNonNumericPage() {
+        var ex = assertThrows(RestfulObjectsApplicationException.class,
+                ()->Paging.of(JsonRepresentation.newMap("x-ro-page", "abc"), null));
+        assertEquals(HttpStatus.BAD_REQUEST, ex.httpStatus());
+    }
+
+    @Test
+    void rejectsNonNumericPageSize() {
+        var ex = assertThrows(RestfulObjectsApplicationException.class,
+                ()->Paging.of(JsonRepresentation.newMap("x-ro-page", "1", "x-ro-page-size", "1.5"), null));
+        assertEquals(HttpStatus.BAD_REQUEST, ex.httpStatus());
+    }
+
+    @Test
+    void rejectsOverflow() {
+        var ex = assertThrows(RestfulObjectsApplicationException.class,
+                ()->Paging.of(JsonRepresentation.newMap("x-ro-page-size", "99999999999"), null));
+        assertEquals(HttpStatus.BAD_REQUEST, ex.httpStatus());
+    }
+
+}
@@ -0,0 +1,99 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.restfulobjects.rendering;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.http.MediaType;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.apache.causeway.viewer.restfulobjects.applib.JsonRepresentation;
+import org.apache.causeway.viewer.restfulobjects.applib.util.JsonMapperUtil;
+
+class ResponseFactoryTest {
+
+    @Test
+    void whenNotStreaming_rendersAsWhole_andRespondsWithString() {
+        var renderer = new RecordingRenderer();
+
+        var response = responseFactory(false).ok(renderer, Caching.NONE);
+
+        assertEquals("render", renderer.renderedBy);
+        assertEquals("{\"title\":\"Joe\"}", response.getBody());
+    }
+
+    @Test
+    void whenStreaming_rendersForStreaming_andRespondsWithRepresentation() {
+        var renderer = new RecordingRenderer();
+
+        var response = responseFactory(true).ok(renderer, Caching.NONE);
+
+        assertEquals("renderForStreaming", renderer.renderedBy);
+        assertSame(renderer.representation, response.getBody());
+    }
+
+    @Test
+    void whenStreaming_rootRepresentation_isRespondedWithAsIs() {
+        var renderer = new RecordingRenderer();
+        var rootRepresentation = JsonRepresentation.newMap("title", "root");
+
+        var response = responseFactory(true).ok(renderer, Caching.NONE, rootRepresentation, null);
+
+        // post-processed by the caller, so as rendered (in full) by the caller
+        assertEquals(null, renderer.renderedBy);
+        assertSame(rootRepresentation, response.getBody());
+    }
+
+    // -- HELPER
+
+    private static ResponseFactory responseFactory(final boolean streamResponses) {
+        return new ResponseFactory(null, JsonMapperUtil.PrettyPrinting.DISABLE, streamResponses);
+    }
+
+    private static class RecordingRenderer implements ReprRenderer<Object> {
+
+        final JsonRepresentation representation = JsonRepresentation.newMap("title", "Joe");
+        String renderedBy;
+
+        @Override
+        public MediaType getMediaType() {
+            return MediaType.APPLICATION_JSON;
+        }
+
+        @Override
+        public ReprRenderer<Object> with(final Object t) {
+            return this;
+        }
+
+        @Override
+        public JsonRepresentation render() {
+            renderedBy = "render";
+            return representation;
+        }
+
+        @Override
+        public JsonRepresentation renderForStreaming() {
+            renderedBy = "renderForStreaming";
+            return representation;
+        }
+    }
+
+}
@@ -0,0 +1,130 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.restfulobjects.rendering.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.viewer.restfulobjects.applib.JsonRepresentation;
+import org.apache.causeway.viewer.restfulobjects.applib.util.JsonMapperUtil;
+
+class JsonRepresentationHttpMessageConverterTest {
+
+    private final JsonRepresentationHttpMessageConverter converter =
+            new JsonRepresentationHttpMessageConverter(JsonMapperUtil.PrettyPrinting.DISABLE);
+
+    @Test
+    void writesJsonRepresentations_only() {
+        assertTrue(converter.canWrite(JsonRepresentation.class, null));
+        assertTrue(converter.canWrite(JsonRepresentation.class, MediaType.APPLICATION_JSON));
+        assertTrue(converter.canWrite(JsonRepresentation.class,
+                MediaType.parseMediaType("application/json;profile=\"urn:org.restfulobjects:repr-types/list\"")));
+        assertFalse(converter.canWrite(JsonRepresentation.class, MediaType.TEXT_HTML));
+        assertFalse(converter.canWrite(String.class, MediaType.APPLICATION_JSON));
+        assertFalse(converter.canRead(JsonRepresentation.class, MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    void write_toResponseStream_withoutClosingIt() throws IOException {
+        var representation = JsonRepresentation.newMap("title", "Joe");
+        var message = new OutputMessage();
+
+        converter.write(representation, MediaType.APPLICATION_JSON, message);
+
+        assertEquals("{\"title\":\"Joe\"}", message.body());
+        assertEquals(MediaType.APPLICATION_JSON, message.getHeaders().getContentType());
+        assertFalse(message.closed);
+    }
+
+    @Test
+    void write_rendersDeferredElements_onlyWhileWriting() throws IOException {
+        var rendered = new AtomicInteger();
+        var representation = JsonRepresentation.newMap("title", "3 customers");
+        representation.mapPut("value", new DeferredJsonArray(()->IntStream.rangeClosed(1, 3)
+                .mapToObj(i->{
+                    rendered.incrementAndGet();
+                    return JsonRepresentation.newMap("href", "objects/customer/" + i);
+                })));
+
+        assertEquals(0, rendered.get());
+
+        var message = new OutputMessage();
+        converter.write(representation, MediaType.APPLICATION_JSON, message);
+
+        assertEquals(3, rendered.get());
+        assertEquals("{\"title\":\"3 customers\",\"value\":["
+                + "{\"href\":\"objects/customer/1\"},"
+                + "{\"href\":\"objects/customer/2\"},"
+                + "{\"href\":\"objects/customer/3\"}]}", message.body());
+    }
+
+    @Test
+    void deferredElements_areRenderedAgain_whenWrittenAgain() {
+        var representation = JsonRepresentation.newMap();
+        representation.mapPut("value", new DeferredJsonArray(()->IntStream.rangeClosed(1, 2)
+                .mapToObj(i->JsonRepresentation.newMap("i", "" + i))));
+
+        // as when logged, ahead of being written to the response
+        assertEquals(representation.toString(), representation.toString());
+        assertEquals("{\"value\":[{\"i\":\"1\"},{\"i\":\"2\"}]}", JsonWriterUtil.jsonFor(representation,
+                JsonMapperUtil.PrettyPrinting.DISABLE));
+    }
+
+    // -- HELPER
+
+    private static class OutputMessage implements HttpOutputMessage {
+
+        private final HttpHeaders headers = new HttpHeaders();
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private boolean closed;
+
+        @Override
+        public OutputStream getBody() {
+            return new OutputStream() {
+                @Override public void write(final int b) { bytes.write(b); }
+                @Override public void write(final byte[] b, final int off, final int len) { bytes.write(b, off, len); }
+                @Override public void close() { closed = true; }
+            };
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+
+        String body() {
+            return bytes.toString(StandardCharsets.UTF_8);
+        }
+    }
+
+}
@@ -188,6 +188,8 @@ private <T> void logResponse(final Logger log, final ResponseEntity<T> response)
             log.debug("null");
         } else if(dto instanceof String string) {
             log.debug(string);
+        } else if(dto instanceof JsonRepresentation jsonRepresentation) {
+            log.debug(jsonRepresentation.toString());
         } else if(_Collections.isAnyCollectionOrArrayType(dto.getClass())){
             log.debug("non-scalar content of type {}", dto.getClass());
         } else {
@@ -120,8 +120,12 @@ public final Variant getVariant() {
 
     // -- BOOKMARKS
 
+    /**
+     * Bookmarks of the elements rendered, which (if the table is query backed)
+     * are those of the rows fetched most recently, rather than all of the collection's elements.
+     */
     public List<Bookmark> bookmarks() {
-        return getDataTableModel().dataElementsObservable().getValue().stream()
+        return getDataTableModel().getFetchedElements().stream()
             .map(ManagedObject::getBookmark)
             .filter(Optional::isPresent)
             .map(Optional::get)
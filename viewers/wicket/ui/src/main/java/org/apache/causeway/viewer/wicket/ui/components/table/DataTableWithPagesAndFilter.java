@@ -125,7 +125,7 @@ public DataTableInteractive tableModel() {
      * While {@link #getRowCount()} might return zero, when the component was no yet populated.
      */
     public int elementCount() {
-        return tableModel().dataElementsObservable().getValue().size();
+        return tableModel().getVisibleElementCount();
     }
 
     // -- SELECTABLE